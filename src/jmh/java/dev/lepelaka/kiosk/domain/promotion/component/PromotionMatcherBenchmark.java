@@ -0,0 +1,79 @@
+package dev.lepelaka.kiosk.domain.promotion.component;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10줄 장바구니 할인 계산 지연 시간. 상품 1000개 / 카테고리 20개에 세트, N+M, 쿠폰을 무작위로 건다.
+ * 장바구니마다 세트 구성품 한 쌍을 넣어 세트/N+M/쿠폰이 모두 걸리게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromotionMatcherBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int CATEGORIES = 20;
+    private static final int CART_LINES = 10;
+
+    @Param({"100", "500"})
+    private int promotions;
+
+    private PromotionMatcher matcher;
+    private List<PromotionMatcher.Line> cart;
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(42);
+        List<PromotionMatcher.Rule> rules = new ArrayList<>(promotions);
+        for (long id = 1; id <= promotions; id++) {
+            rules.add(switch ((int) (id % 3)) {
+                case 0 -> new PromotionMatcher.Rule(id, "세트 " + id, PromotionType.SET_DISCOUNT,
+                        List.of(1L + random.nextInt(PRODUCTS), 1L + random.nextInt(PRODUCTS)), null, 0, 0, 1000, 0, null, null, null);
+                case 1 -> new PromotionMatcher.Rule(id, "N+M " + id, PromotionType.BUY_N_GET_M, List.of(1L + random.nextInt(PRODUCTS)),
+                        random.nextInt(4) == 0 ? 1L + random.nextInt(CATEGORIES) : null, 2, 1, 0, 0, null, null, null);
+                default -> new PromotionMatcher.Rule(id, "쿠폰 " + id, PromotionType.COUPON, List.of(), null, 0, 0, 0, 10,
+                        "C" + id, null, null);
+            });
+        }
+        matcher = PromotionMatcher.compile(rules);
+
+        // 주문은 상품별 한 줄이므로 상품 ID 가 겹치지 않게 고른다
+        Set<Long> productIds = new LinkedHashSet<>(rules.get(2).productIds());
+        while (productIds.size() < CART_LINES) {
+            productIds.add(1L + random.nextInt(PRODUCTS));
+        }
+        cart = new ArrayList<>(CART_LINES);
+        for (Long productId : productIds) {
+            cart.add(new PromotionMatcher.Line(productId, 1L + random.nextInt(CATEGORIES),
+                    1000 + random.nextInt(10) * 500, 1 + random.nextInt(3)));
+        }
+    }
+
+    @Benchmark
+    public PromotionMatcher.Result evaluate() {
+        return matcher.evaluate(cart, null, now);
+    }
+
+    @Benchmark
+    public PromotionMatcher.Result evaluateWithCoupon() {
+        return matcher.evaluate(cart, "C2", now);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오인식 단어 -> 메뉴명 편집 거리 검색. BK-tree 와 전체 상품 선형 비교를 같은 거리 한도로 비교한다.
+ * 상품명 생성 규칙은 MenuVectorIndexBenchmark 와 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FuzzyMenuMatcherBenchmark {
+
+    private static final String[] MODIFIERS = {"아이스", "핫", "디카페인", "바닐라", "헤이즐넛", "연유", "흑당", "시그니처", "더블", "라이트"};
+    private static final String[] BASES = {"아메리카노", "카페라떼", "카푸치노", "콜드브루", "녹차라떼", "밀크티", "초코라떼", "에이드", "스무디", "프라푸치노",
+            "치즈케이크", "티라미수", "마카롱", "크로와상", "베이글", "샌드위치", "짜장면", "짬뽕", "탕수육", "볶음밥"};
+
+    @Param({"1000", "5000"})
+    private int products;
+
+    @Param({"아메리까노", "탕슈육"})
+    private String word;
+
+    private BkTree tree;
+    private List<String> keys;
+    private String query;
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(42);
+        Map<Long, String> names = new HashMap<>(products * 2);
+        for (long id = 1; id <= products; id++) {
+            names.put(id, MODIFIERS[random.nextInt(MODIFIERS.length)] + " " + BASES[random.nextInt(BASES.length)] + " " + id);
+        }
+        tree = new BkTree();
+        keys = new ArrayList<>();
+        names.forEach((id, name) -> FuzzyMenuMatcher.keysOf(name).forEach(key -> {
+            tree.add(key, id);
+            keys.add(key);
+        }));
+        query = Hangul.decompose(word);
+    }
+
+    @Benchmark
+    public Object bkTree() {
+        return tree.search(query, FuzzyMenuMatcher.MAX_DISTANCE);
+    }
+
+    @Benchmark
+    public Object linearScan() {
+        List<String> matches = new ArrayList<>();
+        for (String key : keys) {
+            if (BkTree.distance(query, key) <= FuzzyMenuMatcher.MAX_DISTANCE) {
+                matches.add(key);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,54 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음성 문장 -> 메뉴 후보 매칭 지연 시간 (HNSW). 상품명 생성 규칙은 ProductSearchBenchmark 와 같다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuVectorIndexBenchmark {
+
+    private static final String[] MODIFIERS = {"아이스", "핫", "디카페인", "바닐라", "헤이즐넛", "연유", "흑당", "시그니처", "더블", "라이트"};
+    private static final String[] BASES = {"아메리카노", "카페라떼", "카푸치노", "콜드브루", "녹차라떼", "밀크티", "초코라떼", "에이드", "스무디", "프라푸치노",
+            "치즈케이크", "티라미수", "마카롱", "크로와상", "베이글", "샌드위치", "짜장면", "짬뽕", "탕수육", "볶음밥"};
+
+    @Param({"1000", "10000"})
+    private int products;
+
+    @Param({"아이스 아메리카노 두 잔 주세요", "짜장면 하나랑 탕수육 주세요"})
+    private String transcript;
+
+    private MenuVectorIndex index;
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(42);
+        List<MenuVectorIndex.MenuText> menus = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            String name = MODIFIERS[random.nextInt(MODIFIERS.length)] + " " + BASES[random.nextInt(BASES.length)];
+            menus.add(new MenuVectorIndex.MenuText(id, name, BASES[random.nextInt(BASES.length)] + " 와 어울리는 메뉴"));
+        }
+        index = new MenuVectorIndex();
+        index.replaceAll(menus);
+    }
+
+    @Benchmark
+    public Object match() {
+        return index.match(transcript, 5);
+    }
+}
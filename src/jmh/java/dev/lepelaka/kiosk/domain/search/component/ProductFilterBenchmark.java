@@ -0,0 +1,64 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그/가격 필터 첫 페이지 지연 시간. 상품마다 태그를 0~3개 무작위로 붙인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductFilterBenchmark {
+
+    @Param({"10000", "50000"})
+    private int products;
+
+    private ProductFilterIndex index;
+    private ProductFilterIndex.Filter noNutsUnder8000;
+    private ProductFilterIndex.Filter veganOrVegetarianInCategory;
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(42);
+        ProductAttribute[] attributes = ProductAttribute.values();
+        List<ProductFilterIndex.Entry> entries = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            Set<ProductAttribute> tags = EnumSet.noneOf(ProductAttribute.class);
+            for (int i = random.nextInt(4); i > 0; i--) {
+                tags.add(attributes[random.nextInt(attributes.length)]);
+            }
+            entries.add(new ProductFilterIndex.Entry(id, 1000 + random.nextInt(20) * 500, 1L + random.nextInt(20), tags));
+        }
+        index = new ProductFilterIndex();
+        index.replaceAll(entries);
+        noNutsUnder8000 = new ProductFilterIndex.Filter(Set.of(), Set.of(), Set.of(ProductAttribute.CONTAINS_NUTS), null, 8000, null);
+        veganOrVegetarianInCategory = new ProductFilterIndex.Filter(Set.of(), Set.of(ProductAttribute.VEGAN, ProductAttribute.VEGETARIAN),
+                Set.of(ProductAttribute.CONTAINS_MILK), null, null, 3L);
+    }
+
+    @Benchmark
+    public ProductFilterIndex.Result excludeWithPrice() {
+        return index.filter(noNutsUnder8000, 0, 20);
+    }
+
+    @Benchmark
+    public ProductFilterIndex.Result anyInCategory() {
+        return index.filter(veganOrVegetarianInCategory, 0, 20);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 50k 상품 역색인 검색 지연 시간. 상품명은 메뉴에 흔한 단어를 조합해 같은 bigram 이 많이 겹치도록 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    private static final String[] MODIFIERS = {"아이스", "핫", "디카페인", "바닐라", "헤이즐넛", "연유", "흑당", "시그니처", "더블", "라이트"};
+    private static final String[] BASES = {"아메리카노", "카페라떼", "카푸치노", "콜드브루", "녹차라떼", "밀크티", "초코라떼", "에이드", "스무디", "프라푸치노",
+            "치즈케이크", "티라미수", "마카롱", "크로와상", "베이글", "샌드위치", "짜장면", "짬뽕", "탕수육", "볶음밥"};
+    private static final String[] SIZES = {"", "톨", "그란데", "벤티", "세트", "미니"};
+
+    @Param({"50000"})
+    private int products;
+
+    @Param({"아메리카노", "아이스바닐라라떼", "치즈 케이크 세트", "짬뽕"})
+    private String query;
+
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void build() {
+        Random random = new Random(42);
+        List<ProductSearchIndex.Document> documents = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            String name = MODIFIERS[random.nextInt(MODIFIERS.length)] + " " + BASES[random.nextInt(BASES.length)] + " " + SIZES[random.nextInt(SIZES.length)];
+            String description = BASES[random.nextInt(BASES.length)] + " 와 어울리는 " + MODIFIERS[random.nextInt(MODIFIERS.length)] + " 메뉴";
+            documents.add(ProductSearchIndex.Document.of(id, name.trim(), description, 1000 + random.nextInt(9000), null, 1L + random.nextInt(20)));
+        }
+        index = new ProductSearchIndex();
+        index.replaceAll(documents);
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> search() {
+        return index.search(query, null, 20);
+    }
+
+    @Benchmark
+    public List<ProductSearchIndex.Hit> searchInCategory() {
+        return index.search(query, 3L, 20);
+    }
+}
@@ -0,0 +1,96 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.BatchStrategy;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * allEntries 무효화 비용 비교: Redis KEYS/SCAN 삭제 vs 세대 증가.
+ * 로컬 Redis(compose.yaml, localhost:6379) 가 떠 있어야 한다.
+ * 매 반복 전에 100k 키를 파이프라인으로 채우고, 무효화 한 번의 시간을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CacheEvictionBenchmark {
+
+    private static final String CACHE = "bench-products";
+
+    @Param({"100000"})
+    private int keys;
+
+    @Param({"keys", "scan", "generation"})
+    private String strategy;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private Cache cache;
+    private GenerationalCache generationalCache;
+
+    @Setup(Level.Trial)
+    public void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setPassword(System.getProperty("redis.password", "redis1234"));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        BatchStrategy batchStrategy = "keys".equals(strategy) ? BatchStrategies.keys() : BatchStrategies.scan(1000);
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, batchStrategy))
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(10)))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        cache = redisCacheManager.getCache(CACHE);
+        generationalCache = new GenerationalCache(cache,
+                new CacheGenerations(new RedisGenerationStore(redisTemplate), new InMemoryCacheInvalidationBus(), Duration.ofSeconds(5)));
+    }
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        cache.clear();
+        byte[] value = "{\"name\":\"짜장면\",\"price\":7000}".getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys; i++) {
+                connection.stringCommands().setEx((CACHE + "::category:" + (i % 50) + "|active:page:" + i).getBytes(StandardCharsets.UTF_8), 600, value);
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void evictAll() {
+        if ("generation".equals(strategy)) {
+            generationalCache.clear();
+        } else {
+            cache.clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        cache.clear();
+        connectionFactory.destroy();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import dev.lepelaka.kiosk.domain.category.dto.CategoryResponse;
+import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 캐시 값 직렬화 비교: 기존 JSON(@class 포함) vs Smile vs Smile + deflate.
+ * 상품 목록 한 페이지(PageResponse<ProductResponse>) 기준으로 직렬화/역직렬화 시간과 크기(bytes 보조 지표)를 잰다.
+ * Redis 없이 실행된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"json", "smile", "smile-deflate"})
+    private String format;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private PageResponse<ProductResponse> page;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = switch (format) {
+            case "json" -> CacheSerializers.json();
+            case "smile" -> CacheSerializers.smile(0);
+            default -> CacheSerializers.smile(1);
+        };
+        page = page(pageSize);
+        serialized = serializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serialize(Size size) {
+        byte[] bytes = serializer.serialize(page);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    /**
+     * 직렬화 결과 크기. JMH 결과에 serialize:bytes 로 함께 출력된다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+    }
+
+    private static PageResponse<ProductResponse> page(int size) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        CategoryResponse category = new CategoryResponse(1L, "메인", "메인 메뉴", 1, true, now, now);
+        List<ProductResponse> content = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> new ProductResponse((long) i, "상품" + i, 1000 * i, 100, "맛있는 상품 " + i,
+                        "http://example.com/products/" + i + ".jpg", category))
+                .toList();
+        return new PageResponse<>(content, 0, size, size, 1, true);
+    }
+}
@@ -0,0 +1,184 @@
+package dev.lepelaka.kiosk.domain.cart.component;
+
+import dev.lepelaka.kiosk.domain.cart.exception.CartQuantityExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 단말기 세션별 장바구니. Redis hash 하나(cart:{세션 토큰})에 상품 ID -> 수량으로 담는다.
+ * - 담기는 Lua 스크립트 하나로 한도 확인 -> HINCRBY -> EXPIRE -> HGETALL 을 처리한다. 한도를 넘으면 아무것도 바꾸지 않는다
+ * - 수량 변경은 HSET/HDEL + EXPIRE + HGETALL 을 파이프라인으로 한 번에 보내고 바뀐 뒤의 장바구니를 돌려준다
+ * - 수량이 0 이하가 된 필드는 남기지 않고 지운다
+ * - 주문할 때는 HGETALL + DEL 을 원자적으로 해서 가져간 한 요청만 주문하고, 주문이 실패하면 되돌려 넣는다
+ * - 같은 상품은 hash 필드 하나라 수량이 이미 합쳐져 있고, 돌려줄 때 상품 ID 순으로 정렬한다 (주문 시 잠금 순서와 같다)
+ * - 마지막 변경 후 ttl 이 지나면 Redis 가 지운다
+ */
+@Component
+public class CartStore {
+
+    private static final String PREFIX = "cart:";
+
+    // ARGV = ttl(초), 한도, 상품 ID, 더할 수량, 상품 ID, 더할 수량, ...
+    // 한도를 넘는 상품이 하나라도 있으면 바꾸지 않고 {'exceeded', 상품 ID, 수량}, 아니면 {'ok', HGETALL...}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD = new DefaultRedisScript<>("""
+            local max = tonumber(ARGV[2])
+            for i = 3, #ARGV, 2 do
+              local quantity = tonumber(redis.call('hget', KEYS[1], ARGV[i]) or '0') + tonumber(ARGV[i + 1])
+              if quantity > max then
+                return {'exceeded', ARGV[i], tostring(quantity)}
+              end
+            end
+            for i = 3, #ARGV, 2 do
+              if redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) <= 0 then
+                redis.call('hdel', KEYS[1], ARGV[i])
+              end
+            end
+            redis.call('expire', KEYS[1], ARGV[1])
+            local items = redis.call('hgetall', KEYS[1])
+            table.insert(items, 1, 'ok')
+            return items
+            """, List.class);
+
+    // 동시에 들어온 다른 주문 요청은 빈 장바구니를 본다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>("""
+            local items = redis.call('hgetall', KEYS[1])
+            redis.call('del', KEYS[1])
+            return items
+            """, List.class);
+
+    // 가져간 사이 새로 담긴 상품과 합치고, 합쳐서 한도를 넘으면 한도까지만 남긴다. ARGV = ttl(초), 한도, 상품 ID, 수량, ...
+    private static final RedisScript<Long> RESTORE = new DefaultRedisScript<>("""
+            local max = tonumber(ARGV[2])
+            for i = 3, #ARGV, 2 do
+              if redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) > max then
+                redis.call('hset', KEYS[1], ARGV[i], max)
+              end
+            end
+            redis.call('expire', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public CartStore(StringRedisTemplate redisTemplate, @Value("${kiosk.cart.ttl:30m}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 상품별 수량을 더한다. 더한 뒤 한도를 넘는 상품이 있으면 아무것도 더하지 않고 예외.
+     */
+    public SortedMap<Long, Integer> add(String sessionToken, Map<Long, Integer> deltas, int maxQuantity) {
+        List<?> result = redisTemplate.execute(ADD, List.of(key(sessionToken)), args(deltas, maxQuantity));
+        if ("exceeded".equals(result.get(0))) {
+            throw new CartQuantityExceededException(Long.valueOf((String) result.get(1)), Integer.parseInt((String) result.get(2)));
+        }
+        return toItems(result.subList(1, result.size()));
+    }
+
+    /**
+     * 수량을 바꾼다. 0 이하면 뺀다.
+     */
+    public SortedMap<Long, Integer> put(String sessionToken, Long productId, int quantity) {
+        return update(sessionToken, redis -> {
+            if (quantity > 0) {
+                redis.hSet(key(sessionToken), productId.toString(), Integer.toString(quantity));
+            } else {
+                redis.hDel(key(sessionToken), productId.toString());
+            }
+        });
+    }
+
+    public SortedMap<Long, Integer> items(String sessionToken) {
+        return toItems(redisTemplate.<String, String>opsForHash().entries(key(sessionToken)));
+    }
+
+    public void clear(String sessionToken) {
+        redisTemplate.delete(key(sessionToken));
+    }
+
+    /**
+     * 주문용으로 장바구니를 가져가며 비운다. 동시에 여러 번 불려도 내용은 한 요청에만 간다.
+     */
+    public SortedMap<Long, Integer> claim(String sessionToken) {
+        return toItems(redisTemplate.execute(CLAIM, List.of(key(sessionToken))));
+    }
+
+    /**
+     * 가져간 장바구니를 되돌려 넣는다 (주문 실패 시). 그사이 담긴 상품과는 합친다.
+     */
+    public void restore(String sessionToken, Map<Long, Integer> items, int maxQuantity) {
+        if (!items.isEmpty()) {
+            redisTemplate.execute(RESTORE, List.of(key(sessionToken)), args(items, maxQuantity));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SortedMap<Long, Integer> update(String sessionToken, Consumer<StringRedisConnection> commands) {
+        String key = key(sessionToken);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            commands.accept(redis);
+            redis.expire(key, ttl.toSeconds());
+            redis.hGetAll(key);
+            return null;
+        });
+        return toItems((Map<String, String>) results.get(results.size() - 1));
+    }
+
+    private Object[] args(Map<Long, Integer> quantities, int maxQuantity) {
+        List<String> args = new ArrayList<>(2 + quantities.size() * 2);
+        args.add(Long.toString(ttl.toSeconds()));
+        args.add(Integer.toString(maxQuantity));
+        quantities.forEach((productId, quantity) -> {
+            args.add(productId.toString());
+            args.add(Integer.toString(quantity));
+        });
+        return args.toArray();
+    }
+
+    // 스크립트의 HGETALL 결과는 [필드, 값, 필드, 값, ...]
+    private static SortedMap<Long, Integer> toItems(List<?> fieldsAndValues) {
+        Map<String, String> entries = new HashMap<>();
+        if (fieldsAndValues != null) {
+            for (int i = 0; i + 1 < fieldsAndValues.size(); i += 2) {
+                entries.put((String) fieldsAndValues.get(i), (String) fieldsAndValues.get(i + 1));
+            }
+        }
+        return toItems(entries);
+    }
+
+    private static SortedMap<Long, Integer> toItems(Map<String, String> entries) {
+        SortedMap<Long, Integer> items = new TreeMap<>();
+        if (entries != null) {
+            entries.forEach((productId, quantity) -> {
+                int value = Integer.parseInt(quantity);
+                if (value > 0) {
+                    items.put(Long.valueOf(productId), value);
+                }
+            });
+        }
+        return items;
+    }
+
+    private static String key(String sessionToken) {
+        return PREFIX + sessionToken;
+    }
+}
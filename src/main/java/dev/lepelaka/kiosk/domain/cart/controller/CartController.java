@@ -0,0 +1,79 @@
+package dev.lepelaka.kiosk.domain.cart.controller;
+
+import dev.lepelaka.kiosk.domain.cart.dto.CartAddRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartCheckoutRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartQuantityRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartResponse;
+import dev.lepelaka.kiosk.domain.cart.service.CartService;
+import dev.lepelaka.kiosk.domain.order.dto.OrderResponse;
+import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@Tag(name = "장바구니 API", description = "단말기 세션별 장바구니 담기, 수량 변경 및 주문 API")
+@RestController
+@RequestMapping("/api/v1/cart")
+@RequiredArgsConstructor
+public class CartController {
+    public static final String SESSION_HEADER = "X-Terminal-Session";
+
+    private final CartService cartService;
+    private final OrderService orderService;
+
+    @Operation(summary = "장바구니 조회", description = "담긴 상품을 상품 ID 순으로 조회합니다. 판매가 끝난 상품은 available=false 로 표시됩니다.")
+    @GetMapping
+    public ResponseEntity<CartResponse> getCart(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken) {
+        return ResponseEntity.ok(cartService.getCart(sessionToken));
+    }
+
+    @Operation(summary = "장바구니 담기", description = "상품을 담습니다. 이미 담긴 상품이면 수량을 더합니다. (지금 판매 중인 상품만)")
+    @PostMapping("/items")
+    public ResponseEntity<CartResponse> addItems(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken,
+                                                 @Valid @RequestBody CartAddRequest request) {
+        return ResponseEntity.ok(cartService.addItems(sessionToken, request));
+    }
+
+    @Operation(summary = "수량 변경", description = "담긴 상품의 수량을 바꿉니다. 0 이면 뺍니다.")
+    @PutMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> changeQuantity(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken,
+                                                       @PathVariable Long productId,
+                                                       @Valid @RequestBody CartQuantityRequest request) {
+        return ResponseEntity.ok(cartService.changeQuantity(sessionToken, productId, request));
+    }
+
+    @Operation(summary = "상품 빼기", description = "담긴 상품을 뺍니다.")
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<CartResponse> removeItem(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken,
+                                                   @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.removeItem(sessionToken, productId));
+    }
+
+    @Operation(summary = "장바구니 비우기", description = "담긴 상품을 모두 뺍니다.")
+    @DeleteMapping
+    public ResponseEntity<Void> clear(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken) {
+        cartService.clear(sessionToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "장바구니 주문", description = "장바구니로 주문을 생성하고 장바구니를 비웁니다. 주문이 실패하면 장바구니는 그대로 남습니다.")
+    @PostMapping("/checkout")
+    public ResponseEntity<OrderResponse> checkout(@RequestHeader(value = SESSION_HEADER, required = false) String sessionToken,
+                                                  @Valid @RequestBody(required = false) CartCheckoutRequest request) {
+        Long orderId = cartService.checkout(sessionToken, request);
+
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/order/{id}")
+                .buildAndExpand(orderId)
+                .toUri();
+
+        return ResponseEntity.created(location)
+                .body(orderService.getOrder(orderId));
+    }
+}
@@ -0,0 +1,15 @@
+package dev.lepelaka.kiosk.domain.cart.dto;
+
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "장바구니 담기 요청 DTO")
+public record CartAddRequest(
+        @Schema(description = "담을 상품과 수량 (이미 담긴 상품이면 수량을 더함)")
+        @NotEmpty
+        List<OrderItemRequest> items
+) {
+}
@@ -0,0 +1,15 @@
+package dev.lepelaka.kiosk.domain.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "장바구니 주문 요청 DTO")
+public record CartCheckoutRequest(
+        @Schema(description = "쿠폰 코드 (선택)", example = "OPEN10")
+        @Size(max = 30)
+        String couponCode,
+
+        @Schema(description = "견적 토큰 (선택, /api/v1/order/quote 응답)")
+        String quoteToken
+) {
+}
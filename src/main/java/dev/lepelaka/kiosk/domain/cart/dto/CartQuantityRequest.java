@@ -0,0 +1,12 @@
+package dev.lepelaka.kiosk.domain.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Schema(description = "장바구니 수량 변경 요청 DTO")
+public record CartQuantityRequest(
+        @Schema(description = "바꿀 수량 (0 이면 뺌)", example = "2")
+        @PositiveOrZero
+        int quantity
+) {
+}
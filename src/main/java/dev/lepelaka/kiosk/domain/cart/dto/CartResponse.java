@@ -0,0 +1,20 @@
+package dev.lepelaka.kiosk.domain.cart.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장바구니 응답 DTO")
+public record CartResponse(
+        @Schema(description = "담긴 상품 (상품 ID 순)")
+        List<Line> lines,
+
+        @Schema(description = "판매 중인 상품 금액 합계 (할인 전)", example = "12000")
+        int itemAmount
+) {
+    /**
+     * available 이 false 면 담은 뒤 판매가 끝난 상품이다. (금액 합계에서 빠지고, 주문 시 거절된다)
+     */
+    public record Line(Long productId, String productName, int quantity, int unitPrice, int amount, boolean available) {
+    }
+}
@@ -0,0 +1,10 @@
+package dev.lepelaka.kiosk.domain.cart.exception;
+
+import dev.lepelaka.kiosk.global.exception.BusinessException;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class CartException extends BusinessException {
+    public CartException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.lepelaka.kiosk.domain.cart.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class CartQuantityExceededException extends CartException {
+    private final Long productId;
+    private final int quantity;
+
+    public CartQuantityExceededException(Long productId, int quantity) {
+        super(ErrorCode.CART_QUANTITY_EXCEEDED);
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (상품 ID : %d, 수량 : %d)", super.getMessage(), productId, quantity);
+    }
+}
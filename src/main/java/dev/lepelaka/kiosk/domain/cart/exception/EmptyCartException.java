@@ -0,0 +1,9 @@
+package dev.lepelaka.kiosk.domain.cart.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class EmptyCartException extends CartException {
+    public EmptyCartException() {
+        super(ErrorCode.EMPTY_CART);
+    }
+}
@@ -0,0 +1,154 @@
+package dev.lepelaka.kiosk.domain.cart.service;
+
+import dev.lepelaka.kiosk.domain.cart.component.CartStore;
+import dev.lepelaka.kiosk.domain.cart.dto.CartAddRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartCheckoutRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartQuantityRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartResponse;
+import dev.lepelaka.kiosk.domain.cart.exception.CartQuantityExceededException;
+import dev.lepelaka.kiosk.domain.cart.exception.EmptyCartException;
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.product.exception.InvalidQuantityException;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalSessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 단말기 세션별 장바구니.
+ * - 담을 때 메뉴 스냅샷(지금 판매 중인 상품)으로 미리 확인한다. 재고는 주문 시 잠금 구간에서 확인한다
+ * - 주문 시 장바구니(상품별로 합쳐져 있고 ID 순)를 가져가며 비우고 그대로 주문 요청으로 바꿔 주문 생성에 넘긴다. 실패하면 되돌린다
+ */
+@Service
+public class CartService {
+
+    private final CartStore cartStore;
+    private final TerminalSessionStore terminalSessionStore;
+    private final MenuSnapshotService menuSnapshotService;
+    private final OrderService orderService;
+    private final int maxQuantity;
+
+    public CartService(CartStore cartStore, TerminalSessionStore terminalSessionStore, MenuSnapshotService menuSnapshotService,
+                       OrderService orderService, @Value("${kiosk.cart.max-quantity:99}") int maxQuantity) {
+        this.cartStore = cartStore;
+        this.terminalSessionStore = terminalSessionStore;
+        this.menuSnapshotService = menuSnapshotService;
+        this.orderService = orderService;
+        this.maxQuantity = maxQuantity;
+    }
+
+    public CartResponse getCart(String sessionToken) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        return toResponse(cartStore.items(sessionToken), menuSnapshotService.current());
+    }
+
+    public CartResponse addItems(String sessionToken, CartAddRequest request) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        MenuSnapshot snapshot = menuSnapshotService.current();
+
+        // 1. 요청 안의 같은 상품은 합치고, 지금 판매 중인 상품인지 확인
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        request.items().forEach(item -> deltas.merge(item.productId(), item.quantity(), Integer::sum));
+        Set<Long> notFoundIds = new LinkedHashSet<>();
+        deltas.forEach((productId, quantity) -> {
+            if (quantity <= 0) {
+                throw new InvalidQuantityException(productId, quantity);
+            }
+            if (snapshot.findProduct(productId).isEmpty()) {
+                notFoundIds.add(productId);
+            }
+        });
+        if (!notFoundIds.isEmpty()) {
+            throw new ProductNotFoundException(notFoundIds);
+        }
+
+        // 2. 한도 확인과 더하기를 Redis 에서 한 번에 (동시 요청에도 한도를 넘기지 않고, 넘으면 아무것도 더하지 않는다)
+        SortedMap<Long, Integer> items = cartStore.add(sessionToken, deltas, maxQuantity);
+        return toResponse(items, snapshot);
+    }
+
+    public CartResponse changeQuantity(String sessionToken, Long productId, CartQuantityRequest request) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        MenuSnapshot snapshot = menuSnapshotService.current();
+        int quantity = request.quantity();
+        if (quantity < 0) {
+            throw new InvalidQuantityException(productId, quantity);
+        }
+        if (quantity > maxQuantity) {
+            throw new CartQuantityExceededException(productId, quantity);
+        }
+        if (quantity > 0 && snapshot.findProduct(productId).isEmpty()) {
+            throw new ProductNotFoundException(productId);
+        }
+        return toResponse(cartStore.put(sessionToken, productId, quantity), snapshot);
+    }
+
+    public CartResponse removeItem(String sessionToken, Long productId) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        return toResponse(cartStore.put(sessionToken, productId, 0), menuSnapshotService.current());
+    }
+
+    public void clear(String sessionToken) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        cartStore.clear(sessionToken);
+    }
+
+    /**
+     * 장바구니로 주문한다. 장바구니를 먼저 원자적으로 가져가므로 같은 세션의 주문 요청이 겹쳐도 한 번만 주문되고
+     * 나머지는 빈 장바구니로 거절된다. 주문이 실패하면(재고 부족 등) 가져간 장바구니를 되돌려 넣는다.
+     */
+    public Long checkout(String sessionToken, CartCheckoutRequest request) {
+        Long terminalId = terminalSessionStore.resolveTerminalId(sessionToken);
+        SortedMap<Long, Integer> items = cartStore.claim(sessionToken);
+        OrderCreateRequest orderRequest = toOrderRequest(terminalId, items, request);
+        try {
+            return orderService.createOrder(orderRequest);
+        } catch (RuntimeException e) {
+            cartStore.restore(sessionToken, items, maxQuantity);
+            throw e;
+        }
+    }
+
+    /**
+     * 장바구니 -> 주문 요청. 상품별로 합쳐져 있고 상품 ID 순이라 주문 생성의 잠금 순서와 같다.
+     */
+    static OrderCreateRequest toOrderRequest(Long terminalId, SortedMap<Long, Integer> items, CartCheckoutRequest request) {
+        if (items.isEmpty()) {
+            throw new EmptyCartException();
+        }
+        List<OrderItemRequest> orderItems = new ArrayList<>(items.size());
+        items.forEach((productId, quantity) -> orderItems.add(new OrderItemRequest(productId, quantity)));
+        return request == null
+                ? new OrderCreateRequest(orderItems, terminalId)
+                : new OrderCreateRequest(orderItems, terminalId, request.couponCode(), request.quoteToken());
+    }
+
+    private static CartResponse toResponse(SortedMap<Long, Integer> items, MenuSnapshot snapshot) {
+        List<CartResponse.Line> lines = new ArrayList<>(items.size());
+        int itemAmount = 0;
+        for (Map.Entry<Long, Integer> entry : items.entrySet()) {
+            MenuProductResponse product = snapshot.findProduct(entry.getKey()).orElse(null);
+            if (product == null) {
+                lines.add(new CartResponse.Line(entry.getKey(), null, entry.getValue(), 0, 0, false));
+                continue;
+            }
+            int amount = product.price() * entry.getValue();
+            lines.add(new CartResponse.Line(entry.getKey(), product.name(), entry.getValue(), product.price(), amount, true));
+            itemAmount += amount;
+        }
+        return new CartResponse(lines, itemAmount);
+    }
+}
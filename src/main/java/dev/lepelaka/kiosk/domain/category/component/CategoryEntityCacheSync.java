@@ -0,0 +1,51 @@
+package dev.lepelaka.kiosk.domain.category.component;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidation;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Category 2차 캐시(Caffeine, 노드별) 노드 간 동기화.
+ * 변경한 노드는 Hibernate 가 직접 갱신하고, 커밋 후 무효화 버스로 다른 노드에 알려 해당 엔티티와 natural id 캐시를 비우게 한다.
+ * 메시지가 유실돼도 2차 캐시 만료 시간(application.conf) 안에 수렴한다.
+ */
+@Slf4j
+@Component
+public class CategoryEntityCacheSync {
+
+    static final String REGION = "__entity:" + Category.class.getName();
+
+    private final SessionFactory sessionFactory;
+    private final CacheInvalidationBus bus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CategoryEntityCacheSync(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.bus = bus;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        bus.publish(new CacheInvalidation(nodeId, REGION, String.valueOf(event.categoryId())));
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!REGION.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        Long categoryId = Long.valueOf(invalidation.key());
+        sessionFactory.getCache().evictEntityData(Category.class, categoryId);
+        sessionFactory.getCache().evictNaturalIdData(Category.class); // 이름이 바뀌었을 수 있어 natural id 는 통째로
+        log.debug("Evicted category {} from second-level cache (changed on another node)", categoryId);
+    }
+}
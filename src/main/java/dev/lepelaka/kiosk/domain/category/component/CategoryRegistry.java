@@ -0,0 +1,48 @@
+package dev.lepelaka.kiosk.domain.category.component;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.SnapshotRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 카테고리 스냅샷. 상품 등록/수정과 카테고리별 목록에서 카테고리 존재 확인을 SELECT 없이 처리한다.
+ * 변경이 커밋되면 다시 읽고 다른 노드에 알린다.
+ */
+@Component
+public class CategoryRegistry extends SnapshotRegistry<CategoryRegistry.Entry> {
+
+    private final CategoryRepository categoryRepository;
+
+    public CategoryRegistry(CategoryRepository categoryRepository, CacheInvalidationBus bus) {
+        super("categories", bus);
+        this.categoryRepository = categoryRepository;
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        reloadAndBroadcast();
+    }
+
+    @Override
+    protected List<Entry> loadAll() {
+        return categoryRepository.findAll().stream().map(Entry::from).toList();
+    }
+
+    @Override
+    protected Long idOf(Entry entry) {
+        return entry.id();
+    }
+
+    public record Entry(Long id, String name, int displayOrder, boolean active) {
+
+        public static Entry from(Category category) {
+            return new Entry(category.getId(), category.getName(), category.getDisplayOrder(), category.isActive());
+        }
+    }
+}
@@ -3,9 +3,19 @@ package dev.lepelaka.kiosk.domain.category.entity;
 import dev.lepelaka.kiosk.global.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+/**
+ * 2차 캐시 대상: 상품 조회마다 참조로 읽히고 변경은 드물다.
+ * 다른 노드의 2차 캐시는 CategoryEntityCacheSync 가 무효화한다.
+ */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString
@@ -16,6 +26,7 @@ public class Category extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, length = 50, unique = true)
     private String name;
 
@@ -0,0 +1,7 @@
+package dev.lepelaka.kiosk.domain.category.event;
+
+/**
+ * 카테고리 등록/수정/활성화 상태 변경/삭제 (커밋 후 메뉴 스냅샷 재생성 등에 사용)
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -0,0 +1,17 @@
+package dev.lepelaka.kiosk.domain.category.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class DuplicateCategoryException extends CategoryException {
+    private final String categoryName;
+
+    public DuplicateCategoryException(String categoryName) {
+        super(ErrorCode.DUPLICATE_CATEGORY_NAME);
+        this.categoryName = categoryName;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (카테고리명 : %s)", super.getMessage(), categoryName);
+    }
+}
@@ -0,0 +1,13 @@
+package dev.lepelaka.kiosk.domain.category.repository;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+
+import java.util.Optional;
+
+public interface CategoryNaturalIdRepository {
+
+    /**
+     * 이름(natural id)으로 조회. 2차 캐시(natural id 캐시)를 거치므로 반복 조회 시 SELECT 가 나가지 않는다.
+     */
+    Optional<Category> findByNaturalName(String name);
+}
@@ -0,0 +1,21 @@
+package dev.lepelaka.kiosk.domain.category.repository;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class CategoryNaturalIdRepositoryImpl implements CategoryNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Category> findByNaturalName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Category.class)
+                .loadOptional(name);
+    }
+}
@@ -5,7 +5,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+import java.util.List;
+
+public interface CategoryRepository extends JpaRepository<Category, Long>, CategoryNaturalIdRepository {
     Page<Category> findAllByOrderByDisplayOrderAsc(Pageable pageable);
     Page<Category> findByActiveTrueOrderByDisplayOrderAsc(Pageable pageable);
+    List<Category> findByActiveTrueOrderByDisplayOrderAsc();
 }
\ No newline at end of file
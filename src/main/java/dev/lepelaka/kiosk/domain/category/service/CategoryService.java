@@ -4,12 +4,14 @@ import dev.lepelaka.kiosk.domain.category.dto.CategoryCreateRequest;
 import dev.lepelaka.kiosk.domain.category.dto.CategoryResponse;
 import dev.lepelaka.kiosk.domain.category.dto.CategoryUpdateRequest;
 import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
 import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
+import dev.lepelaka.kiosk.domain.category.exception.DuplicateCategoryException;
 import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,55 +21,68 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public Long create(CategoryCreateRequest request) {
-        return categoryRepository.save(request.toEntity()).getId();
+        validateUniqueName(request.name(), null);
+        Long id = categoryRepository.save(request.toEntity()).getId();
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+        return id;
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public void modify(Long id, CategoryUpdateRequest request) {
         Category category = getCategory(id);
+        validateUniqueName(request.name(), id);
         category.update(request.name(), request.description(), request.displayOrder());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public void deactivate(Long id) {
         getCategory(id).deactivate();
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public void activate(Long id) {
         getCategory(id).activate();
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public void remove(Long id) {
         categoryRepository.delete(getCategory(id));
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
-    @Cacheable(value = "categories", key = "#id")
+    @Cacheable(value = "categories", sync = true, key = "#id")
     public CategoryResponse get(Long id) {
         return CategoryResponse.from(getCategory(id));
     }
 
 
-    @Cacheable(value = "categories", key = "':active:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
+    @Cacheable(value = "categories", sync = true, key = "':active:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
     public PageResponse<CategoryResponse> listActive(Pageable pageable) {
         return PageResponse.from(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc(pageable).map(CategoryResponse::from));
     }
 
-    @Cacheable(value = "categories", key = "':all:displayorder:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
+    @Cacheable(value = "categories", sync = true, key = "':all:displayorder:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
     public PageResponse<CategoryResponse> listByDisplayOrder(Pageable pageable) {
         return PageResponse.from(categoryRepository.findAllByOrderByDisplayOrderAsc(pageable).map(CategoryResponse::from));
     }
 
     // 헬퍼 정의
+    // 이름은 natural id 라 2차 캐시(natural id 캐시)를 거친다. 유니크 제약 위반(500) 대신 409
+    private void validateUniqueName(String name, Long id) {
+        categoryRepository.findByNaturalName(name)
+                .filter(found -> !found.getId().equals(id))
+                .ifPresent(found -> {
+                    throw new DuplicateCategoryException(name);
+                });
+    }
+
     private Category getCategory(Long id) {
         return categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id));
     }
@@ -0,0 +1,84 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
+import dev.lepelaka.kiosk.global.cache.CacheKeyFamily;
+import dev.lepelaka.kiosk.global.cache.FamilyEvictingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * 상품/카테고리 변경 시 캐시 무효화 (기존 @CacheEvict(allEntries = true) 대체).
+ * - 상품 변경: 상세 키 + "active" 패밀리 + 해당(이전) 카테고리 패밀리만 무효화. 다른 카테고리 목록은 유지된다.
+ * - 카테고리 변경: 상품 응답에 카테고리 정보가 들어있으므로 categories, products 캐시 세대를 올린다.
+ * 변경 즉시 한 번, 커밋 후 한 번 더 무효화해서 커밋 전 다른 요청이 옛 값을 다시 채워 넣는 경우를 막는다 (세대 증가라 비용 O(1)).
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheInvalidator {
+
+    private static final String PRODUCTS = "products";
+    private static final String CATEGORIES = "categories";
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        nowAndAfterCommit(() -> {
+            Cache products = cacheManager.getCache(PRODUCTS);
+            if (products == null) {
+                return;
+            }
+            products.evict(event.productId());
+            evictFamily(products, CacheKeyFamily.ACTIVE);
+            if (event.categoryId() != null) {
+                evictFamily(products, CacheKeyFamily.category(event.categoryId()));
+            }
+            if (event.previousCategoryId() != null && !Objects.equals(event.previousCategoryId(), event.categoryId())) {
+                evictFamily(products, CacheKeyFamily.category(event.previousCategoryId()));
+            }
+        });
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        nowAndAfterCommit(() -> {
+            clear(CATEGORIES);
+            clear(PRODUCTS);
+        });
+    }
+
+    private void evictFamily(Cache cache, String family) {
+        if (cache instanceof FamilyEvictingCache familyEvictingCache) {
+            familyEvictingCache.evictFamily(family);
+        } else {
+            cache.clear();
+        }
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void nowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
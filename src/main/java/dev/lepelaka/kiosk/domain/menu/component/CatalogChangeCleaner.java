@@ -0,0 +1,36 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 변경 로그 정리. 그보다 오래된 버전으로 요청한 키오스크는 전체 스냅샷을 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeCleaner {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+
+    @Value("${kiosk.menu.change-retention:P7D}")
+    private Duration retention;
+
+    @Transactional
+    @Scheduled(cron = "${kiosk.menu.change-cleanup-cron:0 30 3 * * *}")
+    public void purge() {
+        long latest = catalogChangeRepository.findMaxId();
+        int deleted = catalogChangeRepository.deleteChangedBefore(LocalDateTime.now().minus(retention), latest);
+        if (deleted > 0) {
+            log.info("Purged {} catalog change rows older than {}", deleted, retention);
+        }
+    }
+}
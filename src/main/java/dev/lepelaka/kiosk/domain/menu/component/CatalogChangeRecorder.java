@@ -0,0 +1,92 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.menu.entity.CatalogChange;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.event.MenuScheduleChangedEvent;
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 변경 이벤트를 받는 즉시(같은 트랜잭션 안에서) 변경 로그를 남긴다.
+ * 변경이 롤백되면 로그도 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogChangeRecorder {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        record(CatalogItemType.PRODUCT, event.productId());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        record(CatalogItemType.CATEGORY, event.categoryId());
+    }
+
+    // 일정이 바뀐 대상도 변경분으로 내려준다. 시각별 전환은 recordSwitch 로 따로 남긴다
+    @EventListener
+    public void onMenuScheduleChanged(MenuScheduleChangedEvent event) {
+        record(event.itemType(), event.itemId());
+    }
+
+    /**
+     * 일정에 따른 전환으로 노출 여부나 판매가가 바뀐 항목을 전환 시각으로 남긴다 (호출하는 쪽 트랜잭션 안에서).
+     * 모든 노드가 같은 시각에 전환하므로 이미 그 시각으로 남은 항목은 건너뛴다. 동시에 커밋되어 겹쳐도 델타는 upsert 라 무해하다.
+     *
+     * @return 새로 남긴 건수
+     */
+    public int recordSwitch(LocalDateTime at, EffectiveMenu before, EffectiveMenu after) {
+        Set<Long> products = symmetricDifference(before.hiddenProducts(), after.hiddenProducts());
+        products.addAll(changedPrices(before.prices(), after.prices()));
+        Set<Long> categories = symmetricDifference(before.hiddenCategories(), after.hiddenCategories());
+        if (products.isEmpty() && categories.isEmpty()) {
+            return 0;
+        }
+
+        for (CatalogChange recorded : catalogChangeRepository.findByChangedAt(at)) {
+            (recorded.getItemType() == CatalogItemType.PRODUCT ? products : categories).remove(recorded.getItemId());
+        }
+        products.forEach(id -> record(CatalogItemType.PRODUCT, id, at));
+        categories.forEach(id -> record(CatalogItemType.CATEGORY, id, at));
+        return products.size() + categories.size();
+    }
+
+    private void record(CatalogItemType type, Long itemId) {
+        record(type, itemId, LocalDateTime.now());
+    }
+
+    private void record(CatalogItemType type, Long itemId, LocalDateTime changedAt) {
+        catalogChangeRepository.save(CatalogChange.builder()
+                .itemType(type)
+                .itemId(itemId)
+                .changedAt(changedAt)
+                .build());
+    }
+
+    private static Set<Long> symmetricDifference(Set<Long> a, Set<Long> b) {
+        Set<Long> result = new HashSet<>(a);
+        result.addAll(b);
+        result.removeIf(id -> a.contains(id) && b.contains(id));
+        return result;
+    }
+
+    private static List<Long> changedPrices(Map<Long, Integer> before, Map<Long, Integer> after) {
+        Set<Long> ids = new HashSet<>(before.keySet());
+        ids.addAll(after.keySet());
+        return ids.stream().filter(id -> !Objects.equals(before.get(id), after.get(id))).toList();
+    }
+}
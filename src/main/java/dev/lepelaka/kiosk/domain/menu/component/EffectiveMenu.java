@@ -0,0 +1,37 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 특정 시각에 적용되는 판매 일정 결과. 미리 계산해 두고 전환 시각에 통째로 교체한다.
+ *
+ * @param hiddenProducts   판매 시간이 아닌 상품
+ * @param hiddenCategories 판매 시간이 아닌 카테고리 (소속 상품 전체가 숨겨진다)
+ * @param prices           시간대 가격이 적용 중인 상품의 판매가
+ * @param until            다음 전환 시각 (없으면 null)
+ */
+public record EffectiveMenu(
+        LocalDateTime at,
+        Set<Long> hiddenProducts,
+        Set<Long> hiddenCategories,
+        Map<Long, Integer> prices,
+        LocalDateTime until
+) {
+    public static final EffectiveMenu NONE = new EffectiveMenu(null, Set.of(), Set.of(), Map.of(), null);
+
+    public EffectiveMenu {
+        hiddenProducts = Set.copyOf(hiddenProducts);
+        hiddenCategories = Set.copyOf(hiddenCategories);
+        prices = Map.copyOf(prices);
+    }
+
+    public boolean isAvailable(Long productId, Long categoryId) {
+        return !hiddenProducts.contains(productId) && (categoryId == null || !hiddenCategories.contains(categoryId));
+    }
+
+    public int priceOf(Long productId, int basePrice) {
+        return prices.getOrDefault(productId, basePrice);
+    }
+}
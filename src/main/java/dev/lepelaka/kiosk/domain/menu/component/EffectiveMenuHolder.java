@@ -0,0 +1,21 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 지금 적용 중인 EffectiveMenu. 주문 시 판매 시간/시간대 가격 확인에 사용한다.
+ * MenuSnapshotService 가 메뉴 스냅샷과 같은 시각에 교체하며, 일정이 없으면 NONE (항상 판매, 기본가).
+ */
+@Component
+public class EffectiveMenuHolder {
+
+    private volatile EffectiveMenu current = EffectiveMenu.NONE;
+
+    public EffectiveMenu current() {
+        return current;
+    }
+
+    public void set(EffectiveMenu effectiveMenu) {
+        current = effectiveMenu;
+    }
+}
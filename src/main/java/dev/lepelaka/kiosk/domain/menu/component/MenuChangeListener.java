@@ -0,0 +1,42 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.menu.event.MenuScheduleChangedEvent;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품/카테고리/판매 일정 변경이 커밋되면 메뉴 스냅샷 재생성 후 다른 노드에 알림. 롤백된 변경은 반영되지 않는다.
+ * 기동 시에도 한 번 만들어 주문 검증용 EffectiveMenu 와 다음 일정 전환 예약을 준비한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuChangeListener {
+
+    private final MenuSnapshotService menuSnapshotService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        menuSnapshotService.rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        menuSnapshotService.rebuildAndBroadcast();
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        menuSnapshotService.rebuildAndBroadcast();
+    }
+
+    @TransactionalEventListener
+    public void onMenuScheduleChanged(MenuScheduleChangedEvent event) {
+        menuSnapshotService.rebuildAndBroadcast();
+    }
+}
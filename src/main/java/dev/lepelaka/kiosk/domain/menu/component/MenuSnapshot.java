@@ -0,0 +1,67 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 미리 직렬화해 둔 메뉴 응답. 한 번 만들어지면 바뀌지 않으며 변경 시 통째로 교체된다.
+ * 견적(가격 계산)용으로 지금 판매 중인 상품을 적용 가격과 함께 ID 로 찾을 수 있다.
+ */
+@Getter
+public final class MenuSnapshot {
+
+    private final long version;
+    private final String contentHash;
+    private final String eTag;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final LocalDateTime builtAt;
+    private final Map<Long, MenuProductResponse> products;
+
+    public MenuSnapshot(long version, String contentHash, byte[] json, byte[] gzip, LocalDateTime builtAt,
+                        Map<Long, MenuProductResponse> products) {
+        this.version = version;
+        this.contentHash = contentHash;
+        this.eTag = "W/\"" + version + "-" + contentHash + "\"";
+        this.json = json;
+        this.gzip = gzip;
+        this.builtAt = builtAt;
+        this.products = Map.copyOf(products);
+    }
+
+    public Optional<MenuProductResponse> findProduct(Long productId) {
+        return Optional.ofNullable(products.get(productId));
+    }
+
+    /**
+     * 가격이 바뀌면 달라지는 값 (버전 + 내용 해시). 노드마다 같은 내용이면 같은 값이다.
+     */
+    public String priceVersion() {
+        return version + "-" + contentHash;
+    }
+
+    /**
+     * If-None-Match 헤더와 약한 비교 (W/ 접두어 무시, 콤마로 여러 개, * 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String own = strip(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || strip(tag).equals(own)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String strip(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
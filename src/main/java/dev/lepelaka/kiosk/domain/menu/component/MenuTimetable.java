@@ -0,0 +1,122 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 판매 일정 목록으로 특정 시각의 EffectiveMenu 와 다음 전환 시각을 계산한다. DB 를 보지 않는 순수 계산.
+ * - AVAILABLE 일정이 있는 대상은 그중 하나라도 진행 중일 때만 노출
+ * - PRICE 일정은 상품에만 적용하고, 여러 개가 겹치면 가장 낮은 가격
+ */
+public final class MenuTimetable {
+
+    public static final MenuTimetable EMPTY = new MenuTimetable(List.of());
+
+    private final List<Window> windows;
+
+    private MenuTimetable(List<Window> windows) {
+        this.windows = windows;
+    }
+
+    public static MenuTimetable of(List<MenuSchedule> schedules) {
+        return new MenuTimetable(schedules.stream().map(Window::from).toList());
+    }
+
+    public boolean isEmpty() {
+        return windows.isEmpty();
+    }
+
+    public EffectiveMenu effectiveAt(LocalDateTime at) {
+        Set<Long> restrictedProducts = new HashSet<>();
+        Set<Long> restrictedCategories = new HashSet<>();
+        Set<Long> openProducts = new HashSet<>();
+        Set<Long> openCategories = new HashSet<>();
+        Map<Long, Integer> prices = new HashMap<>();
+
+        for (Window window : windows) {
+            boolean product = window.itemType() == CatalogItemType.PRODUCT;
+            if (window.type() == MenuScheduleType.AVAILABLE) {
+                (product ? restrictedProducts : restrictedCategories).add(window.itemId());
+                if (window.isOpen(at)) {
+                    (product ? openProducts : openCategories).add(window.itemId());
+                }
+            } else if (product && window.price() != null && window.isOpen(at)) {
+                prices.merge(window.itemId(), window.price(), Math::min);
+            }
+        }
+        restrictedProducts.removeAll(openProducts);
+        restrictedCategories.removeAll(openCategories);
+        return new EffectiveMenu(at, restrictedProducts, restrictedCategories, prices, nextBoundaryAfter(at).orElse(null));
+    }
+
+    /**
+     * at 이후 처음으로 어떤 구간이 시작하거나 끝나는 시각
+     */
+    public Optional<LocalDateTime> nextBoundaryAfter(LocalDateTime at) {
+        LocalDateTime next = null;
+        for (Window window : windows) {
+            for (LocalDateTime boundary : window.boundariesAround(at)) {
+                if (boundary.isAfter(at) && (next == null || boundary.isBefore(next))) {
+                    next = boundary;
+                }
+            }
+        }
+        return Optional.ofNullable(next);
+    }
+
+    private record Window(CatalogItemType itemType, Long itemId, MenuScheduleType type, Integer price,
+                          LocalTime startTime, LocalTime endTime, LocalDate startDate, LocalDate endDate) {
+
+        static Window from(MenuSchedule schedule) {
+            return new Window(schedule.getItemType(), schedule.getItemId(), schedule.getType(), schedule.getPrice(),
+                    schedule.getStartTime(), schedule.getEndTime(), schedule.getStartDate(), schedule.getEndDate());
+        }
+
+        boolean isOpen(LocalDateTime at) {
+            // 자정을 넘기는 구간은 전날 시작분이 걸칠 수 있다
+            for (LocalDate day : List.of(at.toLocalDate().minusDays(1), at.toLocalDate())) {
+                if (runsOn(day) && !at.isBefore(start(day)) && at.isBefore(end(day))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<LocalDateTime> boundariesAround(LocalDateTime at) {
+            LocalDate today = at.toLocalDate();
+            List<LocalDate> days = new ArrayList<>(List.of(today.minusDays(1), today, today.plusDays(1)));
+            if (startDate != null && startDate.isAfter(today.plusDays(1))) {
+                days.add(startDate);
+            }
+            return days.stream()
+                    .filter(this::runsOn)
+                    .flatMap(day -> Stream.of(start(day), end(day)))
+                    .toList();
+        }
+
+        private boolean runsOn(LocalDate day) {
+            return (startDate == null || !day.isBefore(startDate)) && (endDate == null || !day.isAfter(endDate));
+        }
+
+        private LocalDateTime start(LocalDate day) {
+            return day.atTime(startTime);
+        }
+
+        private LocalDateTime end(LocalDate day) {
+            return startTime.isBefore(endTime) ? day.atTime(endTime) : day.plusDays(1).atTime(endTime);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package dev.lepelaka.kiosk.domain.menu.controller;
+
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuChangesResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuChangeService;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "메뉴 API", description = "키오스크용 전체 메뉴 스냅샷 API")
+@RestController
+@RequestMapping("/api/v1/menu")
+@RequiredArgsConstructor
+public class MenuController {
+    public static final String VERSION_HEADER = "X-Menu-Version";
+
+    private final MenuSnapshotService menuSnapshotService;
+    private final MenuChangeService menuChangeService;
+
+    @Operation(summary = "전체 메뉴 조회", description = "활성 카테고리와 상품을 한 번에 조회합니다. If-None-Match 가 현재 ETag 와 같으면 304 를 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "변경 없음")
+    @GetMapping
+    public ResponseEntity<byte[]> menu(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MenuSnapshot snapshot = menuSnapshotService.current();
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getETag())
+                    .header(VERSION_HEADER, String.valueOf(snapshot.getVersion()))
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(VERSION_HEADER, String.valueOf(snapshot.getVersion()));
+
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return builder.body(snapshot.getJson());
+    }
+
+    @Operation(summary = "메뉴 변경분 조회", description = "since 버전 이후 추가/수정/삭제된 카테고리와 상품만 조회합니다. fullSync 가 true 면 전체 메뉴를 다시 받아야 합니다.")
+    @GetMapping("/changes")
+    public ResponseEntity<MenuChangesResponse> changes(
+            @Parameter(description = "키오스크가 가진 메뉴 버전", example = "42") @RequestParam long since) {
+        return ResponseEntity.ok(menuChangeService.changesSince(since));
+    }
+}
@@ -0,0 +1,52 @@
+package dev.lepelaka.kiosk.domain.menu.controller;
+
+import dev.lepelaka.kiosk.domain.menu.dto.MenuScheduleCreateRequest;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuScheduleResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@Tag(name = "판매 일정 API", description = "시간대별 메뉴 노출(아침/점심/저녁)과 시간대 가격(해피아워) 일정 API")
+@RestController
+@RequestMapping("/api/v1/menu/schedules")
+@RequiredArgsConstructor
+public class MenuScheduleController {
+    private final MenuScheduleService menuScheduleService;
+
+    @Operation(summary = "판매 일정 목록 조회", description = "적용 중인 판매 일정을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<MenuScheduleResponse>> list() {
+        return ResponseEntity.ok(menuScheduleService.list());
+    }
+
+    @Operation(summary = "판매 일정 등록", description = "상품/카테고리의 판매 시간 또는 상품의 시간대 가격을 등록합니다. 전환 시각의 메뉴는 미리 만들어 두고 그 시각에 교체됩니다.")
+    @ApiResponse(responseCode = "201", description = "등록 성공")
+    @PostMapping
+    public ResponseEntity<Long> register(@Valid @RequestBody MenuScheduleCreateRequest request) {
+        Long id = menuScheduleService.register(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(id)
+                .toUri();
+        return ResponseEntity.created(location).body(id);
+    }
+
+    @Operation(summary = "판매 일정 삭제", description = "판매 일정을 더 이상 적용하지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "삭제 성공")
+    @ApiResponse(responseCode = "404", description = "일정이 존재하지 않음")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> remove(@Parameter(description = "일정 ID", example = "1") @PathVariable("id") Long id) {
+        menuScheduleService.remove(id);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+
+import java.util.List;
+
+public record MenuCategoryResponse(
+        Long id,
+        String name,
+        String description,
+        int displayOrder,
+        List<MenuProductResponse> products
+) {
+    public static MenuCategoryResponse of(Category category, List<MenuProductResponse> products) {
+        return new MenuCategoryResponse(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getDisplayOrder(),
+                products);
+    }
+}
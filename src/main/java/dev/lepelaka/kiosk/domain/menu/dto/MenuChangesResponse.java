@@ -0,0 +1,28 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import java.util.List;
+
+/**
+ * since 버전 이후 변경분.
+ * - categories: 추가/수정/재활성화된 카테고리 (각 카테고리의 현재 활성 상품 포함)
+ * - products: 추가/수정된 상품
+ * - removed*: 삭제되었거나 비활성화되어 화면에서 빼야 하는 항목
+ * - fullSync 가 true 면 변경분 대신 /api/v1/menu 전체 스냅샷을 다시 받아야 한다.
+ */
+public record MenuChangesResponse(
+        long since,
+        long version,
+        boolean fullSync,
+        List<MenuCategoryResponse> categories,
+        List<MenuProductResponse> products,
+        List<Long> removedCategoryIds,
+        List<Long> removedProductIds
+) {
+    public static MenuChangesResponse upToDate(long version) {
+        return new MenuChangesResponse(version, version, false, List.of(), List.of(), List.of(), List.of());
+    }
+
+    public static MenuChangesResponse fullSync(long since, long version) {
+        return new MenuChangesResponse(since, version, true, List.of(), List.of(), List.of(), List.of());
+    }
+}
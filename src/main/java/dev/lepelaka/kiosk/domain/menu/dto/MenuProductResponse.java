@@ -0,0 +1,29 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+
+/**
+ * 메뉴 스냅샷용 상품 정보. 재고는 주문마다 바뀌므로 스냅샷에 넣지 않는다.
+ */
+public record MenuProductResponse(
+        Long id,
+        Long categoryId,
+        String name,
+        int price,
+        String description,
+        String imageUrl
+) {
+    public MenuProductResponse withPrice(int effectivePrice) {
+        return effectivePrice == price ? this : new MenuProductResponse(id, categoryId, name, effectivePrice, description, imageUrl);
+    }
+
+    public static MenuProductResponse from(Product product) {
+        return new MenuProductResponse(
+                product.getId(),
+                product.getCategory().getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getDescription(),
+                product.getImageUrl());
+    }
+}
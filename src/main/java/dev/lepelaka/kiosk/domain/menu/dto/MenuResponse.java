@@ -0,0 +1,12 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import java.util.List;
+
+/**
+ * 키오스크 부팅/갱신용 전체 메뉴 (활성 카테고리 displayOrder 순 + 각 카테고리의 활성 상품)
+ */
+public record MenuResponse(
+        long version,
+        List<MenuCategoryResponse> categories
+) {
+}
@@ -0,0 +1,57 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Schema(description = "판매 일정 등록 요청 DTO")
+public record MenuScheduleCreateRequest(
+        @Schema(description = "대상 종류", example = "CATEGORY")
+        @NotNull(message = "대상 종류는 필수입니다.")
+        CatalogItemType itemType,
+
+        @Schema(description = "대상 상품/카테고리 ID", example = "1")
+        @NotNull(message = "대상 ID는 필수입니다.")
+        Long itemId,
+
+        @Schema(description = "일정 종류 (AVAILABLE: 판매 시간, PRICE: 시간대 가격)", example = "AVAILABLE")
+        @NotNull(message = "일정 종류는 필수입니다.")
+        MenuScheduleType type,
+
+        @Schema(description = "시간대 가격 (PRICE 일정만)", example = "3000")
+        @Positive(message = "가격은 0보다 커야 합니다.")
+        Integer price,
+
+        @Schema(description = "매일 시작 시각", example = "06:00")
+        @NotNull(message = "시작 시각은 필수입니다.")
+        LocalTime startTime,
+
+        @Schema(description = "매일 종료 시각 (미포함, 시작보다 이르면 다음 날)", example = "10:30")
+        @NotNull(message = "종료 시각은 필수입니다.")
+        LocalTime endTime,
+
+        @Schema(description = "적용 시작일 (생략 시 제한 없음)", example = "2026-11-01")
+        LocalDate startDate,
+
+        @Schema(description = "적용 종료일 (포함, 생략 시 제한 없음)")
+        LocalDate endDate
+) {
+    public MenuSchedule toEntity() {
+        return MenuSchedule.builder()
+                .itemType(itemType)
+                .itemId(itemId)
+                .type(type)
+                .price(price)
+                .startTime(startTime)
+                .endTime(endTime)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.lepelaka.kiosk.domain.menu.dto;
+
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Schema(description = "판매 일정 응답 DTO")
+public record MenuScheduleResponse(
+        @Schema(description = "일정 ID", example = "1")
+        Long id,
+
+        @Schema(description = "대상 종류", example = "CATEGORY")
+        CatalogItemType itemType,
+
+        @Schema(description = "대상 상품/카테고리 ID", example = "1")
+        Long itemId,
+
+        @Schema(description = "일정 종류", example = "AVAILABLE")
+        MenuScheduleType type,
+
+        @Schema(description = "시간대 가격", example = "3000")
+        Integer price,
+
+        @Schema(description = "매일 시작 시각", example = "06:00")
+        LocalTime startTime,
+
+        @Schema(description = "매일 종료 시각", example = "10:30")
+        LocalTime endTime,
+
+        @Schema(description = "적용 시작일")
+        LocalDate startDate,
+
+        @Schema(description = "적용 종료일")
+        LocalDate endDate
+) {
+    public static MenuScheduleResponse from(MenuSchedule schedule) {
+        return new MenuScheduleResponse(schedule.getId(), schedule.getItemType(), schedule.getItemId(), schedule.getType(),
+                schedule.getPrice(), schedule.getStartTime(), schedule.getEndTime(), schedule.getStartDate(), schedule.getEndDate());
+    }
+}
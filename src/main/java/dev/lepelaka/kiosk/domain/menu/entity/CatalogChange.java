@@ -0,0 +1,41 @@
+package dev.lepelaka.kiosk.domain.menu.entity;
+
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품/카테고리 변경 로그. id 가 곧 메뉴 버전이며, 변경을 일으킨 트랜잭션 안에서 함께 기록된다.
+ * 어떤 값으로 바뀌었는지는 저장하지 않고 조회 시점의 현재 상태를 내려준다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Table(name = "catalog_change", indexes = @Index(name = "idx_catalog_change_changed_at", columnList = "changed_at"))
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CatalogChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private CatalogItemType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Builder
+    public CatalogChange(CatalogItemType itemType, Long itemId, LocalDateTime changedAt) {
+        this.itemType = itemType;
+        this.itemId = itemId;
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.lepelaka.kiosk.domain.menu.entity;
+
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import dev.lepelaka.kiosk.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 상품/카테고리의 시간대별 판매 여부와 가격 일정.
+ * - 매일 startTime ~ endTime (endTime 미포함). startTime >= endTime 이면 자정을 넘기는 구간 (같으면 하루 종일)
+ * - startDate ~ endDate (포함, 생략 시 제한 없음) 에 시작하는 구간만 유효
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Table(name = "menu_schedule")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class MenuSchedule extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "item_type", nullable = false, length = 20)
+    private CatalogItemType itemType;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MenuScheduleType type;
+
+    private Integer price; // PRICE 일정의 판매가
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Builder
+    public MenuSchedule(CatalogItemType itemType, Long itemId, MenuScheduleType type, Integer price,
+                        LocalTime startTime, LocalTime endTime, LocalDate startDate, LocalDate endDate) {
+        this.itemType = itemType;
+        this.itemId = itemId;
+        this.type = type;
+        this.price = price;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+}
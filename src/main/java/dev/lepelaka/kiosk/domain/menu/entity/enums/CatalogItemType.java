@@ -0,0 +1,6 @@
+package dev.lepelaka.kiosk.domain.menu.entity.enums;
+
+public enum CatalogItemType {
+    PRODUCT,
+    CATEGORY
+}
@@ -0,0 +1,13 @@
+package dev.lepelaka.kiosk.domain.menu.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MenuScheduleType {
+    AVAILABLE("판매 시간"),   // 대상(상품/카테고리)은 이 시간대에만 노출/주문 가능. 일정이 하나도 없으면 항상 가능
+    PRICE("시간대 가격");     // 대상 상품을 이 시간대에 price 로 판매 (해피아워). 겹치면 낮은 가격
+
+    private final String description;
+}
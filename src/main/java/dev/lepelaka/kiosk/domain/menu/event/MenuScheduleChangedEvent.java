@@ -0,0 +1,9 @@
+package dev.lepelaka.kiosk.domain.menu.event;
+
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+
+/**
+ * 판매 일정 등록/삭제 (변경 로그 기록, 커밋 후 메뉴 스냅샷과 전환 예약 재생성)
+ */
+public record MenuScheduleChangedEvent(Long scheduleId, CatalogItemType itemType, Long itemId) {
+}
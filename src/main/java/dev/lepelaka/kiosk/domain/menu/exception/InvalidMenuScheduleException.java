@@ -0,0 +1,17 @@
+package dev.lepelaka.kiosk.domain.menu.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class InvalidMenuScheduleException extends MenuException {
+    private final String reason;
+
+    public InvalidMenuScheduleException(String reason) {
+        super(ErrorCode.INVALID_MENU_SCHEDULE);
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (%s)", super.getMessage(), reason);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.lepelaka.kiosk.domain.menu.exception;
+
+import dev.lepelaka.kiosk.global.exception.BusinessException;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class MenuException extends BusinessException {
+    public MenuException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
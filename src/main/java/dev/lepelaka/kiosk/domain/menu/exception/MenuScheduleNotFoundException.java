@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.menu.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class MenuScheduleNotFoundException extends MenuException {
+    private final Long id;
+
+    public MenuScheduleNotFoundException(Long scheduleId) {
+        super(ErrorCode.MENU_SCHEDULE_NOT_FOUND);
+        this.id = scheduleId;
+    }
+}
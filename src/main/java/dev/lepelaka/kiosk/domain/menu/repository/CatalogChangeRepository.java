@@ -0,0 +1,29 @@
+package dev.lepelaka.kiosk.domain.menu.repository;
+
+import dev.lepelaka.kiosk.domain.menu.entity.CatalogChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    @Query("select coalesce(max(c.id), 0) from CatalogChange c")
+    long findMaxId();
+
+    @Query("select coalesce(min(c.id), 0) from CatalogChange c")
+    long findMinId();
+
+    long countByIdGreaterThanAndIdLessThanEqual(Long since, Long to);
+
+    List<CatalogChange> findByIdGreaterThanAndIdLessThanEqual(Long since, Long to);
+
+    List<CatalogChange> findByChangedAt(LocalDateTime changedAt);
+
+    // keepFromId 이후 행은 남겨서 버전(max id)이 0 으로 돌아가지 않게 한다
+    @Modifying
+    @Query("delete from CatalogChange c where c.changedAt < :before and c.id < :keepFromId")
+    int deleteChangedBefore(LocalDateTime before, Long keepFromId);
+}
@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.domain.menu.repository;
+
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface MenuScheduleRepository extends JpaRepository<MenuSchedule, Long> {
+
+    List<MenuSchedule> findByActiveTrueOrderByIdAsc();
+}
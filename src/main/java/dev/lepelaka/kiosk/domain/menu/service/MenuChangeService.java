@@ -0,0 +1,144 @@
+package dev.lepelaka.kiosk.domain.menu.service;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuCategoryResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuChangesResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.entity.CatalogChange;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 메뉴 변경분(델타) 조회.
+ * 변경 로그에서 바뀐 항목 ID 만 모은 뒤 현재 상태를 읽어 추가/수정/삭제로 분류한다.
+ * 응답 크기와 쿼리 수는 카탈로그 전체가 아니라 변경된 항목 수에 비례한다.
+ * 전체 스냅샷과 같게 지금의 EffectiveMenu 를 적용한다 (판매 시간이 아닌 항목은 삭제로, 시간대 가격은 판매가로).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuChangeService {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final EffectiveMenuHolder effectiveMenuHolder;
+
+    // 변경 건수가 이보다 많으면 전체 스냅샷이 더 싸다
+    @Value("${kiosk.menu.max-delta-changes:500}")
+    private long maxDeltaChanges = 500;
+
+    // IDENTITY 채번 순서와 커밋 순서가 어긋나 늦게 보이는 변경을 놓치지 않도록 since 이전 몇 건을 다시 본다 (upsert 라 중복 무해)
+    @Value("${kiosk.menu.delta-overlap:20}")
+    private long overlap = 20;
+
+    public MenuChangesResponse changesSince(long since) {
+        long latest = catalogChangeRepository.findMaxId();
+        if (since == latest) {
+            return MenuChangesResponse.upToDate(latest);
+        }
+        // 미래 버전(다른 DB 기준)이거나, 보관 기간이 지나 중간 로그가 지워진 경우
+        if (since < 0 || since > latest || since < catalogChangeRepository.findMinId() - 1) {
+            return MenuChangesResponse.fullSync(since, latest);
+        }
+
+        long from = Math.max(0, since - overlap);
+        if (catalogChangeRepository.countByIdGreaterThanAndIdLessThanEqual(from, latest) > maxDeltaChanges) {
+            return MenuChangesResponse.fullSync(since, latest);
+        }
+
+        Set<Long> categoryIds = new TreeSet<>();
+        Set<Long> productIds = new TreeSet<>();
+        for (CatalogChange change : catalogChangeRepository.findByIdGreaterThanAndIdLessThanEqual(from, latest)) {
+            (change.getItemType() == CatalogItemType.CATEGORY ? categoryIds : productIds).add(change.getItemId());
+        }
+
+        EffectiveMenu effectiveMenu = effectiveMenuHolder.current();
+        List<MenuCategoryResponse> categories = new ArrayList<>();
+        List<Long> removedCategoryIds = new ArrayList<>();
+        collectCategories(categoryIds, effectiveMenu, categories, removedCategoryIds);
+
+        List<MenuProductResponse> products = new ArrayList<>();
+        List<Long> removedProductIds = new ArrayList<>();
+        collectProducts(productIds, effectiveMenu, products, removedProductIds);
+
+        return new MenuChangesResponse(since, latest, false, categories, products, removedCategoryIds, removedProductIds);
+    }
+
+    private void collectCategories(Set<Long> categoryIds, EffectiveMenu effectiveMenu,
+                                   List<MenuCategoryResponse> upserted, List<Long> removed) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Category> found = new HashMap<>();
+        for (Category category : categoryRepository.findAllById(categoryIds)) {
+            if (category.isActive() && !effectiveMenu.hiddenCategories().contains(category.getId())) {
+                found.put(category.getId(), category);
+            }
+        }
+
+        // 재활성화된 카테고리는 그 사이 상품 변경 로그가 없어도 상품을 다시 내려줘야 한다
+        Map<Long, List<MenuProductResponse>> productsByCategory = new HashMap<>();
+        if (!found.isEmpty()) {
+            for (Product product : productRepository.findActiveByCategoryIdIn(found.keySet())) {
+                if (effectiveMenu.isAvailable(product.getId(), product.getCategory().getId())) {
+                    productsByCategory.computeIfAbsent(product.getCategory().getId(), id -> new ArrayList<>())
+                            .add(effective(product, effectiveMenu));
+                }
+            }
+        }
+
+        for (Long id : categoryIds) {
+            Category category = found.get(id);
+            if (category == null) {
+                removed.add(id);
+            } else {
+                upserted.add(MenuCategoryResponse.of(category, productsByCategory.getOrDefault(id, List.of())));
+            }
+        }
+    }
+
+    private void collectProducts(Set<Long> productIds, EffectiveMenu effectiveMenu,
+                                 List<MenuProductResponse> upserted, List<Long> removed) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Product> found = new HashMap<>();
+        for (Product product : productRepository.findAllWithCategoryByIdIn(productIds)) {
+            if (product.isActive() && product.getCategory().isActive()
+                    && effectiveMenu.isAvailable(product.getId(), product.getCategory().getId())) {
+                found.put(product.getId(), product);
+            }
+        }
+
+        for (Long id : productIds) {
+            Product product = found.get(id);
+            if (product == null) {
+                removed.add(id);
+            } else {
+                upserted.add(effective(product, effectiveMenu));
+            }
+        }
+    }
+
+    private static MenuProductResponse effective(Product product, EffectiveMenu effectiveMenu) {
+        MenuProductResponse response = MenuProductResponse.from(product);
+        return response.withPrice(effectiveMenu.priceOf(product.getId(), response.price()));
+    }
+}
@@ -0,0 +1,70 @@
+package dev.lepelaka.kiosk.domain.menu.service;
+
+import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuScheduleCreateRequest;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuScheduleResponse;
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import dev.lepelaka.kiosk.domain.menu.event.MenuScheduleChangedEvent;
+import dev.lepelaka.kiosk.domain.menu.exception.InvalidMenuScheduleException;
+import dev.lepelaka.kiosk.domain.menu.exception.MenuScheduleNotFoundException;
+import dev.lepelaka.kiosk.domain.menu.repository.MenuScheduleRepository;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuScheduleService {
+    private final MenuScheduleRepository menuScheduleRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long register(MenuScheduleCreateRequest request) {
+        validate(request);
+        Long id = menuScheduleRepository.save(request.toEntity()).getId();
+        eventPublisher.publishEvent(new MenuScheduleChangedEvent(id, request.itemType(), request.itemId()));
+        return id;
+    }
+
+    @Transactional
+    public void remove(Long id) {
+        MenuSchedule schedule = menuScheduleRepository.findById(id).orElseThrow(() -> new MenuScheduleNotFoundException(id));
+        schedule.deactivate();
+        eventPublisher.publishEvent(new MenuScheduleChangedEvent(id, schedule.getItemType(), schedule.getItemId()));
+    }
+
+    public List<MenuScheduleResponse> list() {
+        return menuScheduleRepository.findByActiveTrueOrderByIdAsc().stream().map(MenuScheduleResponse::from).toList();
+    }
+
+    private void validate(MenuScheduleCreateRequest request) {
+        if (request.type() == MenuScheduleType.PRICE) {
+            if (request.itemType() != CatalogItemType.PRODUCT) {
+                throw new InvalidMenuScheduleException("시간대 가격은 상품에만 지정할 수 있습니다");
+            }
+            if (request.price() == null) {
+                throw new InvalidMenuScheduleException("시간대 가격이 없습니다");
+            }
+        }
+        if (request.startDate() != null && request.endDate() != null && request.endDate().isBefore(request.startDate())) {
+            throw new InvalidMenuScheduleException("종료일이 시작일보다 앞섭니다");
+        }
+        if (request.itemType() == CatalogItemType.PRODUCT && !productRepository.existsById(request.itemId())) {
+            throw new ProductNotFoundException(request.itemId());
+        }
+        if (request.itemType() == CatalogItemType.CATEGORY && !categoryRepository.existsById(request.itemId())) {
+            throw new CategoryNotFoundException(request.itemId());
+        }
+    }
+}
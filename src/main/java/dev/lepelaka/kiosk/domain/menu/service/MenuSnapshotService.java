@@ -0,0 +1,309 @@
+package dev.lepelaka.kiosk.domain.menu.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.component.CatalogChangeRecorder;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.component.MenuTimetable;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuCategoryResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuResponse;
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import dev.lepelaka.kiosk.domain.menu.repository.MenuScheduleRepository;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidation;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 메뉴 스냅샷 관리.
+ * - 조회는 AtomicReference 에 들어있는 바이트 배열을 그대로 내려줌 (DB/캐시/직렬화 없음)
+ * - 상품/카테고리/판매 일정 변경 커밋 후에만 DB 에서 다시 읽는다
+ * - 판매 일정(MenuSchedule)이 있으면 다음 전환 시각의 스냅샷과 EffectiveMenu 를 미리 만들어 두고
+ *   그 시각에 참조만 바꾼다. 참조 교체에는 DB 조회, 직렬화, 캐시 무효화가 없다.
+ * - 버전은 변경 로그(CatalogChange)의 최신 id 라서 /api/v1/menu/changes?since= 와 그대로 이어진다.
+ *   일정 전환으로 노출/가격이 바뀐 항목도 참조를 바꾼 뒤 변경 로그에 남기고 그 버전으로 다시 만든다 (델타 클라이언트가 전환을 놓치지 않도록).
+ * - 노드 간: 변경을 커밋한 노드가 무효화 버스로 알리면 다른 노드도 다시 만든다.
+ *   메시지 유실은 주기적으로 변경 로그 최신 id 만 읽어 들고 있는 버전보다 앞서 있으면 다시 만드는 것으로 수렴
+ */
+@Slf4j
+@Service
+public class MenuSnapshotService {
+
+    static final String CHANNEL = "menu:snapshot";
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final MenuScheduleRepository menuScheduleRepository;
+    private final EffectiveMenuHolder effectiveMenuHolder;
+    private final CatalogChangeRecorder catalogChangeRecorder;
+    private final TaskScheduler taskScheduler;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidationBus bus;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicReference<MenuSnapshot> current = new AtomicReference<>();
+    private ScheduledFuture<?> pendingSwitch; // synchronized(this)
+    private long generation;                  // synchronized(this), 재생성되면 예약된 전환을 무효로 만든다
+
+    @Autowired
+    public MenuSnapshotService(CategoryRepository categoryRepository, ProductRepository productRepository,
+                               CatalogChangeRepository catalogChangeRepository, MenuScheduleRepository menuScheduleRepository,
+                               EffectiveMenuHolder effectiveMenuHolder, CatalogChangeRecorder catalogChangeRecorder,
+                               TaskScheduler taskScheduler, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager, CacheInvalidationBus bus) {
+        this(categoryRepository, productRepository, catalogChangeRepository, menuScheduleRepository, effectiveMenuHolder,
+                catalogChangeRecorder, taskScheduler, objectMapper, transactionManager, bus, Clock.systemDefaultZone());
+    }
+
+    MenuSnapshotService(CategoryRepository categoryRepository, ProductRepository productRepository,
+                        CatalogChangeRepository catalogChangeRepository, MenuScheduleRepository menuScheduleRepository,
+                        EffectiveMenuHolder effectiveMenuHolder, CatalogChangeRecorder catalogChangeRecorder,
+                        TaskScheduler taskScheduler, ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager, CacheInvalidationBus bus, Clock clock) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.menuScheduleRepository = menuScheduleRepository;
+        this.effectiveMenuHolder = effectiveMenuHolder;
+        this.catalogChangeRecorder = catalogChangeRecorder;
+        this.taskScheduler = taskScheduler;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bus = bus;
+        this.clock = clock;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    public MenuSnapshot current() {
+        MenuSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : rebuild();
+    }
+
+    /**
+     * 커밋 직후(AFTER_COMMIT) 호출되므로 새 트랜잭션으로 읽는다.
+     * readOnly 가 아니므로 레플리카 라우팅 시에도 프라이머리에서 최신 데이터를 읽는다.
+     * current() 에서 자기 호출로 불려도 트랜잭션이 걸리도록 어노테이션 대신 TransactionTemplate 을 쓴다.
+     */
+    public synchronized MenuSnapshot rebuild() {
+        return transactionTemplate.execute(status -> doRebuild());
+    }
+
+    private MenuSnapshot doRebuild() {
+        // 버전을 먼저 읽는다. 내용이 버전보다 앞서는 건 괜찮지만(델타가 중복 반영될 뿐) 반대는 변경 누락이 된다.
+        long version = catalogChangeRepository.findMaxId();
+        List<MenuCategoryResponse> categories = loadCategories();
+        MenuTimetable timetable = MenuTimetable.of(menuScheduleRepository.findByActiveTrueOrderByIdAsc());
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Prepared prepared = prepare(version, categories, timetable, now, current.get());
+        publish(prepared);
+        scheduleNextSwitch(version, categories, timetable, now);
+        return prepared.snapshot();
+    }
+
+    /**
+     * 이 노드에서 변경이 커밋된 뒤 호출: 다시 만들고 다른 노드에도 알린다.
+     */
+    public void rebuildAndBroadcast() {
+        rebuild();
+        bus.publish(new CacheInvalidation(nodeId, CHANNEL, null));
+    }
+
+    /**
+     * 알림 유실 대비. 변경 로그 최신 id 한 번만 읽고, 들고 있는 버전보다 앞서 있을 때만 다시 만든다.
+     * 아직 스냅샷이 없으면 기동 시 생성(또는 첫 조회)에 맡긴다.
+     */
+    @Scheduled(fixedDelayString = "${kiosk.menu.version-check-interval:30s}", initialDelayString = "${kiosk.menu.version-check-interval:30s}")
+    public void checkVersion() {
+        MenuSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            long latest = catalogChangeRepository.findMaxId();
+            if (latest > snapshot.getVersion()) {
+                log.info("메뉴 변경 누락 감지: held={}, latest={}", snapshot.getVersion(), latest);
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("메뉴 버전 확인 실패, 이전 스냅샷 유지: version={}", snapshot.getVersion(), e);
+        }
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!CHANNEL.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("다른 노드의 메뉴 변경 반영 실패, 버전 확인 주기에 다시 시도: {}", invalidation, e);
+        }
+    }
+
+    // 전환 시각의 스냅샷은 예약할 때 이미 만들어 두었으므로 참조부터 바꾼다.
+    // 그다음 바뀐 항목을 변경 로그에 남기고, 버전이 올랐으면 다시 만들고(다음 전환 예약 포함) 아니면 다음 전환만 준비한다
+    private synchronized void switchTo(long expectedGeneration, Prepared prepared, List<MenuCategoryResponse> categories, MenuTimetable timetable) {
+        if (generation != expectedGeneration) {
+            return; // 그사이 재생성됨
+        }
+        EffectiveMenu before = effectiveMenuHolder.current();
+        publish(prepared);
+        log.info("메뉴 일정 전환: at={}, hiddenProducts={}, hiddenCategories={}, prices={}", prepared.at(),
+                prepared.effectiveMenu().hiddenProducts().size(), prepared.effectiveMenu().hiddenCategories().size(),
+                prepared.effectiveMenu().prices().size());
+
+        long version = prepared.snapshot().getVersion();
+        try {
+            Long latest = transactionTemplate.execute(status -> {
+                catalogChangeRecorder.recordSwitch(prepared.at(), before, prepared.effectiveMenu());
+                return catalogChangeRepository.findMaxId();
+            });
+            if (latest != null && latest > version) {
+                rebuild();
+                return;
+            }
+        } catch (RuntimeException e) {
+            log.warn("메뉴 일정 전환 기록 실패, 다른 노드의 기록을 버전 확인 주기에 따라간다: at={}", prepared.at(), e);
+        }
+        scheduleNextSwitch(version, categories, timetable, prepared.at());
+    }
+
+    private void scheduleNextSwitch(long version, List<MenuCategoryResponse> categories, MenuTimetable timetable, LocalDateTime from) {
+        if (pendingSwitch != null) {
+            pendingSwitch.cancel(false);
+            pendingSwitch = null;
+        }
+        long expectedGeneration = ++generation;
+        timetable.nextBoundaryAfter(from).ifPresent(boundary -> {
+            Prepared next = prepare(version, categories, timetable, boundary, null);
+            pendingSwitch = taskScheduler.schedule(() -> switchTo(expectedGeneration, next, categories, timetable),
+                    boundary.atZone(clock.getZone()).toInstant());
+        });
+    }
+
+    private Prepared prepare(long version, List<MenuCategoryResponse> categories, MenuTimetable timetable,
+                             LocalDateTime at, MenuSnapshot previous) {
+        EffectiveMenu effectiveMenu = timetable.isEmpty() ? EffectiveMenu.NONE : timetable.effectiveAt(at);
+        List<MenuCategoryResponse> effective = apply(categories, effectiveMenu);
+
+        String hash = hash(serialize(effective));
+        if (previous != null && previous.getVersion() == version && previous.getContentHash().equals(hash)) {
+            return new Prepared(at, previous, effectiveMenu);
+        }
+
+        byte[] json = serialize(new MenuResponse(version, effective));
+        MenuSnapshot snapshot = new MenuSnapshot(version, hash, json, gzip(json), LocalDateTime.now(clock), productsById(effective));
+        log.info("메뉴 스냅샷 생성: version={}, at={}, categories={}, bytes={}/{}", version, at, effective.size(), json.length, snapshot.getGzip().length);
+        return new Prepared(at, snapshot, effectiveMenu);
+    }
+
+    // 주문 검증용 EffectiveMenu 를 먼저 바꾼다 (메뉴에 보이는 가격으로 주문이 들어오도록)
+    private void publish(Prepared prepared) {
+        effectiveMenuHolder.set(prepared.effectiveMenu());
+        current.set(prepared.snapshot());
+    }
+
+    private static List<MenuCategoryResponse> apply(List<MenuCategoryResponse> categories, EffectiveMenu effectiveMenu) {
+        if (effectiveMenu == EffectiveMenu.NONE) {
+            return categories;
+        }
+        List<MenuCategoryResponse> effective = new ArrayList<>(categories.size());
+        for (MenuCategoryResponse category : categories) {
+            if (effectiveMenu.hiddenCategories().contains(category.id())) {
+                continue;
+            }
+            List<MenuProductResponse> products = category.products().stream()
+                    .filter(product -> effectiveMenu.isAvailable(product.id(), product.categoryId()))
+                    .map(product -> product.withPrice(effectiveMenu.priceOf(product.id(), product.price())))
+                    .toList();
+            effective.add(new MenuCategoryResponse(category.id(), category.name(), category.description(), category.displayOrder(), products));
+        }
+        return effective;
+    }
+
+    private static Map<Long, MenuProductResponse> productsById(List<MenuCategoryResponse> categories) {
+        Map<Long, MenuProductResponse> products = new HashMap<>();
+        categories.forEach(category -> category.products().forEach(product -> products.put(product.id(), product)));
+        return products;
+    }
+
+    private List<MenuCategoryResponse> loadCategories() {
+        Map<Long, List<MenuProductResponse>> productsByCategory = new LinkedHashMap<>();
+        for (Product product : productRepository.findAllActiveWithCategory()) {
+            productsByCategory.computeIfAbsent(product.getCategory().getId(), id -> new ArrayList<>())
+                    .add(MenuProductResponse.from(product));
+        }
+
+        List<MenuCategoryResponse> categories = new ArrayList<>();
+        for (Category category : categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()) {
+            categories.add(MenuCategoryResponse.of(category, productsByCategory.getOrDefault(category.getId(), List.of())));
+        }
+        return categories;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Prepared(LocalDateTime at, MenuSnapshot snapshot, EffectiveMenu effectiveMenu) {
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
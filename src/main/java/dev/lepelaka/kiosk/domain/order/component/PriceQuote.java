@@ -0,0 +1,46 @@
+package dev.lepelaka.kiosk.domain.order.component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 견적 토큰에 서명해 담는 내용. 주문 시 가격 버전이 그대로면 이 단가와 할인으로 주문한다.
+ * 상품별 한 줄 (같은 상품을 여러 번 담으면 수량을 합친 값).
+ */
+public record PriceQuote(
+        String priceVersion,
+        Instant expiresAt,
+        String couponCode,
+        List<Line> lines,
+        int discountAmount,
+        Long couponPromotionId
+) {
+    public record Line(Long productId, int quantity, int unitPrice) {
+    }
+
+    /**
+     * 주문 요청의 상품별 수량/쿠폰이 견적과 같은지 확인한다.
+     */
+    public boolean matches(Map<Long, Integer> quantities, String couponCode) {
+        if (!Objects.equals(this.couponCode, couponCode) || lines.size() != quantities.size()) {
+            return false;
+        }
+        for (Line line : lines) {
+            if (!Integer.valueOf(line.quantity()).equals(quantities.get(line.productId()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int unitPriceOf(Long productId) {
+        for (Line line : lines) {
+            if (line.productId().equals(productId)) {
+                return line.unitPrice();
+            }
+        }
+        throw new IllegalArgumentException("견적에 없는 상품: " + productId);
+    }
+}
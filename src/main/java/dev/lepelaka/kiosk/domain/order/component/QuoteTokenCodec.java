@@ -0,0 +1,86 @@
+package dev.lepelaka.kiosk.domain.order.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 견적 토큰 = base64url(JSON) + "." + base64url(HMAC-SHA256).
+ * 서버에 상태를 두지 않으므로 같은 비밀 키를 쓰는 노드면 어디서든 검증된다.
+ * 키가 설정되지 않으면 노드별 임의 키를 쓴다 (다른 노드에서 발급된 토큰은 무시되고 주문 시 다시 계산).
+ */
+@Slf4j
+@Component
+public class QuoteTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ObjectMapper objectMapper;
+
+    public QuoteTokenCodec(@Value("${kiosk.quote.secret:}") String secret, ObjectMapper objectMapper) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("kiosk.quote.secret 미설정: 노드별 임의 키로 견적 토큰을 서명합니다");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(PriceQuote quote) {
+        try {
+            String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(quote));
+            return payload + "." + ENCODER.encodeToString(sign(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("견적 토큰 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 서명이 맞으면 내용을 돌려준다. 형식이 틀리거나 위조된 토큰은 empty.
+     */
+    public Optional<PriceQuote> decode(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(DECODER.decode(payload), PriceQuote.class));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM); // Mac 은 스레드 안전하지 않아 호출마다 만든다
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
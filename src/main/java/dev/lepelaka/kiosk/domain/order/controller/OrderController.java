@@ -2,8 +2,11 @@ package dev.lepelaka.kiosk.domain.order.controller;
 
 import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderResponse;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteResponse;
 import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
 import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.order.service.PriceQuoteService;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +28,7 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class OrderController {
     private final OrderService orderService;
+    private final PriceQuoteService priceQuoteService;
 
     @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
     @PostMapping
@@ -40,6 +44,13 @@ public class OrderController {
                 .body(orderService.getOrder(orderId));
     }
     
+    @Operation(summary = "장바구니 견적", description = "메뉴 스냅샷 가격과 프로모션으로 장바구니 금액을 계산합니다. (DB 조회 없음) "
+            + "응답의 quoteToken 을 주문 생성 시 함께 보내면 가격이 바뀌지 않은 동안 주문 시 재계산을 건너뜁니다.")
+    @PostMapping("/quote")
+    public ResponseEntity<QuoteResponse> quote(@Valid @RequestBody QuoteRequest request) {
+        return ResponseEntity.ok(priceQuoteService.quote(request));
+    }
+
     @Operation(summary = "주문 조회", description = "주문 번호로 주문 정보를 조회합니다.")
     @GetMapping("/{orderNumber}")
     public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderNumber) {
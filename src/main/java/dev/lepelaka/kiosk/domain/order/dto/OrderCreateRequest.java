@@ -2,6 +2,7 @@ package dev.lepelaka.kiosk.domain.order.dto;
 
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.util.List;
 
@@ -9,7 +10,16 @@ public record OrderCreateRequest(
         @NotEmpty
         List<OrderItemRequest> orderItems,
         @NotNull
-        Long terminalId
+        Long terminalId,
+        @Size(max = 30)
+        String couponCode, // 선택
+        String quoteToken  // 선택, /quote 응답의 토큰 (가격이 그대로면 재계산 생략)
 ) {
+    public OrderCreateRequest(List<OrderItemRequest> orderItems, Long terminalId) {
+        this(orderItems, terminalId, null, null);
+    }
 
+    public OrderCreateRequest(List<OrderItemRequest> orderItems, Long terminalId, String couponCode) {
+        this(orderItems, terminalId, couponCode, null);
+    }
 }
@@ -14,6 +14,7 @@ public class OrderResponse {
     private Long id;
     private String orderNumber;
     private int totalAmount;
+    private int discountAmount;
     private OrderStatus status;
     private Long terminalId;
     private List<OrderItemResponse> orderItems;
@@ -23,6 +24,7 @@ public class OrderResponse {
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
                 .totalAmount(order.getTotalAmount())
+                .discountAmount(order.getDiscountAmount())
                 .status(order.getStatus())
                 .terminalId(order.getTerminal().getId())
                 .orderItems(order.getOrderItems().stream().map(OrderItemResponse::from).collect(Collectors.toList()))
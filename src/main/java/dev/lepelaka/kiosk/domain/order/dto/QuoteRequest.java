@@ -0,0 +1,19 @@
+package dev.lepelaka.kiosk.domain.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "장바구니 견적 요청 DTO")
+public record QuoteRequest(
+        @Schema(description = "담은 상품")
+        @NotEmpty
+        List<OrderItemRequest> orderItems,
+
+        @Schema(description = "쿠폰 코드 (선택)", example = "OPEN10")
+        @Size(max = 30)
+        String couponCode
+) {
+}
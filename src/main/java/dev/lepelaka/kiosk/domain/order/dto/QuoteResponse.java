@@ -0,0 +1,37 @@
+package dev.lepelaka.kiosk.domain.order.dto;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "장바구니 견적 응답 DTO")
+public record QuoteResponse(
+        @Schema(description = "상품별 금액 (같은 상품은 한 줄로 합침)")
+        List<Line> lines,
+
+        @Schema(description = "적용된 할인")
+        List<Discount> discounts,
+
+        @Schema(description = "상품 금액 합계", example = "12000")
+        int itemAmount,
+
+        @Schema(description = "할인 합계", example = "1200")
+        int discountAmount,
+
+        @Schema(description = "결제 금액", example = "10800")
+        int totalAmount,
+
+        @Schema(description = "견적 토큰. 주문 생성 시 quoteToken 으로 보내면 가격이 그대로인 동안 재계산을 건너뜁니다.")
+        String quoteToken,
+
+        @Schema(description = "견적 만료 시각 (이후 주문은 다시 계산)")
+        Instant expiresAt
+) {
+    public record Line(Long productId, String productName, int quantity, int unitPrice, int amount) {
+    }
+
+    public record Discount(Long promotionId, String name, PromotionType type, int amount) {
+    }
+}
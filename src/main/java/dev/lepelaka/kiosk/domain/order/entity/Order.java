@@ -31,6 +31,12 @@ public class Order extends BaseEntity {
     @Column(nullable = false)
     private int totalAmount;
 
+    @Column(nullable = false)
+    private int discountAmount; // 프로모션/쿠폰 할인 합계 (totalAmount 는 할인 후 금액)
+
+    @Column(name = "coupon_promotion_id")
+    private Long couponPromotionId; // 취소 시 쿠폰 사용 횟수 복구용
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private OrderStatus status = OrderStatus.PENDING;
@@ -88,8 +94,14 @@ public class Order extends BaseEntity {
         orderItems.add(orderItem);
     }
 
+    public void applyDiscount(int discountAmount, Long couponPromotionId) {
+        this.discountAmount = discountAmount;
+        this.couponPromotionId = couponPromotionId;
+    }
+
     public void calculateTotalAmount() {
-        totalAmount = orderItems.stream().mapToInt(OrderItem::getTotalPrice).sum();
+        int itemAmount = orderItems.stream().mapToInt(OrderItem::getTotalPrice).sum();
+        totalAmount = Math.max(0, itemAmount - discountAmount);
     }
 
 
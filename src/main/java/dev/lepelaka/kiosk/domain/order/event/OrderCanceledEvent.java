@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.order.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 취소 이벤트. orderedAt 은 취소 시점이 아닌 원 주문 시각.
+ */
+public record OrderCanceledEvent(
+        Long orderId,
+        LocalDateTime orderedAt,
+        List<OrderLine> lines
+) {
+}
@@ -0,0 +1,8 @@
+package dev.lepelaka.kiosk.domain.order.event;
+
+public record OrderLine(
+        Long productId,
+        String productName,
+        int quantity
+) {
+}
@@ -0,0 +1,15 @@
+package dev.lepelaka.kiosk.domain.order.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 생성 이벤트. 커밋 이후(AFTER_COMMIT) 통계/캐시 등 부가 처리에서 구독한다.
+ */
+public record OrderPlacedEvent(
+        Long orderId,
+        Long terminalId,
+        LocalDateTime orderedAt,
+        List<OrderLine> lines
+) {
+}
@@ -0,0 +1,17 @@
+package dev.lepelaka.kiosk.domain.order.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class ProductNotOnSaleException extends OrderException {
+    private final Long productId;
+
+    public ProductNotOnSaleException(Long productId) {
+        super(ErrorCode.PRODUCT_NOT_ON_SALE);
+        this.productId = productId;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (상품 ID: %d)", super.getMessage(), productId);
+    }
+}
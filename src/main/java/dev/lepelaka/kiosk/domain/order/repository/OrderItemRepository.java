@@ -1,12 +1,28 @@
 package dev.lepelaka.kiosk.domain.order.repository;
 
 import dev.lepelaka.kiosk.domain.order.entity.OrderItem;
+import dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesRecord;
+import dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByProductId(Long productId);
 
     List<OrderItem> findByOrderId(Long orderId);
+
+    @Query("select new dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesSummary(oi.productId, max(oi.productName), sum(oi.quantity)) " +
+            "from OrderItem oi join oi.order o " +
+            "where o.createdAt >= :from and o.status <> dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus.CANCELED " +
+            "group by oi.productId")
+    List<ProductSalesSummary> sumQuantityByProductSince(@Param("from") LocalDateTime from);
+
+    @Query("select new dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesRecord(oi.productId, oi.productName, oi.quantity, o.createdAt) " +
+            "from OrderItem oi join oi.order o " +
+            "where o.createdAt >= :from and o.status <> dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus.CANCELED")
+    List<ProductSalesRecord> findSalesSince(@Param("from") LocalDateTime from);
 }
@@ -1,12 +1,18 @@
 package dev.lepelaka.kiosk.domain.order.service;
 
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
 import dev.lepelaka.kiosk.domain.order.component.OrderNumberGenerator;
+import dev.lepelaka.kiosk.domain.order.component.PriceQuote;
 import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderResponse;
 import dev.lepelaka.kiosk.domain.order.entity.Order;
 import dev.lepelaka.kiosk.domain.order.entity.OrderItem;
 import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
+import dev.lepelaka.kiosk.domain.order.event.OrderCanceledEvent;
+import dev.lepelaka.kiosk.domain.order.event.OrderLine;
+import dev.lepelaka.kiosk.domain.order.event.OrderPlacedEvent;
 import dev.lepelaka.kiosk.domain.order.exception.*;
 import dev.lepelaka.kiosk.domain.order.repository.OrderItemRepository;
 import dev.lepelaka.kiosk.domain.order.repository.OrderRepository;
@@ -14,15 +20,25 @@ import dev.lepelaka.kiosk.domain.product.entity.Product;
 import dev.lepelaka.kiosk.domain.product.exception.InactiveProductException;
 import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
 import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionEngine;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionMatcher;
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.exception.InvalidCouponException;
+import dev.lepelaka.kiosk.domain.promotion.repository.PromotionRepository;
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalRegistry;
 import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalUnavailableException;
 import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -36,14 +52,20 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final TerminalRepository terminalRepository;
+    private final TerminalRegistry terminalRegistry;
     private final ProductRepository productRepository;
     private final OrderNumberGenerator orderNumberGenerator;
+    private final EffectiveMenuHolder effectiveMenuHolder;
+    private final PromotionEngine promotionEngine;
+    private final PromotionRepository promotionRepository;
+    private final PriceQuoteService priceQuoteService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long createOrder(OrderCreateRequest request) {
-        // 1. 주문한 단말기 확인
+        // 1. 주문한 단말기 확인 (스냅샷으로 상태 확인, 주문에는 SELECT 없이 참조 프록시 연결)
         Long terminalId = request.terminalId();
-        Terminal terminal =terminalRepository.findById(terminalId).orElseThrow(() -> new TerminalNotFoundException(terminalId));
+        Terminal terminal = resolveOrderableTerminal(terminalId);
 
         // 2. 정렬을 통한 데드락 방지 및 id 추출후 리스트로 전환
         List<OrderItemRequest> itemRequests = request.orderItems();
@@ -53,6 +75,9 @@ public class OrderService {
                 .sorted() // 데드락방지
                 .toList();
 
+        // 2-1. 견적 토큰이 유효하고 가격 버전이 그대로면 잠금 구간에서 판매 시간/가격/할인 계산을 건너뛴다 (검증은 잠금 전에)
+        PriceQuote quote = request.quoteToken() != null ? priceQuoteService.resolve(request).orElse(null) : null;
+
         // 3. 비관락 적용
         List<Product> products = productRepository.findAllByIdWithPessimisticLock(productIds);
 
@@ -75,15 +100,23 @@ public class OrderService {
                 .status(OrderStatus.PENDING)
                 .build();
 
+        // 판매 시간/시간대 가격은 메뉴 스냅샷과 함께 교체되는 EffectiveMenu 기준 (전환 시각에 계산 없음)
+        EffectiveMenu effectiveMenu = effectiveMenuHolder.current();
+        List<PromotionMatcher.Line> cartLines = new ArrayList<>(products.size());
+
         for(Product product : products) {
             int quantity = quantityMap.get(product.getId());
+            // 견적이 있어도 판매 여부는 지금의 EffectiveMenu 로 다시 본다 (메모리 조회라 비용이 없다)
+            if (!effectiveMenu.isAvailable(product.getId(), categoryIdOf(product))) {
+                throw new ProductNotOnSaleException(product.getId());
+            }
             // 8. 재고감소
 //            product.decreaseQuantity(quantity);
             product.order(quantity);
 
             // 9. 상품 스냅샷 촬영
             String productName = product.getName();
-            int price = product.getPrice();
+            int price = quote != null ? quote.unitPriceOf(product.getId()) : effectiveMenu.priceOf(product.getId(), product.getPrice());
 
             // 10. OrderItem 생성 및 주문서에 추가
             order.addOrderItem(OrderItem.builder()
@@ -93,13 +126,30 @@ public class OrderService {
                     .productName(productName)
                     .order(order)
                     .build());
+            cartLines.add(new PromotionMatcher.Line(product.getId(), categoryIdOf(product), price, quantity));
         }
-        // 11. 총액 계산
+        // 11. 프로모션 할인 (세트/N+M 은 컴파일된 매처로 계산, 한정 쿠폰은 재고와 같이 행 잠금 후 차감)
+        String couponCode = StringUtils.hasText(request.couponCode()) ? request.couponCode() : null;
+        PromotionMatcher.Result pricing = quote != null
+                ? new PromotionMatcher.Result(quote.discountAmount(), List.of(), quote.couponPromotionId())
+                : promotionEngine.evaluate(cartLines, couponCode);
+        if (couponCode != null) {
+            if (pricing.couponPromotionId() == null) {
+                throw new InvalidCouponException(couponCode);
+            }
+            redeemCoupon(pricing.couponPromotionId(), couponCode);
+        }
+        order.applyDiscount(pricing.discountAmount(), pricing.couponPromotionId());
+
+        // 12. 총액 계산
         order.calculateTotalAmount();
 
-        // 12. 주문서 저장
+        // 13. 주문서 저장
         orderRepository.save(order);
 
+        // 14. 커밋 이후 처리(판매 통계 등)를 위한 이벤트 발행
+        eventPublisher.publishEvent(new OrderPlacedEvent(order.getId(), terminalId, LocalDateTime.now(), toOrderLines(order)));
+
         return order.getId();
     }
 
@@ -148,7 +198,13 @@ public class OrderService {
 //            Product product = productRepository.findById(orderItem.getProductId()).orElseThrow(() -> new ProductNotFoundException(orderItem.getProductId()));
             product.restore(orderItem.getQuantity());
         }
+        // 쿠폰 사용 횟수 복구 (상품 다음에 잠가 주문 생성과 잠금 순서를 맞춘다)
+        if (order.getCouponPromotionId() != null) {
+            promotionRepository.findByIdWithPessimisticLock(order.getCouponPromotionId()).ifPresent(Promotion::release);
+        }
         order.cancel();
+
+        eventPublisher.publishEvent(new OrderCanceledEvent(orderId, order.getCreatedAt(), toOrderLines(order)));
     }
 
     // 이하 관리자용 구현
@@ -173,6 +229,34 @@ public class OrderService {
     // 일일매출
     // 기간매출
 
+    private Terminal resolveOrderableTerminal(Long terminalId) {
+        TerminalRegistry.Entry entry = terminalRegistry.find(terminalId).orElse(null);
+        Terminal terminal = null;
+        if (entry == null) { // 마지막 스냅샷 이후 등록된 단말기
+            terminal = terminalRepository.findById(terminalId).orElseThrow(() -> new TerminalNotFoundException(terminalId));
+            entry = TerminalRegistry.Entry.from(terminal);
+        }
+        if (!entry.canOrder()) {
+            throw new TerminalUnavailableException(terminalId, entry.status());
+        }
+        return terminal != null ? terminal : terminalRepository.getReferenceById(terminalId);
+    }
+
+    private void redeemCoupon(Long promotionId, String couponCode) {
+        Promotion coupon = promotionRepository.findByIdWithPessimisticLock(promotionId)
+                .filter(Promotion::isActive)
+                .orElseThrow(() -> new InvalidCouponException(couponCode));
+        coupon.use();
+    }
+
+    private List<OrderLine> toOrderLines(Order order) {
+        return order.getOrderItems().stream()
+                .map(item -> new OrderLine(item.getProductId(), item.getProductName(), item.getQuantity()))
+                .toList();
+    }
 
+    private static Long categoryIdOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getId() : null;
+    }
 
 }
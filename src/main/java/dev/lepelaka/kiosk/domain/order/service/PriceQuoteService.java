@@ -0,0 +1,145 @@
+package dev.lepelaka.kiosk.domain.order.service;
+
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.order.component.PriceQuote;
+import dev.lepelaka.kiosk.domain.order.component.QuoteTokenCodec;
+import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteResponse;
+import dev.lepelaka.kiosk.domain.product.exception.InvalidQuantityException;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionEngine;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionMatcher;
+import dev.lepelaka.kiosk.domain.promotion.exception.InvalidCouponException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 장바구니 견적. DB 없이 메뉴 스냅샷(적용 가격)과 프로모션 매처만으로 계산하고 서명한 토큰을 돌려준다.
+ * - 가격 버전 = 메뉴 스냅샷 버전/내용 해시 + 프로모션 fingerprint. 상품/일정/프로모션이 바뀌면 달라진다
+ *   메뉴 스냅샷은 다른 노드의 변경도 무효화 버스/주기적 버전 확인으로 따라잡으므로, 어느 노드에서 검증해도 같은 기준이다
+ * - 만료는 ttl 과 다음 프로모션 시작/종료 시각 중 이른 쪽 (기간 경계를 넘긴 견적은 쓰지 않는다)
+ * - 재고와 쿠폰 사용 한도, 판매 여부는 견적에 기대지 않는다. 주문 시 잠금 구간/EffectiveMenu 로 다시 확인한다
+ */
+@Service
+public class PriceQuoteService {
+
+    private final MenuSnapshotService menuSnapshotService;
+    private final PromotionEngine promotionEngine;
+    private final QuoteTokenCodec quoteTokenCodec;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public PriceQuoteService(MenuSnapshotService menuSnapshotService, PromotionEngine promotionEngine, QuoteTokenCodec quoteTokenCodec,
+                             @Value("${kiosk.quote.ttl:5m}") Duration ttl) {
+        this(menuSnapshotService, promotionEngine, quoteTokenCodec, ttl, Clock.systemDefaultZone());
+    }
+
+    PriceQuoteService(MenuSnapshotService menuSnapshotService, PromotionEngine promotionEngine, QuoteTokenCodec quoteTokenCodec,
+                      Duration ttl, Clock clock) {
+        this.menuSnapshotService = menuSnapshotService;
+        this.promotionEngine = promotionEngine;
+        this.quoteTokenCodec = quoteTokenCodec;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public QuoteResponse quote(QuoteRequest request) {
+        MenuSnapshot snapshot = menuSnapshotService.current();
+        PromotionMatcher matcher = promotionEngine.current();
+        Map<Long, Integer> quantities = quantitiesOf(request.orderItems());
+        String couponCode = couponCodeOf(request.couponCode());
+
+        // 1. 메뉴 스냅샷의 적용 가격으로 상품별 금액 (스냅샷에 없으면 없는 상품이거나 지금 판매하지 않는 상품)
+        List<QuoteResponse.Line> lines = new ArrayList<>(quantities.size());
+        List<PromotionMatcher.Line> cartLines = new ArrayList<>(quantities.size());
+        Set<Long> notFoundIds = new LinkedHashSet<>();
+        quantities.forEach((productId, quantity) -> {
+            MenuProductResponse product = snapshot.findProduct(productId).orElse(null);
+            if (product == null) {
+                notFoundIds.add(productId);
+                return;
+            }
+            if (quantity <= 0) {
+                throw new InvalidQuantityException(productId, quantity);
+            }
+            lines.add(new QuoteResponse.Line(productId, product.name(), quantity, product.price(), product.price() * quantity));
+            cartLines.add(new PromotionMatcher.Line(productId, product.categoryId(), product.price(), quantity));
+        });
+        if (!notFoundIds.isEmpty()) {
+            throw new ProductNotFoundException(notFoundIds);
+        }
+
+        // 2. 프로모션 (주문과 같은 매처)
+        LocalDateTime now = LocalDateTime.now(clock);
+        PromotionMatcher.Result pricing = matcher.evaluate(cartLines, couponCode, now);
+        if (couponCode != null && pricing.couponPromotionId() == null) {
+            throw new InvalidCouponException(couponCode);
+        }
+        int itemAmount = lines.stream().mapToInt(QuoteResponse.Line::amount).sum();
+        int totalAmount = Math.max(0, itemAmount - pricing.discountAmount());
+
+        // 3. 서명
+        Instant expiresAt = clock.instant().plus(ttl);
+        Optional<LocalDateTime> boundary = matcher.nextBoundaryAfter(now);
+        if (boundary.isPresent()) {
+            Instant boundaryAt = boundary.get().atZone(clock.getZone()).toInstant();
+            expiresAt = boundaryAt.isBefore(expiresAt) ? boundaryAt : expiresAt;
+        }
+        PriceQuote quote = new PriceQuote(priceVersion(snapshot, matcher), expiresAt, couponCode,
+                lines.stream().map(line -> new PriceQuote.Line(line.productId(), line.quantity(), line.unitPrice())).toList(),
+                pricing.discountAmount(), pricing.couponPromotionId());
+
+        List<QuoteResponse.Discount> discounts = pricing.applied().stream()
+                .map(applied -> new QuoteResponse.Discount(applied.promotionId(), applied.name(), applied.type(), applied.amount()))
+                .toList();
+        return new QuoteResponse(lines, discounts, itemAmount, pricing.discountAmount(), totalAmount,
+                quoteTokenCodec.encode(quote), expiresAt);
+    }
+
+    /**
+     * 주문 요청의 견적 토큰이 위조/만료되지 않았고, 가격 버전이 지금과 같고, 상품별 수량/쿠폰이 견적과 같으면 견적을 돌려준다.
+     * 하나라도 아니면 empty (주문 시 다시 계산하면 되므로 오류로 보지 않는다).
+     */
+    public Optional<PriceQuote> resolve(OrderCreateRequest request) {
+        if (!StringUtils.hasText(request.quoteToken())) {
+            return Optional.empty();
+        }
+        return quoteTokenCodec.decode(request.quoteToken())
+                .filter(quote -> quote.expiresAt().isAfter(clock.instant()))
+                .filter(quote -> quote.priceVersion().equals(priceVersion(menuSnapshotService.current(), promotionEngine.current())))
+                .filter(quote -> quote.matches(quantitiesOf(request.orderItems()), couponCodeOf(request.couponCode())));
+    }
+
+    private static String priceVersion(MenuSnapshot snapshot, PromotionMatcher matcher) {
+        return snapshot.priceVersion() + "-" + matcher.fingerprint();
+    }
+
+    static Map<Long, Integer> quantitiesOf(List<OrderItemRequest> items) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        items.forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+        return quantities;
+    }
+
+    static String couponCodeOf(String couponCode) {
+        return StringUtils.hasText(couponCode) ? couponCode : null;
+    }
+}
@@ -0,0 +1,97 @@
+package dev.lepelaka.kiosk.domain.product.component;
+
+import dev.lepelaka.kiosk.domain.product.dto.ProductStock;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 재고 전용 단기 캐시 (노드 로컬).
+ * - 상품 정보 캐시(products)와 분리해서 주문이 상품 캐시를 무효화하지 않게 한다.
+ * - 이 노드에서 커밋된 주문/취소는 즉시 무효화, 다른 노드의 주문은 TTL 안에 반영된다.
+ * - 없는 항목은 한 번의 IN 쿼리로 모아서 읽는다.
+ */
+@Component
+public class StockLedger {
+
+    private final ProductRepository productRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicReference<ActiveSnapshot> active = new AtomicReference<>();
+
+    @Autowired
+    public StockLedger(ProductRepository productRepository, @Value("${kiosk.stock.ttl:2s}") Duration ttl) {
+        this(productRepository, ttl, Clock.systemUTC());
+    }
+
+    StockLedger(ProductRepository productRepository, Duration ttl, Clock clock) {
+        this.productRepository = productRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public int quantity(Long productId) {
+        return quantities(List.of(productId)).getOrDefault(productId, 0);
+    }
+
+    public Map<Long, Integer> quantities(Collection<Long> productIds) {
+        long now = clock.millis();
+        Map<Long, Integer> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : productIds) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.expiresAt > now) {
+                result.put(id, entry.quantity);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long expiresAt = now + ttl.toMillis();
+            for (ProductStock stock : productRepository.findStockByIdIn(missing)) {
+                entries.put(stock.productId(), new Entry(stock.quantity(), expiresAt));
+                result.put(stock.productId(), stock.quantity());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 판매 중인 전체 상품 재고 (키오스크 품절 표시 폴링용). 통째로 TTL 동안 재사용한다.
+     */
+    public List<ProductStock> allActive() {
+        long now = clock.millis();
+        ActiveSnapshot snapshot = active.get();
+        if (snapshot != null && snapshot.expiresAt > now) {
+            return snapshot.stocks;
+        }
+        List<ProductStock> stocks = List.copyOf(productRepository.findActiveStock());
+        active.set(new ActiveSnapshot(stocks, now + ttl.toMillis()));
+        return stocks;
+    }
+
+    public void invalidate(Collection<Long> productIds) {
+        productIds.forEach(entries::remove);
+        active.set(null);
+    }
+
+    private record Entry(int quantity, long expiresAt) {
+    }
+
+    private record ActiveSnapshot(List<ProductStock> stocks, long expiresAt) {
+    }
+}
@@ -0,0 +1,40 @@
+package dev.lepelaka.kiosk.domain.product.component;
+
+import dev.lepelaka.kiosk.domain.order.event.OrderCanceledEvent;
+import dev.lepelaka.kiosk.domain.order.event.OrderLine;
+import dev.lepelaka.kiosk.domain.order.event.OrderPlacedEvent;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 재고가 바뀌는 커밋(주문, 취소, 관리자 수정) 후 해당 상품의 재고 캐시만 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockLedgerListener {
+
+    private final StockLedger stockLedger;
+
+    @TransactionalEventListener
+    public void onPlaced(OrderPlacedEvent event) {
+        stockLedger.invalidate(productIds(event.lines()));
+    }
+
+    @TransactionalEventListener
+    public void onCanceled(OrderCanceledEvent event) {
+        stockLedger.invalidate(productIds(event.lines()));
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        stockLedger.invalidate(List.of(event.productId()));
+    }
+
+    private List<Long> productIds(List<OrderLine> lines) {
+        return lines.stream().map(OrderLine::productId).toList();
+    }
+}
@@ -1,9 +1,11 @@
 package dev.lepelaka.kiosk.domain.product.controller;
 
+import dev.lepelaka.kiosk.domain.product.dto.ProductAvailabilityResponse;
 import dev.lepelaka.kiosk.domain.product.dto.ProductCreateRequest;
 import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
 import dev.lepelaka.kiosk.domain.product.dto.ProductUpdateRequest;
 import dev.lepelaka.kiosk.domain.product.service.ProductService;
+import dev.lepelaka.kiosk.domain.product.service.ProductStockService;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @Tag(name = "상품 API", description = "상품 등록, 수정, 삭제, 조회 API")
 @RestController
@@ -26,6 +29,7 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductStockService productStockService;
 
     @Operation(summary = "전체 상품 목록 조회 (관리자용)", description = "모든 상품을 페이징하여 조회합니다.")
     @GetMapping("/admin")
@@ -36,7 +40,7 @@ public class ProductController {
     @Operation(summary = "판매 중인 상품 목록 조회", description = "판매 중인(Active) 상품만 페이징하여 조회합니다.")
     @GetMapping("/list")
     public ResponseEntity<PageResponse<ProductResponse>> getActiveList(@ParameterObject @PageableDefault(size = 10) Pageable pageable) {
-        return ResponseEntity.ok(productService.listOnActive(pageable));
+        return ResponseEntity.ok(productStockService.merge(productService.listOnActive(pageable)));
     }
 
     @Operation(summary = "카테고리별 상품 목록 조회", description = "특정 카테고리의 상품을 페이징하여 조회합니다.")
@@ -52,7 +56,14 @@ public class ProductController {
     @ApiResponse(responseCode = "404", description = "상품이 존재하지 않음")
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> get(@Parameter(description = "상품 ID", example = "1") @PathVariable("id") Long id) {
-        return ResponseEntity.ok(productService.detail(id));
+        return ResponseEntity.ok(productStockService.merge(productService.detail(id)));
+    }
+
+    @Operation(summary = "상품 재고/품절 조회", description = "상품별 현재 재고와 품절 여부를 조회합니다. ids 를 생략하면 판매 중인 전체 상품을 조회합니다.")
+    @GetMapping("/availability")
+    public ResponseEntity<List<ProductAvailabilityResponse>> availability(
+            @Parameter(description = "상품 ID 목록", example = "1,2,3") @RequestParam(required = false) List<Long> ids) {
+        return ResponseEntity.ok(productStockService.availability(ids));
     }
 
     @Operation(summary = "신규 상품 등록", description = "새로운 상품을 등록합니다.")
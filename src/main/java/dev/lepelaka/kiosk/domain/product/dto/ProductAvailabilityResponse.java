@@ -0,0 +1,19 @@
+package dev.lepelaka.kiosk.domain.product.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 재고/품절 응답 DTO")
+public record ProductAvailabilityResponse(
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "재고 수량", example = "12")
+        int quantity,
+
+        @Schema(description = "품절 여부", example = "false")
+        boolean soldOut
+) {
+    public static ProductAvailabilityResponse of(Long productId, int quantity) {
+        return new ProductAvailabilityResponse(productId, quantity, quantity <= 0);
+    }
+}
@@ -4,12 +4,15 @@ package dev.lepelaka.kiosk.domain.product.dto;
 import dev.lepelaka.kiosk.domain.category.dto.CategoryCreateRequest;
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import java.util.Set;
+
 @Schema(description = "상품 등록 요청 DTO")
 public record ProductCreateRequest(
         @Schema(description = "상품명", example = "짜장면")
@@ -32,8 +35,15 @@ public record ProductCreateRequest(
 
         @Schema(description = "카테고리 ID", example = "1")
         @NotNull(message = "카테고리는 필수입니다.")
-        Long categoryId
+        Long categoryId,
+
+        @Schema(description = "태그/알레르기 성분", example = "[VEGAN, CONTAINS_NUTS]")
+        Set<ProductAttribute> attributes
 ) {
+    public ProductCreateRequest(String name, int price, int quantity, String description, String imageUrl, Long categoryId) {
+        this(name, price, quantity, description, imageUrl, categoryId, Set.of());
+    }
+
     public Product toEntity(Category category) {
         return Product.builder()
                 .name(name)
@@ -42,6 +52,7 @@ public record ProductCreateRequest(
                 .description(description)
                 .imageUrl(imageUrl)
                 .category(category)
+                .attributes(attributes)
                 .build();
     }
 }
@@ -27,8 +27,22 @@ public record ProductResponse (
         String imageUrl,
         
         @Schema(description = "카테고리", example = "메인")
-        CategoryResponse categoryResponse
+        CategoryResponse categoryResponse,
+
+        @Schema(description = "품절 여부", example = "false")
+        boolean soldOut
 ) {
+    public ProductResponse(Long id, String name, int price, int quantity, String description, String imageUrl, CategoryResponse categoryResponse) {
+        this(id, name, price, quantity, description, imageUrl, categoryResponse, quantity <= 0);
+    }
+
+    /**
+     * 캐시된 상품 정보에 실시간 재고를 덮어쓴 사본
+     */
+    public ProductResponse withQuantity(int currentQuantity) {
+        return new ProductResponse(id, name, price, currentQuantity, description, imageUrl, categoryResponse);
+    }
+
     public static ProductResponse fromEntity (Product product) {
         return new ProductResponse(
                 product.getId(), 
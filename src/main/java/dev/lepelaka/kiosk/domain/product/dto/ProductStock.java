@@ -0,0 +1,7 @@
+package dev.lepelaka.kiosk.domain.product.dto;
+
+/**
+ * 상품 재고 프로젝션 (StockLedger 일괄 조회용)
+ */
+public record ProductStock(Long productId, int quantity) {
+}
@@ -1,12 +1,15 @@
 package dev.lepelaka.kiosk.domain.product.dto;
 
 
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import java.util.Set;
+
 @Schema(description = "상품 수정 요청 DTO")
 public record ProductUpdateRequest(
         @Schema(description = "상품명", example = "쟁반짜장")
@@ -29,5 +32,12 @@ public record ProductUpdateRequest(
 
         @Schema(description = "카테고리", example = "1")
         @NotNull(message = "카테고리는 필수입니다.")
-        Long categoryId
-) {}
+        Long categoryId,
+
+        @Schema(description = "태그/알레르기 성분 (생략 시 기존 값 유지)", example = "[SPICY]")
+        Set<ProductAttribute> attributes
+) {
+    public ProductUpdateRequest(String name, int price, int quantity, String description, String imageUrl, Long categoryId) {
+        this(name, price, quantity, description, imageUrl, categoryId, null);
+    }
+}
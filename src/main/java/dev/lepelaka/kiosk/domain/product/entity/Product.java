@@ -2,6 +2,7 @@ package dev.lepelaka.kiosk.domain.product.entity;
 
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.order.exception.InsufficientStockException;
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
 import dev.lepelaka.kiosk.domain.product.exception.InactiveProductException;
 import dev.lepelaka.kiosk.domain.product.exception.InvalidQuantityException;
 import dev.lepelaka.kiosk.global.common.entity.BaseEntity;
@@ -9,10 +10,13 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicUpdate;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@ToString(exclude = "category")
+@ToString(exclude = {"category", "attributes"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @DynamicUpdate
 public class Product extends BaseEntity {
@@ -39,18 +43,26 @@ public class Product extends BaseEntity {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    // 태그/알레르기 성분. 필터 색인(ProductFilterIndex)만 사용하므로 목록 조회에서는 읽지 않는다
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "product_attribute", joinColumns = @JoinColumn(name = "product_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "attribute", nullable = false, length = 30)
+    private Set<ProductAttribute> attributes = EnumSet.noneOf(ProductAttribute.class);
+
     @Version
     private Long version; // 낙관락 적용 목적
 
     @Builder
     public Product(String name, int price, int quantity,
-                   String description, String imageUrl, Category category) {
+                   String description, String imageUrl, Category category, Set<ProductAttribute> attributes) {
         this.name = name;
         this.price = price;
         this.quantity = quantity;
         this.description = description;
         this.imageUrl = imageUrl;
         this.category = category;
+        changeAttributes(attributes);
     }
 
     public void update(String name, int price, int quantity, String description, String imageUrl, Category category ) {
@@ -61,6 +73,14 @@ public class Product extends BaseEntity {
         this.imageUrl = imageUrl;
         this.category = category;
     }
+
+    public void changeAttributes(Set<ProductAttribute> attributes) {
+        this.attributes.clear();
+        if (attributes != null) {
+            this.attributes.addAll(attributes);
+        }
+    }
+
     void increaseQuantity(int requestedQuantity) {
         if(requestedQuantity <= 0) throw new InvalidQuantityException(id, requestedQuantity);
         this.quantity += requestedQuantity;
@@ -0,0 +1,21 @@
+package dev.lepelaka.kiosk.domain.product.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductAttribute {
+    VEGAN("비건"),
+    VEGETARIAN("채식"),
+    SPICY("매운맛"),
+    DECAF("디카페인"),
+    CONTAINS_NUTS("견과류 함유"),       // 알레르기 유발 성분
+    CONTAINS_MILK("우유 함유"),
+    CONTAINS_EGG("달걀 함유"),
+    CONTAINS_WHEAT("밀 함유"),
+    CONTAINS_SHELLFISH("갑각류 함유"),
+    CONTAINS_SOY("대두 함유");
+
+    private final String description;
+}
@@ -0,0 +1,12 @@
+package dev.lepelaka.kiosk.domain.product.event;
+
+/**
+ * 상품 등록/수정/비활성화 (메뉴 스냅샷 재생성, 변경 로그, 캐시 무효화 등에 사용)
+ * previousCategoryId 는 수정으로 카테고리가 바뀐 경우에만 채워진다.
+ */
+public record ProductChangedEvent(Long productId, Long categoryId, Long previousCategoryId) {
+
+    public ProductChangedEvent(Long productId, Long categoryId) {
+        this(productId, categoryId, null);
+    }
+}
@@ -1,14 +1,17 @@
 package dev.lepelaka.kiosk.domain.product.repository;
 
 import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.product.dto.ProductStock;
 import dev.lepelaka.kiosk.domain.product.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -17,11 +20,52 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("select p from Product p where p.id in :ids")
     List<Product> findAllByIdWithPessimisticLock(List<Long> ids);
 
+    // 목록 조회는 카테고리를 함께 가져온다 (ProductResponse 가 카테고리를 담으므로 지연 로딩 시 상품마다 SELECT 발생)
+    // 페이지당 쿼리: 본문(조인) 1 + count 1
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByCategory(Category category, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByActiveTrue(Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Product> findByCategoryAndActiveTrue(Category category, Pageable pageable);
 
+    // 카테고리 ID 로 바로 필터 (카테고리 엔티티를 먼저 읽을 필요 없음)
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findByCategoryIdAndActiveTrue(Long categoryId, Pageable pageable);
+
     boolean existsByName(String name);
+
+    // 메뉴 스냅샷용: 활성 카테고리의 활성 상품 전체
+    @Query("select p from Product p join fetch p.category c where p.active = true and c.active = true order by p.id")
+    List<Product> findAllActiveWithCategory();
+
+    // 검색/필터 색인용: 태그까지 한 번에 (상품마다 태그 SELECT 방지)
+    @Query("select distinct p from Product p join fetch p.category c left join fetch p.attributes where p.active = true and c.active = true order by p.id")
+    List<Product> findAllActiveWithCategoryAndAttributes();
+
+    // 메뉴 변경분 조회용
+    @Query("select p from Product p join fetch p.category where p.id in :ids")
+    List<Product> findAllWithCategoryByIdIn(Collection<Long> ids);
+
+    @Query("select distinct p from Product p join fetch p.category left join fetch p.attributes where p.id in :ids")
+    List<Product> findAllWithCategoryAndAttributesByIdIn(Collection<Long> ids);
+
+    @Query("select p from Product p join fetch p.category c where c.id in :categoryIds and p.active = true and c.active = true order by p.id")
+    List<Product> findActiveByCategoryIdIn(Collection<Long> categoryIds);
+
+    // 재고 전용 조회 (StockLedger)
+    @Query("select new dev.lepelaka.kiosk.domain.product.dto.ProductStock(p.id, p.quantity) from Product p where p.id in :ids")
+    List<ProductStock> findStockByIdIn(Collection<Long> ids);
+
+    @Query("select new dev.lepelaka.kiosk.domain.product.dto.ProductStock(p.id, p.quantity) from Product p where p.active = true order by p.id")
+    List<ProductStock> findActiveStock();
 }
@@ -1,5 +1,6 @@
 package dev.lepelaka.kiosk.domain.product.service;
 
+import dev.lepelaka.kiosk.domain.category.component.CategoryRegistry;
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
 import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
@@ -7,13 +8,15 @@ import dev.lepelaka.kiosk.domain.product.dto.ProductCreateRequest;
 import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
 import dev.lepelaka.kiosk.domain.product.dto.ProductUpdateRequest;
 import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
 import dev.lepelaka.kiosk.domain.product.exception.DuplicateProductException;
 import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
 import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,33 +27,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductService {
     private final ProductRepository repository;
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public Long register(ProductCreateRequest request) {
         if(repository.existsByName(request.name())) {
             throw new DuplicateProductException(request.name());
         }
-        Category category = categoryRepository.findById(request.categoryId()).orElseThrow(() -> new CategoryNotFoundException(request.categoryId()));
+        Category category = categoryReference(request.categoryId());
         Product product = request.toEntity(category);
-        return repository.save(product).getId();
+        Long id = repository.save(product).getId();
+        eventPublisher.publishEvent(new ProductChangedEvent(id, category.getId()));
+        return id;
     }
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public void modify(Long id, ProductUpdateRequest request) {
         Product product = repository.findById(id).orElseThrow(() -> new ProductNotFoundException(id));
-        Category category = categoryRepository.findById(request.categoryId()).orElseThrow(() -> new CategoryNotFoundException(request.categoryId()));
+        Category category = categoryReference(request.categoryId());
+        Long previousCategoryId = categoryIdOf(product);
         product.update(request.name(), request.price(), request.quantity(), request.description(), request.imageUrl(), category);
+        if (request.attributes() != null) {
+            product.changeAttributes(request.attributes());
+        }
+        eventPublisher.publishEvent(new ProductChangedEvent(id, category.getId(), previousCategoryId));
     }
 
     @Transactional
-    @CacheEvict(value = "products", allEntries = true)
     public void remove(Long id) {
-        repository.findById(id).orElseThrow(() -> new ProductNotFoundException(id)).deactivate();
+        Product product = repository.findById(id).orElseThrow(() -> new ProductNotFoundException(id));
+        product.deactivate();
+        eventPublisher.publishEvent(new ProductChangedEvent(id, categoryIdOf(product)));
     }
 
-    @Cacheable(value = "products", key = "#id")
+    @Cacheable(value = "products", sync = true, key = "#id")
     public ProductResponse detail(Long id) {
         return repository.findById(id).map(ProductResponse::fromEntity).orElseThrow(() -> new ProductNotFoundException(id));
     }
@@ -60,20 +71,41 @@ public class ProductService {
     }
 
     public PageResponse<ProductResponse> listByCategory(Long categoryId, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId).orElseThrow(() -> new CategoryNotFoundException(categoryId));
-        return PageResponse.from(repository.findByCategory(category, pageable).map(ProductResponse::fromEntity));
+        Page<Product> products = repository.findByCategoryId(categoryId, pageable);
+        validateCategory(categoryId, products);
+        return PageResponse.from(products.map(ProductResponse::fromEntity));
     }
 
-    @Cacheable(value = "products", key = "'active:page' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
+    // 캐시 키 패밀리(CacheKeyFamily): "active|..." / "category:{id}|..." 단위로 무효화된다
+    @Cacheable(value = "products", sync = true, key = "'active|page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
     public PageResponse<ProductResponse> listOnActive(Pageable pageable) {
         return PageResponse.from(repository.findByActiveTrue(pageable).map(ProductResponse::fromEntity));
     }
 
-    @Cacheable(value = "products", key = "'category:' + #categoryId + ':active:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
+    @Cacheable(value = "products", sync = true, key = "'category:' + #categoryId + '|active:page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize")
     public PageResponse<ProductResponse> listByCategoryOnActive(Long categoryId, Pageable pageable) {
-        Category category = categoryRepository.findById(categoryId).orElseThrow(() -> new CategoryNotFoundException(categoryId));
-        return PageResponse.from(repository.findByCategoryAndActiveTrue(category, pageable).map(ProductResponse::fromEntity));
+        Page<Product> products = repository.findByCategoryIdAndActiveTrue(categoryId, pageable);
+        validateCategory(categoryId, products);
+        return PageResponse.from(products.map(ProductResponse::fromEntity));
+    }
+
+    // 스냅샷에 있으면 엔티티를 읽지 않고 FK 용 참조 프록시만 사용한다.
+    // 다른 노드에서 방금 삭제되어 스냅샷이 아직 모를 수 있으므로 existsById 로 확인한다 (없으면 FK 위반 500 대신 404)
+    private Category categoryReference(Long categoryId) {
+        if (categoryRegistry.contains(categoryId) && categoryRepository.existsById(categoryId)) {
+            return categoryRepository.getReferenceById(categoryId);
+        }
+        return categoryRepository.findById(categoryId).orElseThrow(() -> new CategoryNotFoundException(categoryId));
     }
 
+    // 결과가 비었을 때만 카테고리 존재 여부를 확인한다 (없는 카테고리면 기존처럼 404)
+    private void validateCategory(Long categoryId, Page<Product> products) {
+        if (products.isEmpty() && !categoryRegistry.contains(categoryId) && !categoryRepository.existsById(categoryId)) {
+            throw new CategoryNotFoundException(categoryId);
+        }
+    }
 
+    private static Long categoryIdOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getId() : null;
+    }
 }
@@ -0,0 +1,47 @@
+package dev.lepelaka.kiosk.domain.product.service;
+
+import dev.lepelaka.kiosk.domain.product.component.StockLedger;
+import dev.lepelaka.kiosk.domain.product.dto.ProductAvailabilityResponse;
+import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시된 상품 정보에 실시간 재고/품절 여부를 응답 시점에 합친다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductStockService {
+
+    private final StockLedger stockLedger;
+
+    public ProductResponse merge(ProductResponse response) {
+        return response.withQuantity(stockLedger.quantity(response.id()));
+    }
+
+    public PageResponse<ProductResponse> merge(PageResponse<ProductResponse> page) {
+        Map<Long, Integer> quantities = stockLedger.quantities(page.content().stream().map(ProductResponse::id).toList());
+        List<ProductResponse> content = page.content().stream()
+                .map(product -> product.withQuantity(quantities.getOrDefault(product.id(), 0)))
+                .toList();
+        return new PageResponse<>(content, page.pageNo(), page.pageSize(), page.totalElements(), page.totalPages(), page.last());
+    }
+
+    public List<ProductAvailabilityResponse> availability(Collection<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return stockLedger.allActive().stream()
+                    .map(stock -> ProductAvailabilityResponse.of(stock.productId(), stock.quantity()))
+                    .toList();
+        }
+        return stockLedger.quantities(productIds).entrySet().stream()
+                .map(entry -> ProductAvailabilityResponse.of(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
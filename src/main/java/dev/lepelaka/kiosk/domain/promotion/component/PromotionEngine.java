@@ -0,0 +1,44 @@
+package dev.lepelaka.kiosk.domain.promotion.component;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 시 할인 계산. PromotionRegistry 가 프로모션을 다시 읽을 때마다 컴파일된 매처를 통째로 교체하고,
+ * 주문은 락/DB 없이 지금 매처로 장바구니를 평가한다. 프로모션이 없으면 EMPTY (할인 없음).
+ */
+@Component
+public class PromotionEngine {
+
+    private final Clock clock;
+    private volatile PromotionMatcher matcher = PromotionMatcher.EMPTY;
+
+    @Autowired
+    public PromotionEngine() {
+        this(Clock.systemDefaultZone());
+    }
+
+    PromotionEngine(Clock clock) {
+        this.clock = clock;
+    }
+
+    public PromotionMatcher.Result evaluate(List<PromotionMatcher.Line> lines, String couponCode) {
+        return matcher.evaluate(lines, couponCode, LocalDateTime.now(clock));
+    }
+
+    public PromotionMatcher current() {
+        return matcher;
+    }
+
+    public void replace(PromotionMatcher matcher) {
+        this.matcher = matcher;
+    }
+
+    public int size() {
+        return matcher.size();
+    }
+}
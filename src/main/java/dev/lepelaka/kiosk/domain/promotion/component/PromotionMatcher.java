@@ -0,0 +1,310 @@
+package dev.lepelaka.kiosk.domain.promotion.component;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 활성 프로모션을 상품/카테고리/쿠폰 코드로 색인해 둔 불변 매처.
+ * - 구성 시 규칙에 적용 순서(rank)를 매긴다: 세트 할인(할인액 큰 순) -> N+M 증정 -> 쿠폰은 코드로만 조회
+ * - 평가 시 장바구니 줄마다 상품/카테고리 색인에서 rank 를 모아 비트셋으로 중복 제거 + 순서 정렬을 한 번에 한다
+ *   활성 프로모션이 수백 개여도 장바구니에 걸리는 규칙 몇 개만 본다
+ * - 한 단위(상품 1개)는 세트/N+M 중 하나에만 쓰이고, 쿠폰은 그 뒤 남은 단위에만 적용된다 (중복 할인 없음)
+ * 세트는 구성품 중 ID 가 가장 작은 상품에만 색인한다 (구성품이 모두 있어야 하므로 하나로 충분).
+ * fingerprint 는 규칙 내용으로 만든 값이라 노드가 달라도 같은 프로모션이면 같다 (견적 토큰 버전용).
+ */
+public final class PromotionMatcher {
+
+    private static final int[] NO_RANKS = new int[0];
+    private static final Comparator<Rule> APPLY_ORDER = Comparator
+            .comparing((Rule rule) -> rule.type() == PromotionType.SET_DISCOUNT ? 0 : 1)
+            .thenComparing(rule -> rule.type() == PromotionType.SET_DISCOUNT ? -rule.discountAmount() : 0)
+            .thenComparing(Rule::id);
+
+    public static final PromotionMatcher EMPTY = compile(List.of());
+
+    private final Rule[] rules; // rank 순
+    private final Map<Long, int[]> ranksByProduct;
+    private final Map<Long, int[]> ranksByCategory;
+    private final Map<String, Rule> couponsByCode;
+    private final LocalDateTime[] boundaries; // 기간 시작/종료 시각, 오름차순
+    private final String fingerprint;
+
+    private PromotionMatcher(Rule[] rules, Map<Long, int[]> ranksByProduct, Map<Long, int[]> ranksByCategory,
+                             Map<String, Rule> couponsByCode, LocalDateTime[] boundaries, String fingerprint) {
+        this.rules = rules;
+        this.ranksByProduct = ranksByProduct;
+        this.ranksByCategory = ranksByCategory;
+        this.couponsByCode = couponsByCode;
+        this.boundaries = boundaries;
+        this.fingerprint = fingerprint;
+    }
+
+    public static PromotionMatcher compile(Collection<Rule> promotions) {
+        Rule[] rules = promotions.stream()
+                .filter(rule -> rule.type() != PromotionType.COUPON)
+                .sorted(APPLY_ORDER)
+                .toArray(Rule[]::new);
+        Map<Long, List<Integer>> byProduct = new HashMap<>();
+        Map<Long, List<Integer>> byCategory = new HashMap<>();
+        for (int rank = 0; rank < rules.length; rank++) {
+            Rule rule = rules[rank];
+            if (rule.type() == PromotionType.SET_DISCOUNT) {
+                byProduct.computeIfAbsent(rule.productIds().get(0), id -> new ArrayList<>()).add(rank);
+                continue;
+            }
+            for (Long productId : rule.productIds()) {
+                byProduct.computeIfAbsent(productId, id -> new ArrayList<>()).add(rank);
+            }
+            if (rule.categoryId() != null) {
+                byCategory.computeIfAbsent(rule.categoryId(), id -> new ArrayList<>()).add(rank);
+            }
+        }
+        Map<String, Rule> coupons = new HashMap<>();
+        promotions.stream()
+                .filter(rule -> rule.type() == PromotionType.COUPON && rule.couponCode() != null)
+                .forEach(rule -> coupons.put(rule.couponCode(), rule));
+        LocalDateTime[] boundaries = promotions.stream()
+                .flatMap(rule -> Stream.of(rule.startAt(), rule.endAt()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toArray(LocalDateTime[]::new);
+        return new PromotionMatcher(rules, toRanks(byProduct), toRanks(byCategory), Map.copyOf(coupons), boundaries, fingerprintOf(promotions));
+    }
+
+    public int size() {
+        return rules.length + couponsByCode.size();
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * now 이후 처음으로 어떤 프로모션이 시작/종료되는 시각. 그 전까지는 같은 장바구니의 할인 결과가 같다.
+     */
+    public Optional<LocalDateTime> nextBoundaryAfter(LocalDateTime now) {
+        int index = Arrays.binarySearch(boundaries, now);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return index < boundaries.length ? Optional.of(boundaries[index]) : Optional.empty();
+    }
+
+    /**
+     * 장바구니(상품별 한 줄)에 적용되는 할인을 계산한다. 쿠폰이 없거나 쓸 수 없으면 couponPromotionId 는 null.
+     */
+    public Result evaluate(List<Line> lines, String couponCode, LocalDateTime now) {
+        int[] remaining = new int[lines.size()];
+        BitSet candidates = new BitSet(rules.length);
+        for (int i = 0; i < remaining.length; i++) {
+            Line line = lines.get(i);
+            remaining[i] = line.quantity();
+            for (int rank : ranksByProduct.getOrDefault(line.productId(), NO_RANKS)) {
+                candidates.set(rank);
+            }
+            if (line.categoryId() != null) {
+                for (int rank : ranksByCategory.getOrDefault(line.categoryId(), NO_RANKS)) {
+                    candidates.set(rank);
+                }
+            }
+        }
+
+        List<Applied> applied = new ArrayList<>(2);
+        int total = 0;
+        for (int rank = candidates.nextSetBit(0); rank >= 0; rank = candidates.nextSetBit(rank + 1)) {
+            Rule rule = rules[rank];
+            if (!rule.isEffectiveAt(now)) {
+                continue;
+            }
+            int amount = rule.type() == PromotionType.SET_DISCOUNT
+                    ? applySet(rule, lines, remaining)
+                    : applyBuyNGetM(rule, lines, remaining);
+            if (amount > 0) {
+                applied.add(new Applied(rule.id(), rule.name(), rule.type(), amount));
+                total += amount;
+            }
+        }
+
+        Long couponPromotionId = null;
+        Rule coupon = couponCode != null ? couponsByCode.get(couponCode) : null;
+        if (coupon != null && coupon.isEffectiveAt(now)) {
+            int amount = applyCoupon(coupon, lines, remaining);
+            if (amount > 0) {
+                applied.add(new Applied(coupon.id(), coupon.name(), coupon.type(), amount));
+                total += amount;
+                couponPromotionId = coupon.id();
+            }
+        }
+        return applied.isEmpty() ? Result.NONE : new Result(total, List.copyOf(applied), couponPromotionId);
+    }
+
+    // 구성품이 모두 남아 있는 만큼 세트를 만들고, 세트 가격 합을 넘지 않게 할인
+    private static int applySet(Rule rule, List<Line> lines, int[] remaining) {
+        List<Long> productIds = rule.productIds();
+        int[] indexes = new int[productIds.size()];
+        int sets = Integer.MAX_VALUE;
+        int setPrice = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexOf(lines, productIds.get(i));
+            if (index < 0) {
+                return 0;
+            }
+            indexes[i] = index;
+            sets = Math.min(sets, remaining[index]);
+            setPrice += lines.get(index).price();
+        }
+        if (sets == 0) {
+            return 0;
+        }
+        for (int index : indexes) {
+            remaining[index] -= sets;
+        }
+        return sets * Math.min(rule.discountAmount(), setPrice);
+    }
+
+    // 대상 단위를 buy + free 개씩 묶고, 비싼 쪽부터 buy 개를 유료로, 가장 싼 free 개를 무료로 처리
+    private static int applyBuyNGetM(Rule rule, List<Line> lines, int[] remaining) {
+        int[] eligible = new int[remaining.length];
+        int count = 0;
+        int units = 0;
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0 && rule.targets(lines.get(i))) {
+                // 가격 내림차순 삽입 정렬 (장바구니 줄 수가 적음)
+                int position = count++;
+                while (position > 0 && lines.get(eligible[position - 1]).price() < lines.get(i).price()) {
+                    eligible[position] = eligible[position - 1];
+                    position--;
+                }
+                eligible[position] = i;
+                units += remaining[i];
+            }
+        }
+        int groups = units / (rule.buyQuantity() + rule.freeQuantity());
+        if (groups == 0) {
+            return 0;
+        }
+        int paid = groups * rule.buyQuantity();
+        for (int k = 0; k < count && paid > 0; k++) {
+            int take = Math.min(paid, remaining[eligible[k]]);
+            remaining[eligible[k]] -= take;
+            paid -= take;
+        }
+        int free = groups * rule.freeQuantity();
+        int discount = 0;
+        for (int k = count - 1; k >= 0 && free > 0; k--) {
+            int take = Math.min(free, remaining[eligible[k]]);
+            remaining[eligible[k]] -= take;
+            free -= take;
+            discount += take * lines.get(eligible[k]).price();
+        }
+        return discount;
+    }
+
+    // 세트/N+M 에 쓰이지 않은 대상 단위 금액에 정률 또는 정액(금액 한도) 할인
+    private static int applyCoupon(Rule rule, List<Line> lines, int[] remaining) {
+        int base = 0;
+        for (int i = 0; i < remaining.length; i++) {
+            if (remaining[i] > 0 && rule.targets(lines.get(i))) {
+                base += remaining[i] * lines.get(i).price();
+            }
+        }
+        if (base == 0) {
+            return 0;
+        }
+        // base * rate 는 2천만 원대부터 int 를 넘으므로 long 으로 곱한다 (결과는 base 이하라 int 에 들어간다)
+        return rule.discountRate() > 0 ? (int) ((long) base * rule.discountRate() / 100) : Math.min(rule.discountAmount(), base);
+    }
+
+    private static int indexOf(List<Line> lines, Long productId) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).productId().equals(productId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String fingerprintOf(Collection<Rule> promotions) {
+        StringBuilder canonical = new StringBuilder();
+        promotions.stream().sorted(Comparator.comparing(Rule::id)).forEach(rule -> canonical
+                .append(rule.id()).append('|').append(rule.type().name()).append('|').append(rule.productIds())
+                .append('|').append(rule.categoryId()).append('|').append(rule.buyQuantity()).append('|').append(rule.freeQuantity())
+                .append('|').append(rule.discountAmount()).append('|').append(rule.discountRate()).append('|').append(rule.couponCode())
+                .append('|').append(rule.startAt()).append('|').append(rule.endAt()).append('\n'));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<Long, int[]> toRanks(Map<Long, List<Integer>> ranks) {
+        Map<Long, int[]> result = new HashMap<>(ranks.size() * 2);
+        ranks.forEach((id, list) -> result.put(id, list.stream().mapToInt(Integer::intValue).toArray()));
+        return Map.copyOf(result);
+    }
+
+    /**
+     * 컴파일된 프로모션. productIds 는 중복 없이 ID 오름차순.
+     */
+    public record Rule(Long id, String name, PromotionType type, List<Long> productIds, Long categoryId,
+                       int buyQuantity, int freeQuantity, int discountAmount, int discountRate, String couponCode,
+                       LocalDateTime startAt, LocalDateTime endAt) {
+        public Rule {
+            productIds = productIds == null ? List.of() : productIds.stream().distinct().sorted().toList();
+        }
+
+        public static Rule from(Promotion promotion) {
+            return new Rule(promotion.getId(), promotion.getName(), promotion.getType(), List.copyOf(promotion.getProductIds()),
+                    promotion.getCategoryId(), valueOf(promotion.getBuyQuantity()), valueOf(promotion.getFreeQuantity()),
+                    valueOf(promotion.getDiscountAmount()), valueOf(promotion.getDiscountRate()), promotion.getCouponCode(),
+                    promotion.getStartAt(), promotion.getEndAt());
+        }
+
+        public boolean isEffectiveAt(LocalDateTime now) {
+            return (startAt == null || !now.isBefore(startAt)) && (endAt == null || now.isBefore(endAt));
+        }
+
+        // 대상이 없으면(쿠폰) 모든 상품
+        boolean targets(Line line) {
+            if (productIds.isEmpty() && categoryId == null) {
+                return true;
+            }
+            return productIds.contains(line.productId()) || (categoryId != null && categoryId.equals(line.categoryId()));
+        }
+
+        private static int valueOf(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+
+    /**
+     * 장바구니 한 줄 (상품별로 합친 수량, 적용 가격)
+     */
+    public record Line(Long productId, Long categoryId, int price, int quantity) {
+    }
+
+    public record Applied(Long promotionId, String name, PromotionType type, int amount) {
+    }
+
+    public record Result(int discountAmount, List<Applied> applied, Long couponPromotionId) {
+        public static final Result NONE = new Result(0, List.of(), null);
+    }
+}
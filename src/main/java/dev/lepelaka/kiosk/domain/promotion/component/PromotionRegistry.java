@@ -0,0 +1,48 @@
+package dev.lepelaka.kiosk.domain.promotion.component;
+
+import dev.lepelaka.kiosk.domain.promotion.event.PromotionChangedEvent;
+import dev.lepelaka.kiosk.domain.promotion.repository.PromotionRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.SnapshotRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 활성 프로모션 스냅샷. 다시 읽을 때마다 매처로 컴파일해 PromotionEngine 에 넘긴다.
+ * 변경이 커밋되면 다시 읽고 다른 노드에 알린다. 기간 시작/종료는 평가 시각으로 판단하므로 재적재가 필요 없다.
+ */
+@Component
+public class PromotionRegistry extends SnapshotRegistry<PromotionMatcher.Rule> {
+
+    private final PromotionRepository promotionRepository;
+    private final PromotionEngine promotionEngine;
+
+    public PromotionRegistry(PromotionRepository promotionRepository, PromotionEngine promotionEngine, CacheInvalidationBus bus) {
+        super("promotions", bus);
+        this.promotionRepository = promotionRepository;
+        this.promotionEngine = promotionEngine;
+    }
+
+    @TransactionalEventListener
+    public void onPromotionChanged(PromotionChangedEvent event) {
+        reloadAndBroadcast();
+    }
+
+    @Override
+    protected List<PromotionMatcher.Rule> loadAll() {
+        return promotionRepository.findAllActiveWithProducts().stream().map(PromotionMatcher.Rule::from).toList();
+    }
+
+    @Override
+    protected Long idOf(PromotionMatcher.Rule rule) {
+        return rule.id();
+    }
+
+    @Override
+    protected void onReloaded(Collection<PromotionMatcher.Rule> rules) {
+        promotionEngine.replace(PromotionMatcher.compile(rules));
+    }
+}
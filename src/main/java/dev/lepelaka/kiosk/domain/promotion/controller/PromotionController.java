@@ -0,0 +1,52 @@
+package dev.lepelaka.kiosk.domain.promotion.controller;
+
+import dev.lepelaka.kiosk.domain.promotion.dto.PromotionCreateRequest;
+import dev.lepelaka.kiosk.domain.promotion.dto.PromotionResponse;
+import dev.lepelaka.kiosk.domain.promotion.service.PromotionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@Tag(name = "프로모션 API", description = "세트 할인, N+M 증정, 한정 쿠폰 관리 API")
+@RestController
+@RequestMapping("/api/v1/promotions")
+@RequiredArgsConstructor
+public class PromotionController {
+    private final PromotionService promotionService;
+
+    @Operation(summary = "프로모션 목록 조회", description = "진행 중이거나 예정된 프로모션을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<PromotionResponse>> list() {
+        return ResponseEntity.ok(promotionService.list());
+    }
+
+    @Operation(summary = "프로모션 등록", description = "세트 할인/N+M 증정/한정 쿠폰을 등록합니다. 커밋 후 주문 할인 계산에 바로 반영됩니다.")
+    @ApiResponse(responseCode = "201", description = "등록 성공")
+    @PostMapping
+    public ResponseEntity<Long> register(@Valid @RequestBody PromotionCreateRequest request) {
+        Long id = promotionService.register(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(id)
+                .toUri();
+        return ResponseEntity.created(location).body(id);
+    }
+
+    @Operation(summary = "프로모션 종료", description = "프로모션을 더 이상 적용하지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "종료 성공")
+    @ApiResponse(responseCode = "404", description = "프로모션이 존재하지 않음")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> remove(@Parameter(description = "프로모션 ID", example = "1") @PathVariable("id") Long id) {
+        promotionService.remove(id);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,79 @@
+package dev.lepelaka.kiosk.domain.promotion.dto;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Schema(description = "프로모션 등록 요청 DTO")
+public record PromotionCreateRequest(
+        @Schema(description = "프로모션명", example = "짜장면 + 탕수육 세트")
+        @NotBlank(message = "프로모션명은 필수입니다.")
+        @Size(max = 100, message = "프로모션명은 100자 이하여야 합니다.")
+        String name,
+
+        @Schema(description = "종류 (SET_DISCOUNT: 세트 할인, BUY_N_GET_M: N+M 증정, COUPON: 한정 쿠폰)", example = "SET_DISCOUNT")
+        @NotNull(message = "프로모션 종류는 필수입니다.")
+        PromotionType type,
+
+        @Schema(description = "대상 상품 ID (세트는 구성품)", example = "[1, 2]")
+        Set<Long> productIds,
+
+        @Schema(description = "대상 카테고리 ID (N+M, 쿠폰)", example = "1")
+        Long categoryId,
+
+        @Schema(description = "N+M 의 N", example = "2")
+        @Positive(message = "구매 수량은 0보다 커야 합니다.")
+        Integer buyQuantity,
+
+        @Schema(description = "N+M 의 M", example = "1")
+        @Positive(message = "증정 수량은 0보다 커야 합니다.")
+        Integer freeQuantity,
+
+        @Schema(description = "할인 금액 (세트당 / 쿠폰 정액)", example = "2000")
+        @Positive(message = "할인 금액은 0보다 커야 합니다.")
+        Integer discountAmount,
+
+        @Schema(description = "할인율 % (쿠폰 정률)", example = "10")
+        @Positive(message = "할인율은 0보다 커야 합니다.")
+        @Max(value = 100, message = "할인율은 100 이하여야 합니다.")
+        Integer discountRate,
+
+        @Schema(description = "쿠폰 코드", example = "OPEN2026")
+        @Size(max = 30, message = "쿠폰 코드는 30자 이하여야 합니다.")
+        String couponCode,
+
+        @Schema(description = "쿠폰 사용 한도 (생략 시 무제한)", example = "100")
+        @Positive(message = "사용 한도는 0보다 커야 합니다.")
+        Integer usageLimit,
+
+        @Schema(description = "시작 일시 (생략 시 즉시)")
+        LocalDateTime startAt,
+
+        @Schema(description = "종료 일시 (미포함, 생략 시 제한 없음)")
+        LocalDateTime endAt
+) {
+    public Promotion toEntity() {
+        return Promotion.builder()
+                .name(name)
+                .type(type)
+                .productIds(productIds)
+                .categoryId(categoryId)
+                .buyQuantity(buyQuantity)
+                .freeQuantity(freeQuantity)
+                .discountAmount(discountAmount)
+                .discountRate(discountRate)
+                .couponCode(couponCode)
+                .usageLimit(usageLimit)
+                .startAt(startAt)
+                .endAt(endAt)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.lepelaka.kiosk.domain.promotion.dto;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Schema(description = "프로모션 응답 DTO")
+public record PromotionResponse(
+        @Schema(description = "프로모션 ID", example = "1")
+        Long id,
+
+        @Schema(description = "프로모션명", example = "짜장면 + 탕수육 세트")
+        String name,
+
+        @Schema(description = "종류", example = "SET_DISCOUNT")
+        PromotionType type,
+
+        @Schema(description = "대상 상품 ID")
+        Set<Long> productIds,
+
+        @Schema(description = "대상 카테고리 ID")
+        Long categoryId,
+
+        @Schema(description = "N+M 의 N")
+        Integer buyQuantity,
+
+        @Schema(description = "N+M 의 M")
+        Integer freeQuantity,
+
+        @Schema(description = "할인 금액")
+        Integer discountAmount,
+
+        @Schema(description = "할인율 %")
+        Integer discountRate,
+
+        @Schema(description = "쿠폰 코드")
+        String couponCode,
+
+        @Schema(description = "쿠폰 사용 한도")
+        Integer usageLimit,
+
+        @Schema(description = "쿠폰 사용 횟수", example = "0")
+        int usedCount,
+
+        @Schema(description = "시작 일시")
+        LocalDateTime startAt,
+
+        @Schema(description = "종료 일시")
+        LocalDateTime endAt
+) {
+    public static PromotionResponse from(Promotion promotion) {
+        return new PromotionResponse(promotion.getId(), promotion.getName(), promotion.getType(), Set.copyOf(promotion.getProductIds()),
+                promotion.getCategoryId(), promotion.getBuyQuantity(), promotion.getFreeQuantity(), promotion.getDiscountAmount(),
+                promotion.getDiscountRate(), promotion.getCouponCode(), promotion.getUsageLimit(), promotion.getUsedCount(),
+                promotion.getStartAt(), promotion.getEndAt());
+    }
+}
@@ -0,0 +1,94 @@
+package dev.lepelaka.kiosk.domain.promotion.entity;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import dev.lepelaka.kiosk.domain.promotion.exception.CouponSoldOutException;
+import dev.lepelaka.kiosk.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 세트 할인 / N+M 증정 / 한정 쿠폰.
+ * - 대상: productIds 또는 categoryId (세트는 productIds 전부가 구성품)
+ * - 기간: startAt ~ endAt (endAt 미포함, 생략 시 제한 없음)
+ * - 쿠폰 사용 횟수(usedCount)는 상품 재고처럼 행 잠금 후 주문 트랜잭션 안에서 늘리고, 주문 취소 시 되돌린다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "productIds")
+@Table(name = "promotion")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class Promotion extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PromotionType type;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "promotion_product", joinColumns = @JoinColumn(name = "promotion_id"))
+    @Column(name = "product_id", nullable = false)
+    private Set<Long> productIds = new HashSet<>();
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    private Integer buyQuantity;   // BUY_N_GET_M
+    private Integer freeQuantity;  // BUY_N_GET_M
+    private Integer discountAmount; // SET_DISCOUNT: 세트당, COUPON: 정액
+    private Integer discountRate;   // COUPON: 정률(%)
+
+    @Column(unique = true, length = 30)
+    private String couponCode;
+
+    private Integer usageLimit; // COUPON, 생략 시 무제한
+
+    @Column(nullable = false)
+    private int usedCount;
+
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    @Builder
+    public Promotion(String name, PromotionType type, Set<Long> productIds, Long categoryId,
+                     Integer buyQuantity, Integer freeQuantity, Integer discountAmount, Integer discountRate,
+                     String couponCode, Integer usageLimit, LocalDateTime startAt, LocalDateTime endAt) {
+        this.name = name;
+        this.type = type;
+        if (productIds != null) {
+            this.productIds.addAll(productIds);
+        }
+        this.categoryId = categoryId;
+        this.buyQuantity = buyQuantity;
+        this.freeQuantity = freeQuantity;
+        this.discountAmount = discountAmount;
+        this.discountRate = discountRate;
+        this.couponCode = couponCode;
+        this.usageLimit = usageLimit;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public void use() {
+        if (usageLimit != null && usedCount >= usageLimit) {
+            throw new CouponSoldOutException(id);
+        }
+        usedCount++;
+    }
+
+    public void release() {
+        if (usedCount > 0) {
+            usedCount--;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.promotion.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PromotionType {
+    SET_DISCOUNT("세트 할인"),   // productIds 를 하나씩 모두 담으면 세트마다 discountAmount 할인
+    BUY_N_GET_M("N+M 증정"),    // 대상 상품/카테고리를 buy + free 개 담을 때마다 가장 싼 free 개 무료
+    COUPON("한정 쿠폰");         // couponCode 입력 시 대상(없으면 주문 전체)에 정액/정률 할인, usageLimit 회 한정
+
+    private final String description;
+}
@@ -0,0 +1,7 @@
+package dev.lepelaka.kiosk.domain.promotion.event;
+
+/**
+ * 프로모션 등록/종료 (커밋 후 프로모션 매처 재구성)
+ */
+public record PromotionChangedEvent(Long promotionId) {
+}
@@ -0,0 +1,19 @@
+package dev.lepelaka.kiosk.domain.promotion.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class CouponSoldOutException extends PromotionException {
+    private final Long promotionId;
+
+    public CouponSoldOutException(Long promotionId) {
+        super(ErrorCode.COUPON_SOLD_OUT);
+        this.promotionId = promotionId;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (프로모션 ID: %d)", super.getMessage(), promotionId);
+    }
+}
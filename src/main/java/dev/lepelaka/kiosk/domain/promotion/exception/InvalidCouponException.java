@@ -0,0 +1,26 @@
+package dev.lepelaka.kiosk.domain.promotion.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class InvalidCouponException extends PromotionException {
+    private final String couponCode;
+
+    public InvalidCouponException(String couponCode) {
+        super(ErrorCode.INVALID_COUPON);
+        this.couponCode = couponCode;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (쿠폰 : %s)", super.getMessage(), couponCode);
+    }
+
+    @Override
+    public Map<String, Object> getDetails() {
+        return Map.of("couponCode", couponCode);
+    }
+}
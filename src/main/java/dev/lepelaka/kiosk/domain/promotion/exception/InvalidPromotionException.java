@@ -0,0 +1,17 @@
+package dev.lepelaka.kiosk.domain.promotion.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class InvalidPromotionException extends PromotionException {
+    private final String reason;
+
+    public InvalidPromotionException(String reason) {
+        super(ErrorCode.INVALID_PROMOTION);
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (%s)", super.getMessage(), reason);
+    }
+}
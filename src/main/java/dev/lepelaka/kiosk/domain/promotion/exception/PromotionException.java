@@ -0,0 +1,10 @@
+package dev.lepelaka.kiosk.domain.promotion.exception;
+
+import dev.lepelaka.kiosk.global.exception.BusinessException;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class PromotionException extends BusinessException {
+    public PromotionException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.promotion.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class PromotionNotFoundException extends PromotionException {
+    private final Long id;
+
+    public PromotionNotFoundException(Long promotionId) {
+        super(ErrorCode.PROMOTION_NOT_FOUND);
+        this.id = promotionId;
+    }
+}
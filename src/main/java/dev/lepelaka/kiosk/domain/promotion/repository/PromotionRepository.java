@@ -0,0 +1,24 @@
+package dev.lepelaka.kiosk.domain.promotion.repository;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PromotionRepository extends JpaRepository<Promotion, Long> {
+
+    // 쿠폰 사용/복구는 상품 재고와 같이 행 잠금 후 차감
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Promotion p where p.id = :id")
+    Optional<Promotion> findByIdWithPessimisticLock(Long id);
+
+    // 매처 구성용: 대상 상품까지 한 번에 (프로모션마다 SELECT 방지)
+    @Query("select distinct p from Promotion p left join fetch p.productIds where p.active = true order by p.id")
+    List<Promotion> findAllActiveWithProducts();
+
+    boolean existsByCouponCode(String couponCode);
+}
@@ -0,0 +1,92 @@
+package dev.lepelaka.kiosk.domain.promotion.service;
+
+import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.domain.promotion.dto.PromotionCreateRequest;
+import dev.lepelaka.kiosk.domain.promotion.dto.PromotionResponse;
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.event.PromotionChangedEvent;
+import dev.lepelaka.kiosk.domain.promotion.exception.InvalidPromotionException;
+import dev.lepelaka.kiosk.domain.promotion.exception.PromotionNotFoundException;
+import dev.lepelaka.kiosk.domain.promotion.repository.PromotionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PromotionService {
+    private final PromotionRepository promotionRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long register(PromotionCreateRequest request) {
+        validate(request);
+        Long id = promotionRepository.save(request.toEntity()).getId();
+        eventPublisher.publishEvent(new PromotionChangedEvent(id));
+        return id;
+    }
+
+    @Transactional
+    public void remove(Long id) {
+        Promotion promotion = promotionRepository.findById(id).orElseThrow(() -> new PromotionNotFoundException(id));
+        promotion.deactivate();
+        eventPublisher.publishEvent(new PromotionChangedEvent(id));
+    }
+
+    public List<PromotionResponse> list() {
+        return promotionRepository.findAllActiveWithProducts().stream().map(PromotionResponse::from).toList();
+    }
+
+    private void validate(PromotionCreateRequest request) {
+        Set<Long> productIds = request.productIds() != null ? request.productIds() : Set.of();
+        switch (request.type()) {
+            case SET_DISCOUNT -> {
+                if (productIds.size() < 2) {
+                    throw new InvalidPromotionException("세트 구성품은 2개 이상이어야 합니다");
+                }
+                require(request.discountAmount() != null, "세트 할인 금액이 없습니다");
+            }
+            case BUY_N_GET_M -> {
+                require(!productIds.isEmpty() || request.categoryId() != null, "대상 상품 또는 카테고리가 없습니다");
+                require(request.buyQuantity() != null && request.freeQuantity() != null, "구매/증정 수량이 없습니다");
+            }
+            case COUPON -> {
+                require(request.couponCode() != null && !request.couponCode().isBlank(), "쿠폰 코드가 없습니다");
+                require(request.discountAmount() != null ^ request.discountRate() != null, "할인 금액과 할인율 중 하나만 지정해야 합니다");
+                if (promotionRepository.existsByCouponCode(request.couponCode())) {
+                    throw new InvalidPromotionException("이미 존재하는 쿠폰 코드입니다");
+                }
+            }
+        }
+        if (request.startAt() != null && request.endAt() != null && !request.endAt().isAfter(request.startAt())) {
+            throw new InvalidPromotionException("종료 일시가 시작 일시보다 앞섭니다");
+        }
+        if (!productIds.isEmpty()) {
+            Set<Long> notFoundIds = new HashSet<>(productIds);
+            productRepository.findAllById(productIds).forEach(product -> notFoundIds.remove(product.getId()));
+            if (!notFoundIds.isEmpty()) {
+                throw new ProductNotFoundException(notFoundIds);
+            }
+        }
+        if (request.categoryId() != null && !categoryRepository.existsById(request.categoryId())) {
+            throw new CategoryNotFoundException(request.categoryId());
+        }
+    }
+
+    private static void require(boolean condition, String reason) {
+        if (!condition) {
+            throw new InvalidPromotionException(reason);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기준 BK-tree. 키마다 여러 ID 를 붙일 수 있다.
+ * 삼각 부등식으로 |d(q, node) - d(node, child)| <= k 인 자식만 내려가므로 전체 비교 없이 거리 k 이내 키를 찾는다.
+ * 삭제는 노드에서 ID 만 떼어낸다 (키 노드는 트리 구조 유지를 위해 남김). 단일 스레드 전제, 동기화는 호출 측 책임.
+ */
+public class BkTree {
+
+    private Node root;
+    private int keys;
+
+    public void add(String key, long id) {
+        if (root == null) {
+            root = new Node(key, id);
+            keys++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.add(id);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key, id));
+                keys++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public void remove(String key, long id) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                node.remove(id);
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    public void clear() {
+        root = null;
+        keys = 0;
+    }
+
+    public int keyCount() {
+        return keys;
+    }
+
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance) {
+                for (long id : node.ids) {
+                    matches.add(new Match(id, node.key, distance));
+                }
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 두 행만 쓰는 Levenshtein 거리
+     */
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        private final String key;
+        private long[] ids;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String key, long id) {
+            this.key = key;
+            this.ids = new long[]{id};
+        }
+
+        void add(long id) {
+            for (long existing : ids) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = id;
+        }
+
+        void remove(long id) {
+            ids = Arrays.stream(ids).filter(existing -> existing != id).toArray();
+        }
+    }
+
+    public record Match(long id, String key, int distance) {
+    }
+}
@@ -0,0 +1,149 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 음성 인식이 뭉갠 상품명("짜장멘", "아이스 아메리까노") 매칭용 자모 편집 거리 색인 (BK-tree).
+ * - 키: 상품명 전체와 두 글자 이상 단어를 각각 자모로 풀어 쓴 문자열 (자모 단위라 "멘"/"면" 차이가 편집 1회)
+ * - 허용 거리: 질의 자모 JAMO_PER_EDIT 개당 1회, 최대 MAX_DISTANCE
+ * - 유사도: 1 - 거리 / 긴 쪽 길이. MIN_SIMILARITY 미만은 버린다
+ * 상품 수정/삭제로 트리에 남은 옛 키가 살아있는 키 수만큼 쌓이면 다시 만든다.
+ */
+@Component
+public class FuzzyMenuMatcher {
+
+    static final int MAX_DISTANCE = 3;
+    static final int JAMO_PER_EDIT = 4;
+    static final int MIN_QUERY_JAMO = 3;
+    static final double MIN_SIMILARITY = 0.6;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BkTree tree = new BkTree();
+    private final Map<Long, List<String>> keysById = new HashMap<>();
+    private int liveKeys;
+
+    /**
+     * @param names 상품 ID -> 상품명
+     */
+    public void replaceAll(Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            keysById.clear();
+            names.forEach((id, name) -> keysById.put(id, keysOf(name)));
+            rebuild();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Long productId, String name) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+            List<String> keys = keysOf(name);
+            keysById.put(productId, keys);
+            keys.forEach(key -> tree.add(key, productId));
+            liveKeys += keys.size();
+            rebuildIfStale();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+            rebuildIfStale();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Candidate> match(String transcript, int limit) {
+        String cleaned = MenuVectorizer.stripFillers(transcript);
+        if (cleaned.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> segments = new LinkedHashSet<>();
+        segments.add(cleaned);
+        String[] words = cleaned.split(" ");
+        if (words.length > 1) {
+            segments.addAll(List.of(words));
+        }
+
+        Map<Long, Double> best = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String segment : segments) {
+                String query = Hangul.decompose(KoreanBigramTokenizer.compact(segment));
+                if (query.length() < MIN_QUERY_JAMO) {
+                    continue;
+                }
+                int maxDistance = Math.min(MAX_DISTANCE, Math.max(1, query.length() / JAMO_PER_EDIT));
+                for (BkTree.Match match : tree.search(query, maxDistance)) {
+                    double similarity = 1 - (double) match.distance() / Math.max(query.length(), match.key().length());
+                    if (similarity >= MIN_SIMILARITY) {
+                        best.merge(match.id(), similarity, Math::max);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return best.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> new Candidate(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    static List<String> keysOf(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        String full = KoreanBigramTokenizer.compact(name);
+        if (!full.isEmpty()) {
+            keys.add(Hangul.decompose(full));
+        }
+        for (String word : name.trim().split("\\s+")) {
+            String compact = KoreanBigramTokenizer.compact(word);
+            if (compact.length() >= 2) {
+                keys.add(Hangul.decompose(compact));
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private void removeInternal(Long productId) {
+        List<String> previous = keysById.remove(productId);
+        if (previous != null) {
+            previous.forEach(key -> tree.remove(key, productId));
+            liveKeys -= previous.size();
+        }
+    }
+
+    private void rebuildIfStale() {
+        if (tree.keyCount() > Math.max(64, liveKeys * 2)) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        tree.clear();
+        liveKeys = 0;
+        keysById.forEach((id, keys) -> {
+            keys.forEach(key -> tree.add(key, id));
+            liveKeys += keys.size();
+        });
+    }
+
+    public record Candidate(Long productId, double similarity) {
+    }
+}
@@ -0,0 +1,84 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+/**
+ * 한글 음절 분해 유틸. 음절(가~힣) = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 호환용 자모(키보드 입력) 기준 초성
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 0 은 받침 없음
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 호환용 자음(ㄱ~ㅎ) 여부. 사용자가 초성만 입력한 글자.
+     */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * 음절이면 초성, 그 외 글자는 그대로
+     */
+    public static char chosungOf(char c) {
+        return isSyllable(c) ? CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG] : c;
+    }
+
+    public static String chosung(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    public static boolean containsConsonant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isConsonant(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 음절을 초성/중성/종성 자모로 풀어 쓴다 ("짜장면" -> "ㅉㅏㅈㅏㅇㅁㅕㄴ"). 편집 거리를 자모 단위로 재기 위함.
+     */
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                builder.append(c);
+                continue;
+            }
+            int offset = c - SYLLABLE_BEGIN;
+            builder.append(CHOSUNG[offset / SYLLABLES_PER_CHOSUNG]);
+            builder.append(JUNGSUNG[offset % SYLLABLES_PER_CHOSUNG / 28]);
+            if (offset % 28 != 0) {
+                builder.append(JONGSUNG[offset % 28]);
+            }
+        }
+        return builder.toString();
+    }
+}
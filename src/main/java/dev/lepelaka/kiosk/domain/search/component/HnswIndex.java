@@ -0,0 +1,288 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 코사인 유사도용 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 색인.
+ * 벡터는 L2 정규화된 상태로 받으며 거리 = 1 - 내적.
+ * - 삽입: 상위 층에서 탐욕 탐색으로 진입점을 좁힌 뒤 각 층에서 efConstruction 후보 중 가까운 M(0층은 2M) 개와 양방향 연결
+ * - 삭제: 톰스톤 표시 후 결과에서만 제외 (그래프 연결은 유지해 탐색 경로를 보존). 톰스톤이 살아있는 노드의 30% 를 넘으면 재구성
+ * 갱신은 쓰기 잠금, 조회는 읽기 잠금.
+ */
+public class HnswIndex {
+
+    private static final double COMPACT_RATIO = 0.3;
+
+    private final int dimension;
+    private final int m;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<float[]> vectors = new ArrayList<>();
+    private final List<int[][]> links = new ArrayList<>(); // 노드 -> 층 -> 이웃
+    private final List<Long> ids = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> nodeOf = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        this.dimension = dimension;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public void replaceAll(Map<Long, float[]> entries) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            entries.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Long id, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+            insert(id, vector);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeOf.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Neighbor> search(float[] query, int k, int ef) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("dimension mismatch: " + query.length + " != " + dimension);
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int level = maxLevel; level > 0; level--) {
+                current = greedy(query, current, level);
+            }
+            // 톰스톤은 결과에서 빠지므로 그만큼 넉넉히 탐색
+            PriorityQueue<Candidate> found = searchLayer(query, current, Math.max(ef, k) + deleted.cardinality(), 0);
+            List<Candidate> sorted = new ArrayList<>(found);
+            sorted.sort(Comparator.comparingDouble(Candidate::distance));
+            List<Neighbor> result = new ArrayList<>(k);
+            for (Candidate candidate : sorted) {
+                if (!deleted.get(candidate.node())) {
+                    result.add(new Neighbor(ids.get(candidate.node()), 1 - candidate.distance()));
+                    if (result.size() == k) {
+                        break;
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Long id, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("dimension mismatch: " + vector.length + " != " + dimension);
+        }
+        int node = vectors.size();
+        int level = (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        int[][] layers = new int[level + 1][];
+        Arrays.fill(layers, new int[0]);
+        vectors.add(vector);
+        links.add(layers);
+        ids.add(id);
+        nodeOf.put(id, node);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        int current = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            current = greedy(vector, current, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            PriorityQueue<Candidate> candidates = searchLayer(vector, current, efConstruction, l);
+            List<Candidate> closest = new ArrayList<>(candidates);
+            closest.sort(Comparator.comparingDouble(Candidate::distance));
+            int maxLinks = maxLinks(l);
+            int[] neighbors = closest.stream().limit(maxLinks).mapToInt(Candidate::node).toArray();
+            layers[l] = neighbors;
+            for (int neighbor : neighbors) {
+                connect(neighbor, node, l);
+            }
+            current = closest.get(0).node();
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    // 이웃 목록이 가득 차면 가장 먼 이웃을 밀어낸다
+    private void connect(int from, int to, int level) {
+        int[] existing = links.get(from)[level];
+        if (existing.length < maxLinks(level)) {
+            int[] extended = Arrays.copyOf(existing, existing.length + 1);
+            extended[existing.length] = to;
+            links.get(from)[level] = extended;
+            return;
+        }
+        float[] base = vectors.get(from);
+        int farthest = -1;
+        double farthestDistance = distance(base, vectors.get(to));
+        for (int i = 0; i < existing.length; i++) {
+            double d = distance(base, vectors.get(existing[i]));
+            if (d > farthestDistance) {
+                farthestDistance = d;
+                farthest = i;
+            }
+        }
+        if (farthest >= 0) {
+            existing[farthest] = to;
+        }
+    }
+
+    private int greedy(float[] query, int start, int level) {
+        int current = start;
+        double best = distance(query, vectors.get(current));
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int neighbor : neighborsOf(current, level)) {
+                double d = distance(query, vectors.get(neighbor));
+                if (d < best) {
+                    best = d;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return 가까운 순으로 최대 ef 개 (최대 힙: 가장 먼 후보가 head)
+     */
+    private PriorityQueue<Candidate> searchLayer(float[] query, int start, int ef, int level) {
+        BitSet visited = new BitSet(vectors.size());
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance).reversed());
+        Candidate first = new Candidate(start, distance(query, vectors.get(start)));
+        visited.set(start);
+        frontier.add(first);
+        results.add(first);
+
+        while (!frontier.isEmpty()) {
+            Candidate nearest = frontier.poll();
+            if (nearest.distance() > results.peek().distance() && results.size() >= ef) {
+                break;
+            }
+            for (int neighbor : neighborsOf(nearest.node(), level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double d = distance(query, vectors.get(neighbor));
+                if (results.size() < ef || d < results.peek().distance()) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    frontier.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private int[] neighborsOf(int node, int level) {
+        int[][] layers = links.get(node);
+        return level < layers.length ? layers[level] : new int[0];
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? m * 2 : m;
+    }
+
+    private void markDeleted(Long id) {
+        Integer node = nodeOf.remove(id);
+        if (node != null) {
+            deleted.set(node);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deleted.cardinality() <= Math.max(16, nodeOf.size() * COMPACT_RATIO)) {
+            return;
+        }
+        Map<Long, float[]> live = new HashMap<>();
+        nodeOf.forEach((id, node) -> live.put(id, vectors.get(node)));
+        clear();
+        live.forEach(this::insert);
+    }
+
+    private void clear() {
+        vectors.clear();
+        links.clear();
+        ids.clear();
+        deleted.clear();
+        nodeOf.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+    }
+
+    private static double distance(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return 1 - dot;
+    }
+
+    private record Candidate(int node, double distance) {
+    }
+
+    public record Neighbor(Long id, double similarity) {
+    }
+}
@@ -0,0 +1,50 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 형태소 분석 없이 쓰는 한국어 검색용 bigram 토크나이저.
+ * 띄어쓰기가 들쭉날쭉한 상품명("아이스 아메리카노" / "아이스아메리카노")을 같은 토큰으로 맞추기 위해
+ * 공백/기호를 모두 제거한 문자열에서 두 글자씩 자른다. 한 글자 문자열은 그대로 하나의 토큰.
+ */
+public final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    /**
+     * NFC 정규화 + 소문자 + 글자/숫자 외 제거
+     */
+    public static String compact(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    public static List<String> tokenize(String text) {
+        return bigrams(compact(text));
+    }
+
+    static List<String> bigrams(String compact) {
+        if (compact.length() <= 1) {
+            return compact.isEmpty() ? List.of() : List.of(compact);
+        }
+        List<String> tokens = new ArrayList<>(compact.length() - 1);
+        for (int i = 0; i < compact.length() - 1; i++) {
+            tokens.add(compact.substring(i, i + 2));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음성 주문용 메뉴 벡터 색인 (MenuVectorizer + HnswIndex). STT 문장을 상품 후보로 매핑한다.
+ * 외부 임베딩/벡터스토어 없이 노드 안에서만 동작한다.
+ */
+@Component
+public class MenuVectorIndex {
+
+    static final int M = 16;
+    static final int EF_CONSTRUCTION = 100;
+    static final int EF_SEARCH = 64;
+    static final double MIN_SIMILARITY = 0.3;
+
+    private final MenuVectorizer vectorizer = new MenuVectorizer();
+    private final HnswIndex index = new HnswIndex(MenuVectorizer.DIMENSION, M, EF_CONSTRUCTION, 42L);
+
+    /**
+     * IDF 를 다시 계산하고 전체 재색인
+     */
+    public void replaceAll(Collection<MenuText> menus) {
+        vectorizer.fit(menus.stream().map(menu -> menu.name() + " " + nullToEmpty(menu.description())).toList());
+        Map<Long, float[]> vectors = new LinkedHashMap<>();
+        menus.forEach(menu -> vectors.put(menu.id(), vectorizer.vectorize(menu.name(), menu.description())));
+        index.replaceAll(vectors);
+    }
+
+    public void upsert(MenuText menu) {
+        index.upsert(menu.id(), vectorizer.vectorize(menu.name(), menu.description()));
+    }
+
+    public void remove(Long productId) {
+        index.remove(productId);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 문장 전체와 단어별로 각각 찾아 상품마다 가장 높은 유사도를 쓴다.
+     * "탕수육 짬뽕" 처럼 여러 메뉴를 한 번에 말하면 문장 벡터는 어느 메뉴와도 가깝지 않기 때문.
+     */
+    public List<HnswIndex.Neighbor> match(String transcript, int limit) {
+        String cleaned = MenuVectorizer.stripFillers(transcript);
+        if (cleaned.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> best = new HashMap<>();
+        collect(cleaned, limit, best);
+        String[] words = cleaned.split(" ");
+        if (words.length > 1) {
+            for (String word : words) {
+                collect(word, limit, best);
+            }
+        }
+        return best.entrySet().stream()
+                .filter(entry -> entry.getValue() >= MIN_SIMILARITY)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(entry -> new HnswIndex.Neighbor(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private void collect(String text, int limit, Map<Long, Double> best) {
+        for (HnswIndex.Neighbor neighbor : index.search(vectorizer.vectorizeQuery(text), limit, EF_SEARCH)) {
+            best.merge(neighbor.id(), neighbor.similarity(), Math::max);
+        }
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    public record MenuText(Long id, String name, String description) {
+
+        public static MenuText from(Product product) {
+            return new MenuText(product.getId(), product.getName(), product.getDescription());
+        }
+    }
+}
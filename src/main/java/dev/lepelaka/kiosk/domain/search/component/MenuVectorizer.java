@@ -0,0 +1,136 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 임베딩 API 없이 쓰는 메뉴 텍스트 벡터화: 글자 1~3-gram 을 해시 버킷에 TF-IDF 로 누적한 뒤 L2 정규화.
+ * - 부호 해시(feature hashing) 로 버킷 충돌 편향을 상쇄하고, gram 마다 버킷 두 곳을 써서 우연한 충돌의 영향을 줄인다
+ * - IDF 는 fit 시점의 상품 전체 기준으로 고정하고 이후 상품 단위 갱신은 그 값을 쓴다 (전체 재색인 때 다시 계산)
+ * - 음성 질의는 "짜장면 두 개 주세요" 처럼 수량/요청 표현이 섞이므로 벡터화 전에 걸러낸다 (stripFillers)
+ */
+public class MenuVectorizer {
+
+    public static final int DIMENSION = 256;
+    // gram 하나를 버킷 두 곳에 나눠 담아 한 버킷 충돌이 유사도를 좌우하지 않게 한다
+    private static final int HASHES = 2;
+    // n-gram 길이별 가중치 (1-gram 은 흔한 글자라 변별력이 낮아 작게)
+    private static final float[] GRAM_WEIGHTS = {0f, 0.3f, 2f, 3f};
+    private static final float DESCRIPTION_WEIGHT = 0.3f;
+
+    private static final Set<String> FILLERS = Set.of(
+            "주세요", "줘", "줘요", "주문", "주문할게요", "할게요", "하나", "하나요", "한", "둘", "두", "세", "셋", "네", "넷",
+            "개", "잔", "그릇", "인분", "그리고", "랑", "하고", "좀", "요", "저기", "음", "어", "여기");
+    private static final Pattern QUANTITY = Pattern.compile("\\d+(개|잔|그릇|인분)?");
+    private static final Pattern TRAILING_REQUEST = Pattern.compile("(주세요|줘요|이요|이랑|하고|랑|요)$");
+
+    private volatile float[] idf = filled(1f);
+
+    /**
+     * 상품 텍스트 전체로 버킷별 IDF 계산
+     */
+    public void fit(Collection<String> documents) {
+        int[] documentFrequency = new int[DIMENSION];
+        for (String document : documents) {
+            boolean[] seen = new boolean[DIMENSION];
+            forEachGram(KoreanBigramTokenizer.compact(document), (bucket, sign, weight) -> seen[bucket] = true);
+            for (int i = 0; i < DIMENSION; i++) {
+                if (seen[i]) {
+                    documentFrequency[i]++;
+                }
+            }
+        }
+        float[] fitted = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            fitted[i] = (float) (Math.log((documents.size() + 1.0) / (documentFrequency[i] + 1.0)) + 1);
+        }
+        idf = fitted;
+    }
+
+    public float[] vectorize(String name, String description) {
+        float[] vector = new float[DIMENSION];
+        accumulate(vector, KoreanBigramTokenizer.compact(name), 1f);
+        accumulate(vector, KoreanBigramTokenizer.compact(description), DESCRIPTION_WEIGHT);
+        return normalize(vector);
+    }
+
+    /**
+     * @param text stripFillers 를 거친 질의
+     */
+    public float[] vectorizeQuery(String text) {
+        float[] vector = new float[DIMENSION];
+        accumulate(vector, KoreanBigramTokenizer.compact(text), 1f);
+        return normalize(vector);
+    }
+
+    public static String stripFillers(String transcript) {
+        if (transcript == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(transcript, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder();
+        for (String word : normalized.split("[\\s,.!?]+")) {
+            String stripped = TRAILING_REQUEST.matcher(word).replaceAll("");
+            if (stripped.isEmpty() || FILLERS.contains(word) || FILLERS.contains(stripped) || QUANTITY.matcher(stripped).matches()) {
+                continue;
+            }
+            builder.append(stripped).append(' ');
+        }
+        return builder.toString().trim();
+    }
+
+    private void accumulate(float[] vector, String compact, float fieldWeight) {
+        float[] currentIdf = idf;
+        forEachGram(compact, (bucket, sign, weight) -> vector[bucket] += sign * weight * fieldWeight * currentIdf[bucket]);
+    }
+
+    private static void forEachGram(String compact, GramConsumer consumer) {
+        for (int n = 1; n < GRAM_WEIGHTS.length; n++) {
+            for (int i = 0; i + n <= compact.length(); i++) {
+                int hash = compact.substring(i, i + n).hashCode() * 31 + n;
+                for (int probe = 0; probe < HASHES; probe++) {
+                    int mixed = mix(hash + probe * 0x9E37_79B9);
+                    consumer.accept(Math.floorMod(mixed, DIMENSION), (mixed & 0x8000_0000) == 0 ? 1 : -1, GRAM_WEIGHTS[n]);
+                }
+            }
+        }
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EB_CA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2_AE35;
+        return h ^ (h >>> 16);
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0) {
+            return vector;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    private static float[] filled(float value) {
+        float[] array = new float[DIMENSION];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    @FunctionalInterface
+    private interface GramConsumer {
+        void accept(int bucket, int sign, float weight);
+    }
+}
@@ -0,0 +1,365 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 자동완성 trie. 음절 trie("짜장면")와 초성 trie("ㅉㅈㅁ") 두 개를 둔다.
+ * - 키: 상품명 전체와 각 단어부터 시작하는 접미 문자열("아이스 아메리카노" -> "아이스아메리카노", "아메리카노")
+ * - 노드마다 하위 상품 중 인기(오늘 판매 수량) 상위 TOP_K 개 ID 만 들고 있어 조회는 접두어 길이만큼만 내려간다
+ * - 메모리 상한: 키는 MAX_KEY_LENGTH 글자까지만 색인하고 상품당 키는 MAX_WORD_KEYS 개까지
+ * 음절과 초성이 섞인 질의("짜ㅈㅁ")나 MAX_KEY_LENGTH 보다 긴 질의는 초성/잘린 접두어로 내려간 뒤 하위 상품을 직접 걸러낸다.
+ */
+@Component
+public class ProductAutocomplete {
+
+    public static final int TOP_K = 10;
+    static final int MAX_KEY_LENGTH = 16;
+    static final int MAX_WORD_KEYS = 4;
+    private static final int MAX_SCAN = 2_000;
+
+    private static final char[] NO_LABELS = {};
+    private static final Node[] NO_CHILDREN = {};
+    private static final long[] NO_IDS = {};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node syllables = new Node();
+    private final Node chosungs = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private Map<Long, Long> popularity = Map.of();
+
+    /**
+     * @param names 상품 ID -> 상품명
+     */
+    public void replaceAll(Map<Long, String> names, Map<Long, Long> popularity) {
+        lock.writeLock().lock();
+        try {
+            syllables.clear();
+            chosungs.clear();
+            entries.clear();
+            this.popularity = Map.copyOf(popularity);
+            names.forEach((id, name) -> insert(new Entry(id, name, keysOf(name)), false));
+            recomputeAll(syllables);
+            recomputeAll(chosungs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Long productId, String name) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+            insert(new Entry(productId, name, keysOf(name)), true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기 순위가 바뀌면 모든 노드의 상위 목록을 다시 계산한다.
+     */
+    public void updatePopularity(Map<Long, Long> popularity) {
+        lock.writeLock().lock();
+        try {
+            this.popularity = Map.copyOf(popularity);
+            recomputeAll(syllables);
+            recomputeAll(chosungs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String query, int limit) {
+        String compactQuery = KoreanBigramTokenizer.compact(query);
+        if (compactQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean chosungMode = Hangul.containsConsonant(compactQuery);
+        String path = chosungMode ? Hangul.chosung(compactQuery) : compactQuery;
+        boolean needsFilter = compactQuery.length() > MAX_KEY_LENGTH || (chosungMode && !path.equals(compactQuery));
+
+        lock.readLock().lock();
+        try {
+            Node node = find(chosungMode ? chosungs : syllables, path);
+            if (node == null) {
+                return List.of();
+            }
+            long[] ids = needsFilter ? filtered(node, compactQuery, limit) : node.top;
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, ids.length));
+            for (int i = 0; i < ids.length && suggestions.size() < limit; i++) {
+                Entry entry = entries.get(ids[i]);
+                suggestions.add(new Suggestion(entry.id(), entry.name(), popularityOf(entry.id())));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> keysOf(String name) {
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        String[] words = normalized.trim().split("\\s+");
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < words.length && keys.size() < MAX_WORD_KEYS; i++) {
+            String key = KoreanBigramTokenizer.compact(String.join("", Arrays.asList(words).subList(i, words.length)));
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private void insert(Entry entry, boolean recompute) {
+        entries.put(entry.id(), entry);
+        for (String key : entry.keys()) {
+            insertPath(syllables, key, entry.id(), recompute);
+            insertPath(chosungs, Hangul.chosung(key), entry.id(), recompute);
+        }
+    }
+
+    private void removeInternal(Long productId) {
+        Entry previous = entries.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys()) {
+            removePath(syllables, key, productId);
+            removePath(chosungs, Hangul.chosung(key), productId);
+        }
+    }
+
+    private void insertPath(Node root, String key, long id, boolean recompute) {
+        int length = Math.min(key.length(), MAX_KEY_LENGTH);
+        Node[] path = new Node[length + 1];
+        path[0] = root;
+        for (int i = 0; i < length; i++) {
+            path[i + 1] = path[i].childOrCreate(key.charAt(i));
+        }
+        Node leaf = path[length];
+        if (!contains(leaf.terminals, id)) {
+            leaf.terminals = append(leaf.terminals, id);
+        }
+        if (recompute) {
+            for (int i = length; i >= 0; i--) {
+                recompute(path[i]);
+            }
+        }
+    }
+
+    private void removePath(Node root, String key, long id) {
+        int length = Math.min(key.length(), MAX_KEY_LENGTH);
+        Node[] path = new Node[length + 1];
+        path[0] = root;
+        for (int i = 0; i < length; i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return; // 같은 키가 두 번 제거된 경우 (음절 키가 달라도 초성 키가 겹칠 수 있음)
+            }
+        }
+        path[length].terminals = without(path[length].terminals, id);
+        for (int i = length; i >= 0; i--) {
+            if (i > 0 && path[i].isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            } else {
+                recompute(path[i]);
+            }
+        }
+    }
+
+    private static Node find(Node root, String path) {
+        Node node = root;
+        for (int i = 0; i < Math.min(path.length(), MAX_KEY_LENGTH) && node != null; i++) {
+            node = node.child(path.charAt(i));
+        }
+        return node;
+    }
+
+    // 하위 노드의 상품을 MAX_SCAN 개까지 모아 질의와 글자 단위로 대조 (초성 자리는 초성만 비교)
+    private long[] filtered(Node node, String compactQuery, int limit) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        collect(node, candidates);
+        return candidates.stream()
+                .filter(id -> matches(entries.get(id), compactQuery))
+                .sorted(ranking())
+                .limit(limit)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private void collect(Node node, Set<Long> candidates) {
+        for (long id : node.terminals) {
+            if (candidates.size() >= MAX_SCAN) {
+                return;
+            }
+            candidates.add(id);
+        }
+        for (Node child : node.children) {
+            collect(child, candidates);
+        }
+    }
+
+    private static boolean matches(Entry entry, String compactQuery) {
+        for (String key : entry.keys()) {
+            if (key.length() >= compactQuery.length() && prefixMatches(key, compactQuery)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean prefixMatches(String key, String compactQuery) {
+        for (int i = 0; i < compactQuery.length(); i++) {
+            char q = compactQuery.charAt(i);
+            char k = key.charAt(i);
+            if (Hangul.isConsonant(q) ? Hangul.chosungOf(k) != q : k != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void recomputeAll(Node node) {
+        for (Node child : node.children) {
+            recomputeAll(child);
+        }
+        recompute(node);
+    }
+
+    // 노드의 상위 목록 = (이 노드에서 끝나는 상품 + 자식들의 상위 목록) 중 상위 TOP_K
+    private void recompute(Node node) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (long id : node.terminals) {
+            candidates.add(id);
+        }
+        for (Node child : node.children) {
+            for (long id : child.top) {
+                candidates.add(id);
+            }
+        }
+        node.top = candidates.stream().sorted(ranking()).limit(TOP_K).mapToLong(Long::longValue).toArray();
+    }
+
+    private Comparator<Long> ranking() {
+        return Comparator.comparingLong(this::popularityOf).reversed().thenComparing(Comparator.naturalOrder());
+    }
+
+    private long popularityOf(Long productId) {
+        return popularity.getOrDefault(productId, 0L);
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long existing : ids) {
+            if (existing == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] append(long[] ids, long id) {
+        long[] copy = Arrays.copyOf(ids, ids.length + 1);
+        copy[ids.length] = id;
+        return copy;
+    }
+
+    private static long[] without(long[] ids, long id) {
+        return Arrays.stream(ids).filter(existing -> existing != id).toArray();
+    }
+
+    /**
+     * 자식은 글자 오름차순 배열 (HashMap 대비 노드당 메모리 절약, 이진 탐색)
+     */
+    private static final class Node {
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private long[] terminals = NO_IDS;
+        private long[] top = NO_IDS;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node created = new Node();
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = label;
+            newChildren[insertAt] = created;
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return created;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminals.length == 0 && labels.length == 0;
+        }
+
+        void clear() {
+            labels = NO_LABELS;
+            children = NO_CHILDREN;
+            terminals = NO_IDS;
+            top = NO_IDS;
+        }
+    }
+
+    private record Entry(Long id, String name, List<String> keys) {
+    }
+
+    public record Suggestion(Long productId, String name, long popularity) {
+    }
+}
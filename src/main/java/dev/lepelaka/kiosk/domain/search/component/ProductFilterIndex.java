@@ -0,0 +1,250 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매 중인 상품의 태그/가격/카테고리 비트셋 색인.
+ * - 상품마다 조밀한 슬롯 번호를 주고, 값(태그, 가격 구간, 카테고리)마다 슬롯 비트셋을 둔다
+ *   상품 수 N 이면 값 하나당 N 비트라 별도 압축 없이도 작다 (1만 개 = 1.25KB)
+ * - 필터는 비트셋 AND/OR/ANDNOT 으로 계산하고 가격 경계 구간만 실제 가격을 확인한다
+ * - 삭제된 슬롯은 비워 두었다가 죽은 슬롯이 살아 있는 슬롯보다 많아지면 상품 ID 순으로 다시 채운다
+ * 결과 순서는 슬롯 순서(재구성 직후 상품 ID 순, 이후 추가된 상품은 뒤에 붙음)다.
+ */
+@Component
+public class ProductFilterIndex {
+
+    static final int PRICE_BUCKET = 1_000;
+    static final int MAX_BUCKET = 100; // 10만원 이상은 마지막 구간에 모은다
+    private static final int MIN_COMPACT_SLOTS = 64;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<ProductAttribute, BitSet> byAttribute = new EnumMap<>(ProductAttribute.class);
+    private final BitSet[] byPriceBucket = new BitSet[MAX_BUCKET + 1];
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private Entry[] entries = new Entry[MIN_COMPACT_SLOTS];
+    private int slotCount;
+
+    public ProductFilterIndex() {
+        for (ProductAttribute attribute : ProductAttribute.values()) {
+            byAttribute.put(attribute, new BitSet());
+        }
+        for (int i = 0; i <= MAX_BUCKET; i++) {
+            byPriceBucket[i] = new BitSet();
+        }
+    }
+
+    public void replaceAll(Collection<Entry> replacements) {
+        lock.writeLock().lock();
+        try {
+            reset();
+            replacements.stream().sorted(Comparator.comparing(Entry::productId)).forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(entry.productId());
+            if (slot == null) {
+                add(entry);
+                return;
+            }
+            clearBits(slot, entries[slot]);
+            setBits(slot, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(productId);
+            if (slot == null) {
+                return;
+            }
+            clearBits(slot, entries[slot]);
+            live.clear(slot);
+            entries[slot] = null;
+            if (slotCount > Math.max(MIN_COMPACT_SLOTS, slotById.size() * 2)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품을 슬롯 순서로 offset 부터 limit 개 돌려준다. total 은 조건에 맞는 전체 건수.
+     */
+    public Result filter(Filter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = evaluate(filter);
+            int total = matches.cardinality();
+            List<Entry> page = new ArrayList<>(Math.min(limit, total));
+            int skipped = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0 && page.size() < limit; slot = matches.nextSetBit(slot + 1)) {
+                if (skipped++ >= offset) {
+                    page.add(entries[slot]);
+                }
+            }
+            return new Result(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet evaluate(Filter filter) {
+        BitSet result = (BitSet) live.clone();
+        filter.all().forEach(attribute -> result.and(byAttribute.get(attribute)));
+        if (!filter.any().isEmpty()) {
+            BitSet union = new BitSet();
+            filter.any().forEach(attribute -> union.or(byAttribute.get(attribute)));
+            result.and(union);
+        }
+        filter.none().forEach(attribute -> result.andNot(byAttribute.get(attribute)));
+        if (filter.categoryId() != null) {
+            result.and(byCategory.getOrDefault(filter.categoryId(), new BitSet()));
+        }
+        if (filter.minPrice() != null || filter.maxPrice() != null) {
+            result.and(priceRange(filter.minPrice(), filter.maxPrice()));
+        }
+        return result;
+    }
+
+    // 구간 비트셋을 OR 한 뒤 양 끝 구간에서만 실제 가격을 확인한다
+    private BitSet priceRange(Integer minPrice, Integer maxPrice) {
+        int min = minPrice != null ? minPrice : 0;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        BitSet range = new BitSet();
+        if (min > max) {
+            return range;
+        }
+        int from = bucketOf(min);
+        int to = bucketOf(max);
+        for (int bucket = from; bucket <= to; bucket++) {
+            range.or(byPriceBucket[bucket]);
+        }
+        for (int bucket : new int[]{from, to}) {
+            BitSet edge = byPriceBucket[bucket];
+            for (int slot = edge.nextSetBit(0); slot >= 0; slot = edge.nextSetBit(slot + 1)) {
+                int price = entries[slot].price();
+                if (price < min || price > max) {
+                    range.clear(slot);
+                }
+            }
+        }
+        return range;
+    }
+
+    private void add(Entry entry) {
+        int slot = slotCount++;
+        if (slot == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        slotById.put(entry.productId(), slot);
+        live.set(slot);
+        setBits(slot, entry);
+    }
+
+    private void setBits(int slot, Entry entry) {
+        entries[slot] = entry;
+        entry.attributes().forEach(attribute -> byAttribute.get(attribute).set(slot));
+        byPriceBucket[bucketOf(entry.price())].set(slot);
+        if (entry.categoryId() != null) {
+            byCategory.computeIfAbsent(entry.categoryId(), id -> new BitSet()).set(slot);
+        }
+    }
+
+    private void clearBits(int slot, Entry entry) {
+        entry.attributes().forEach(attribute -> byAttribute.get(attribute).clear(slot));
+        byPriceBucket[bucketOf(entry.price())].clear(slot);
+        if (entry.categoryId() != null) {
+            BitSet category = byCategory.get(entry.categoryId());
+            category.clear(slot);
+            if (category.isEmpty()) {
+                byCategory.remove(entry.categoryId());
+            }
+        }
+    }
+
+    private void compact() {
+        List<Entry> survivors = new ArrayList<>(slotById.size());
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            survivors.add(entries[slot]);
+        }
+        reset();
+        survivors.stream().sorted(Comparator.comparing(Entry::productId)).forEach(this::add);
+    }
+
+    private void reset() {
+        slotById.clear();
+        live.clear();
+        byAttribute.values().forEach(BitSet::clear);
+        Arrays.stream(byPriceBucket).forEach(BitSet::clear);
+        byCategory.clear();
+        entries = new Entry[MIN_COMPACT_SLOTS];
+        slotCount = 0;
+    }
+
+    static int bucketOf(int price) {
+        return Math.min(Math.max(price, 0) / PRICE_BUCKET, MAX_BUCKET);
+    }
+
+    public record Entry(Long productId, int price, Long categoryId, Set<ProductAttribute> attributes) {
+        public Entry {
+            attributes = attributes == null || attributes.isEmpty()
+                    ? Set.of()
+                    : Collections.unmodifiableSet(EnumSet.copyOf(attributes));
+        }
+
+        public static Entry from(Product product) {
+            return new Entry(product.getId(), product.getPrice(), product.getCategory().getId(), product.getAttributes());
+        }
+    }
+
+    /**
+     * all: 모두 포함, any: 하나 이상 포함, none: 하나도 포함하지 않음 (예: 견과류 제외). 가격은 양 끝 포함.
+     */
+    public record Filter(Set<ProductAttribute> all, Set<ProductAttribute> any, Set<ProductAttribute> none,
+                         Integer minPrice, Integer maxPrice, Long categoryId) {
+        public Filter {
+            all = all == null ? Set.of() : Set.copyOf(all);
+            any = any == null ? Set.of() : Set.copyOf(any);
+            none = none == null ? Set.of() : Set.copyOf(none);
+        }
+    }
+
+    public record Result(List<Entry> entries, int total) {
+    }
+}
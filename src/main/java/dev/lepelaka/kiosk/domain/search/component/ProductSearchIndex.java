@@ -0,0 +1,208 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매 중인 상품의 메모리 역색인 (bigram -> 상품별 가중 빈도).
+ * - 점수: BM25 식 idf * 포화 빈도. 상품명 토큰은 설명보다 NAME_WEIGHT 배 가중
+ * - 질의 토큰의 MIN_COVERAGE 이상이 일치한 상품만 결과에 포함 (오타/띄어쓰기 차이 허용)
+ * - 상품명이 질의로 시작하거나 질의를 포함하면 추가 가중
+ * - 한 글자 질의("면", "콜")는 bigram 이 없으므로 그 글자를 포함한 색인 토큰들의 posting 을 합쳐 한 토큰처럼 계산
+ * 읽기는 동시에, 갱신(상품 단위 upsert/remove, 전체 교체)은 쓰기 잠금으로 처리한다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    private static final double MIN_COVERAGE = 0.5;
+    private static final double K1 = 1.2;
+    private static final double PREFIX_BOOST = 1.5;
+    private static final double CONTAINS_BOOST = 1.2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    public void replaceAll(Collection<Document> replacements) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            replacements.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Document document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Document> find(Long productId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(documents.get(productId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param categoryId null 이면 전체 카테고리
+     */
+    public List<Hit> search(String query, Long categoryId, int limit) {
+        String compactQuery = KoreanBigramTokenizer.compact(query);
+        Set<String> terms = new LinkedHashSet<>(KoreanBigramTokenizer.bigrams(compactQuery));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int total = documents.size();
+            Map<Long, Accumulator> accumulators = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = term.length() == 1 ? postingsContaining(term.charAt(0)) : postings.get(term);
+                if (posting == null || posting.isEmpty()) {
+                    continue;
+                }
+                double idf = Math.log(1 + (total - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    Accumulator accumulator = accumulators.computeIfAbsent(entry.getKey(), id -> new Accumulator());
+                    accumulator.matched++;
+                    accumulator.score += idf * frequency * (K1 + 1) / (frequency + K1);
+                }
+            }
+
+            int required = Math.max(1, (int) Math.ceil(terms.size() * MIN_COVERAGE));
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            for (Map.Entry<Long, Accumulator> entry : accumulators.entrySet()) {
+                Accumulator accumulator = entry.getValue();
+                if (accumulator.matched < required) {
+                    continue;
+                }
+                Document document = documents.get(entry.getKey());
+                if (categoryId != null && !categoryId.equals(document.categoryId())) {
+                    continue;
+                }
+                double coverage = (double) accumulator.matched / terms.size();
+                double score = accumulator.score * coverage * boost(document, compactQuery);
+                top.offer(new Hit(document, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(hit -> hit.document().id()));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 토큰 수(어휘 크기)만큼 훑는다. 메뉴 규모에서는 수천 개라 한 글자 질의에만 쓰기엔 충분히 싸다
+    private Map<Long, Integer> postingsContaining(char c) {
+        Map<Long, Integer> merged = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.entrySet()) {
+            if (entry.getKey().indexOf(c) >= 0) {
+                entry.getValue().forEach((id, frequency) -> merged.merge(id, frequency, Integer::sum));
+            }
+        }
+        return merged;
+    }
+
+    private static double boost(Document document, String compactQuery) {
+        if (document.compactName().startsWith(compactQuery)) {
+            return PREFIX_BOOST;
+        }
+        return document.compactName().contains(compactQuery) ? CONTAINS_BOOST : 1.0;
+    }
+
+    private void add(Document document) {
+        documents.put(document.id(), document);
+        document.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.id(), frequency));
+    }
+
+    private void removeInternal(Long productId) {
+        Document previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static final class Accumulator {
+        private int matched;
+        private double score;
+    }
+
+    public record Hit(Document document, double score) {
+    }
+
+    /**
+     * 색인 단위. termFrequencies 는 상품명 bigram 빈도 * NAME_WEIGHT + 설명 bigram 빈도.
+     */
+    public record Document(Long id, String name, int price, String imageUrl, Long categoryId,
+                           String compactName, Map<String, Integer> termFrequencies) {
+
+        public static Document of(Long id, String name, String description, int price, String imageUrl, Long categoryId) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            KoreanBigramTokenizer.tokenize(name).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+            KoreanBigramTokenizer.tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            return new Document(id, name, price, imageUrl, categoryId, KoreanBigramTokenizer.compact(name), Map.copyOf(frequencies));
+        }
+
+        public static Document from(Product product) {
+            return of(product.getId(), product.getName(), product.getDescription(), product.getPrice(),
+                    product.getImageUrl(), product.getCategory().getId());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.event.ProductChangedEvent;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.domain.statistics.component.SalesWindowCounter;
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidation;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 색인 / 필터 비트셋 / 자동완성 trie / 음성 매칭 색인(벡터, 자모 편집 거리) 동기화.
+ * - 기동 시: 활성 카테고리의 활성 상품 전체 색인
+ * - 상품 변경 커밋 후: 해당 상품만 다시 읽어 upsert/remove 하고 다른 노드에 알림
+ * - 카테고리 변경 커밋 후: 카테고리 활성 여부가 상품 노출에 영향을 주므로 전체 재색인
+ * - 주기적으로: 자동완성 정렬 기준(오늘 판매 수량) 갱신
+ */
+@Slf4j
+@Component
+public class ProductSearchIndexer {
+
+    static final String CHANNEL = "search:products";
+
+    private final ProductSearchIndex index;
+    private final ProductFilterIndex filterIndex;
+    private final ProductAutocomplete autocomplete;
+    private final MenuVectorIndex menuVectorIndex;
+    private final FuzzyMenuMatcher fuzzyMenuMatcher;
+    private final ProductRepository productRepository;
+    private final SalesWindowCounter salesWindowCounter;
+    private final CacheInvalidationBus bus;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ProductSearchIndexer(ProductSearchIndex index, ProductFilterIndex filterIndex, ProductAutocomplete autocomplete, MenuVectorIndex menuVectorIndex,
+                                FuzzyMenuMatcher fuzzyMenuMatcher, ProductRepository productRepository,
+                                SalesWindowCounter salesWindowCounter, CacheInvalidationBus bus) {
+        this.index = index;
+        this.filterIndex = filterIndex;
+        this.autocomplete = autocomplete;
+        this.menuVectorIndex = menuVectorIndex;
+        this.fuzzyMenuMatcher = fuzzyMenuMatcher;
+        this.productRepository = productRepository;
+        this.salesWindowCounter = salesWindowCounter;
+        this.bus = bus;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Product> products = productRepository.findAllActiveWithCategoryAndAttributes();
+        index.replaceAll(products.stream().map(ProductSearchIndex.Document::from).toList());
+        filterIndex.replaceAll(products.stream().map(ProductFilterIndex.Entry::from).toList());
+        Map<Long, String> names = products.stream().collect(Collectors.toMap(Product::getId, Product::getName));
+        autocomplete.replaceAll(names, salesWindowCounter.snapshot(SalesWindow.TODAY));
+        fuzzyMenuMatcher.replaceAll(names);
+        menuVectorIndex.replaceAll(products.stream().map(MenuVectorIndex.MenuText::from).toList());
+        log.info("Product search index built ({} products)", products.size());
+    }
+
+    @Scheduled(fixedDelayString = "${kiosk.search.popularity-refresh-interval:5m}", initialDelayString = "${kiosk.search.popularity-refresh-interval:5m}")
+    public void refreshPopularity() {
+        autocomplete.updatePopularity(salesWindowCounter.snapshot(SalesWindow.TODAY));
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        refresh(event.productId());
+        bus.publish(new CacheInvalidation(nodeId, CHANNEL, String.valueOf(event.productId())));
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild();
+        bus.publish(new CacheInvalidation(nodeId, CHANNEL, null));
+    }
+
+    void refresh(Long productId) {
+        productRepository.findAllWithCategoryAndAttributesByIdIn(List.of(productId)).stream()
+                .filter(product -> product.isActive() && product.getCategory().isActive())
+                .findFirst()
+                .ifPresentOrElse(product -> {
+                    index.upsert(ProductSearchIndex.Document.from(product));
+                    filterIndex.upsert(ProductFilterIndex.Entry.from(product));
+                    autocomplete.upsert(product.getId(), product.getName());
+                    menuVectorIndex.upsert(MenuVectorIndex.MenuText.from(product));
+                    fuzzyMenuMatcher.upsert(product.getId(), product.getName());
+                }, () -> {
+                    index.remove(productId);
+                    filterIndex.remove(productId);
+                    autocomplete.remove(productId);
+                    menuVectorIndex.remove(productId);
+                    fuzzyMenuMatcher.remove(productId);
+                });
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!CHANNEL.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        try {
+            if (invalidation.isClear()) {
+                rebuild();
+            } else {
+                refresh(Long.valueOf(invalidation.key()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply search index change from another node: {}", invalidation, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.lepelaka.kiosk.domain.search.controller;
+
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
+import dev.lepelaka.kiosk.domain.search.component.ProductFilterIndex;
+import dev.lepelaka.kiosk.domain.search.dto.ProductFilterResponse;
+import dev.lepelaka.kiosk.domain.search.dto.ProductSearchResponse;
+import dev.lepelaka.kiosk.domain.search.dto.ProductSuggestionResponse;
+import dev.lepelaka.kiosk.domain.search.service.ProductSearchService;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+@Tag(name = "검색 API", description = "상품 검색, 태그/가격 필터, 상품명 자동완성, 음성 메뉴 매칭 API")
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final ProductSearchService productSearchService;
+
+    @Operation(summary = "상품 검색", description = "판매 중인 상품을 상품명/설명으로 검색합니다. 띄어쓰기와 일부 오타는 무시하고 관련도 순으로 정렬합니다.")
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSearchResponse>> searchProducts(
+            @Parameter(description = "검색어", example = "아메리카노") @RequestParam("q") String query,
+            @Parameter(description = "카테고리 ID (생략 시 전체)", example = "1") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "조회 개수 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productSearchService.search(query, categoryId, limit));
+    }
+
+    @Operation(summary = "상품 필터", description = "태그/알레르기 성분, 가격, 카테고리 조건으로 판매 중인 상품을 조회합니다. 예: none=CONTAINS_NUTS&maxPrice=8000")
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<ProductFilterResponse>> filter(
+            @Parameter(description = "모두 포함해야 하는 태그", example = "VEGAN") @RequestParam(required = false) Set<ProductAttribute> all,
+            @Parameter(description = "하나 이상 포함해야 하는 태그", example = "SPICY") @RequestParam(required = false) Set<ProductAttribute> any,
+            @Parameter(description = "포함하면 안 되는 태그", example = "CONTAINS_NUTS") @RequestParam(required = false) Set<ProductAttribute> none,
+            @Parameter(description = "최소 가격 (포함)", example = "3000") @RequestParam(required = false) Integer minPrice,
+            @Parameter(description = "최대 가격 (포함)", example = "8000") @RequestParam(required = false) Integer maxPrice,
+            @Parameter(description = "카테고리 ID (생략 시 전체)", example = "1") @RequestParam(required = false) Long categoryId,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        ProductFilterIndex.Filter filter = new ProductFilterIndex.Filter(all, any, none, minPrice, maxPrice, categoryId);
+        return ResponseEntity.ok(productSearchService.filter(filter, pageable));
+    }
+
+    @Operation(summary = "상품명 자동완성", description = "입력한 접두어(음절 또는 초성, 예: 짜장 / ㅉㅈㅁ)로 시작하는 판매 중인 상품을 오늘 판매량 순으로 조회합니다.")
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<ProductSuggestionResponse>> suggest(
+            @Parameter(description = "입력 중인 검색어", example = "ㅉㅈ") @RequestParam("q") String query,
+            @Parameter(description = "조회 개수 (최대 10)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productSearchService.suggest(query, limit));
+    }
+
+    @Operation(summary = "음성 메뉴 매칭", description = "음성 인식(STT) 문장에서 주문하려는 상품 후보를 유사도 순으로 조회합니다. 외부 API 없이 서버 안의 벡터 색인과 자모 편집 거리 색인을 사용해 잘못 인식된 상품명(예: 짜장멘)도 찾습니다.")
+    @GetMapping("/voice")
+    public ResponseEntity<List<ProductSearchResponse>> matchVoice(
+            @Parameter(description = "음성 인식 문장", example = "짜장면 두 개 주세요") @RequestParam("transcript") String transcript,
+            @Parameter(description = "조회 개수 (최대 50)", example = "5") @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(productSearchService.matchVoice(transcript, limit));
+    }
+}
@@ -0,0 +1,34 @@
+package dev.lepelaka.kiosk.domain.search.dto;
+
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
+import dev.lepelaka.kiosk.domain.search.component.ProductFilterIndex;
+import dev.lepelaka.kiosk.domain.search.component.ProductSearchIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Set;
+
+@Schema(description = "상품 필터 결과 DTO")
+public record ProductFilterResponse(
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "상품명", example = "비건 샌드위치")
+        String name,
+
+        @Schema(description = "가격", example = "6500")
+        int price,
+
+        @Schema(description = "이미지 URL")
+        String imageUrl,
+
+        @Schema(description = "카테고리 ID", example = "1")
+        Long categoryId,
+
+        @Schema(description = "태그/알레르기 성분", example = "[VEGAN]")
+        Set<ProductAttribute> attributes
+) {
+    public static ProductFilterResponse of(ProductFilterIndex.Entry entry, ProductSearchIndex.Document document) {
+        return new ProductFilterResponse(entry.productId(), document.name(), entry.price(), document.imageUrl(),
+                entry.categoryId(), entry.attributes());
+    }
+}
@@ -0,0 +1,34 @@
+package dev.lepelaka.kiosk.domain.search.dto;
+
+import dev.lepelaka.kiosk.domain.search.component.ProductSearchIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품 검색 결과 DTO")
+public record ProductSearchResponse(
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "상품명", example = "아이스 아메리카노")
+        String name,
+
+        @Schema(description = "가격", example = "4500")
+        int price,
+
+        @Schema(description = "이미지 URL")
+        String imageUrl,
+
+        @Schema(description = "카테고리 ID", example = "1")
+        Long categoryId,
+
+        @Schema(description = "검색 점수 (높을수록 관련도 높음, 음성 매칭은 코사인 유사도)", example = "3.2")
+        double score
+) {
+    public static ProductSearchResponse from(ProductSearchIndex.Hit hit) {
+        return of(hit.document(), hit.score());
+    }
+
+    public static ProductSearchResponse of(ProductSearchIndex.Document document, double score) {
+        return new ProductSearchResponse(document.id(), document.name(), document.price(), document.imageUrl(),
+                document.categoryId(), score);
+    }
+}
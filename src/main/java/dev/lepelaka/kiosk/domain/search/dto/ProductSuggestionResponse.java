@@ -0,0 +1,20 @@
+package dev.lepelaka.kiosk.domain.search.dto;
+
+import dev.lepelaka.kiosk.domain.search.component.ProductAutocomplete;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "상품명 자동완성 DTO")
+public record ProductSuggestionResponse(
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "상품명", example = "짜장면")
+        String name,
+
+        @Schema(description = "오늘 판매 수량 (정렬 기준)", example = "42")
+        long popularity
+) {
+    public static ProductSuggestionResponse from(ProductAutocomplete.Suggestion suggestion) {
+        return new ProductSuggestionResponse(suggestion.productId(), suggestion.name(), suggestion.popularity());
+    }
+}
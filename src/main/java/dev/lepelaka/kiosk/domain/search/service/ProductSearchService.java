@@ -0,0 +1,92 @@
+package dev.lepelaka.kiosk.domain.search.service;
+
+import dev.lepelaka.kiosk.domain.search.component.FuzzyMenuMatcher;
+import dev.lepelaka.kiosk.domain.search.component.HnswIndex;
+import dev.lepelaka.kiosk.domain.search.component.MenuVectorIndex;
+import dev.lepelaka.kiosk.domain.search.component.ProductAutocomplete;
+import dev.lepelaka.kiosk.domain.search.component.ProductFilterIndex;
+import dev.lepelaka.kiosk.domain.search.component.ProductSearchIndex;
+import dev.lepelaka.kiosk.domain.search.dto.ProductFilterResponse;
+import dev.lepelaka.kiosk.domain.search.dto.ProductSearchResponse;
+import dev.lepelaka.kiosk.domain.search.dto.ProductSuggestionResponse;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    static final int MAX_LIMIT = 50;
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFilterIndex productFilterIndex;
+    private final ProductAutocomplete productAutocomplete;
+    private final MenuVectorIndex menuVectorIndex;
+    private final FuzzyMenuMatcher fuzzyMenuMatcher;
+
+    public List<ProductSearchResponse> search(String query, Long categoryId, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return productSearchIndex.search(query, categoryId, Math.clamp(limit, 1, MAX_LIMIT)).stream()
+                .map(ProductSearchResponse::from)
+                .toList();
+    }
+
+    public List<ProductSuggestionResponse> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return productAutocomplete.suggest(query, Math.clamp(limit, 1, ProductAutocomplete.TOP_K)).stream()
+                .map(ProductSuggestionResponse::from)
+                .toList();
+    }
+
+    /**
+     * 태그/가격/카테고리 조건으로 판매 중인 상품을 비트셋 색인에서 바로 거른다 (DB 조회 없음).
+     * 상품명/이미지는 검색 색인에서 채우며, 순간적으로 검색 색인에 없는 상품은 페이지에서 빠진다.
+     */
+    public PageResponse<ProductFilterResponse> filter(ProductFilterIndex.Filter filter, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.clamp(pageable.getPageSize(), 1, MAX_LIMIT));
+        ProductFilterIndex.Result result = productFilterIndex.filter(filter, (int) Math.min(page.getOffset(), Integer.MAX_VALUE), page.getPageSize());
+        List<ProductFilterResponse> content = result.entries().stream()
+                .flatMap(entry -> productSearchIndex.find(entry.productId())
+                        .map(document -> ProductFilterResponse.of(entry, document))
+                        .stream())
+                .toList();
+        return PageResponse.from(new PageImpl<>(content, page, result.total()));
+    }
+
+    /**
+     * 벡터 색인(n-gram 유사도)과 자모 편집 거리 후보를 합쳐 상품마다 높은 쪽 점수로 정렬한다.
+     * 두 색인과 검색 색인은 같은 변경 이벤트로 갱신되지만 순간적으로 어긋날 수 있어 검색 색인에 없는 상품은 뺀다.
+     */
+    public List<ProductSearchResponse> matchVoice(String transcript, int limit) {
+        if (transcript == null || transcript.isBlank()) {
+            return List.of();
+        }
+        int size = Math.clamp(limit, 1, MAX_LIMIT);
+        Map<Long, Double> scores = new HashMap<>();
+        for (HnswIndex.Neighbor neighbor : menuVectorIndex.match(transcript, size)) {
+            scores.merge(neighbor.id(), neighbor.similarity(), Math::max);
+        }
+        for (FuzzyMenuMatcher.Candidate candidate : fuzzyMenuMatcher.match(transcript, size)) {
+            scores.merge(candidate.productId(), candidate.similarity(), Math::max);
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .flatMap(entry -> productSearchIndex.find(entry.getKey())
+                        .map(document -> ProductSearchResponse.of(document, entry.getValue()))
+                        .stream())
+                .limit(size)
+                .toList();
+    }
+}
@@ -0,0 +1,104 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import java.util.Arrays;
+
+/**
+ * long -> long 누적용 오픈 어드레싱 해시맵 (박싱 없는 정산 집계용).
+ * - 키 0 은 빈 슬롯 표시로 사용하므로 저장할 수 없다 (DB IDENTITY 키는 1부터 시작)
+ * - 단일 스레드 전용. 단말기 작업마다 별도 인스턴스를 사용한다.
+ */
+public final class LongLongMap {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    public LongLongMap() {
+        this(64);
+    }
+
+    public LongLongMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public void addTo(long key, long delta) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+        int index = indexOf(key);
+        if (keys[index] == 0) {
+            keys[index] = key;
+            values[index] = delta;
+            if (++size > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+            return;
+        }
+        values[index] += delta;
+    }
+
+    public long get(long key) {
+        if (key == 0) {
+            return 0;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        size = 0;
+    }
+
+    public void forEach(Entry consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != 0 && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new long[oldValues.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface Entry {
+        void accept(long key, long value);
+    }
+}
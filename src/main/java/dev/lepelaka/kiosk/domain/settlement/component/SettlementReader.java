@@ -0,0 +1,83 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정산 원천 데이터 청크 조회 (JDBC, 엔티티 미생성).
+ * - orders.id 기준 keyset 페이징: "id > 마지막 처리 ID" 로 이어 읽기 때문에 OFFSET 비용이 없다
+ * - 행은 RowCallbackHandler 로 바로 집계에 흘려보내 리스트를 만들지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementReader {
+
+    private static final String SETTLED_STATUSES = "('CONFIRMED', 'COMPLETED')";
+
+    private static final String TERMINALS_SQL = """
+            select distinct o.terminal_id
+              from orders o
+             where o.created_at >= ? and o.created_at < ?
+               and o.status in %s
+             order by o.terminal_id
+            """.formatted(SETTLED_STATUSES);
+
+    private static final String ORDERS_SQL = """
+            select o.id, o.total_amount, p.method, p.amount
+              from orders o
+              left join payment p on p.order_id = o.id and p.status = 'COMPLETED'
+             where o.terminal_id = ?
+               and o.created_at >= ? and o.created_at < ?
+               and o.status in %s
+               and o.id > ?
+             order by o.id
+             limit ?
+            """.formatted(SETTLED_STATUSES);
+
+    private static final String ITEMS_SQL = """
+            select oi.product_id, oi.quantity, oi.price
+              from order_item oi
+              join orders o on o.id = oi.order_id
+             where o.terminal_id = ?
+               and o.created_at >= ? and o.created_at < ?
+               and o.status in %s
+               and o.id > ? and o.id <= ?
+            """.formatted(SETTLED_STATUSES);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findTerminalIds(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForList(TERMINALS_SQL, Long.class, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * afterOrderId 다음 주문부터 최대 limit 건을 집계에 반영한다.
+     */
+    public Chunk readOrders(long terminalId, LocalDateTime from, LocalDateTime to, long afterOrderId, int limit, TerminalAggregate aggregate) {
+        long[] last = {afterOrderId};
+        int[] rows = {0};
+        jdbcTemplate.query(ORDERS_SQL, rs -> {
+            last[0] = rs.getLong(1);
+            rows[0]++;
+            aggregate.addOrder(rs.getLong(2), rs.getString(3), rs.getLong(4));
+        }, terminalId, Timestamp.valueOf(from), Timestamp.valueOf(to), afterOrderId, limit);
+        return new Chunk(rows[0], last[0]);
+    }
+
+    /**
+     * (afterOrderId, toOrderId] 구간 주문의 주문 상품을 집계에 반영한다.
+     */
+    public void readItems(long terminalId, LocalDateTime from, LocalDateTime to, long afterOrderId, long toOrderId, TerminalAggregate aggregate) {
+        jdbcTemplate.query(ITEMS_SQL, rs -> {
+            aggregate.addItem(rs.getLong(1), rs.getInt(2), rs.getInt(3));
+        }, terminalId, Timestamp.valueOf(from), Timestamp.valueOf(to), afterOrderId, toOrderId);
+    }
+
+    public record Chunk(int rows, long lastOrderId) {
+    }
+}
@@ -0,0 +1,31 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import dev.lepelaka.kiosk.domain.settlement.service.SettlementService;
+import dev.lepelaka.kiosk.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 영업 마감 후 전일 정산 자동 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementScheduler {
+
+    private final SettlementService settlementService;
+
+    @Scheduled(cron = "${kiosk.settlement.cron:0 10 0 * * *}")
+    public void settleYesterday() {
+        LocalDate businessDate = LocalDate.now().minusDays(1);
+        try {
+            settlementService.settle(businessDate);
+        } catch (BusinessException e) {
+            log.warn("Scheduled settlement for {} did not finish [{}] : {}", businessDate, e.getErrorCode().getCode(), e.getMessage());
+        }
+    }
+}
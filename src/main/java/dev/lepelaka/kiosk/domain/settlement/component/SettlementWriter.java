@@ -0,0 +1,57 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 청크 단위 정산 결과 저장.
+ * 단말기의 집계 행 교체와 체크포인트 갱신을 한 트랜잭션으로 묶어, 중간에 죽어도 "저장된 집계 = 체크포인트까지의 합" 이 항상 성립한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementWriter {
+
+    private static final String DELETE_LINES_SQL = "delete from settlement_line where business_date = ? and terminal_id = ?";
+    private static final String INSERT_LINE_SQL = """
+            insert into settlement_line (business_date, terminal_id, dimension, dimension_key, item_count, amount)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_CHECKPOINT_SQL = """
+            update settlement_checkpoint
+               set last_order_id = ?, completed = ?, updated_at = ?
+             where business_date = ? and terminal_id = ?
+            """;
+    private static final String INSERT_CHECKPOINT_SQL = """
+            insert into settlement_checkpoint (business_date, terminal_id, last_order_id, completed, updated_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public void flush(LocalDate businessDate, TerminalAggregate aggregate, long lastOrderId, boolean completed) {
+        Date date = Date.valueOf(businessDate);
+        long terminalId = aggregate.getTerminalId();
+        List<Object[]> rows = aggregate.toRows().stream()
+                .map(row -> new Object[]{date, terminalId, row.dimension().name(), row.key(), row.count(), row.amount()})
+                .toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_LINES_SQL, date, terminalId);
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, rows);
+            int updated = jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastOrderId, completed, now, date, terminalId);
+            if (updated == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, date, terminalId, lastOrderId, completed, now);
+            }
+        });
+    }
+}
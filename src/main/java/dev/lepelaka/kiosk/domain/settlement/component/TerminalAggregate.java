@@ -0,0 +1,114 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import dev.lepelaka.kiosk.domain.payment.entity.enums.PaymentMethod;
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementLine;
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementDimension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 단말기 1대의 정산 누적 상태. 결제수단은 ordinal 배열, 상품은 LongLongMap 으로 박싱 없이 누적한다.
+ */
+public final class TerminalAggregate {
+
+    static final String NO_PAYMENT = "NONE";
+    static final String MISMATCH_KEY = "ORDER";
+
+    private static final PaymentMethod[] METHODS = PaymentMethod.values();
+
+    private final long terminalId;
+    private long orderCount;
+    private long orderAmount;
+    private final long[] methodCount = new long[METHODS.length + 1];   // 마지막 칸: 미결제(NONE)
+    private final long[] methodAmount = new long[METHODS.length + 1];
+    private long mismatchCount;
+    private long mismatchAmount;
+    private final LongLongMap productQuantity = new LongLongMap(256);
+    private final LongLongMap productAmount = new LongLongMap(256);
+
+    public TerminalAggregate(long terminalId) {
+        this.terminalId = terminalId;
+    }
+
+    /**
+     * 이전 실행에서 저장된 집계 행으로 상태 복원 (체크포인트 이후부터 이어서 누적)
+     */
+    public static TerminalAggregate restore(long terminalId, List<SettlementLine> lines) {
+        TerminalAggregate aggregate = new TerminalAggregate(terminalId);
+        for (SettlementLine line : lines) {
+            switch (line.getDimension()) {
+                case TERMINAL -> {
+                    aggregate.orderCount = line.getItemCount();
+                    aggregate.orderAmount = line.getAmount();
+                }
+                case PAYMENT_METHOD -> {
+                    int slot = methodSlot(line.getDimensionKey());
+                    aggregate.methodCount[slot] = line.getItemCount();
+                    aggregate.methodAmount[slot] = line.getAmount();
+                }
+                case PRODUCT -> {
+                    long productId = Long.parseLong(line.getDimensionKey());
+                    aggregate.productQuantity.addTo(productId, line.getItemCount());
+                    aggregate.productAmount.addTo(productId, line.getAmount());
+                }
+                case MISMATCH -> {
+                    aggregate.mismatchCount = line.getItemCount();
+                    aggregate.mismatchAmount = line.getAmount();
+                }
+            }
+        }
+        return aggregate;
+    }
+
+    /**
+     * @param method 완료된 결제의 결제수단. 결제가 없으면 null
+     * @param paid   완료된 결제 금액. 결제가 없으면 0
+     */
+    public void addOrder(long totalAmount, String method, long paid) {
+        orderCount++;
+        orderAmount += totalAmount;
+
+        int slot = method == null ? METHODS.length : methodSlot(method);
+        methodCount[slot]++;
+        methodAmount[slot] += paid;
+
+        if (method == null || paid != totalAmount) {
+            mismatchCount++;
+            mismatchAmount += totalAmount - paid;
+        }
+    }
+
+    public void addItem(long productId, int quantity, int price) {
+        productQuantity.addTo(productId, quantity);
+        productAmount.addTo(productId, (long) quantity * price);
+    }
+
+    public List<LineRow> toRows() {
+        List<LineRow> rows = new ArrayList<>(productQuantity.size() + METHODS.length + 3);
+        rows.add(new LineRow(SettlementDimension.TERMINAL, String.valueOf(terminalId), orderCount, orderAmount));
+        for (int i = 0; i <= METHODS.length; i++) {
+            if (methodCount[i] > 0) {
+                String key = i == METHODS.length ? NO_PAYMENT : METHODS[i].name();
+                rows.add(new LineRow(SettlementDimension.PAYMENT_METHOD, key, methodCount[i], methodAmount[i]));
+            }
+        }
+        if (mismatchCount > 0) {
+            rows.add(new LineRow(SettlementDimension.MISMATCH, MISMATCH_KEY, mismatchCount, mismatchAmount));
+        }
+        productQuantity.forEach((productId, quantity) ->
+                rows.add(new LineRow(SettlementDimension.PRODUCT, String.valueOf(productId), quantity, productAmount.get(productId))));
+        return rows;
+    }
+
+    public long getTerminalId() {
+        return terminalId;
+    }
+
+    private static int methodSlot(String method) {
+        return NO_PAYMENT.equals(method) ? METHODS.length : PaymentMethod.valueOf(method).ordinal();
+    }
+
+    public record LineRow(SettlementDimension dimension, String key, long count, long amount) {
+    }
+}
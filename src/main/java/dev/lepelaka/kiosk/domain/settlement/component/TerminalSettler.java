@@ -0,0 +1,50 @@
+package dev.lepelaka.kiosk.domain.settlement.component;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementCheckpoint;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementLineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 단말기 1대의 정산을 청크 단위로 수행한다. 체크포인트가 있으면 그 이후 주문부터 재개.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TerminalSettler {
+
+    private final SettlementReader reader;
+    private final SettlementWriter writer;
+    private final SettlementLineRepository lineRepository;
+
+    public void settle(LocalDate businessDate, long terminalId, SettlementCheckpoint checkpoint, int chunkSize) {
+        if (checkpoint != null && checkpoint.isCompleted()) {
+            return;
+        }
+        LocalDateTime from = businessDate.atStartOfDay();
+        LocalDateTime to = businessDate.plusDays(1).atStartOfDay();
+
+        long lastOrderId = checkpoint != null ? checkpoint.getLastOrderId() : 0L;
+        TerminalAggregate aggregate = lastOrderId > 0
+                ? TerminalAggregate.restore(terminalId, lineRepository.findByBusinessDateAndTerminalId(businessDate, terminalId))
+                : new TerminalAggregate(terminalId);
+
+        while (true) {
+            SettlementReader.Chunk chunk = reader.readOrders(terminalId, from, to, lastOrderId, chunkSize, aggregate);
+            if (chunk.rows() > 0) {
+                reader.readItems(terminalId, from, to, lastOrderId, chunk.lastOrderId(), aggregate);
+            }
+            boolean completed = chunk.rows() < chunkSize;
+            writer.flush(businessDate, aggregate, chunk.lastOrderId(), completed);
+            lastOrderId = chunk.lastOrderId();
+            if (completed) {
+                break;
+            }
+        }
+        log.debug("Terminal {} settled for {} (last order {})", terminalId, businessDate, lastOrderId);
+    }
+}
@@ -0,0 +1,39 @@
+package dev.lepelaka.kiosk.domain.settlement.controller;
+
+import dev.lepelaka.kiosk.domain.settlement.dto.SettlementResponse;
+import dev.lepelaka.kiosk.domain.settlement.service.SettlementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "정산 API", description = "일 마감 정산 실행 및 조회 API")
+@RestController
+@RequestMapping("/api/v1/settlements")
+@RequiredArgsConstructor
+public class SettlementController {
+    private final SettlementService settlementService;
+
+    @Operation(summary = "일 마감 정산 실행", description = "영업일의 단말기/결제수단/상품별 정산을 실행합니다. 중단된 정산은 이어서 처리합니다.")
+    @ApiResponse(responseCode = "200", description = "정산 완료")
+    @ApiResponse(responseCode = "409", description = "이미 정산이 진행중")
+    @PostMapping("/{businessDate}")
+    public ResponseEntity<SettlementResponse> settle(
+            @Parameter(description = "영업일", example = "2026-10-19") @PathVariable("businessDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(settlementService.settle(businessDate));
+    }
+
+    @Operation(summary = "정산 결과 조회", description = "영업일의 정산 결과를 조회합니다.")
+    @ApiResponse(responseCode = "404", description = "정산 내역이 없음")
+    @GetMapping("/{businessDate}")
+    public ResponseEntity<SettlementResponse> get(
+            @Parameter(description = "영업일", example = "2026-10-19") @PathVariable("businessDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(settlementService.get(businessDate));
+    }
+}
@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.domain.settlement.dto;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementDimension;
+
+public record SettlementLineResponse(
+        SettlementDimension dimension,
+        String key,
+        long count,
+        long amount
+) {
+}
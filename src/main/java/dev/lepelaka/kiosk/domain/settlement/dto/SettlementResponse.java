@@ -0,0 +1,51 @@
+package dev.lepelaka.kiosk.domain.settlement.dto;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.Settlement;
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "일 마감 정산 응답 DTO")
+public record SettlementResponse(
+        @Schema(description = "영업일", example = "2026-10-19")
+        LocalDate businessDate,
+        @Schema(description = "정산 상태", example = "COMPLETED")
+        SettlementStatus status,
+        @Schema(description = "정산 대상 주문 수")
+        long orderCount,
+        @Schema(description = "주문 총액")
+        long orderAmount,
+        @Schema(description = "완료된 결제 총액")
+        long paymentAmount,
+        @Schema(description = "주문액과 결제액이 맞지 않는 주문 수")
+        long mismatchCount,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        @Schema(description = "단말기별 합계")
+        List<SettlementLineResponse> terminals,
+        @Schema(description = "결제수단별 합계")
+        List<SettlementLineResponse> paymentMethods,
+        @Schema(description = "상품별 합계")
+        List<SettlementLineResponse> products
+) {
+    public static SettlementResponse of(Settlement settlement,
+                                        List<SettlementLineResponse> terminals,
+                                        List<SettlementLineResponse> paymentMethods,
+                                        List<SettlementLineResponse> products) {
+        return new SettlementResponse(
+                settlement.getBusinessDate(),
+                settlement.getStatus(),
+                settlement.getOrderCount(),
+                settlement.getOrderAmount(),
+                settlement.getPaymentAmount(),
+                settlement.getMismatchCount(),
+                settlement.getStartedAt(),
+                settlement.getCompletedAt(),
+                terminals,
+                paymentMethods,
+                products);
+    }
+}
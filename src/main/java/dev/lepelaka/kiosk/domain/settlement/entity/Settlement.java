@@ -0,0 +1,91 @@
+package dev.lepelaka.kiosk.domain.settlement.entity;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementStatus;
+import dev.lepelaka.kiosk.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 영업일 정산. 영업일마다 한 행(unique)이라 노드 간 실행 잠금으로도 쓴다.
+ * - 실행하는 쪽이 runToken 을 기록하고 단말기마다 heartbeatAt 을 갱신한다
+ * - RUNNING 이어도 heartbeatAt 이 lease 보다 오래됐으면(실행 노드 장애) 다른 실행이 이어받는다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class Settlement extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SettlementStatus status;
+
+    private long orderCount;
+    private long orderAmount;
+    private long paymentAmount;
+    private long mismatchCount;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    @Column(length = 36)
+    private String runToken;
+    private LocalDateTime heartbeatAt;
+
+    @Builder
+    public Settlement(LocalDate businessDate) {
+        this.businessDate = businessDate;
+        this.status = SettlementStatus.RUNNING;
+    }
+
+    public boolean isCompleted() {
+        return status == SettlementStatus.COMPLETED;
+    }
+
+    /**
+     * 실행 권한을 가져온다. 다른 실행이 lease 안에 살아 있으면 false.
+     */
+    public boolean tryClaim(String token, LocalDateTime now, Duration lease) {
+        if (status == SettlementStatus.RUNNING && runToken != null && heartbeatAt != null
+                && heartbeatAt.plus(lease).isAfter(now)) {
+            return false;
+        }
+        status = SettlementStatus.RUNNING;
+        runToken = token;
+        startedAt = now;
+        heartbeatAt = now;
+        completedAt = null;
+        return true;
+    }
+
+    public boolean isOwnedBy(String token) {
+        return status == SettlementStatus.RUNNING && token.equals(runToken);
+    }
+
+    public void complete(long orderCount, long orderAmount, long paymentAmount, long mismatchCount, LocalDateTime now) {
+        this.orderCount = orderCount;
+        this.orderAmount = orderAmount;
+        this.paymentAmount = paymentAmount;
+        this.mismatchCount = mismatchCount;
+        this.status = SettlementStatus.COMPLETED;
+        this.completedAt = now;
+        this.runToken = null;
+    }
+
+    public void fail() {
+        status = SettlementStatus.FAILED;
+        runToken = null;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.lepelaka.kiosk.domain.settlement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 단말기별 정산 진행 위치. 집계 행과 같은 트랜잭션에서 갱신되어 재시작 시 lastOrderId 이후부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Table(name = "settlement_checkpoint",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_checkpoint", columnNames = {"business_date", "terminal_id"}))
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class SettlementCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "terminal_id", nullable = false)
+    private Long terminalId;
+
+    @Column(name = "last_order_id", nullable = false)
+    private long lastOrderId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package dev.lepelaka.kiosk.domain.settlement.entity;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 단말기 단위 정산 집계 행. 청크마다 SettlementWriter 가 JDBC 배치로 통째 교체하므로 BaseEntity 를 상속하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+@Table(name = "settlement_line",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_line", columnNames = {"business_date", "terminal_id", "dimension", "dimension_key"}),
+        indexes = @Index(name = "idx_settlement_line_date_dimension", columnList = "business_date, dimension"))
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class SettlementLine {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "terminal_id", nullable = false)
+    private Long terminalId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private SettlementDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 50)
+    private String dimensionKey;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+}
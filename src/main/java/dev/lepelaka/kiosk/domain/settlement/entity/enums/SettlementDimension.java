@@ -0,0 +1,15 @@
+package dev.lepelaka.kiosk.domain.settlement.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementDimension {
+    TERMINAL("단말기별"),          // key: terminalId, count: 주문 수, amount: 주문 총액
+    PAYMENT_METHOD("결제수단별"),   // key: PaymentMethod(미결제는 NONE), count: 결제 건수, amount: 결제 금액
+    PRODUCT("상품별"),             // key: productId, count: 판매 수량, amount: 판매 금액
+    MISMATCH("결제 불일치");        // key: ORDER, count: 불일치 주문 수, amount: 주문액 - 결제액
+
+    private final String description;
+}
@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.domain.settlement.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SettlementStatus {
+    RUNNING("정산중"), COMPLETED("완료"), FAILED("실패");
+    private final String description;
+}
@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.settlement.exception;
+
+import dev.lepelaka.kiosk.global.exception.BusinessException;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class SettlementException extends BusinessException {
+    public SettlementException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    protected SettlementException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.lepelaka.kiosk.domain.settlement.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class SettlementFailedException extends SettlementException {
+    public SettlementFailedException(Throwable cause) {
+        super(ErrorCode.SETTLEMENT_FAILED, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.lepelaka.kiosk.domain.settlement.exception;
+
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+import java.time.LocalDate;
+
+public class SettlementNotFoundException extends SettlementException {
+    private final LocalDate businessDate;
+
+    public SettlementNotFoundException(LocalDate businessDate) {
+        super(ErrorCode.SETTLEMENT_NOT_FOUND);
+        this.businessDate = businessDate;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (영업일 : %s)", super.getMessage(), businessDate);
+    }
+}
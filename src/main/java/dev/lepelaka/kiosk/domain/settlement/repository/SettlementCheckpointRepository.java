@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.domain.settlement.repository;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, Long> {
+    List<SettlementCheckpoint> findByBusinessDate(LocalDate businessDate);
+}
@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.settlement.repository;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementLine;
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SettlementLineRepository extends JpaRepository<SettlementLine, Long> {
+    List<SettlementLine> findByBusinessDateAndTerminalId(LocalDate businessDate, Long terminalId);
+
+    List<SettlementLine> findByBusinessDateAndDimension(LocalDate businessDate, SettlementDimension dimension);
+}
@@ -0,0 +1,26 @@
+package dev.lepelaka.kiosk.domain.settlement.repository;
+
+import dev.lepelaka.kiosk.domain.settlement.entity.Settlement;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface SettlementRepository extends JpaRepository<Settlement, Long> {
+    Optional<Settlement> findByBusinessDate(LocalDate businessDate);
+
+    // 실행 권한 확인/획득은 행 잠금 후 (노드 간 동시 실행 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Settlement s where s.businessDate = :businessDate")
+    Optional<Settlement> findByBusinessDateWithPessimisticLock(LocalDate businessDate);
+
+    // 실행 권한을 잃었으면(lease 만료 후 다른 실행이 이어받음) 0
+    @Modifying
+    @Query("update Settlement s set s.heartbeatAt = :now where s.businessDate = :businessDate and s.runToken = :runToken")
+    int heartbeat(LocalDate businessDate, String runToken, LocalDateTime now);
+}
@@ -0,0 +1,203 @@
+package dev.lepelaka.kiosk.domain.settlement.service;
+
+import dev.lepelaka.kiosk.domain.settlement.component.SettlementReader;
+import dev.lepelaka.kiosk.domain.settlement.component.TerminalSettler;
+import dev.lepelaka.kiosk.domain.settlement.dto.SettlementLineResponse;
+import dev.lepelaka.kiosk.domain.settlement.dto.SettlementResponse;
+import dev.lepelaka.kiosk.domain.settlement.entity.Settlement;
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementCheckpoint;
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementLine;
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementDimension;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementFailedException;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementInProgressException;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementNotFoundException;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementCheckpointRepository;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementLineRepository;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SettlementService {
+    private final SettlementRepository settlementRepository;
+    private final SettlementLineRepository lineRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final SettlementReader reader;
+    private final TerminalSettler terminalSettler;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${kiosk.settlement.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${kiosk.settlement.parallelism:4}")
+    private int parallelism;
+
+    // 실행 노드가 단말기 하나를 정산하는 동안 heartbeat 가 없어도 되는 시간. 지나면 다른 실행이 이어받는다
+    @Value("${kiosk.settlement.lease:10m}")
+    private Duration lease;
+
+    /**
+     * 영업일 정산 실행. 단말기 단위로 fork/join 병렬 처리하며, 이전 실행이 중단됐다면 체크포인트부터 재개한다.
+     * 청크마다 자체 트랜잭션으로 커밋하므로 메서드 전체는 트랜잭션 밖에서 실행한다.
+     * 여러 노드의 스케줄러가 동시에 불러도 정산 행의 실행 권한(runToken)을 얻은 한 곳만 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SettlementResponse settle(LocalDate businessDate) {
+        String runToken = UUID.randomUUID().toString();
+        if (!claim(businessDate, runToken)) {
+            return get(businessDate); // 이미 완료
+        }
+        run(businessDate, runToken);
+        finish(businessDate, runToken);
+        return get(businessDate);
+    }
+
+    public SettlementResponse get(LocalDate businessDate) {
+        Settlement settlement = settlementRepository.findByBusinessDate(businessDate)
+                .orElseThrow(() -> new SettlementNotFoundException(businessDate));
+        return SettlementResponse.of(settlement,
+                lines(businessDate, SettlementDimension.TERMINAL),
+                lines(businessDate, SettlementDimension.PAYMENT_METHOD),
+                lines(businessDate, SettlementDimension.PRODUCT));
+    }
+
+    /**
+     * 실행 권한 획득. 완료된 정산이면 false, 다른 실행이 살아 있으면 SettlementInProgressException.
+     * 정산 행이 없으면 만들며, 두 노드가 동시에 만들면 unique 제약에 걸린 쪽이 진행 중으로 본다.
+     */
+    private boolean claim(LocalDate businessDate, String runToken) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Settlement settlement = settlementRepository.findByBusinessDateWithPessimisticLock(businessDate)
+                        .orElseGet(() -> settlementRepository.saveAndFlush(Settlement.builder().businessDate(businessDate).build()));
+                if (settlement.isCompleted()) {
+                    return false;
+                }
+                if (!settlement.tryClaim(runToken, LocalDateTime.now(), lease)) {
+                    throw new SettlementInProgressException(businessDate);
+                }
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            throw new SettlementInProgressException(businessDate);
+        }
+    }
+
+    private void run(LocalDate businessDate, String runToken) {
+        List<Long> terminalIds = reader.findTerminalIds(businessDate.atStartOfDay(), businessDate.plusDays(1).atStartOfDay());
+        Map<Long, SettlementCheckpoint> checkpoints = checkpointRepository.findByBusinessDate(businessDate).stream()
+                .collect(Collectors.toMap(SettlementCheckpoint::getTerminalId, Function.identity()));
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            pool.invoke(new TerminalBatch(terminalIds, 0, terminalIds.size(), id -> {
+                terminalSettler.settle(businessDate, id, checkpoints.get(id), chunkSize);
+                heartbeat(businessDate, runToken);
+            }));
+        } catch (SettlementInProgressException e) {
+            throw e; // 권한을 잃음: 이어받은 실행이 상태를 관리한다
+        } catch (RuntimeException e) {
+            log.error("Settlement failed for {}. Completed chunks are kept and will resume on next run.", businessDate, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    settlementRepository.findByBusinessDateWithPessimisticLock(businessDate)
+                            .filter(settlement -> settlement.isOwnedBy(runToken))
+                            .ifPresent(Settlement::fail));
+            throw new SettlementFailedException(e);
+        } finally {
+            pool.close(); // 이미 시작된 단말기 작업이 끝날 때까지 기다린다 (다음 실행과 겹치지 않도록)
+        }
+    }
+
+    private void heartbeat(LocalDate businessDate, String runToken) {
+        Integer updated = transactionTemplate.execute(status ->
+                settlementRepository.heartbeat(businessDate, runToken, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            throw new SettlementInProgressException(businessDate);
+        }
+    }
+
+    private void finish(LocalDate businessDate, String runToken) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Settlement settlement = settlementRepository.findByBusinessDateWithPessimisticLock(businessDate)
+                    .orElseThrow(() -> new SettlementNotFoundException(businessDate));
+            if (!settlement.isOwnedBy(runToken)) {
+                throw new SettlementInProgressException(businessDate);
+            }
+            long orderCount = 0, orderAmount = 0, paymentAmount = 0, mismatchCount = 0;
+            for (SettlementLine line : lineRepository.findByBusinessDateAndDimension(businessDate, SettlementDimension.TERMINAL)) {
+                orderCount += line.getItemCount();
+                orderAmount += line.getAmount();
+            }
+            for (SettlementLine line : lineRepository.findByBusinessDateAndDimension(businessDate, SettlementDimension.PAYMENT_METHOD)) {
+                paymentAmount += line.getAmount();
+            }
+            for (SettlementLine line : lineRepository.findByBusinessDateAndDimension(businessDate, SettlementDimension.MISMATCH)) {
+                mismatchCount += line.getItemCount();
+            }
+            settlement.complete(orderCount, orderAmount, paymentAmount, mismatchCount, LocalDateTime.now());
+        });
+    }
+
+    // 단말기별 행을 키 기준으로 합산 (상품/결제수단은 여러 단말기에 걸쳐 있음)
+    private List<SettlementLineResponse> lines(LocalDate businessDate, SettlementDimension dimension) {
+        Map<String, long[]> merged = lineRepository.findByBusinessDateAndDimension(businessDate, dimension).stream()
+                .collect(Collectors.toMap(SettlementLine::getDimensionKey,
+                        line -> new long[]{line.getItemCount(), line.getAmount()},
+                        (a, b) -> new long[]{a[0] + b[0], a[1] + b[1]}));
+        return merged.entrySet().stream()
+                .map(e -> new SettlementLineResponse(dimension, e.getKey(), e.getValue()[0], e.getValue()[1]))
+                .sorted(Comparator.comparingLong(SettlementLineResponse::amount).reversed())
+                .toList();
+    }
+
+    /**
+     * 단말기 목록을 반으로 나눠가며 병렬 처리. 단말기 1대 단위까지 쪼갠 뒤 청크 루프를 실행한다.
+     */
+    private static final class TerminalBatch extends RecursiveAction {
+        private final List<Long> terminalIds;
+        private final int from;
+        private final int to;
+        private final LongConsumer settler;
+
+        private TerminalBatch(List<Long> terminalIds, int from, int to, LongConsumer settler) {
+            this.terminalIds = terminalIds;
+            this.from = from;
+            this.to = to;
+            this.settler = settler;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    settler.accept(terminalIds.get(from));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TerminalBatch(terminalIds, from, mid, settler), new TerminalBatch(terminalIds, mid, to, settler));
+        }
+    }
+}
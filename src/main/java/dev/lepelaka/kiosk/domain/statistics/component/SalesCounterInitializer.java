@@ -0,0 +1,49 @@
+package dev.lepelaka.kiosk.domain.statistics.component;
+
+import dev.lepelaka.kiosk.domain.order.repository.OrderItemRepository;
+import dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesRecord;
+import dev.lepelaka.kiosk.domain.statistics.dto.ProductSalesSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 재시작 시 DB 롤업으로 판매 카운터 복원.
+ * - 오늘 누적: 상품별 합계 1회 조회
+ * - 최근 1시간: 분 단위 버킷을 채우기 위해 주문 상품 행 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesCounterInitializer {
+
+    private final OrderItemRepository orderItemRepository;
+    private final SalesWindowCounter counter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        LocalDateTime lastHour = now.minusHours(1);
+        try {
+            for (ProductSalesSummary summary : orderItemRepository.sumQuantityByProductSince(startOfDay)) {
+                counter.seedToday(summary.productId(), summary.productName(), summary.quantity());
+            }
+            for (ProductSalesRecord record : orderItemRepository.findSalesSince(lastHour)) {
+                counter.seedMinute(record.productId(), record.quantity(), record.orderedAt());
+            }
+            log.info("Sales counter seeded from order rollups (since {})", startOfDay);
+        } catch (DataAccessException e) {
+            // 통계는 부가 기능이므로 기동을 막지 않음
+            log.warn("Failed to seed sales counter. Starting with empty counters.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package dev.lepelaka.kiosk.domain.statistics.component;
+
+import dev.lepelaka.kiosk.domain.order.event.OrderCanceledEvent;
+import dev.lepelaka.kiosk.domain.order.event.OrderLine;
+import dev.lepelaka.kiosk.domain.order.event.OrderPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 커밋 이후 판매 카운터 반영. 롤백된 주문은 집계되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesEventListener {
+
+    private final SalesWindowCounter counter;
+
+    @TransactionalEventListener
+    public void onPlaced(OrderPlacedEvent event) {
+        for (OrderLine line : event.lines()) {
+            counter.record(line.productId(), line.productName(), line.quantity(), event.orderedAt());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCanceled(OrderCanceledEvent event) {
+        for (OrderLine line : event.lines()) {
+            counter.record(line.productId(), line.productName(), -line.quantity(), event.orderedAt());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package dev.lepelaka.kiosk.domain.statistics.component;
+
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품별 판매 수량 슬라이딩 윈도우 카운터 (메모리 전용).
+ * - 1분 단위 버킷 60칸을 링으로 돌려 최근 5분 / 1시간 구간을 계산
+ * - 오늘 누적은 날짜가 바뀌면 통째로 교체
+ * - 버킷 내부는 상품별 LongAdder 라 주문 스레드끼리 경합이 거의 없음
+ */
+@Component
+public class SalesWindowCounter {
+
+    private static final int SLOTS = 60; // 1분 x 60 = 1시간
+
+    private final Clock clock;
+    private final AtomicReferenceArray<MinuteSlot> ring = new AtomicReferenceArray<>(SLOTS);
+    private final AtomicReference<DaySlot> today;
+    private final Map<Long, String> productNames = new ConcurrentHashMap<>();
+
+    public SalesWindowCounter() {
+        this(Clock.systemDefaultZone());
+    }
+
+    SalesWindowCounter(Clock clock) {
+        this.clock = clock;
+        this.today = new AtomicReference<>(new DaySlot(LocalDate.now(clock)));
+    }
+
+    /**
+     * 판매(양수) 또는 취소(음수) 수량 반영. orderedAt 이 null 이면 현재 시각 기준.
+     */
+    public void record(Long productId, String productName, int quantity, LocalDateTime orderedAt) {
+        Instant at = orderedAt != null ? orderedAt.atZone(zone()).toInstant() : clock.instant();
+        if (productName != null) {
+            productNames.put(productId, productName);
+        }
+
+        long minute = toMinute(at);
+        if (minute > currentMinute() - SLOTS) {
+            slotFor(minute).counts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+        }
+
+        LocalDate date = LocalDate.ofInstant(at, zone());
+        DaySlot day = daySlot();
+        if (day.date.equals(date)) {
+            day.counts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+        }
+    }
+
+    /**
+     * 재시작 시 롤업 합계로 오늘 누적 복원 (분 단위 버킷은 건드리지 않음)
+     */
+    public void seedToday(Long productId, String productName, long quantity) {
+        if (productName != null) {
+            productNames.put(productId, productName);
+        }
+        daySlot().counts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+    }
+
+    /**
+     * 분 단위 버킷만 복원 (오늘 누적은 seedToday 로 따로 채움)
+     */
+    public void seedMinute(Long productId, int quantity, LocalDateTime orderedAt) {
+        long minute = toMinute(orderedAt.atZone(zone()).toInstant());
+        if (minute > currentMinute() - SLOTS) {
+            slotFor(minute).counts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+        }
+    }
+
+    public Map<Long, Long> snapshot(SalesWindow window) {
+        Map<Long, Long> totals = new HashMap<>();
+        if (window == SalesWindow.TODAY) {
+            daySlot().counts.forEach((id, adder) -> totals.put(id, adder.sum()));
+            return totals;
+        }
+
+        long now = currentMinute();
+        long from = now - window.getMinutes();
+        for (int i = 0; i < SLOTS; i++) {
+            MinuteSlot slot = ring.get(i);
+            if (slot != null && slot.minute > from && slot.minute <= now) {
+                slot.counts.forEach((id, adder) -> totals.merge(id, adder.sum(), Long::sum));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 구간 내 판매 수량 상위 N개. 크기 N 의 최소 힙으로 부분 정렬한다.
+     */
+    public List<Map.Entry<Long, Long>> top(SalesWindow window, int limit) {
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(Math.max(1, limit), Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Long> entry : snapshot(window).entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Long>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+        return result;
+    }
+
+    /**
+     * 구간 길이(분). TODAY 는 자정부터 현재까지.
+     */
+    public long windowMinutes(SalesWindow window) {
+        if (window != SalesWindow.TODAY) {
+            return window.getMinutes();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        return Math.max(1, Duration.between(now.toLocalDate().atStartOfDay(), now).toMinutes());
+    }
+
+    public String productName(Long productId) {
+        return productNames.get(productId);
+    }
+
+    private MinuteSlot slotFor(long minute) {
+        int index = (int) Math.floorMod(minute, (long) SLOTS);
+        while (true) {
+            MinuteSlot slot = ring.get(index);
+            if (slot != null && slot.minute == minute) {
+                return slot;
+            }
+            // 이전 회차 버킷이면 새 버킷으로 교체 (분 경계에서 극소수 증분이 유실될 수 있음)
+            if (slot != null && slot.minute > minute) {
+                return new MinuteSlot(minute); // 이미 지난 구간: 버리는 임시 버킷
+            }
+            MinuteSlot fresh = new MinuteSlot(minute);
+            if (ring.compareAndSet(index, slot, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private DaySlot daySlot() {
+        LocalDate date = LocalDate.now(clock);
+        DaySlot current = today.get();
+        while (!current.date.equals(date)) {
+            DaySlot fresh = new DaySlot(date);
+            if (today.compareAndSet(current, fresh)) {
+                return fresh;
+            }
+            current = today.get();
+        }
+        return current;
+    }
+
+    private long currentMinute() {
+        return toMinute(clock.instant());
+    }
+
+    private long toMinute(Instant instant) {
+        return instant.getEpochSecond() / 60;
+    }
+
+    private ZoneId zone() {
+        return clock.getZone();
+    }
+
+    private static final class MinuteSlot {
+        private final long minute;
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private MinuteSlot(long minute) {
+            this.minute = minute;
+        }
+    }
+
+    private static final class DaySlot {
+        private final LocalDate date;
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private DaySlot(LocalDate date) {
+            this.date = date;
+        }
+    }
+}
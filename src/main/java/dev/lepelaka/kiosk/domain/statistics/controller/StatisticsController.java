@@ -0,0 +1,32 @@
+package dev.lepelaka.kiosk.domain.statistics.controller;
+
+import dev.lepelaka.kiosk.domain.statistics.dto.BestSellerResponse;
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import dev.lepelaka.kiosk.domain.statistics.service.SalesStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "통계 API", description = "인기 상품, 판매 속도 조회 API")
+@RestController
+@RequestMapping("/api/v1/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+    private final SalesStatisticsService salesStatisticsService;
+
+    @Operation(summary = "인기 상품 조회", description = "최근 5분 / 1시간 / 오늘 구간의 판매 수량 상위 상품을 조회합니다.")
+    @GetMapping("/best-sellers")
+    public ResponseEntity<List<BestSellerResponse>> bestSellers(
+            @Parameter(description = "집계 구간", example = "ONE_HOUR") @RequestParam(defaultValue = "ONE_HOUR") SalesWindow window,
+            @Parameter(description = "조회 개수", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(salesStatisticsService.bestSellers(window, limit));
+    }
+}
@@ -0,0 +1,26 @@
+package dev.lepelaka.kiosk.domain.statistics.dto;
+
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "인기 상품 응답 DTO")
+public record BestSellerResponse(
+        @Schema(description = "순위", example = "1")
+        int rank,
+
+        @Schema(description = "상품 ID", example = "1")
+        Long productId,
+
+        @Schema(description = "상품명", example = "짜장면")
+        String productName,
+
+        @Schema(description = "구간 내 판매 수량", example = "42")
+        long quantity,
+
+        @Schema(description = "분당 판매 속도", example = "0.7")
+        double perMinute,
+
+        @Schema(description = "집계 구간", example = "ONE_HOUR")
+        SalesWindow window
+) {
+}
@@ -0,0 +1,14 @@
+package dev.lepelaka.kiosk.domain.statistics.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시작 시 카운터 복원용 주문 상품 행 (JPQL constructor expression)
+ */
+public record ProductSalesRecord(
+        Long productId,
+        String productName,
+        int quantity,
+        LocalDateTime orderedAt
+) {
+}
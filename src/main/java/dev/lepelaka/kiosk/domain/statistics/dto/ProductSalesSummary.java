@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.domain.statistics.dto;
+
+/**
+ * 재시작 시 카운터 복원용 상품별 판매 합계 (JPQL constructor expression)
+ */
+public record ProductSalesSummary(
+        Long productId,
+        String productName,
+        Long quantity
+) {
+}
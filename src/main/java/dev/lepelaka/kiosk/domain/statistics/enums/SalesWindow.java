@@ -0,0 +1,15 @@
+package dev.lepelaka.kiosk.domain.statistics.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SalesWindow {
+    FIVE_MINUTES("최근 5분", 5),
+    ONE_HOUR("최근 1시간", 60),
+    TODAY("오늘", 0);   // 자정부터 현재까지 (분 단위 길이는 조회 시점에 계산)
+
+    private final String description;
+    private final int minutes;
+}
@@ -0,0 +1,42 @@
+package dev.lepelaka.kiosk.domain.statistics.service;
+
+import dev.lepelaka.kiosk.domain.statistics.component.SalesWindowCounter;
+import dev.lepelaka.kiosk.domain.statistics.dto.BestSellerResponse;
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 상품 / 판매 속도 조회. 메모리 카운터만 사용하므로 DB 를 거치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesStatisticsService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final SalesWindowCounter counter;
+
+    public List<BestSellerResponse> bestSellers(SalesWindow window, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long minutes = counter.windowMinutes(window);
+
+        List<Map.Entry<Long, Long>> top = counter.top(window, size);
+        List<BestSellerResponse> result = new ArrayList<>(top.size());
+        int rank = 1;
+        for (Map.Entry<Long, Long> entry : top) {
+            Long productId = entry.getKey();
+            long quantity = entry.getValue();
+            result.add(new BestSellerResponse(rank++, productId, counter.productName(productId), quantity, (double) quantity / minutes, window));
+        }
+        return result;
+    }
+
+    public long salesOf(Long productId, SalesWindow window) {
+        return counter.snapshot(window).getOrDefault(productId, 0L);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.lepelaka.kiosk.domain.terminal.component;
+
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.event.TerminalChangedEvent;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.SnapshotRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 단말기 상태 스냅샷. 주문마다 단말기를 SELECT 하지 않고 상태만 확인한다.
+ * 변경이 커밋되면 다시 읽고 다른 노드에 알린다.
+ */
+@Component
+public class TerminalRegistry extends SnapshotRegistry<TerminalRegistry.Entry> {
+
+    private final TerminalRepository terminalRepository;
+
+    public TerminalRegistry(TerminalRepository terminalRepository, CacheInvalidationBus bus) {
+        super("terminals", bus);
+        this.terminalRepository = terminalRepository;
+    }
+
+    @TransactionalEventListener
+    public void onTerminalChanged(TerminalChangedEvent event) {
+        reloadAndBroadcast();
+    }
+
+    @Override
+    protected List<Entry> loadAll() {
+        return terminalRepository.findAll().stream().map(Entry::from).toList();
+    }
+
+    @Override
+    protected Long idOf(Entry entry) {
+        return entry.id();
+    }
+
+    public record Entry(Long id, String name, TerminalStatus status, boolean active) {
+
+        public static Entry from(Terminal terminal) {
+            return new Entry(terminal.getId(), terminal.getName(), terminal.getStatus(), terminal.isActive());
+        }
+
+        public boolean canOrder() {
+            return active && status == TerminalStatus.ACTIVE;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package dev.lepelaka.kiosk.domain.terminal.component;
 
-import dev.lepelaka.kiosk.global.exception.BusinessException;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
 import dev.lepelaka.kiosk.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -29,8 +29,13 @@ public class TerminalSessionStore {
     }
 
     public Long resolveTerminalId(String token) {
+        if (token == null || token.isBlank()) {
+            throw new TerminalException(ErrorCode.TERMINAL_AUTH_REQUIRED);
+        }
         String value = redisTemplate.opsForValue().get(PREFIX + token);
-//        if (value == null) throw new BusinessException(TerminalErrorCode.);
+        if (value == null) {
+            throw new TerminalException(ErrorCode.TERMINAL_AUTH_INVALID);
+        }
         return Long.parseLong(value);
     }
 
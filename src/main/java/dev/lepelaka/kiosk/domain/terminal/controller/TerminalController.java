@@ -0,0 +1,60 @@
+package dev.lepelaka.kiosk.domain.terminal.controller;
+
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalRequest;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.service.TerminalService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@Tag(name = "단말기 API", description = "단말기 등록, 상태 변경 API")
+@RestController
+@RequestMapping("/api/v1/terminals")
+@RequiredArgsConstructor
+public class TerminalController {
+    private final TerminalService service;
+
+    @Operation(summary = "신규 단말기 등록", description = "단말기를 등록합니다. 키는 해시로만 저장합니다.")
+    @ApiResponse(responseCode = "201", description = "등록 성공")
+    @PostMapping
+    public ResponseEntity<Long> create(@RequestBody @Valid TerminalRequest request) {
+        Long id = service.register(request);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(id)
+                .toUri();
+        return ResponseEntity.created(location).body(id);
+    }
+
+    @Operation(summary = "단말기 상태 변경", description = "단말기 상태(활성/비활성/점검중)를 변경합니다.")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "404", description = "단말기가 존재하지 않음")
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Void> changeStatus(@Parameter(description = "단말기 ID", example = "1") @PathVariable("id") Long id,
+                                             @Parameter(description = "변경할 상태", example = "MAINTENANCE") @RequestParam TerminalStatus status) {
+        service.changeStatus(id, status);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "단말기 비활성화", description = "단말기에서 주문을 받지 않도록 비활성화합니다.")
+    @PatchMapping("/{id}/deactivate")
+    public ResponseEntity<Void> deactivate(@Parameter(description = "단말기 ID", example = "1") @PathVariable("id") Long id) {
+        service.deactivate(id);
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "단말기 활성화", description = "단말기를 다시 활성화합니다.")
+    @PatchMapping("/{id}/activate")
+    public ResponseEntity<Void> activate(@Parameter(description = "단말기 ID", example = "1") @PathVariable("id") Long id) {
+        service.activate(id);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,41 @@
+package dev.lepelaka.kiosk.domain.terminal.controller;
+
+import dev.lepelaka.kiosk.domain.cart.controller.CartController;
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalSessionResponse;
+import dev.lepelaka.kiosk.domain.terminal.service.TerminalSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "단말기 세션 API", description = "단말기 기동 시 세션 발급 및 종료 API")
+@RestController
+@RequestMapping("/api/v1/terminals")
+@RequiredArgsConstructor
+public class TerminalSessionController {
+    public static final String KEY_HEADER = "X-Terminal-Key";
+
+    private final TerminalSessionService terminalSessionService;
+
+    @Operation(summary = "세션 발급", description = "단말기 키를 확인하고 세션 토큰을 발급합니다. 장바구니 API 는 이 토큰을 " + CartController.SESSION_HEADER + " 헤더로 받습니다.")
+    @ApiResponse(responseCode = "201", description = "발급 성공")
+    @ApiResponse(responseCode = "401", description = "키가 없거나 일치하지 않음")
+    @ApiResponse(responseCode = "403", description = "비활성/점검중 단말기")
+    @PostMapping("/{terminalId}/sessions")
+    public ResponseEntity<TerminalSessionResponse> open(@Parameter(description = "단말기 ID", example = "1") @PathVariable Long terminalId,
+                                                        @RequestHeader(value = KEY_HEADER, required = false) String terminalKey) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(terminalSessionService.open(terminalId, terminalKey));
+    }
+
+    @Operation(summary = "세션 종료", description = "현재 세션 토큰을 폐기합니다.")
+    @ApiResponse(responseCode = "204", description = "종료 성공")
+    @DeleteMapping("/sessions/current")
+    public ResponseEntity<Void> close(@RequestHeader(value = CartController.SESSION_HEADER, required = false) String sessionToken) {
+        terminalSessionService.close(sessionToken);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,4 +1,19 @@
 package dev.lepelaka.kiosk.domain.terminal.dto;
 
-public record TerminalRequest (){
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record TerminalRequest (
+        @NotBlank @Size(max = 50)
+        String name,
+        @NotBlank @Size(max = 200)
+        String terminalKey
+){
+    public Terminal toEntity(String keyHash) {
+        return Terminal.builder()
+                .name(name)
+                .keyHash(keyHash)
+                .build();
+    }
 }
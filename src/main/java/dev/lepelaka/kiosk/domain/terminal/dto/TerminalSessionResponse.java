@@ -0,0 +1,4 @@
+package dev.lepelaka.kiosk.domain.terminal.dto;
+
+public record TerminalSessionResponse(Long terminalId, String sessionToken) {
+}
@@ -52,6 +52,9 @@ public class Terminal extends BaseEntity {
     public void maintenance () {
         status = TerminalStatus.MAINTENANCE;
     }
+    public void resume() {
+        status = TerminalStatus.ACTIVE;
+    }
     public void heartbeat(LocalDateTime now) {
         lastHeartbeat = now;
     }
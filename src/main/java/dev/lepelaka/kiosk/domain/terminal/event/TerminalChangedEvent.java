@@ -0,0 +1,7 @@
+package dev.lepelaka.kiosk.domain.terminal.event;
+
+/**
+ * 단말기 등록/상태 변경/활성화 상태 변경 (커밋 후 단말기 스냅샷 재적재에 사용)
+ */
+public record TerminalChangedEvent(Long terminalId) {
+}
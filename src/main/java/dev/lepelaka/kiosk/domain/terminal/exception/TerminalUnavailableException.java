@@ -0,0 +1,18 @@
+package dev.lepelaka.kiosk.domain.terminal.exception;
+
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+
+public class TerminalUnavailableException extends TerminalException {
+    private final Long terminalId;
+
+    public TerminalUnavailableException(Long terminalId, TerminalStatus status) {
+        super(status == TerminalStatus.MAINTENANCE ? ErrorCode.TERMINAL_MAINTENANCE : ErrorCode.TERMINAL_INACTIVE);
+        this.terminalId = terminalId;
+    }
+
+    @Override
+    public String getMessage() {
+        return String.format("%s (터미널 ID : %d)", super.getMessage(), terminalId);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.lepelaka.kiosk.domain.terminal.service;
+
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalRequest;
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.event.TerminalChangedEvent;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 단말기 등록과 상태 변경. 변경마다 이벤트를 발행해 커밋 후 단말기 스냅샷(TerminalRegistry)이 모든 노드에서 다시 적재되게 한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TerminalService {
+    private final TerminalRepository terminalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Long register(TerminalRequest request) {
+        Long id = terminalRepository.save(request.toEntity(TerminalSessionService.hashKey(request.terminalKey()))).getId();
+        eventPublisher.publishEvent(new TerminalChangedEvent(id));
+        return id;
+    }
+
+    @Transactional
+    public void changeStatus(Long id, TerminalStatus status) {
+        Terminal terminal = getTerminal(id);
+        switch (status) {
+            case ACTIVE -> terminal.resume();
+            case INACTIVE -> terminal.invalidate();
+            case MAINTENANCE -> terminal.maintenance();
+        }
+        eventPublisher.publishEvent(new TerminalChangedEvent(id));
+    }
+
+    @Transactional
+    public void deactivate(Long id) {
+        getTerminal(id).deactivate();
+        eventPublisher.publishEvent(new TerminalChangedEvent(id));
+    }
+
+    @Transactional
+    public void activate(Long id) {
+        getTerminal(id).activate();
+        eventPublisher.publishEvent(new TerminalChangedEvent(id));
+    }
+
+    private Terminal getTerminal(Long id) {
+        return terminalRepository.findById(id).orElseThrow(() -> new TerminalException(ErrorCode.TERMINAL_NOT_FOUND));
+    }
+}
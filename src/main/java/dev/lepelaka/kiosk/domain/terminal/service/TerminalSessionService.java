@@ -0,0 +1,66 @@
+package dev.lepelaka.kiosk.domain.terminal.service;
+
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalSessionStore;
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalSessionResponse;
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalUnavailableException;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 단말기 기동(활성화) 시 세션 발급. 단말기 키를 확인하고 장바구니 등 세션 기반 API 에 쓸 토큰을 돌려준다.
+ * 키는 평문으로 저장하지 않고 SHA-256(hex) 으로 비교한다. 없는 단말기도 키 불일치로 응답한다 (ID 존재 여부를 드러내지 않도록).
+ */
+@Service
+@RequiredArgsConstructor
+public class TerminalSessionService {
+
+    private final TerminalRepository terminalRepository;
+    private final TerminalSessionStore terminalSessionStore;
+
+    @Transactional
+    public TerminalSessionResponse open(Long terminalId, String terminalKey) {
+        if (!StringUtils.hasText(terminalKey)) {
+            throw new TerminalException(ErrorCode.TERMINAL_AUTH_REQUIRED);
+        }
+        Terminal terminal = terminalRepository.findById(terminalId)
+                .filter(found -> matches(found.getKeyHash(), terminalKey))
+                .orElseThrow(() -> new TerminalException(ErrorCode.TERMINAL_KEY_MISMATCH));
+        if (!terminal.isActive() || terminal.getStatus() != TerminalStatus.ACTIVE) {
+            throw new TerminalUnavailableException(terminalId, terminal.getStatus());
+        }
+        terminal.heartbeat(LocalDateTime.now());
+        return new TerminalSessionResponse(terminalId, terminalSessionStore.createSession(terminalId));
+    }
+
+    public void close(String sessionToken) {
+        terminalSessionStore.resolveTerminalId(sessionToken);
+        terminalSessionStore.delete(sessionToken);
+    }
+
+    static String hashKey(String terminalKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(terminalKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 비교 시간이 키에 따라 달라지지 않도록 MessageDigest.isEqual
+    private static boolean matches(String keyHash, String terminalKey) {
+        return MessageDigest.isEqual(keyHash.getBytes(StandardCharsets.UTF_8), hashKey(terminalKey).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.lepelaka.kiosk.global.cache;
+
+/**
+ * 캐시 값 + 재적재 시각(epoch millis). refreshAt 이 지나면 값은 그대로 응답하고 백그라운드에서 다시 적재한다.
+ * refreshAt 이 0 이면 재적재하지 않는다 (Redis TTL 로만 만료).
+ */
+public record CacheEnvelope(Object value, long refreshAt) {
+
+    public boolean isStale(long nowMillis) {
+        return refreshAt > 0 && nowMillis >= refreshAt;
+    }
+}
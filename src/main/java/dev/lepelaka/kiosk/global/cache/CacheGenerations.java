@@ -0,0 +1,50 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 캐시/키 패밀리별 세대 번호.
+ * - 공유 저장소(Redis)가 원본이고, 노드마다 짧은 TTL 로 로컬에 들고 있는다 (조회마다 Redis 왕복 방지)
+ * - 증가 시 무효화 버스로 다른 노드의 로컬 값을 버리게 하고, 메시지가 유실돼도 로컬 TTL 안에 수렴한다.
+ */
+public class CacheGenerations {
+
+    static final String BUS_CACHE_NAME = "__cache-generation__";
+
+    private final GenerationStore store;
+    private final CacheInvalidationBus bus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, Long> local;
+
+    public CacheGenerations(GenerationStore store, CacheInvalidationBus bus, Duration localTtl) {
+        this.store = store;
+        this.bus = bus;
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(localTtl)
+                .maximumSize(10_000)
+                .build();
+        bus.subscribe(this::onInvalidation);
+    }
+
+    public long current(String key) {
+        return local.get(key, store::get);
+    }
+
+    public long bump(String key) {
+        long next = store.increment(key);
+        local.put(key, next);
+        bus.publish(new CacheInvalidation(nodeId, BUS_CACHE_NAME, key));
+        return next;
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!BUS_CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        local.invalidate(invalidation.key());
+    }
+}
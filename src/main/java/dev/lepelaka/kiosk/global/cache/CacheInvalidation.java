@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.global.cache;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지. key 가 null 이면 해당 캐시 전체 무효화.
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
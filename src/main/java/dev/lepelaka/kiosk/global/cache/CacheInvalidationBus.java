@@ -0,0 +1,13 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 로컬 캐시 무효화 전파 채널 (운영: Redis pub/sub, 테스트/단일 노드: 메모리)
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,43 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.util.regex.Pattern;
+
+/**
+ * 캐시 키 패밀리 규칙: "패밀리|나머지". 예) "category:3|active:page:0:size:10"
+ * 같은 패밀리의 키는 GenerationalCache#evictFamily 한 번(카운터 증가)으로 함께 무효화된다.
+ */
+public final class CacheKeyFamily {
+
+    public static final String SEPARATOR = "|";
+
+    public static final String ACTIVE = "active";
+
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    private CacheKeyFamily() {
+    }
+
+    public static String category(Long categoryId) {
+        return "category:" + categoryId;
+    }
+
+    /**
+     * 키에서 패밀리 추출. 구분자가 없으면 null (개별 키)
+     */
+    public static String familyOf(String key) {
+        int index = key.indexOf(SEPARATOR);
+        return index > 0 ? key.substring(0, index) : null;
+    }
+
+    /**
+     * 계측 태그용 논리 키: 숫자를 * 로 바꿔 페이지/ID 별로 태그가 늘어나지 않게 한다. 숫자 키(ID 조회)는 "id".
+     * 예) "category:3|active:page:0:size:10" → "category:*|active:page:*:size:*"
+     */
+    public static String patternOf(Object key) {
+        String raw = String.valueOf(key);
+        if (key instanceof Number || DIGITS.matcher(raw).matches()) {
+            return "id";
+        }
+        return DIGITS.matcher(raw).replaceAll("*");
+    }
+}
@@ -0,0 +1,28 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/cachekeys?limit=20
+ * 캐시별로 많이 재사용되는 키와, 적재만 되고 재사용되지 않은 키(캐시할 필요가 없는 페이지 후보)를 보여준다.
+ */
+@Component
+@Endpoint(id = "cachekeys")
+@RequiredArgsConstructor
+public class CacheKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final CacheMetrics cacheMetrics;
+
+    @ReadOperation
+    public Map<String, CacheMetrics.KeyReport> topKeys(@Nullable Integer limit) {
+        return cacheMetrics.topKeys(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
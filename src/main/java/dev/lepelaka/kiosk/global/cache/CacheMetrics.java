@@ -0,0 +1,165 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 계측 (Micrometer, /actuator/metrics 로 노출).
+ * - kiosk.cache.gets{cache, pattern, result=hit|miss}: miss 는 이 요청이 직접 적재(DB 조회)한 경우
+ * - kiosk.cache.load{cache, pattern}: 적재 시간 히스토그램
+ * - kiosk.cache.payload{cache, operation=write|read}: Redis 에 오가는 직렬화 크기(바이트)
+ * - kiosk.cache.evictions{cache, pattern, kind=key|family|clear}
+ * pattern 은 키의 숫자를 * 로 바꾼 논리 키 (예: "category:*|active:page:*:size:*", 숫자 키는 "id").
+ * 키별 적중/적재 횟수는 최근 키 일부만 들고 있다가 top-keys 보고서로 내보낸다.
+ * 미터는 (cache, 태그 값) 조합마다 한 번만 등록해 두고 재사용하며, 추적 중인 키는 자기 패턴의 미터를 들고 있어
+ * 조회마다 빌더 생성, 레지스트리 조회, 패턴 계산(정규식)을 하지 않는다.
+ */
+public class CacheMetrics {
+
+    private final MeterRegistry registry;
+    private final com.github.benmanes.caffeine.cache.Cache<String, KeyStats> keys;
+    private final ConcurrentMap<MeterKey, Counter> gets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Timer> loads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, DistributionSummary> payloads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Counter> evictions = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry registry, long trackedKeys) {
+        this.registry = registry;
+        this.keys = Caffeine.newBuilder()
+                .maximumSize(trackedKeys)
+                .build();
+    }
+
+    public void recordGet(String cacheName, Object key, boolean hit) {
+        KeyStats stats = keyStats(cacheName, key);
+        if (hit) {
+            stats.hitCounter.increment();
+            stats.hits.increment();
+        } else {
+            stats.missCounter.increment();
+        }
+    }
+
+    public void recordLoad(String cacheName, Object key, long nanos) {
+        KeyStats stats = keyStats(cacheName, key);
+        stats.loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+        stats.loads.increment();
+        stats.loadNanos.add(nanos);
+    }
+
+    public void recordPayload(String cacheName, String operation, int bytes) {
+        payloads.computeIfAbsent(new MeterKey(cacheName, operation, null), meter -> DistributionSummary.builder("kiosk.cache.payload")
+                        .baseUnit("bytes")
+                        .tag("cache", cacheName)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(bytes);
+    }
+
+    public void recordEviction(String cacheName, String pattern, String kind) {
+        evictions.computeIfAbsent(new MeterKey(cacheName, pattern, kind), meter -> Counter.builder("kiosk.cache.evictions")
+                        .tag("cache", cacheName)
+                        .tag("pattern", pattern)
+                        .tag("kind", kind)
+                        .register(registry))
+                .increment();
+    }
+
+    /**
+     * 캐시별 적중 상위 키와, 적재만 되고 한 번도 재사용되지 않은 키
+     */
+    public Map<String, KeyReport> topKeys(int limit) {
+        Map<String, List<KeyUsage>> byCache = new LinkedHashMap<>();
+        keys.asMap().forEach((id, stats) -> byCache.computeIfAbsent(stats.cacheName, n -> new ArrayList<>()).add(stats.usage()));
+
+        Map<String, KeyReport> report = new LinkedHashMap<>();
+        byCache.forEach((cacheName, usages) -> {
+            List<KeyUsage> hot = usages.stream()
+                    .filter(usage -> usage.hits() > 0)
+                    .sorted(Comparator.comparingLong(KeyUsage::hits).reversed())
+                    .limit(limit)
+                    .toList();
+            List<KeyUsage> neverReused = usages.stream()
+                    .filter(usage -> usage.hits() == 0 && usage.loads() > 0)
+                    .sorted(Comparator.comparingLong(KeyUsage::loads).reversed())
+                    .limit(limit)
+                    .toList();
+            report.put(cacheName, new KeyReport(usages.size(), hot, neverReused));
+        });
+        return report;
+    }
+
+    private KeyStats keyStats(String cacheName, Object key) {
+        String raw = String.valueOf(key);
+        return keys.get(cacheName + "::" + raw, id -> {
+            String pattern = CacheKeyFamily.patternOf(key);
+            return new KeyStats(cacheName, raw, getCounter(cacheName, pattern, "hit"), getCounter(cacheName, pattern, "miss"),
+                    loadTimer(cacheName, pattern));
+        });
+    }
+
+    private Counter getCounter(String cacheName, String pattern, String result) {
+        return gets.computeIfAbsent(new MeterKey(cacheName, pattern, result), meter -> Counter.builder("kiosk.cache.gets")
+                .tag("cache", cacheName)
+                .tag("pattern", pattern)
+                .tag("result", result)
+                .register(registry));
+    }
+
+    private Timer loadTimer(String cacheName, String pattern) {
+        return loads.computeIfAbsent(new MeterKey(cacheName, pattern, null), meter -> Timer.builder("kiosk.cache.load")
+                .tag("cache", cacheName)
+                .tag("pattern", pattern)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    // 태그 값 조합. 미터 이름별로 맵을 따로 두므로 이름은 넣지 않는다
+    private record MeterKey(String cacheName, String first, String second) {
+    }
+
+    private static final class KeyStats {
+        private final String cacheName;
+        private final String key;
+        private final Counter hitCounter;
+        private final Counter missCounter;
+        private final Timer loadTimer;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+
+        private KeyStats(String cacheName, String key, Counter hitCounter, Counter missCounter, Timer loadTimer) {
+            this.cacheName = cacheName;
+            this.key = key;
+            this.hitCounter = hitCounter;
+            this.missCounter = missCounter;
+            this.loadTimer = loadTimer;
+        }
+
+        private KeyUsage usage() {
+            long loadCount = loads.sum();
+            double averageLoadMillis = loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount;
+            return new KeyUsage(key, hits.sum(), loadCount, averageLoadMillis);
+        }
+    }
+
+    public record KeyUsage(String key, long hits, long loads, double averageLoadMillis) {
+    }
+
+    public record KeyReport(int trackedKeys, List<KeyUsage> hottest, List<KeyUsage> neverReused) {
+    }
+}
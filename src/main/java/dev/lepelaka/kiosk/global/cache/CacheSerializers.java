@@ -0,0 +1,69 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 캐시 값 직렬화기 모음 (kiosk.cache.serializer.format 으로 선택)
+ * - json: 기존 방식. 사람이 읽을 수 있지만 모든 레코드에 @class 문자열이 반복된다.
+ * - smile: Jackson Smile(바이너리 JSON). 같은 타입 정보/필드명은 문서 안에서 한 번만 쓰고 이후 참조로 대체된다.
+ */
+public final class CacheSerializers {
+
+    private CacheSerializers() {
+    }
+
+    public static RedisSerializer<Object> create(String format, int compressThreshold) {
+        return switch (format) {
+            case "json" -> json();
+            case "smile" -> smile(compressThreshold);
+            default -> throw new IllegalArgumentException("Unknown cache serializer format: " + format);
+        };
+    }
+
+    public static RedisSerializer<Object> json() {
+        return new GenericJackson2JsonRedisSerializer(typed(new ObjectMapper()));
+    }
+
+    /**
+     * @param compressThreshold 이 크기(바이트) 이상이면 deflate 압축 (0 이하면 압축 안 함)
+     */
+    public static CompactRedisSerializer smile(int compressThreshold) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES) // 반복되는 @class 문자열을 참조로
+                .build();
+        return new CompactRedisSerializer(typed(new ObjectMapper(smileFactory)), json(), compressThreshold);
+    }
+
+    private static ObjectMapper typed(ObjectMapper objectMapper) {
+        // Jackson ObjectMapper에 JavaTimeModule 등록 (LocalDateTime 직렬화 지원)
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // "2023-10-10T..." 형태의 문자열로 저장
+
+        // LinkedHashMap cast 이슈 해결 및 Record(final) 타입 지원을 위한 커스텀 설정
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Object.class)
+                .build();
+
+        ObjectMapper.DefaultTypeResolverBuilder typeResolverBuilder = new ObjectMapper.DefaultTypeResolverBuilder(ObjectMapper.DefaultTyping.NON_FINAL, ptv) {
+            @Override
+            public boolean useForType(JavaType t) {
+                // Record 타입이거나, 기본 NON_FINAL 조건(final이 아닌 객체)에 맞으면 타입 정보 포함
+                return t.getRawClass().isRecord() || super.useForType(t);
+            }
+        };
+        typeResolverBuilder.init(JsonTypeInfo.Id.CLASS, null);
+        typeResolverBuilder.inclusion(JsonTypeInfo.As.PROPERTY);
+        objectMapper.setDefaultTyping(typeResolverBuilder);
+        return objectMapper;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * kiosk.cache.defaults / kiosk.cache.specs.{캐시 이름}.*
+ * 캐시별로 비어 있는 항목은 defaults 값을 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "kiosk.cache")
+public class CacheSpecProperties {
+
+    /**
+     * defaults 에도 ttl 이 없을 때 쓰는 값
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private Spec defaults = new Spec(DEFAULT_TTL, null, Duration.ZERO);
+
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public Spec specFor(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new Spec(
+                spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+                spec.getRefreshAfter() != null ? spec.getRefreshAfter() : defaults.getRefreshAfter(),
+                spec.getJitter() != null ? spec.getJitter() : defaults.getJitter());
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /**
+         * Redis 보관 시간 (이 시간이 지나면 다음 요청이 DB 조회를 기다린다)
+         */
+        private Duration ttl;
+
+        /**
+         * 이 시간이 지난 값은 그대로 응답하면서 백그라운드에서 다시 적재한다 (비우면 사용 안 함)
+         */
+        private Duration refreshAfter;
+
+        /**
+         * ttl / refreshAfter 에 0 ~ jitter 만큼 무작위로 더해 같은 시각에 적재된 키들의 만료를 흩뜨린다
+         */
+        private Duration jitter;
+
+        public Spec() {
+        }
+
+        public Spec(Duration ttl, Duration refreshAfter, Duration jitter) {
+            this.ttl = ttl;
+            this.refreshAfter = refreshAfter;
+            this.jitter = jitter;
+        }
+
+        public boolean refreshAhead() {
+            return refreshAfter != null && !refreshAfter.isZero();
+        }
+
+        public Duration jittered(Duration base) {
+            if (jitter == null || jitter.isZero()) {
+                return base;
+            }
+            return base.plusMillis(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+        }
+    }
+}
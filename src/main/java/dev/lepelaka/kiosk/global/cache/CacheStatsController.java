@@ -0,0 +1,37 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Tag(name = "캐시 관리 API", description = "캐시 계층별 적중률, Redis 차단기 상태 조회 API")
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+    private final CacheManager cacheManager;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 로컬/Redis 적중, 실패, 수신한 무효화 건수를 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, LayeredCacheStats.Snapshot>> stats() {
+        TwoLevelCacheManager twoLevelCacheManager = DelegatingCacheManager.unwrap(cacheManager, TwoLevelCacheManager.class);
+        if (twoLevelCacheManager != null) {
+            return ResponseEntity.ok(twoLevelCacheManager.stats());
+        }
+        return ResponseEntity.ok(Map.of()); // 로컬 캐시 비활성화 시
+    }
+
+    @Operation(summary = "Redis 차단기 상태 조회", description = "캐시용 Redis 차단기 상태(CLOSED/OPEN/HALF_OPEN), 연속 실패 수, 차단된 호출 수를 조회합니다.")
+    @GetMapping("/circuit")
+    public ResponseEntity<RedisCircuitBreaker.Snapshot> circuit() {
+        return ResponseEntity.ok(redisCircuitBreaker.snapshot());
+    }
+}
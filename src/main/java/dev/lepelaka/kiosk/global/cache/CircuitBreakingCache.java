@@ -0,0 +1,106 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis 캐시 앞단 차단기. 차단 중 조회는 곧바로 미스로, 쓰기는 건너뛴다 (로컬 캐시/DB 로 응답).
+ * 차단 중 들어온 삭제는 모아 두었다가 복구 시 반영한다. 너무 많이 쌓이면 캐시를 통째로 비운다.
+ */
+public class CircuitBreakingCache implements Cache {
+
+    private static final int MAX_PENDING_EVICTIONS = 10_000;
+
+    private final Cache delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingClear = new AtomicBoolean();
+
+    public CircuitBreakingCache(Cache delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.onRecovery(this::replayPending);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return circuitBreaker.call(() -> delegate.get(key), () -> null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return circuitBreaker.call(() -> delegate.get(key, type), () -> null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        circuitBreaker.run(() -> delegate.put(key, value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!circuitBreaker.run(() -> delegate.evict(key))) {
+            remember(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!circuitBreaker.run(delegate::clear)) {
+            pendingClear.set(true);
+        }
+    }
+
+    private void remember(Object key) {
+        if (pendingEvictions.size() >= MAX_PENDING_EVICTIONS) {
+            pendingClear.set(true);
+            return;
+        }
+        pendingEvictions.add(key);
+    }
+
+    private void replayPending() {
+        if (pendingClear.getAndSet(false)) {
+            pendingEvictions.clear();
+            clear();
+            return;
+        }
+        for (Object key : pendingEvictions) {
+            pendingEvictions.remove(key);
+            evict(key);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Redis CacheManager 의 모든 캐시를 CircuitBreakingCache 로 감싼다
+ */
+public class CircuitBreakingCacheManager implements DelegatingCacheManager {
+
+    private final CacheManager delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final ConcurrentMap<String, CircuitBreakingCache> caches = new ConcurrentHashMap<>();
+
+    public CircuitBreakingCacheManager(CacheManager delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            return cache != null ? new CircuitBreakingCache(cache, circuitBreaker) : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,258 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 캐시 미스 적재 합치기 (single-flight) + refresh-ahead. @Cacheable(sync = true) 의 get(key, loader) 경로에서 동작한다.
+ * - 같은 JVM: 키별 CompletableFuture 하나만 적재하고 나머지는 그 결과를 기다린다.
+ * - 노드 간: Redis 잠금을 얻은 노드만 적재하고, 못 얻은 노드는 캐시에 값이 올라올 때까지 짧게 폴링한다.
+ *   적재 노드가 값을 올리지 못하면(예외, null) 포기 표시를 남기고, 기다리던 노드는 그걸 보고 바로 직접 적재한다.
+ *   잠금 TTL 이 지나도 값이 없으면(적재 노드가 죽어 표시도 못 남긴 경우) 직접 적재한다.
+ * - 값은 CacheEnvelope 로 감싸 저장한다. refreshAfter 가 지난 값은 그대로 응답하고 백그라운드에서 한 번만 다시 적재한다.
+ *   재적재는 요청이 끝난 뒤 풀 스레드에서 loader(캐시 어드바이스가 넘긴 MethodInvocation.proceed)를 다시 실행하므로
+ *   요청 스레드의 ThreadLocal(TerminalContext, 요청 속성, 호출자 트랜잭션)이 없다.
+ *   그래서 refreshAfter 는 키만으로 결과가 정해지는 캐시에만 설정하고, 호출자 트랜잭션 안에서 불린 경우에는 예약하지 않는다.
+ */
+@Slf4j
+public class CoalescingCache implements Cache {
+
+    private final Cache delegate;
+    private final LoadLock loadLock;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+    private final CacheSpecProperties.Spec spec;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public CoalescingCache(Cache delegate, LoadLock loadLock, Duration lockTtl, Duration pollInterval,
+                           CacheSpecProperties.Spec spec, Executor refreshExecutor) {
+        this(delegate, loadLock, lockTtl, pollInterval, spec, refreshExecutor, Clock.systemUTC());
+    }
+
+    CoalescingCache(Cache delegate, LoadLock loadLock, Duration lockTtl, Duration pollInterval,
+                    CacheSpecProperties.Spec spec, Executor refreshExecutor, Clock clock) {
+        this.delegate = delegate;
+        this.loadLock = loadLock;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+        this.spec = spec;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null ? new SimpleValueWrapper(unwrap(wrapper.get())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            Object stored = cached.get();
+            if (stored instanceof CacheEnvelope envelope && envelope.isStale(clock.millis()) && canRefreshDetached()) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) unwrap(stored);
+        }
+
+        String flightKey = String.valueOf(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+        if (existing != null) {
+            return (T) await(key, valueLoader, existing);
+        }
+
+        try {
+            Object value = loadAcrossNodes(key, flightKey, valueLoader);
+            mine.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt(); // 폴링 중 인터럽트: 플래그를 되살려 호출자가 알 수 있게
+            }
+            mine.completeExceptionally(e);
+            throw e instanceof ValueRetrievalException retrieval ? retrieval : new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value != null ? envelope(value) : null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * 오래된 값 재적재. 이미 이 노드에서 적재 중이거나 다른 노드가 잠금을 잡고 있으면 건너뛴다.
+     * 그동안 요청들은 기존 값을 그대로 받는다.
+     */
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        String flightKey = String.valueOf(key);
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, flightKey, valueLoader);
+                } catch (Exception e) {
+                    log.warn("Cache refresh failed, keeping stale value: cache={}, key={}, cause={}", getName(), key, e.toString());
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 재적재 작업이 밀려 있으면 이번에는 넘기고 다음 요청에서 다시 시도
+            refreshing.remove(flightKey);
+        }
+    }
+
+    /**
+     * 호출자 트랜잭션에 참여하는 loader 는 풀 스레드에서 다른 결과를 낼 수 있으므로 백그라운드로 돌리지 않는다.
+     * (캐시 어드바이스가 트랜잭션 바깥이면 loader 가 자기 트랜잭션을 연다) 그동안 오래된 값을 응답하고 TTL 이 지나면 동기 적재한다.
+     */
+    private static boolean canRefreshDetached() {
+        return !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void refresh(Object key, String flightKey, Callable<?> valueLoader) throws Exception {
+        String lockKey = lockKey(flightKey);
+        String token = loadLock.tryAcquire(lockKey, lockTtl);
+        if (token == null) {
+            return; // 다른 노드가 갱신 중
+        }
+        try {
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null && cached.get() instanceof CacheEnvelope envelope && !envelope.isStale(clock.millis())) {
+                return; // 다른 노드가 먼저 갱신함
+            }
+            load(key, valueLoader);
+        } finally {
+            loadLock.release(lockKey, token);
+        }
+    }
+
+    private Object loadAcrossNodes(Object key, String flightKey, Callable<?> valueLoader) throws Exception {
+        String lockKey = lockKey(flightKey);
+        String token = loadLock.tryAcquire(lockKey, lockTtl);
+        if (token != null) {
+            Object value = null;
+            try {
+                // 잠금을 얻는 사이 다른 노드가 적재를 끝냈을 수 있다
+                ValueWrapper cached = delegate.get(key);
+                value = cached != null ? unwrap(cached.get()) : load(key, valueLoader);
+                return value;
+            } finally {
+                if (value != null) {
+                    loadLock.release(lockKey, token);
+                } else {
+                    loadLock.abandon(lockKey, token, abandonMarkerTtl());
+                }
+            }
+        }
+
+        long deadline = System.nanoTime() + lockTtl.toNanos();
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(pollInterval.toMillis());
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return unwrap(cached.get());
+            }
+            if (loadLock.isAbandoned(lockKey)) {
+                break; // 적재 노드가 실패함: 남은 잠금 TTL 을 기다리지 않는다
+            }
+        }
+        return load(key, valueLoader);
+    }
+
+    // 기다리는 노드는 pollInterval 마다 확인하므로 몇 번의 폴링 동안만 남기면 된다 (다음 적재 시도의 대기자까지 건너뛰지 않도록 짧게)
+    private Duration abandonMarkerTtl() {
+        return pollInterval.multipliedBy(3);
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) throws Exception {
+        Object value = valueLoader.call();
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    private Object envelope(Object value) {
+        if (!spec.refreshAhead()) {
+            return new CacheEnvelope(value, 0);
+        }
+        return new CacheEnvelope(value, clock.millis() + spec.jittered(spec.getRefreshAfter()).toMillis());
+    }
+
+    // 배포 직후 남아 있는 감싸지 않은 값도 그대로 읽는다
+    private static Object unwrap(Object stored) {
+        return stored instanceof CacheEnvelope envelope ? envelope.value() : stored;
+    }
+
+    private String lockKey(String flightKey) {
+        return getName() + ":" + flightKey;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 모든 캐시를 CoalescingCache 로 감싸는 CacheManager. refresh-ahead 설정은 캐시 이름별 스펙을 따른다.
+ */
+public class CoalescingCacheManager implements DelegatingCacheManager {
+
+    private final CacheManager delegate;
+    private final LoadLock loadLock;
+    private final Duration lockTtl;
+    private final Duration pollInterval;
+    private final CacheSpecProperties specs;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<String, CoalescingCache> caches = new ConcurrentHashMap<>();
+
+    public CoalescingCacheManager(CacheManager delegate, LoadLock loadLock, Duration lockTtl, Duration pollInterval,
+                                  CacheSpecProperties specs, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.loadLock = loadLock;
+        this.lockTtl = lockTtl;
+        this.pollInterval = pollInterval;
+        this.specs = specs;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            return cache != null
+                    ? new CoalescingCache(cache, loadLock, lockTtl, pollInterval, specs.specFor(n), refreshExecutor)
+                    : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 1바이트 헤더 + Smile 본문. 본문이 임계값 이상이면 deflate 로 압축한다.
+ * - 0x01: Smile, 0x02: deflate(Smile)
+ * - 그 외('{' 등)는 이전 JSON 직렬화 값으로 보고 legacy 로 읽는다 (배포 중 남아 있는 값 호환)
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte SMILE = 0x01;
+    static final byte SMILE_DEFLATE = 0x02;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacy;
+    private final int compressThreshold;
+
+    public CompactRedisSerializer(ObjectMapper smileMapper, RedisSerializer<Object> legacy, int compressThreshold) {
+        this.smileMapper = smileMapper;
+        this.legacy = legacy;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        try {
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            if (compressThreshold > 0 && body.length >= compressThreshold) {
+                byte[] compressed = deflate(body);
+                if (compressed.length < body.length) {
+                    return frame(SMILE_DEFLATE, compressed);
+                }
+            }
+            return frame(SMILE, body);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case SMILE_DEFLATE -> smileMapper.readValue(inflate(bytes), Object.class);
+                default -> legacy.deserialize(bytes);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] frame(byte format, byte[] body) {
+        byte[] framed = new byte[body.length + 1];
+        framed[0] = format;
+        System.arraycopy(body, 0, framed, 1, body.length);
+        return framed;
+    }
+
+    private static byte[] deflate(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(body);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] framed) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(framed, 1, framed.length - 1))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.CacheManager;
+
+/**
+ * 다른 CacheManager 를 감싸는 데코레이터 (계층을 따라 내려가며 특정 계층을 찾을 때 사용)
+ */
+public interface DelegatingCacheManager extends CacheManager {
+
+    CacheManager getDelegate();
+
+    /**
+     * 데코레이터 계층을 따라 내려가며 type 에 해당하는 CacheManager 를 찾는다. 없으면 null
+     */
+    static <T extends CacheManager> T unwrap(CacheManager cacheManager, Class<T> type) {
+        CacheManager current = cacheManager;
+        while (current != null) {
+            if (type.isInstance(current)) {
+                return type.cast(current);
+            }
+            current = current instanceof DelegatingCacheManager delegating ? delegating.getDelegate() : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 키 패밀리 단위 무효화를 지원하는 캐시 (CacheKeyFamily 참고)
+ */
+public interface FamilyEvictingCache extends Cache {
+
+    void evictFamily(String family);
+}
@@ -0,0 +1,11 @@
+package dev.lepelaka.kiosk.global.cache;
+
+/**
+ * 캐시 세대 카운터 저장소 (노드 간 공유)
+ */
+public interface GenerationStore {
+
+    long get(String key);
+
+    long increment(String key);
+}
@@ -0,0 +1,81 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 키 앞에 세대 번호를 붙이는 캐시 데코레이터.
+ * - clear() 는 키를 지우지 않고 캐시 세대만 올린다 (O(1)). 이전 세대 키는 더 이상 조회되지 않고 TTL 로 사라진다.
+ * - "패밀리|..." 형태의 키는 패밀리 세대도 함께 붙어서 evictFamily 로 패밀리만 무효화할 수 있다.
+ * - 실제 키: g{캐시 세대}:{키} 또는 g{캐시 세대}:{패밀리}#{패밀리 세대}|{나머지}
+ */
+public class GenerationalCache implements FamilyEvictingCache {
+
+    private final Cache delegate;
+    private final CacheGenerations generations;
+
+    public GenerationalCache(Cache delegate, CacheGenerations generations) {
+        this.delegate = delegate;
+        this.generations = generations;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(stamp(key));
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(stamp(key), type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(stamp(key), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(stamp(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(stamp(key));
+    }
+
+    @Override
+    public void clear() {
+        generations.bump(getName());
+    }
+
+    @Override
+    public void evictFamily(String family) {
+        generations.bump(familyKey(family));
+    }
+
+    String stamp(Object key) {
+        String raw = String.valueOf(key);
+        String prefix = "g" + generations.current(getName()) + ":";
+        String family = CacheKeyFamily.familyOf(raw);
+        if (family == null) {
+            return prefix + raw;
+        }
+        return prefix + family + "#" + generations.current(familyKey(family)) + raw.substring(family.length());
+    }
+
+    private String familyKey(String family) {
+        return getName() + ":" + family;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 모든 캐시를 GenerationalCache 로 감싸는 CacheManager.
+ * @CacheEvict(allEntries = true) 가 Redis KEYS/SCAN 삭제 대신 세대 증가 한 번으로 끝난다.
+ */
+public class GenerationalCacheManager implements DelegatingCacheManager {
+
+    private final CacheManager delegate;
+    private final CacheGenerations generations;
+    private final ConcurrentMap<String, GenerationalCache> caches = new ConcurrentHashMap<>();
+
+    public GenerationalCacheManager(CacheManager delegate, CacheGenerations generations) {
+        this.delegate = delegate;
+        this.generations = generations;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache cache = delegate.getCache(n);
+            return cache != null ? new GenerationalCache(cache, generations) : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    @Override
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
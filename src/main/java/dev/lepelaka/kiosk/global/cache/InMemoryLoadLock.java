@@ -0,0 +1,38 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 JVM 용 적재 잠금 (테스트에서 여러 노드가 공유하는 Redis 잠금 대용). 잠금 TTL 은 무시하고, 포기 표시만 만료시킨다.
+ */
+public class InMemoryLoadLock implements LoadLock {
+
+    private final Map<String, String> locks = new ConcurrentHashMap<>();
+    private final Map<String, Long> abandonedUntil = new ConcurrentHashMap<>();
+
+    @Override
+    public String tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return locks.putIfAbsent(key, token) == null ? token : null;
+    }
+
+    @Override
+    public void release(String key, String token) {
+        locks.remove(key, token);
+    }
+
+    @Override
+    public void abandon(String key, String token, Duration markerTtl) {
+        abandonedUntil.put(key, System.nanoTime() + markerTtl.toNanos());
+        release(key, token);
+    }
+
+    @Override
+    public boolean isAbandoned(String key) {
+        Long until = abandonedUntil.get(key);
+        return until != null && System.nanoTime() - until < 0;
+    }
+}
@@ -0,0 +1,87 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 가장 바깥 계층에서 논리 키(세대 번호가 붙기 전) 기준으로 적중/적재/무효화를 기록한다 (CacheMetrics)
+ */
+public class InstrumentedCache implements FamilyEvictingCache {
+
+    private final Cache delegate;
+    private final CacheMetrics metrics;
+
+    public InstrumentedCache(Cache delegate, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        metrics.recordGet(getName(), key, wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        metrics.recordGet(getName(), key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long started = System.nanoTime();
+            try {
+                return valueLoader.call();
+            } finally {
+                metrics.recordLoad(getName(), key, System.nanoTime() - started);
+            }
+        });
+        // 다른 요청의 적재 결과를 받은 경우(적재 합치기)는 이 요청 입장에서 적중으로 센다
+        metrics.recordGet(getName(), key, !loaded[0]);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        metrics.recordEviction(getName(), CacheKeyFamily.patternOf(key), "key");
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        metrics.recordEviction(getName(), "*", "clear");
+    }
+
+    @Override
+    public void evictFamily(String family) {
+        if (delegate instanceof FamilyEvictingCache familyEvicting) {
+            familyEvicting.evictFamily(family);
+        } else {
+            delegate.clear();
+        }
+        metrics.recordEviction(getName(), CacheKeyFamily.patternOf(family), "family");
+    }
+}
@@ -0,0 +1,25 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+/**
+ * 키마다 TTL 에 0 ~ jitter 를 더해서 같은 시각에 적재된 페이지들이 한꺼번에 만료되지 않게 한다.
+ * 캐시와 defaults 모두 ttl 이 비어 있으면 CacheSpecProperties.DEFAULT_TTL 을 쓴다.
+ */
+public class JitteredTtl implements RedisCacheWriter.TtlFunction {
+
+    private final CacheSpecProperties.Spec spec;
+    private final Duration ttl;
+
+    public JitteredTtl(CacheSpecProperties.Spec spec) {
+        this.spec = spec;
+        this.ttl = spec.getTtl() != null ? spec.getTtl() : CacheSpecProperties.DEFAULT_TTL;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        return spec.jittered(ttl);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 하나의 계층별 적중/실패 카운터
+ */
+public class LayeredCacheStats {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder invalidationsReceived = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void invalidationReceived() {
+        invalidationsReceived.increment();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(localHits.sum(), localMisses.sum(), remoteHits.sum(), remoteMisses.sum(), invalidationsReceived.sum());
+    }
+
+    public record Snapshot(long localHits, long localMisses, long remoteHits, long remoteMisses, long invalidationsReceived) {
+
+        public double localHitRatio() {
+            long total = localHits + localMisses;
+            return total == 0 ? 0 : (double) localHits / total;
+        }
+
+        public double remoteHitRatio() {
+            long total = remoteHits + remoteMisses;
+            return total == 0 ? 0 : (double) remoteHits / total;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드 간 캐시 적재 잠금 (같은 키를 여러 노드가 동시에 DB 에서 읽지 않도록)
+ */
+public interface LoadLock {
+
+    /**
+     * @return 잠금을 얻었으면 해제용 토큰, 못 얻었으면 null
+     */
+    String tryAcquire(String key, Duration ttl);
+
+    void release(String key, String token);
+
+    /**
+     * 값을 캐시에 올리지 못하고(적재 실패, null 결과) 해제한다.
+     * 기다리는 노드가 잠금 TTL 까지 폴링하지 않도록 markerTtl 동안 표시를 남긴다.
+     */
+    void abandon(String key, String token, Duration markerTtl);
+
+    /**
+     * 최근에 abandon 된 적재인지 (기다리던 노드는 바로 직접 적재한다)
+     */
+    boolean isAbandoned(String key);
+}
@@ -0,0 +1,37 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시별 직렬화 크기 기록 (RedisCacheConfiguration 이 캐시마다 따로라 이름을 알 수 있다)
+ */
+public class MeasuringRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final String cacheName;
+    private final CacheMetrics metrics;
+
+    public MeasuringRedisSerializer(RedisSerializer<Object> delegate, String cacheName, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.cacheName = cacheName;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            metrics.recordPayload(cacheName, "write", bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            metrics.recordPayload(cacheName, "read", bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+}
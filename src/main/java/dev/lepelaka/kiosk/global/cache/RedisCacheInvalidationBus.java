@@ -0,0 +1,58 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 무효화 전파. 메시지 유실 시에도 로컬 캐시 TTL 이 지나면 정리된다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    public static final String CHANNEL = "kiosk:cache:invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                                     ObjectMapper objectMapper, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(invalidation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        // 전파 실패가 요청 실패로 이어지지 않도록 함 (다른 노드는 로컬 TTL 로 수렴)
+        if (!circuitBreaker.run(() -> redisTemplate.convertAndSend(CHANNEL, message))) {
+            log.warn("Cache invalidation publish skipped: {}", invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidation.class));
+            } catch (Exception e) {
+                log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+}
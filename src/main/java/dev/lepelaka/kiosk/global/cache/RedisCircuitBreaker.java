@@ -0,0 +1,136 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 캐시용 Redis 호출 차단기. 캐시 계층(값, 세대, 적재 잠금, 무효화 발행)이 하나를 공유한다.
+ * - CLOSED: 연속 실패가 failureThreshold 에 닿으면 OPEN
+ * - OPEN: Redis 를 호출하지 않고 곧바로 대체 경로(로컬 캐시/DB)로 간다. openDuration 이 지나면 한 요청만 시험 호출 (HALF_OPEN)
+ * - HALF_OPEN: 시험 호출이 성공하면 CLOSED + 복구 리스너 실행(밀린 무효화 반영), 실패하면 다시 OPEN
+ * Redis 장애로 볼 예외는 DataAccessException(연결 실패, 타임아웃 등) 뿐이다. 직렬화 오류 등은 그대로 던진다.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    public RedisCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    RedisCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public <T> T call(Supplier<T> action, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            rejected.incrementAndGet();
+            return fallback.get();
+        }
+        T result;
+        try {
+            result = action.get();
+        } catch (DataAccessException e) {
+            onFailure(e);
+            return fallback.get();
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+        onSuccess();
+        return result;
+    }
+
+    /**
+     * @return 실행했으면 true, 차단됐거나 Redis 오류로 실패했으면 false
+     */
+    public boolean run(Runnable action) {
+        return call(() -> {
+            action.run();
+            return true;
+        }, () -> false);
+    }
+
+    public void onRecovery(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(state.get(), consecutiveFailures.get(), rejected.get());
+    }
+
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.millis() - openedAt.get() >= openDuration.toMillis()) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN); // 시험 호출은 한 요청만
+        }
+        return false;
+    }
+
+    // 시험 호출이 Redis 와 무관한 이유로 실패한 경우: 다음 요청이 다시 시험하도록 OPEN 으로 되돌린다
+    private void release() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Redis cache circuit closed, replaying pending invalidations");
+            recoveryListeners.forEach(RedisCircuitBreaker::runQuietly);
+        }
+    }
+
+    private void onFailure(DataAccessException e) {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            openedAt.set(clock.millis()); // 상태를 바꾸기 전에 기록해야 다른 스레드가 옛 시각으로 시험 호출하지 않는다
+            state.compareAndSet(State.HALF_OPEN, State.OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && current == State.CLOSED) {
+            openedAt.set(clock.millis());
+            if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+                log.warn("Redis cache circuit opened after {} consecutive failures: {}", failureThreshold, e.getMessage());
+            }
+        }
+    }
+
+    private static void runQuietly(Runnable listener) {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            log.warn("Cache recovery listener failed: {}", e.getMessage());
+        }
+    }
+
+    public record Snapshot(State state, int consecutiveFailures, long rejectedCalls) {
+    }
+}
@@ -0,0 +1,29 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis INCR 기반 세대 카운터. 키는 만료 없이 유지된다 (값 하나라 부담 없음).
+ */
+public class RedisGenerationStore implements GenerationStore {
+
+    private static final String PREFIX = "kiosk:cache:gen:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisGenerationStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long get(String key) {
+        String value = redisTemplate.opsForValue().get(PREFIX + key);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    @Override
+    public long increment(String key) {
+        Long value = redisTemplate.opsForValue().increment(PREFIX + key);
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SET NX PX 기반 짧은 잠금. 해제는 토큰이 일치할 때만 (만료 후 다른 노드가 잡은 잠금을 지우지 않도록).
+ * Redis 장애 시(차단기 OPEN 포함)에는 기다리지 않고 잠금 없이 진행한다 (최악의 경우 노드별 1회씩 적재).
+ */
+public class RedisLoadLock implements LoadLock {
+
+    private static final String PREFIX = "kiosk:cache:lock:";
+    private static final String ABANDONED_PREFIX = "kiosk:cache:lock-abandoned:";
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, RedisCircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String tryAcquire(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return circuitBreaker.call(() -> {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(PREFIX + key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        }, () -> token);
+    }
+
+    @Override
+    public void release(String key, String token) {
+        // 실패해도 TTL 로 풀린다
+        circuitBreaker.run(() -> redisTemplate.execute(RELEASE, List.of(PREFIX + key), token));
+    }
+
+    // 표시를 먼저 남긴다. 잠금이 먼저 풀리면 기다리던 노드 중 하나가 새로 잠금을 잡기 전에 표시를 못 볼 수 있다
+    @Override
+    public void abandon(String key, String token, Duration markerTtl) {
+        circuitBreaker.run(() -> redisTemplate.opsForValue().set(ABANDONED_PREFIX + key, token, markerTtl));
+        release(key, token);
+    }
+
+    @Override
+    public boolean isAbandoned(String key) {
+        return circuitBreaker.call(() -> Boolean.TRUE.equals(redisTemplate.hasKey(ABANDONED_PREFIX + key)), () -> false);
+    }
+}
@@ -0,0 +1,50 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 차단기를 거치는 세대 저장소.
+ * - 조회 실패: 마지막으로 본 세대를 쓴다
+ * - 증가 실패: 노드 안에서만 세대를 올려 이후 키가 달라지게 하고, 복구 시 공유 저장소에도 증가를 반영한다
+ *   (무효화가 유실되면 복구 후 Redis 에 남은 옛 값이 다시 응답되므로)
+ */
+public class ResilientGenerationStore implements GenerationStore {
+
+    private final GenerationStore delegate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final Map<String, Long> lastKnown = new ConcurrentHashMap<>();
+    private final Set<String> pendingIncrements = ConcurrentHashMap.newKeySet();
+
+    public ResilientGenerationStore(GenerationStore delegate, RedisCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        circuitBreaker.onRecovery(this::replayPending);
+    }
+
+    @Override
+    public long get(String key) {
+        return circuitBreaker.call(() -> remember(key, delegate.get(key)), () -> lastKnown.getOrDefault(key, 0L));
+    }
+
+    @Override
+    public long increment(String key) {
+        return circuitBreaker.call(() -> remember(key, delegate.increment(key)), () -> {
+            pendingIncrements.add(key);
+            return lastKnown.merge(key, 1L, Long::sum);
+        });
+    }
+
+    private long remember(String key, long generation) {
+        lastKnown.put(key, generation);
+        return generation;
+    }
+
+    private void replayPending() {
+        for (String key : pendingIncrements) {
+            pendingIncrements.remove(key);
+            increment(key);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 작고 읽기 위주인 기준 테이블(단말기, 카테고리)의 노드 로컬 스냅샷.
+ * - 조회: 불변 Map 을 volatile 참조로 들고 있어 락/네트워크 없이 읽는다
+ * - 갱신: 테이블 전체를 다시 읽어 새 Map 으로 통째로 교체 (copy-on-write)
+ * - 노드 간: 변경을 커밋한 노드가 무효화 버스로 알리면 다른 노드도 다시 읽는다. 메시지 유실은 주기적 재적재로 수렴
+ * 스냅샷에 없는 ID(마지막 적재 이후 추가된 행)는 호출 측이 DB 로 확인한다.
+ */
+@Slf4j
+public abstract class SnapshotRegistry<T> {
+
+    private final String name;
+    private final CacheInvalidationBus bus;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Map<Long, T> snapshot = Map.of();
+
+    protected SnapshotRegistry(String name, CacheInvalidationBus bus) {
+        this.name = "registry:" + name;
+        this.bus = bus;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    protected abstract List<T> loadAll();
+
+    protected abstract Long idOf(T value);
+
+    public Optional<T> find(Long id) {
+        return Optional.ofNullable(snapshot.get(id));
+    }
+
+    public boolean contains(Long id) {
+        return snapshot.containsKey(id);
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    public synchronized void reload() {
+        snapshot = loadAll().stream().collect(Collectors.toUnmodifiableMap(this::idOf, Function.identity()));
+        onReloaded(snapshot.values());
+    }
+
+    /**
+     * 새 스냅샷으로 교체된 직후 호출된다. 스냅샷에서 파생된 색인을 다시 만들 때 재정의한다.
+     */
+    protected void onReloaded(Collection<T> values) {
+    }
+
+    /**
+     * 이 노드에서 변경이 커밋된 뒤 호출: 다시 읽고 다른 노드에도 알린다.
+     */
+    public void reloadAndBroadcast() {
+        reloadQuietly();
+        bus.publish(new CacheInvalidation(nodeId, name, null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reloadQuietly();
+    }
+
+    @Scheduled(fixedDelayString = "${kiosk.registry.refresh-interval:1m}", initialDelayString = "${kiosk.registry.refresh-interval:1m}")
+    public void refresh() {
+        reloadQuietly();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!name.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        reloadQuietly();
+    }
+
+    // 적재 실패 시 이전 스냅샷을 그대로 쓴다 (없는 ID 는 어차피 DB 로 확인)
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload {}, keeping previous snapshot ({} entries)", name, snapshot.size(), e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬(Caffeine) → 원격(Redis) 순으로 조회하는 2단 캐시.
+ * - 쓰기/삭제는 원격에 먼저 반영하고 다른 노드에는 무효화 메시지만 보낸다 (값은 각 노드가 원격에서 다시 읽음)
+ * - 조회 미스 뒤 채우기(원격에 값이 없던 키의 put)는 알리지 않는다. 다른 노드 로컬에도 없을 값이라 알리면 로컬 계층만 비워진다
+ * - 원격 조회 도중 무효화가 들어오면 읽은 값을 로컬에 올리지 않는다 (오래된 값이 되살아나는 것 방지)
+ * - 로컬 키는 Redis 캐시 키와 같은 문자열 표현을 사용해 무효화 메시지와 맞춘다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus bus;
+    private final String nodeId;
+    private final LayeredCacheStats stats = new LayeredCacheStats();
+    private final AtomicLong generation = new AtomicLong();
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                         CacheInvalidationBus bus, String nodeId) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.bus = bus;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            stats.localHit();
+            return new SimpleValueWrapper(value);
+        }
+        stats.localMiss();
+
+        long observed = generation.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            stats.remoteMiss();
+            return wrapper;
+        }
+        stats.remoteHit();
+        putLocal(localKey, wrapper.get(), observed);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            stats.localHit();
+            return (T) value;
+        }
+        stats.localMiss();
+
+        long observed = generation.get();
+        boolean[] loaded = {false};
+        T result = remote.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        if (loaded[0]) {
+            stats.remoteMiss();
+        } else {
+            stats.remoteHit();
+        }
+        putLocal(localKey, result, observed);
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        if (value == null) {
+            remote.put(key, null);
+            local.invalidate(localKey);
+            bus.publish(new CacheInvalidation(nodeId, name, localKey));
+            return;
+        }
+        // 원격에 없던 키면 채우기로 끝내고, 이미 있던 값을 덮어쓸 때(@CachePut 등)만 다른 노드에 알린다
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing != null) {
+            remote.put(key, value);
+        }
+        local.put(localKey, value);
+        if (existing != null) {
+            bus.publish(new CacheInvalidation(nodeId, name, localKey));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        bus.publish(new CacheInvalidation(nodeId, name, localKey));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        bus.publish(new CacheInvalidation(nodeId, name, null));
+    }
+
+    public LayeredCacheStats.Snapshot stats() {
+        return stats.snapshot();
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 반영 (자기 메시지는 무시)
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        stats.invalidationReceived();
+        generation.incrementAndGet();
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    private void putLocal(String localKey, Object value, long observedGeneration) {
+        if (value == null) {
+            return;
+        }
+        local.put(localKey, value);
+        // 조회하는 사이 무효화가 있었다면 방금 올린 값도 믿을 수 없으므로 다시 뺀다
+        if (generation.get() != observedGeneration) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,74 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 원격 CacheManager(Redis) 앞에 노드별 로컬 캐시를 얹는 CacheManager.
+ * 로컬 TTL 은 원격보다 짧게 잡아 무효화 메시지가 유실되어도 오래된 값이 남아있는 시간을 제한한다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final CacheInvalidationBus bus;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remote, CacheInvalidationBus bus, long maximumSize, Duration expireAfterWrite) {
+        this.remote = remote;
+        this.bus = bus;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Map<String, LayeredCacheStats.Snapshot> stats() {
+        Map<String, LayeredCacheStats.Snapshot> result = new TreeMap<>();
+        caches.forEach((name, cache) -> result.put(name, cache.stats()));
+        return result;
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        return new TwoLevelCache(name, local, remoteCache, bus, nodeId);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
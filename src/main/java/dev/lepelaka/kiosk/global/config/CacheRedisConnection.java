@@ -0,0 +1,63 @@
+package dev.lepelaka.kiosk.global.config;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 캐시 전용 Redis 연결 (값, 적재 잠금, 세대 번호).
+ * 캐시 경로는 차단기 뒤에 있고 로컬 캐시/DB 로 대신 응답할 수 있으므로 타임아웃을 짧게 잡는다.
+ * 대신할 경로가 없는 장바구니/단말기 세션 등은 spring.data.redis 기본 연결(기본 타임아웃)을 그대로 쓴다.
+ * RedisConnectionFactory 타입 빈으로 등록하면 기본 연결 자동 설정이 빠지므로 이 타입으로 감싸서 등록한다.
+ */
+public class CacheRedisConnection implements DisposableBean {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public CacheRedisConnection(RedisProperties properties, Duration commandTimeout, Duration connectTimeout) {
+        RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        standalone.setDatabase(properties.getDatabase());
+        standalone.setUsername(properties.getUsername());
+        if (properties.getPassword() != null) {
+            standalone.setPassword(RedisPassword.of(properties.getPassword()));
+        }
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .build());
+        if (properties.getSsl().isEnabled()) {
+            client.useSsl();
+        }
+
+        // 첫 명령 때 연결한다 (기동 시 Redis 가 없어도 캐시는 차단기로 우회)
+        connectionFactory = new LettuceConnectionFactory(standalone, client.build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    public RedisConnectionFactory connectionFactory() {
+        return connectionFactory;
+    }
+
+    public StringRedisTemplate stringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactory.destroy();
+    }
+}
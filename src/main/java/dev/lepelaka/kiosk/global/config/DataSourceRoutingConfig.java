@@ -0,0 +1,85 @@
+package dev.lepelaka.kiosk.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.lepelaka.kiosk.global.datasource.ReadYourWritesListener;
+import dev.lepelaka.kiosk.global.datasource.ReadYourWritesWindow;
+import dev.lepelaka.kiosk.global.datasource.ReplicationProperties;
+import dev.lepelaka.kiosk.global.datasource.ReplicationRoutingDataSource;
+import dev.lepelaka.kiosk.global.datasource.TerminalContextInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (kiosk.datasource.replication.enabled=true 일 때만).
+ * 비활성 상태에서는 기존처럼 spring.datasource 단일 풀을 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicationProperties.class)
+@ConditionalOnProperty(prefix = "kiosk.datasource.replication", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(ReplicationProperties properties) {
+        return new ReadYourWritesWindow(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadYourWritesListener readYourWritesListener(ReadYourWritesWindow readYourWritesWindow) {
+        return new ReadYourWritesListener(readYourWritesWindow);
+    }
+
+    // p6spy 이중 로깅을 막기 위해 decorator.datasource.exclude-beans 에 routingDataSource 를 등록해 둠
+    @Bean(destroyMethod = "close")
+    public ReplicationRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                         ReplicationProperties properties,
+                                                         ReadYourWritesWindow readYourWritesWindow) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = properties.getReplicas().stream()
+                .map(this::createReplica)
+                .toList();
+        for (int i = 0; i < replicas.size(); i++) {
+            ((HikariDataSource) replicas.get(i)).setPoolName("replica-" + i);
+        }
+
+        return new ReplicationRoutingDataSource(primary, replicas, readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TerminalContextInterceptor());
+    }
+
+    private DataSource createReplica(ReplicationProperties.Replica replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
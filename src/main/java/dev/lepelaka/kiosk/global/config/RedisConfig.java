@@ -1,63 +1,208 @@
 package dev.lepelaka.kiosk.global.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.lepelaka.kiosk.global.cache.CacheGenerations;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.CacheMetrics;
+import dev.lepelaka.kiosk.global.cache.CacheSerializers;
+import dev.lepelaka.kiosk.global.cache.CacheSpecProperties;
+import dev.lepelaka.kiosk.global.cache.CircuitBreakingCacheManager;
+import dev.lepelaka.kiosk.global.cache.CoalescingCacheManager;
+import dev.lepelaka.kiosk.global.cache.GenerationalCacheManager;
+import dev.lepelaka.kiosk.global.cache.InstrumentedCacheManager;
+import dev.lepelaka.kiosk.global.cache.JitteredTtl;
+import dev.lepelaka.kiosk.global.cache.MeasuringRedisSerializer;
+import dev.lepelaka.kiosk.global.cache.RedisCacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.RedisCircuitBreaker;
+import dev.lepelaka.kiosk.global.cache.RedisGenerationStore;
+import dev.lepelaka.kiosk.global.cache.RedisLoadLock;
+import dev.lepelaka.kiosk.global.cache.ResilientGenerationStore;
+import dev.lepelaka.kiosk.global.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 
 @Configuration
-@EnableCaching
-public class RedisConfig {
-
-    @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // Jackson ObjectMapper에 JavaTimeModule 등록 (LocalDateTime 직렬화 지원)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // "2023-10-10T..." 형태의 문자열로 저장
-
-        // LinkedHashMap cast 이슈 해결 및 Record(final) 타입 지원을 위한 커스텀 설정
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
-                .allowIfBaseType(Object.class)
-                .build();
-
-        ObjectMapper.DefaultTypeResolverBuilder typeResolverBuilder = new ObjectMapper.DefaultTypeResolverBuilder(ObjectMapper.DefaultTyping.NON_FINAL, ptv) {
-            @Override
-            public boolean useForType(JavaType t) {
-                // Record 타입이거나, 기본 NON_FINAL 조건(final이 아닌 객체)에 맞으면 타입 정보 포함
-                return t.getRawClass().isRecord() || super.useForType(t);
-            }
-        };
-        typeResolverBuilder.init(JsonTypeInfo.Id.CLASS, null);
-        typeResolverBuilder.inclusion(JsonTypeInfo.As.PROPERTY);
-        objectMapper.setDefaultTyping(typeResolverBuilder);
-
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+// 캐시 어드바이스를 트랜잭션 바깥에 둔다: 적중 시 트랜잭션을 열지 않고, 백그라운드 재적재도 자체 트랜잭션으로 실행된다
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class RedisConfig implements CachingConfigurer {
+
+    @Value("${kiosk.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${kiosk.cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    // Redis TTL(10분)보다 훨씬 짧게: 무효화 메시지가 유실돼도 이 시간 안에 수렴
+    @Value("${kiosk.cache.local.expire-after-write:30s}")
+    private Duration localExpireAfterWrite;
+
+    // 세대 번호 로컬 보관 시간: 세대 증가 메시지가 유실돼도 이 시간 안에 새 세대를 읽는다
+    @Value("${kiosk.cache.generation.local-ttl:5s}")
+    private Duration generationLocalTtl;
+
+    // smile(기본) | json. smile 은 이전 json 값도 읽을 수 있어 배포 중 전환이 가능하다
+    @Value("${kiosk.cache.serializer.format:smile}")
+    private String serializerFormat;
+
+    // 직렬화 결과가 이 크기(바이트) 이상이면 deflate 압축 (0 이면 압축 안 함)
+    @Value("${kiosk.cache.serializer.compress-threshold:1024}")
+    private int compressThreshold;
+
+    // top-keys 보고서용으로 키별 사용량을 들고 있을 최대 키 수
+    @Value("${kiosk.cache.metrics.tracked-keys:5000}")
+    private long trackedKeys;
+
+    // 캐시용 Redis 호출이 연속으로 이만큼 실패하면 open-duration 동안 Redis 를 건너뛴다
+    @Value("${kiosk.cache.circuit-breaker.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${kiosk.cache.circuit-breaker.open-duration:10s}")
+    private Duration circuitOpenDuration;
+
+    // 캐시 미스 적재 잠금: 적재 쿼리 시간보다 넉넉하게. 잠금을 못 얻은 노드는 이 시간 동안 결과를 기다린다
+    @Value("${kiosk.cache.load-lock.ttl:3s}")
+    private Duration loadLockTtl;
+
+    @Value("${kiosk.cache.load-lock.poll-interval:50ms}")
+    private Duration loadLockPollInterval;
+
+    // 캐시 전용 연결 타임아웃: Redis 장애 시 캐시 조회가 DB 조회보다 오래 막히지 않도록 짧게 (차단기가 열리기 전 실패 비용)
+    @Value("${kiosk.cache.redis.command-timeout:300ms}")
+    private Duration cacheCommandTimeout;
+
+    @Value("${kiosk.cache.redis.connect-timeout:500ms}")
+    private Duration cacheConnectTimeout;
+
+    /**
+     * 계측(InstrumentedCache) → 세대 키(GenerationalCache) → 미스 적재 합치기(CoalescingCache) → 로컬(Caffeine) → 차단기 → Redis 순서.
+     * kiosk.cache.local.enabled=false 면 로컬 계층 없이 Redis 단독.
+     * Redis 가 느리거나 죽으면 차단기가 열려 로컬 캐시/DB 로 바로 응답하고, 시험 호출이 성공하면 자동 복구된다.
+     * 적재 합치기는 세대가 붙은 키 기준이라 세대 증가 직후의 동시 미스가 한 번의 DB 조회로 모인다.
+     * Redis 호출(값, 적재 잠금)은 짧은 타임아웃의 캐시 전용 연결로 한다.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheRedisConnection cacheRedisConnection, CacheInvalidationBus cacheInvalidationBus,
+                                     CacheGenerations cacheGenerations,
+                                     CacheSpecProperties cacheSpecProperties, ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                     RedisCircuitBreaker redisCircuitBreaker, CacheMetrics cacheMetrics) {
+        CacheManager cacheManager = new CircuitBreakingCacheManager(
+                redisCacheManager(cacheRedisConnection.connectionFactory(), cacheSpecProperties, cacheMetrics), redisCircuitBreaker);
+        if (localCacheEnabled) {
+            cacheManager = new TwoLevelCacheManager(cacheManager, cacheInvalidationBus, localMaximumSize, localExpireAfterWrite);
+        }
+        cacheManager = new CoalescingCacheManager(cacheManager, new RedisLoadLock(cacheRedisConnection.stringRedisTemplate(), redisCircuitBreaker), loadLockTtl, loadLockPollInterval,
+                cacheSpecProperties, cacheRefreshExecutor);
+        return new InstrumentedCacheManager(new GenerationalCacheManager(cacheManager, cacheGenerations), cacheMetrics);
+    }
+
+    /**
+     * 차단기가 잡지 못한 캐시 오류(직렬화 실패 등)도 요청 실패로 만들지 않고 캐시 미스로 처리한다
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    @Bean
+    public CacheRedisConnection cacheRedisConnection(RedisProperties redisProperties) {
+        return new CacheRedisConnection(redisProperties, cacheCommandTimeout, cacheConnectTimeout);
+    }
+
+    @Bean
+    public CacheMetrics cacheMetrics(MeterRegistry meterRegistry) {
+        return new CacheMetrics(meterRegistry, trackedKeys);
+    }
+
+    @Bean
+    public RedisCircuitBreaker redisCircuitBreaker() {
+        return new RedisCircuitBreaker(circuitFailureThreshold, circuitOpenDuration);
+    }
+
+    /**
+     * refresh-ahead 재적재 전용. 큐가 차면 재적재를 건너뛰고 기존 값을 계속 응답한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+
+    @Bean
+    public CacheGenerations cacheGenerations(CacheRedisConnection cacheRedisConnection, CacheInvalidationBus cacheInvalidationBus,
+                                             RedisCircuitBreaker redisCircuitBreaker) {
+        ResilientGenerationStore store = new ResilientGenerationStore(
+                new RedisGenerationStore(cacheRedisConnection.stringRedisTemplate()), redisCircuitBreaker);
+        return new CacheGenerations(store, cacheInvalidationBus, generationLocalTtl);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                                     ObjectMapper objectMapper, RedisCircuitBreaker redisCircuitBreaker) {
+        return new RedisCacheInvalidationBus(stringRedisTemplate, redisMessageListenerContainer, objectMapper, redisCircuitBreaker);
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheSpecProperties specs, CacheMetrics metrics) {
+        RedisSerializer<Object> serializer = CacheSerializers.create(serializerFormat, compressThreshold);
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10)) // 기본 TTL 10분
                 .disableCachingNullValues()
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
 //                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 ;
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        // 세대 방식이라 clear 는 거의 호출되지 않지만, 호출되더라도 KEYS 대신 SCAN 으로 지운다
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000));
+        // 캐시별 TTL 은 kiosk.cache.specs 에서 (키마다 jitter 를 더해 만료 시각을 흩뜨림)
+        // 직렬화 크기를 캐시 이름별로 기록하려고 설정된 캐시마다 직렬화기를 따로 둔다 (그 외 캐시는 "other")
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(config.entryTtl(new JitteredTtl(specs.getDefaults()))
+                        .serializeValuesWith(measured(serializer, "other", metrics)));
+        specs.getSpecs().keySet().forEach(name ->
+                builder.withCacheConfiguration(name, config.entryTtl(new JitteredTtl(specs.specFor(name)))
+                        .serializeValuesWith(measured(serializer, name, metrics))));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet(); // 빈이 아니므로 직접 초기화
+        return redisCacheManager;
+    }
+
+    private static RedisSerializationContext.SerializationPair<Object> measured(RedisSerializer<Object> serializer, String cacheName,
+                                                                              CacheMetrics metrics) {
+        return RedisSerializationContext.SerializationPair.fromSerializer(new MeasuringRedisSerializer(serializer, cacheName, metrics));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import dev.lepelaka.kiosk.domain.order.event.OrderPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 주문 커밋 후 해당 단말기의 읽기를 잠시 프라이머리로 고정.
+ * 같은 요청 안의 후속 조회(주문 생성 직후 getOrder 등)도 프라이머리를 타도록 요청 스레드에 단말기 ID 를 심는다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesListener {
+
+    private final ReadYourWritesWindow window;
+
+    @TransactionalEventListener
+    public void onPlaced(OrderPlacedEvent event) {
+        window.markWritten(event.terminalId());
+        if (window.isEnabled() && TerminalContext.current() == null && RequestContextHolder.getRequestAttributes() != null) {
+            TerminalContext.set(event.terminalId());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단말기별 "방금 쓴 데이터는 프라이머리에서 읽기" 구간.
+ * - 주문 커밋 직후 markWritten 으로 만료 시각을 기록
+ * - 구간 길이가 0 이면 비활성 (항상 false)
+ */
+public class ReadYourWritesWindow {
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<Long, Long> expiresAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesWindow(Duration window, Clock clock) {
+        this.window = window == null ? Duration.ZERO : window;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+
+    public void markWritten(Long terminalId) {
+        if (!isEnabled() || terminalId == null) {
+            return;
+        }
+        expiresAt.put(terminalId, clock.millis() + window.toMillis());
+    }
+
+    public boolean isActive(Long terminalId) {
+        if (terminalId == null) {
+            return false;
+        }
+        Long until = expiresAt.get(terminalId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            expiresAt.remove(terminalId, until); // 만료된 항목은 조회 시 정리
+            return false;
+        }
+        return true;
+    }
+}
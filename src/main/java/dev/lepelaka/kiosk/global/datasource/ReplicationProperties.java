@@ -0,0 +1,38 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * kiosk.datasource.replication.*
+ * 프라이머리는 spring.datasource 를 그대로 쓰고, 레플리카만 여기서 추가로 받는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "kiosk.datasource.replication")
+public class ReplicationProperties {
+
+    private boolean enabled;
+
+    /**
+     * 주문 직후 해당 단말기를 프라이머리로 고정하는 시간 (0 이면 사용 안 함)
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
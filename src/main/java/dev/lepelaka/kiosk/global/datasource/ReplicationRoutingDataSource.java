@@ -0,0 +1,68 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 레플리카로, 그 외(쓰기/트랜잭션 없음)는 프라이머리로 보내는 라우팅 DataSource.
+ * - 트랜잭션 시작 시점에는 readOnly 플래그가 아직 세팅되지 않으므로
+ *   반드시 LazyConnectionDataSourceProxy 로 감싸서 실제 쿼리 시점에 커넥션을 얻어야 한다.
+ * - 레플리카가 여러 개면 라운드 로빈
+ * - 직전에 주문을 넣은 단말기는 ReadYourWritesWindow 동안 프라이머리에서 읽는다 (복제 지연 회피)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesWindow readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesWindow = readYourWritesWindow;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        if (readYourWritesWindow.isActive(TerminalContext.current())) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + Math.floorMod(sequence.getAndIncrement(), replicas.size());
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            closeQuietly(replica);
+        }
+        closeQuietly(primary);
+    }
+
+    private void closeQuietly(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+/**
+ * 현재 요청을 보낸 단말기 ID (X-Terminal-Id 헤더 또는 같은 요청 안에서 방금 주문한 단말기).
+ * TerminalContextInterceptor 가 요청 종료 시 정리한다.
+ */
+public final class TerminalContext {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private TerminalContext() {
+    }
+
+    public static Long current() {
+        return CURRENT.get();
+    }
+
+    public static void set(Long terminalId) {
+        CURRENT.set(terminalId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
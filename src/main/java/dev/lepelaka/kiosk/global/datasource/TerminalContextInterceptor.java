@@ -0,0 +1,31 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * X-Terminal-Id 헤더를 TerminalContext 에 담고, 요청이 끝나면 비운다.
+ */
+public class TerminalContextInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Terminal-Id";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String header = request.getHeader(HEADER);
+        if (header != null && !header.isBlank()) {
+            try {
+                TerminalContext.set(Long.valueOf(header.trim()));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 헤더는 무시하고 일반 라우팅
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TerminalContext.clear();
+    }
+}
@@ -32,6 +32,7 @@ public enum ErrorCode {
     INVALID_ORDER_STATUS("ORDER-103", "유효하지 않은 주문상태입니다", HttpStatus.BAD_REQUEST),
     EMPTY_ORDER_ITEMS("ORDER-104", "주문 항목이 비어있습니다", HttpStatus.BAD_REQUEST),
     INACTIVE_PRODUCT_IN_ORDER("ORDER-105", "비활성 상품이 포함되어있습니다", HttpStatus.BAD_REQUEST),
+    PRODUCT_NOT_ON_SALE("ORDER-106", "판매 시간이 아닌 상품이 포함되어있습니다", HttpStatus.BAD_REQUEST),
 
     ORDER_ALREADY_CONFIRMED("ORDER-201", "이미 확정된 주문입니다", HttpStatus.CONFLICT),
     ORDER_ALREADY_CANCELED("ORDER-202", "이미 취소된 주문입니다", HttpStatus.CONFLICT),
@@ -42,13 +43,34 @@ public enum ErrorCode {
 
     // ── Category ─────────────────────────────────────────────────────────────
     CATEGORY_NOT_FOUND("CATEGORY-001", "카테고리를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    DUPLICATE_CATEGORY_NAME("CATEGORY-201", "이미 존재하는 카테고리명입니다", HttpStatus.CONFLICT),
+
+    // ── Menu ─────────────────────────────────────────────────────────────────
+    MENU_SCHEDULE_NOT_FOUND("MENU-001", "판매 일정을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    INVALID_MENU_SCHEDULE("MENU-101", "유효하지 않은 판매 일정입니다", HttpStatus.BAD_REQUEST),
+
+    // ── Promotion ────────────────────────────────────────────────────────────
+    PROMOTION_NOT_FOUND("PROMOTION-001", "프로모션을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    INVALID_PROMOTION("PROMOTION-101", "유효하지 않은 프로모션입니다", HttpStatus.BAD_REQUEST),
+    INVALID_COUPON("PROMOTION-102", "사용할 수 없는 쿠폰입니다", HttpStatus.BAD_REQUEST),
+    COUPON_SOLD_OUT("PROMOTION-201", "쿠폰이 모두 소진되었습니다", HttpStatus.CONFLICT),
+
+    // ── Cart ─────────────────────────────────────────────────────────────────
+    EMPTY_CART("CART-101", "장바구니가 비어있습니다", HttpStatus.BAD_REQUEST),
+    CART_QUANTITY_EXCEEDED("CART-102", "담을 수 있는 수량을 넘었습니다", HttpStatus.BAD_REQUEST),
 
     // ── Terminal ─────────────────────────────────────────────────────────────
     TERMINAL_AUTH_REQUIRED("TERMINAL-001", "인증이 필요합니다", HttpStatus.UNAUTHORIZED),
     TERMINAL_AUTH_INVALID("TERMINAL-002", "잘못된 인증입니다", HttpStatus.UNAUTHORIZED),
     TERMINAL_KEY_MISMATCH("TERMINAL-003", "키가 일치하지 않습니다", HttpStatus.UNAUTHORIZED),
     TERMINAL_INACTIVE("TERMINAL-004", "비활성화된 단말기입니다", HttpStatus.FORBIDDEN),
-    TERMINAL_MAINTENANCE("TERMINAL-005", "정비중인 단말기입니다", HttpStatus.FORBIDDEN);
+    TERMINAL_MAINTENANCE("TERMINAL-005", "정비중인 단말기입니다", HttpStatus.FORBIDDEN),
+    TERMINAL_NOT_FOUND("TERMINAL-006", "단말기를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+
+    // ── Settlement ───────────────────────────────────────────────────────────
+    SETTLEMENT_NOT_FOUND("SETTLEMENT-001", "정산 내역을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    SETTLEMENT_IN_PROGRESS("SETTLEMENT-201", "이미 정산이 진행중입니다", HttpStatus.CONFLICT),
+    SETTLEMENT_FAILED("SETTLEMENT-901", "정산 처리에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR);
 
     private final String code;
     private final String message;
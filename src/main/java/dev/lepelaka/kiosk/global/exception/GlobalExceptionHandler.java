@@ -3,6 +3,7 @@ package dev.lepelaka.kiosk.global.exception;
 import dev.lepelaka.kiosk.domain.category.exception.CategoryException;
 import dev.lepelaka.kiosk.domain.order.exception.OrderException;
 import dev.lepelaka.kiosk.domain.product.exception.ProductException;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementException;
 import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
@@ -46,6 +47,12 @@ public class GlobalExceptionHandler {
         return buildResponse(ex);
     }
 
+    @ExceptionHandler(SettlementException.class)
+    public ResponseEntity<ErrorResponse> handleSettlementException(SettlementException ex) {
+        log.warn("Settlement exception [{}] : {}", ex.getErrorCode().getCode(), ex.getMessage());
+        return buildResponse(ex);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
         log.warn("Business exception [{}] : {}", ex.getErrorCode().getCode(), ex.getMessage());
@@ -0,0 +1,184 @@
+package dev.lepelaka.kiosk.domain.cart.component;
+
+import dev.lepelaka.kiosk.domain.cart.exception.CartQuantityExceededException;
+import dev.lepelaka.kiosk.domain.cart.exception.EmptyCartException;
+import dev.lepelaka.kiosk.domain.cart.service.CartService;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
+import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalSessionStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers
+class CartStoreTest {
+
+    private static final int MAX = 99;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7.0-alpine")
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private CartStore cartStore;
+    private String session;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        cartStore = new CartStore(redisTemplate, Duration.ofMinutes(30));
+        session = UUID.randomUUID().toString();
+    }
+
+    @DisplayName("담은 뒤 한도를 넘는 상품이 하나라도 있으면 다른 상품도 더하지 않는다.")
+    @Test
+    void addOverCapChangesNothing() {
+        // given
+        cartStore.add(session, Map.of(100L, 95, 200L, 1), MAX);
+
+        // when & then
+        assertThatThrownBy(() -> cartStore.add(session, Map.of(200L, 2, 100L, 5), MAX))
+                .isInstanceOf(CartQuantityExceededException.class)
+                .hasMessageContaining("상품 ID : 100, 수량 : 100");
+        assertThat(cartStore.items(session)).containsExactly(Map.entry(100L, 95), Map.entry(200L, 1));
+        assertThat(redisTemplate.getExpire("cart:" + session)).isPositive();
+    }
+
+    @DisplayName("수량이 0 이하가 된 상품은 필드를 남기지 않는다.")
+    @Test
+    void removeEmptyFields() {
+        // given
+        cartStore.add(session, Map.of(100L, 2, 200L, 1), MAX);
+
+        // when
+        SortedMap<Long, Integer> items = cartStore.add(session, Map.of(100L, -2), MAX);
+        cartStore.put(session, 200L, 0);
+
+        // then
+        assertThat(items).containsExactly(Map.entry(200L, 1));
+        assertThat(redisTemplate.opsForHash().keys("cart:" + session)).isEmpty();
+    }
+
+    @DisplayName("같은 장바구니를 동시에 가져가면 한 요청만 내용을 받는다.")
+    @Test
+    void claimRace() throws Exception {
+        // given
+        cartStore.add(session, Map.of(100L, 2, 200L, 1), MAX);
+
+        // when
+        List<SortedMap<Long, Integer>> claimed = race(() -> cartStore.claim(session));
+
+        // then
+        assertThat(claimed).filteredOn(items -> !items.isEmpty()).hasSize(1)
+                .first().isEqualTo(Map.of(100L, 2, 200L, 1));
+        assertThat(cartStore.items(session)).isEmpty();
+    }
+
+    @DisplayName("되돌려 넣을 때 그사이 담긴 상품과 합치고 한도를 넘기지 않는다.")
+    @Test
+    void restoreMerges() {
+        // given
+        SortedMap<Long, Integer> claimed = cartStore.add(session, Map.of(100L, 90, 200L, 1), MAX);
+        cartStore.claim(session);
+        cartStore.add(session, Map.of(100L, 20, 300L, 1), MAX);
+
+        // when
+        cartStore.restore(session, claimed, MAX);
+
+        // then
+        assertThat(cartStore.items(session)).containsExactly(Map.entry(100L, MAX), Map.entry(200L, 1), Map.entry(300L, 1));
+    }
+
+    @DisplayName("같은 세션의 주문 요청이 겹치면 한 번만 주문되고 나머지는 빈 장바구니로 거절된다.")
+    @Test
+    void checkoutRace() throws Exception {
+        // given
+        TerminalSessionStore terminalSessionStore = mock(TerminalSessionStore.class);
+        OrderService orderService = mock(OrderService.class);
+        given(terminalSessionStore.resolveTerminalId(session)).willReturn(1L);
+        given(orderService.createOrder(any(OrderCreateRequest.class))).willReturn(42L);
+        CartService cartService = new CartService(cartStore, terminalSessionStore, mock(MenuSnapshotService.class), orderService, MAX);
+        cartStore.add(session, Map.of(100L, 2), MAX);
+
+        // when
+        List<Object> results = race(() -> {
+            try {
+                return cartService.checkout(session, null);
+            } catch (EmptyCartException e) {
+                return e;
+            }
+        });
+
+        // then
+        assertThat(results).containsOnlyOnce(42L);
+        assertThat(results).filteredOn(EmptyCartException.class::isInstance).hasSize(1);
+        verify(orderService, times(1)).createOrder(any(OrderCreateRequest.class));
+    }
+
+    private static <T> List<T> race(Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+            ready.await();
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package dev.lepelaka.kiosk.domain.cart.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.lepelaka.kiosk.domain.cart.dto.CartAddRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartCheckoutRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartQuantityRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartResponse;
+import dev.lepelaka.kiosk.domain.cart.exception.EmptyCartException;
+import dev.lepelaka.kiosk.domain.cart.service.CartService;
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import dev.lepelaka.kiosk.domain.order.dto.OrderResponse;
+import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
+import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(CartController.class)
+class CartControllerTest {
+
+    private static final String SESSION = "session-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @DisplayName("세션의 장바구니를 조회한다.")
+    @Test
+    void getCart() throws Exception {
+        // given
+        given(cartService.getCart(SESSION)).willReturn(cartResponse());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/cart").header(CartController.SESSION_HEADER, SESSION))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].productId").value(100))
+                .andExpect(jsonPath("$.itemAmount").value(8000));
+    }
+
+    @DisplayName("세션 헤더가 없으면 401 로 응답한다.")
+    @Test
+    void getCartWithoutSession() throws Exception {
+        // given
+        given(cartService.getCart(isNull())).willThrow(new TerminalException(ErrorCode.TERMINAL_AUTH_REQUIRED));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/cart"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("TERMINAL-001"));
+    }
+
+    @DisplayName("상품을 담는다.")
+    @Test
+    void addItems() throws Exception {
+        // given
+        CartAddRequest request = new CartAddRequest(List.of(new OrderItemRequest(100L, 2)));
+        given(cartService.addItems(eq(SESSION), any(CartAddRequest.class))).willReturn(cartResponse());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .header(CartController.SESSION_HEADER, SESSION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].quantity").value(2));
+    }
+
+    @DisplayName("담을 상품이 비어있으면 검증에 실패한다.")
+    @Test
+    void addItemsEmpty() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/v1/cart/items")
+                        .header(CartController.SESSION_HEADER, SESSION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartAddRequest(List.of()))))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(cartService);
+    }
+
+    @DisplayName("담긴 상품의 수량을 바꾸고, 빼고, 비운다.")
+    @Test
+    void changeAndRemove() throws Exception {
+        // given
+        given(cartService.changeQuantity(eq(SESSION), eq(100L), any(CartQuantityRequest.class))).willReturn(cartResponse());
+        given(cartService.removeItem(SESSION, 100L)).willReturn(new CartResponse(List.of(), 0));
+
+        // when & then
+        mockMvc.perform(put("/api/v1/cart/items/{productId}", 100L)
+                        .header(CartController.SESSION_HEADER, SESSION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartQuantityRequest(2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines[0].quantity").value(2));
+        mockMvc.perform(delete("/api/v1/cart/items/{productId}", 100L).header(CartController.SESSION_HEADER, SESSION))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lines").isEmpty());
+        mockMvc.perform(delete("/api/v1/cart").header(CartController.SESSION_HEADER, SESSION))
+                .andExpect(status().isNoContent());
+        verify(cartService).clear(SESSION);
+    }
+
+    @DisplayName("장바구니로 주문하면 201 과 주문 위치를 돌려준다.")
+    @Test
+    void checkout() throws Exception {
+        // given
+        given(cartService.checkout(eq(SESSION), any(CartCheckoutRequest.class))).willReturn(1L);
+        given(orderService.getOrder(1L)).willReturn(OrderResponse.builder()
+                .id(1L).orderNumber("20231010-0001").totalAmount(8000).status(OrderStatus.PENDING).build());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/cart/checkout")
+                        .header(CartController.SESSION_HEADER, SESSION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartCheckoutRequest("OPEN10", null))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "http://localhost/api/v1/order/1"))
+                .andExpect(jsonPath("$.orderNumber").value("20231010-0001"));
+    }
+
+    @DisplayName("본문 없이도 주문할 수 있고, 빈 장바구니면 400 으로 응답한다.")
+    @Test
+    void checkoutEmpty() throws Exception {
+        // given
+        given(cartService.checkout(SESSION, null)).willThrow(new EmptyCartException());
+
+        // when & then
+        mockMvc.perform(post("/api/v1/cart/checkout").header(CartController.SESSION_HEADER, SESSION))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CART-101"));
+    }
+
+    private CartResponse cartResponse() {
+        return new CartResponse(List.of(new CartResponse.Line(100L, "아메리카노", 2, 4000, 8000, true)), 8000);
+    }
+}
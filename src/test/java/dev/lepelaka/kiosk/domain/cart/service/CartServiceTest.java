@@ -0,0 +1,151 @@
+package dev.lepelaka.kiosk.domain.cart.service;
+
+import dev.lepelaka.kiosk.domain.cart.component.CartStore;
+import dev.lepelaka.kiosk.domain.cart.dto.CartAddRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartCheckoutRequest;
+import dev.lepelaka.kiosk.domain.cart.dto.CartResponse;
+import dev.lepelaka.kiosk.domain.cart.exception.CartQuantityExceededException;
+import dev.lepelaka.kiosk.domain.cart.exception.EmptyCartException;
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import dev.lepelaka.kiosk.domain.order.exception.InsufficientStockException;
+import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalSessionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CartServiceTest {
+
+    private static final String SESSION = "session-token";
+
+    @Mock
+    private CartStore cartStore;
+    @Mock
+    private TerminalSessionStore terminalSessionStore;
+    @Mock
+    private MenuSnapshotService menuSnapshotService;
+    @Mock
+    private OrderService orderService;
+
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        cartService = new CartService(cartStore, terminalSessionStore, menuSnapshotService, orderService, 99);
+    }
+
+    @DisplayName("같은 상품은 합쳐서 한 번에 담고, 담긴 뒤의 장바구니를 판매 가격으로 돌려준다.")
+    @Test
+    void addItems() {
+        // given
+        given(terminalSessionStore.resolveTerminalId(SESSION)).willReturn(1L);
+        given(menuSnapshotService.current()).willReturn(snapshot());
+        given(cartStore.add(SESSION, Map.of(200L, 1, 100L, 3), 99)).willReturn(new TreeMap<>(Map.of(100L, 3, 200L, 1)));
+
+        // when
+        CartResponse response = cartService.addItems(SESSION, new CartAddRequest(List.of(
+                new OrderItemRequest(200L, 1), new OrderItemRequest(100L, 1), new OrderItemRequest(100L, 2))));
+
+        // then
+        assertThat(response.lines()).extracting(CartResponse.Line::productId, CartResponse.Line::quantity, CartResponse.Line::amount)
+                .containsExactly(tuple(100L, 3, 12000), tuple(200L, 1, 6000));
+        assertThat(response.itemAmount()).isEqualTo(18000);
+    }
+
+    @DisplayName("지금 판매하지 않는 상품은 담을 수 없다.")
+    @Test
+    void addItemsNotOnSale() {
+        // given
+        given(terminalSessionStore.resolveTerminalId(SESSION)).willReturn(1L);
+        given(menuSnapshotService.current()).willReturn(snapshot());
+
+        // when & then
+        assertThatThrownBy(() -> cartService.addItems(SESSION, new CartAddRequest(List.of(
+                new OrderItemRequest(100L, 1), new OrderItemRequest(999L, 1)))))
+                .isInstanceOf(ProductNotFoundException.class);
+        verify(cartStore, never()).add(anyString(), anyMap(), anyInt());
+    }
+
+    @DisplayName("담은 뒤 수량이 한도를 넘으면 저장소가 아무것도 더하지 않고 거절한다.")
+    @Test
+    void addItemsExceeded() {
+        // given
+        given(terminalSessionStore.resolveTerminalId(SESSION)).willReturn(1L);
+        given(menuSnapshotService.current()).willReturn(snapshot());
+        given(cartStore.add(SESSION, Map.of(100L, 5), 99)).willThrow(new CartQuantityExceededException(100L, 100));
+
+        // when & then
+        assertThatThrownBy(() -> cartService.addItems(SESSION, new CartAddRequest(List.of(new OrderItemRequest(100L, 5)))))
+                .isInstanceOf(CartQuantityExceededException.class);
+        verify(cartStore, never()).put(anyString(), anyLong(), anyInt());
+    }
+
+    @DisplayName("장바구니를 가져가며 비우고, 상품 ID 순 주문 요청으로 바꿔 주문한다.")
+    @Test
+    void checkout() {
+        // given
+        given(terminalSessionStore.resolveTerminalId(SESSION)).willReturn(7L);
+        given(cartStore.claim(SESSION)).willReturn(new TreeMap<>(Map.of(300L, 1, 100L, 2, 200L, 1)));
+        given(orderService.createOrder(any(OrderCreateRequest.class))).willReturn(42L);
+
+        // when
+        Long orderId = cartService.checkout(SESSION, new CartCheckoutRequest("OPEN10", null));
+
+        // then
+        ArgumentCaptor<OrderCreateRequest> captor = ArgumentCaptor.forClass(OrderCreateRequest.class);
+        verify(orderService).createOrder(captor.capture());
+        assertThat(orderId).isEqualTo(42L);
+        assertThat(captor.getValue().terminalId()).isEqualTo(7L);
+        assertThat(captor.getValue().couponCode()).isEqualTo("OPEN10");
+        assertThat(captor.getValue().orderItems()).extracting(OrderItemRequest::productId, OrderItemRequest::quantity)
+                .containsExactly(tuple(100L, 2), tuple(200L, 1), tuple(300L, 1));
+        verify(cartStore, never()).restore(anyString(), anyMap(), anyInt());
+    }
+
+    @DisplayName("빈 장바구니(이미 다른 요청이 가져간 경우 포함)는 주문할 수 없고, 주문이 실패하면 가져간 장바구니를 되돌린다.")
+    @Test
+    void checkoutFailed() {
+        // given
+        given(terminalSessionStore.resolveTerminalId(SESSION)).willReturn(7L);
+        given(cartStore.claim(SESSION)).willReturn(new TreeMap<>(), new TreeMap<>(Map.of(100L, 2)));
+        given(orderService.createOrder(any(OrderCreateRequest.class))).willThrow(new InsufficientStockException(100L, 1, 2));
+
+        // when & then
+        assertThatThrownBy(() -> cartService.checkout(SESSION, null)).isInstanceOf(EmptyCartException.class);
+        assertThatThrownBy(() -> cartService.checkout(SESSION, null)).isInstanceOf(InsufficientStockException.class);
+        verify(cartStore).restore(SESSION, new TreeMap<>(Map.of(100L, 2)), 99);
+    }
+
+    private MenuSnapshot snapshot() {
+        return new MenuSnapshot(1L, "hash", new byte[0], new byte[0], LocalDateTime.of(2026, 10, 19, 12, 0), Map.of(
+                100L, new MenuProductResponse(100L, 1L, "아메리카노", 4000, null, null),
+                200L, new MenuProductResponse(200L, 2L, "치즈케이크", 6000, null, null)));
+    }
+}
@@ -0,0 +1,89 @@
+package dev.lepelaka.kiosk.domain.category.component;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.event.CategoryChangedEvent;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 같은 메모리 버스를 공유하는 레지스트리 두 개를 두 노드로 보고 스냅샷 교체/전파를 확인한다.
+ */
+class CategoryRegistryTest {
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private CategoryRegistry node1;
+    private CategoryRegistry node2;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        node1 = new CategoryRegistry(categoryRepository, bus);
+        node2 = new CategoryRegistry(categoryRepository, bus);
+    }
+
+    @DisplayName("적재 후에는 저장소를 거치지 않고 스냅샷에서 조회한다.")
+    @Test
+    void findFromSnapshot() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category(1L, "메인"), category(2L, "음료")));
+        node1.initialize();
+
+        // when & then
+        assertThat(node1.find(1L)).hasValueSatisfying(entry -> assertThat(entry.name()).isEqualTo("메인"));
+        assertThat(node1.contains(2L)).isTrue();
+        assertThat(node1.contains(3L)).isFalse();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @DisplayName("변경이 커밋되면 새 스냅샷으로 교체하고 다른 노드도 다시 읽는다.")
+    @Test
+    void changeReloadsAllNodes() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category(1L, "메인")));
+        node1.initialize();
+        node2.initialize();
+        given(categoryRepository.findAll()).willReturn(List.of(category(1L, "메인 요리"), category(2L, "음료")));
+
+        // when
+        node1.onCategoryChanged(new CategoryChangedEvent(2L));
+
+        // then
+        assertThat(node1.size()).isEqualTo(2);
+        assertThat(node2.size()).isEqualTo(2);
+        assertThat(node2.find(1L)).hasValueSatisfying(entry -> assertThat(entry.name()).isEqualTo("메인 요리"));
+    }
+
+    @DisplayName("재적재에 실패하면 이전 스냅샷을 유지한다.")
+    @Test
+    void failedReloadKeepsPreviousSnapshot() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category(1L, "메인")));
+        node1.initialize();
+        given(categoryRepository.findAll()).willThrow(new IllegalStateException("db down"));
+
+        // when
+        node1.refresh();
+
+        // then
+        assertThat(node1.contains(1L)).isTrue();
+    }
+
+    private Category category(Long id, String name) {
+        Category category = Category.builder().name(name).displayOrder(1).build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
@@ -0,0 +1,118 @@
+package dev.lepelaka.kiosk.domain.category.repository;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터와 별도 세션에서만 의미가 있으므로 테스트 트랜잭션(롤백) 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+class CategorySecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder().name("2차 캐시 메인").displayOrder(1).build());
+        productRepository.saveAll(List.of(
+                Product.builder().name("짜장면").price(7000).quantity(10).category(category).build(),
+                Product.builder().name("짬뽕").price(8000).quantity(10).category(category).build()));
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @DisplayName("카테고리 참조 조회(findById)는 한 번 읽은 뒤에는 요청(세션)이 바뀌어도 SELECT 없이 2차 캐시에서 읽힌다.")
+    @Test
+    void categoryReferenceServedFromSecondLevelCache() {
+        // given: 첫 요청에서 2차 캐시 적재
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.findById(category.getId()));
+        long loadsAfterWarmUp = categoryLoads();
+
+        // when: 이후 요청들 (상품 등록/수정 시 카테고리 참조 조회와 같은 경로)
+        for (int i = 0; i < 3; i++) {
+            String name = transactionTemplate.execute(status -> categoryRepository.findById(category.getId()).orElseThrow().getName());
+            assertThat(name).isEqualTo("2차 캐시 메인");
+        }
+
+        // then
+        assertThat(loadsAfterWarmUp).isEqualTo(1);
+        assertThat(categoryLoads()).isEqualTo(loadsAfterWarmUp);
+        assertThat(statistics.getDomainDataRegionStatistics(Category.class.getName()).getHitCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @DisplayName("상품의 지연 로딩 카테고리도 2차 캐시에서 초기화된다.")
+    @Test
+    void lazyCategoryInitializedFromSecondLevelCache() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> categoryRepository.findById(category.getId()));
+        statistics.clear();
+
+        // when
+        List<String> names = transactionTemplate.execute(status -> productRepository.findAll().stream()
+                .map(ProductResponse::fromEntity)
+                .map(response -> response.categoryResponse().name())
+                .toList());
+
+        // then
+        assertThat(names).containsOnly("2차 캐시 메인");
+        assertThat(categoryLoads()).isZero();
+    }
+
+    @DisplayName("이름(natural id) 조회는 두 번째부터 natural id 캐시를 써서 쿼리가 나가지 않는다.")
+    @Test
+    void naturalIdLookupCached() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            Category found = transactionTemplate.execute(status -> categoryRepository.findByNaturalName("2차 캐시 메인").orElseThrow());
+            assertThat(found.getId()).isEqualTo(category.getId());
+        }
+
+        // then
+        assertThat(statistics.getNaturalIdStatistics(Category.class.getName()).getExecutionCount()).isEqualTo(1);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    private long categoryLoads() {
+        return statistics.getEntityStatistics(Category.class.getName()).getLoadCount();
+    }
+}
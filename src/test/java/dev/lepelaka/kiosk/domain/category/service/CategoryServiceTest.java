@@ -5,14 +5,17 @@ import dev.lepelaka.kiosk.domain.category.dto.CategoryResponse;
 import dev.lepelaka.kiosk.domain.category.dto.CategoryUpdateRequest;
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
+import dev.lepelaka.kiosk.domain.category.exception.DuplicateCategoryException;
 import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @DisplayName("카테고리를 생성하면 저장된 ID를 반환한다.")
     @Test
     void create() {
@@ -55,6 +62,42 @@ class CategoryServiceTest {
         verify(categoryRepository).save(any(Category.class));
     }
 
+    @DisplayName("이미 있는 이름으로 생성하면 저장하지 않고 예외가 발생한다.")
+    @Test
+    void create_Duplicate() {
+        // given
+        CategoryCreateRequest request = new CategoryCreateRequest("커피", "맛있는 커피", 1);
+        Category existing = Category.builder().name("커피").build();
+        ReflectionTestUtils.setField(existing, "id", 1L);
+        given(categoryRepository.findByNaturalName("커피")).willReturn(Optional.of(existing));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.create(request))
+                .isInstanceOf(DuplicateCategoryException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DUPLICATE_CATEGORY_NAME);
+        verify(categoryRepository, never()).save(any(Category.class));
+    }
+
+    @DisplayName("다른 카테고리가 쓰는 이름으로 수정하면 예외가 발생하고, 자기 이름 그대로면 수정된다.")
+    @Test
+    void modify_DuplicateName() {
+        // given
+        Category coffee = Category.builder().name("커피").displayOrder(1).build();
+        Category tea = Category.builder().name("차").displayOrder(2).build();
+        ReflectionTestUtils.setField(coffee, "id", 1L);
+        ReflectionTestUtils.setField(tea, "id", 2L);
+        given(categoryRepository.findById(1L)).willReturn(Optional.of(coffee));
+        given(categoryRepository.findByNaturalName("차")).willReturn(Optional.of(tea));
+        given(categoryRepository.findByNaturalName("커피")).willReturn(Optional.of(coffee));
+
+        // when & then
+        assertThatThrownBy(() -> categoryService.modify(1L, new CategoryUpdateRequest("차", "설명", 1)))
+                .isInstanceOf(DuplicateCategoryException.class);
+        categoryService.modify(1L, new CategoryUpdateRequest("커피", "원두 커피", 3));
+        assertThat(coffee.getName()).isEqualTo("커피");
+        assertThat(coffee.getDisplayOrder()).isEqualTo(3);
+    }
+
     @DisplayName("존재하는 카테고리 정보를 수정한다.")
     @Test
     void modify() {
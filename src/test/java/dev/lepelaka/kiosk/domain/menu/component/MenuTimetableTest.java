@@ -0,0 +1,100 @@
+package dev.lepelaka.kiosk.domain.menu.component;
+
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuTimetableTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    @DisplayName("판매 시간 일정이 있는 대상은 구간 안에서만 노출된다. 종료 시각은 포함하지 않는다.")
+    @Test
+    void availabilityWindow() {
+        // given
+        MenuTimetable timetable = MenuTimetable.of(List.of(
+                available(CatalogItemType.CATEGORY, 1L, "06:00", "10:30"),
+                available(CatalogItemType.CATEGORY, 1L, "17:00", "21:00"),
+                available(CatalogItemType.PRODUCT, 10L, "11:00", "15:00")));
+
+        // when & then
+        assertThat(timetable.effectiveAt(at("07:00")).isAvailable(5L, 1L)).isTrue();
+        assertThat(timetable.effectiveAt(at("10:30")).isAvailable(5L, 1L)).isFalse();
+        assertThat(timetable.effectiveAt(at("18:00")).isAvailable(5L, 1L)).isTrue();
+        assertThat(timetable.effectiveAt(at("07:00")).isAvailable(10L, 2L)).isFalse();
+        assertThat(timetable.effectiveAt(at("12:00")).isAvailable(10L, 2L)).isTrue();
+        assertThat(timetable.effectiveAt(at("12:00")).isAvailable(99L, 2L)).isTrue(); // 일정 없는 대상은 항상
+    }
+
+    @DisplayName("시간대 가격은 구간 안에서만 적용되고, 겹치면 낮은 가격을 쓴다.")
+    @Test
+    void priceWindow() {
+        // given
+        MenuTimetable timetable = MenuTimetable.of(List.of(
+                price(20L, 3000, "15:00", "17:00"),
+                price(20L, 2500, "16:00", "17:00")));
+
+        // when & then
+        assertThat(timetable.effectiveAt(at("14:59")).priceOf(20L, 4000)).isEqualTo(4000);
+        assertThat(timetable.effectiveAt(at("15:30")).priceOf(20L, 4000)).isEqualTo(3000);
+        assertThat(timetable.effectiveAt(at("16:30")).priceOf(20L, 4000)).isEqualTo(2500);
+    }
+
+    @DisplayName("자정을 넘기는 구간은 전날 시작분이 다음 날 새벽까지 이어진다.")
+    @Test
+    void overnightWindow() {
+        // given
+        MenuTimetable timetable = MenuTimetable.of(List.of(available(CatalogItemType.CATEGORY, 3L, "22:00", "02:00")));
+
+        // when & then
+        assertThat(timetable.effectiveAt(at("23:00")).isAvailable(1L, 3L)).isTrue();
+        assertThat(timetable.effectiveAt(DAY.plusDays(1).atTime(1, 0)).isAvailable(1L, 3L)).isTrue();
+        assertThat(timetable.effectiveAt(at("03:00")).isAvailable(1L, 3L)).isFalse();
+        assertThat(timetable.nextBoundaryAfter(at("23:00"))).contains(DAY.plusDays(1).atTime(2, 0));
+    }
+
+    @DisplayName("다음 전환 시각은 가장 가까운 구간 시작/종료이며, 적용 시작일 전이면 시작일의 첫 구간이다.")
+    @Test
+    void nextBoundary() {
+        // given
+        MenuTimetable timetable = MenuTimetable.of(List.of(
+                available(CatalogItemType.CATEGORY, 1L, "06:00", "10:30"),
+                price(20L, 3000, "15:00", "17:00")));
+        MenuTimetable future = MenuTimetable.of(List.of(MenuSchedule.builder()
+                .itemType(CatalogItemType.PRODUCT).itemId(30L).type(MenuScheduleType.AVAILABLE)
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(18, 0))
+                .startDate(DAY.plusDays(10)).endDate(DAY.plusDays(12))
+                .build()));
+
+        // when & then
+        assertThat(timetable.nextBoundaryAfter(at("07:00"))).contains(at("10:30"));
+        assertThat(timetable.nextBoundaryAfter(at("10:30"))).contains(at("15:00"));
+        assertThat(timetable.nextBoundaryAfter(at("17:00"))).contains(DAY.plusDays(1).atTime(6, 0));
+        assertThat(future.nextBoundaryAfter(at("07:00"))).contains(DAY.plusDays(10).atTime(9, 0));
+        assertThat(future.nextBoundaryAfter(DAY.plusDays(12).atTime(18, 0))).isEmpty();
+        assertThat(future.effectiveAt(at("10:00")).until()).isEqualTo(DAY.plusDays(10).atTime(9, 0));
+    }
+
+    private static LocalDateTime at(String time) {
+        return DAY.atTime(LocalTime.parse(time));
+    }
+
+    private static MenuSchedule available(CatalogItemType itemType, Long itemId, String start, String end) {
+        return MenuSchedule.builder().itemType(itemType).itemId(itemId).type(MenuScheduleType.AVAILABLE)
+                .startTime(LocalTime.parse(start)).endTime(LocalTime.parse(end)).build();
+    }
+
+    private static MenuSchedule price(Long productId, int price, String start, String end) {
+        return MenuSchedule.builder().itemType(CatalogItemType.PRODUCT).itemId(productId).type(MenuScheduleType.PRICE).price(price)
+                .startTime(LocalTime.parse(start)).endTime(LocalTime.parse(end)).build();
+    }
+}
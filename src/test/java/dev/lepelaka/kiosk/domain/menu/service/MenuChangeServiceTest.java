@@ -0,0 +1,190 @@
+package dev.lepelaka.kiosk.domain.menu.service;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuCategoryResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuChangesResponse;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.entity.CatalogChange;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MenuChangeServiceTest {
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private final EffectiveMenuHolder effectiveMenuHolder = new EffectiveMenuHolder();
+
+    private MenuChangeService menuChangeService;
+
+    @BeforeEach
+    void setUp() {
+        menuChangeService = new MenuChangeService(catalogChangeRepository, categoryRepository, productRepository, effectiveMenuHolder);
+    }
+
+    @DisplayName("최신 버전으로 요청하면 빈 변경분을 반환하고 더 조회하지 않는다.")
+    @Test
+    void upToDate() {
+        // given
+        given(catalogChangeRepository.findMaxId()).willReturn(42L);
+
+        // when
+        MenuChangesResponse response = menuChangeService.changesSince(42L);
+
+        // then
+        assertThat(response.fullSync()).isFalse();
+        assertThat(response.version()).isEqualTo(42L);
+        assertThat(response.products()).isEmpty();
+        verify(catalogChangeRepository, never()).findByIdGreaterThanAndIdLessThanEqual(any(), any());
+    }
+
+    @DisplayName("보관 기간이 지나 로그가 지워진 버전이나 미래 버전이면 전체 동기화를 요구한다.")
+    @Test
+    void fullSyncWhenTooOldOrAhead() {
+        // given
+        given(catalogChangeRepository.findMaxId()).willReturn(60L);
+        given(catalogChangeRepository.findMinId()).willReturn(50L);
+
+        // when & then
+        assertThat(menuChangeService.changesSince(10L).fullSync()).isTrue();
+        assertThat(menuChangeService.changesSince(99L).fullSync()).isTrue();
+    }
+
+    @DisplayName("변경된 항목만 현재 상태로 읽어 추가/수정과 삭제로 나눈다.")
+    @Test
+    void delta() {
+        // given
+        Category main = category(1L, "메인");
+        Category closed = category(2L, "시즌 메뉴");
+        closed.deactivate();
+        Product jjajang = product(10L, "짜장면", main);
+        Product soldOut = product(11L, "탕수육", main);
+        soldOut.deactivate();
+
+        given(catalogChangeRepository.findMaxId()).willReturn(8L);
+        given(catalogChangeRepository.findMinId()).willReturn(1L);
+        given(catalogChangeRepository.countByIdGreaterThanAndIdLessThanEqual(0L, 8L)).willReturn(4L);
+        given(catalogChangeRepository.findByIdGreaterThanAndIdLessThanEqual(0L, 8L)).willReturn(List.of(
+                change(CatalogItemType.PRODUCT, 10L),
+                change(CatalogItemType.PRODUCT, 11L),
+                change(CatalogItemType.CATEGORY, 1L),
+                change(CatalogItemType.CATEGORY, 2L)));
+        given(categoryRepository.findAllById(any())).willReturn(List.of(main, closed));
+        given(productRepository.findActiveByCategoryIdIn(any())).willReturn(List.of(jjajang));
+        given(productRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(jjajang, soldOut));
+
+        // when
+        MenuChangesResponse response = menuChangeService.changesSince(5L);
+
+        // then
+        assertThat(response.fullSync()).isFalse();
+        assertThat(response.since()).isEqualTo(5L);
+        assertThat(response.version()).isEqualTo(8L);
+        assertThat(response.categories()).extracting(MenuCategoryResponse::id).containsExactly(1L);
+        assertThat(response.categories().get(0).products()).extracting(MenuProductResponse::name).containsExactly("짜장면");
+        assertThat(response.removedCategoryIds()).containsExactly(2L);
+        assertThat(response.products()).extracting(MenuProductResponse::id).containsExactly(10L);
+        assertThat(response.removedProductIds()).containsExactly(11L);
+    }
+
+    @DisplayName("변경분에도 지금의 판매 일정을 적용해 판매 시간이 아닌 항목은 삭제로, 시간대 가격은 판매가로 내려준다.")
+    @Test
+    void deltaAppliesEffectiveMenu() {
+        // given
+        Category main = category(1L, "메인");
+        Category breakfast = category(2L, "아침 메뉴");
+        Category drink = category(3L, "음료");
+        Product jjajang = product(10L, "짜장면", main);
+        Product hiddenNoodle = product(11L, "짬뽕", main);
+        Product toast = product(20L, "토스트", breakfast);
+        Product coke = product(30L, "콜라", drink);
+        effectiveMenuHolder.set(new EffectiveMenu(LocalDateTime.of(2026, 10, 19, 10, 30),
+                Set.of(11L), Set.of(2L), Map.of(10L, 5000, 30L, 1000), null));
+
+        given(catalogChangeRepository.findMaxId()).willReturn(8L);
+        given(catalogChangeRepository.findMinId()).willReturn(1L);
+        given(catalogChangeRepository.countByIdGreaterThanAndIdLessThanEqual(0L, 8L)).willReturn(5L);
+        given(catalogChangeRepository.findByIdGreaterThanAndIdLessThanEqual(0L, 8L)).willReturn(List.of(
+                change(CatalogItemType.PRODUCT, 10L),
+                change(CatalogItemType.PRODUCT, 11L),
+                change(CatalogItemType.PRODUCT, 20L),
+                change(CatalogItemType.CATEGORY, 2L),
+                change(CatalogItemType.CATEGORY, 3L)));
+        given(categoryRepository.findAllById(any())).willReturn(List.of(breakfast, drink));
+        given(productRepository.findActiveByCategoryIdIn(any())).willReturn(List.of(coke));
+        given(productRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(jjajang, hiddenNoodle, toast));
+
+        // when
+        MenuChangesResponse response = menuChangeService.changesSince(5L);
+
+        // then
+        assertThat(response.categories()).extracting(MenuCategoryResponse::id).containsExactly(3L);
+        assertThat(response.categories().get(0).products()).extracting(MenuProductResponse::price).containsExactly(1000);
+        assertThat(response.removedCategoryIds()).containsExactly(2L);
+        assertThat(response.products()).extracting(MenuProductResponse::id, MenuProductResponse::price)
+                .containsExactly(tuple(10L, 5000));
+        assertThat(response.removedProductIds()).containsExactly(11L, 20L);
+    }
+
+    @DisplayName("변경 건수가 많으면 전체 동기화가 더 싸므로 전체 동기화를 요구한다.")
+    @Test
+    void fullSyncWhenTooManyChanges() {
+        // given
+        given(catalogChangeRepository.findMaxId()).willReturn(10_000L);
+        given(catalogChangeRepository.findMinId()).willReturn(1L);
+        given(catalogChangeRepository.countByIdGreaterThanAndIdLessThanEqual(any(), any())).willReturn(9_000L);
+
+        // when
+        MenuChangesResponse response = menuChangeService.changesSince(1_000L);
+
+        // then
+        assertThat(response.fullSync()).isTrue();
+    }
+
+    private CatalogChange change(CatalogItemType type, Long itemId) {
+        return CatalogChange.builder().itemType(type).itemId(itemId).changedAt(LocalDateTime.now()).build();
+    }
+
+    private Category category(Long id, String name) {
+        Category category = Category.builder().name(name).displayOrder(id.intValue()).build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+
+    private Product product(Long id, String name, Category category) {
+        Product product = Product.builder().name(name).price(7000).quantity(10).category(category).build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
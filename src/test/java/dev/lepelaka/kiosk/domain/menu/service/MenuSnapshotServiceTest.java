@@ -0,0 +1,320 @@
+package dev.lepelaka.kiosk.domain.menu.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.component.CatalogChangeRecorder;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.entity.CatalogChange;
+import dev.lepelaka.kiosk.domain.menu.entity.MenuSchedule;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.CatalogItemType;
+import dev.lepelaka.kiosk.domain.menu.entity.enums.MenuScheduleType;
+import dev.lepelaka.kiosk.domain.menu.repository.CatalogChangeRepository;
+import dev.lepelaka.kiosk.domain.menu.repository.MenuScheduleRepository;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.global.cache.InMemoryCacheInvalidationBus;
+import dev.lepelaka.kiosk.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotServiceTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Mock
+    private MenuScheduleRepository menuScheduleRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EffectiveMenuHolder effectiveMenuHolder = new EffectiveMenuHolder();
+    private final InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+    private final MutableClock clock = new MutableClock(LocalDateTime.of(2026, 10, 19, 10, 0).atZone(ZONE).toInstant(), ZONE);
+
+    private CatalogChangeRecorder catalogChangeRecorder;
+    private MenuSnapshotService menuSnapshotService;
+
+    private Category main;
+    private Category drink;
+
+    @BeforeEach
+    void setUp() {
+        catalogChangeRecorder = new CatalogChangeRecorder(catalogChangeRepository);
+        menuSnapshotService = new MenuSnapshotService(categoryRepository, productRepository, catalogChangeRepository,
+                menuScheduleRepository, effectiveMenuHolder, catalogChangeRecorder, taskScheduler, objectMapper,
+                transactionManager, bus, clock);
+
+        main = Category.builder().name("메인").displayOrder(1).build();
+        drink = Category.builder().name("음료").displayOrder(2).build();
+        ReflectionTestUtils.setField(main, "id", 1L);
+        ReflectionTestUtils.setField(drink, "id", 2L);
+    }
+
+    @DisplayName("활성 카테고리 순서대로 상품을 묶어 스냅샷을 만들고 gzip 본문도 같은 내용이다.")
+    @Test
+    void buildSnapshot() throws Exception {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main, drink));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main), product(20L, "콜라", drink)));
+        given(catalogChangeRepository.findMaxId()).willReturn(7L);
+
+        // when
+        MenuSnapshot snapshot = menuSnapshotService.current();
+
+        // then
+        JsonNode root = objectMapper.readTree(snapshot.getJson());
+        assertThat(root.get("version").asLong()).isEqualTo(7);
+        assertThat(root.get("categories")).hasSize(2);
+        assertThat(root.get("categories").get(0).get("name").asText()).isEqualTo("메인");
+        assertThat(root.get("categories").get(1).get("products").get(0).get("name").asText()).isEqualTo("콜라");
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.getJson());
+        }
+    }
+
+    @DisplayName("버전과 내용이 같으면 재생성해도 같은 스냅샷이고, 변경 로그가 늘면 그 버전으로 다시 만든다.")
+    @Test
+    void versionFollowsChangeLog() {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main)));
+        given(catalogChangeRepository.findMaxId()).willReturn(1L);
+        MenuSnapshot first = menuSnapshotService.rebuild();
+
+        // when
+        MenuSnapshot same = menuSnapshotService.rebuild();
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "간짜장", main)));
+        given(catalogChangeRepository.findMaxId()).willReturn(2L);
+        MenuSnapshot changed = menuSnapshotService.rebuild();
+
+        // then
+        assertThat(same).isSameAs(first);
+        assertThat(changed.getVersion()).isEqualTo(2);
+        assertThat(changed.getETag()).isNotEqualTo(first.getETag());
+    }
+
+    @DisplayName("If-None-Match 는 W/ 접두어와 무관하게 비교한다.")
+    @Test
+    void matchesIfNoneMatch() {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of());
+        MenuSnapshot snapshot = menuSnapshotService.current();
+
+        // when & then
+        assertThat(snapshot.matches(snapshot.getETag())).isTrue();
+        assertThat(snapshot.matches("\"other\", " + snapshot.getETag().substring(2))).isTrue();
+        assertThat(snapshot.matches("W/\"0-deadbeef\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+
+    @DisplayName("판매 일정 전환 시각의 스냅샷을 미리 만들어 두고, 그 시각에는 DB 조회 없이 참조만 바꾼다.")
+    @Test
+    void precomputedScheduleSwitch() throws Exception {
+        // given - 메인은 아침(06:00~10:30)에만, 콜라는 10:30~12:00 해피아워 3000원
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main, drink));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main), product(20L, "콜라", drink)));
+        given(menuScheduleRepository.findByActiveTrueOrderByIdAsc()).willReturn(List.of(
+                schedule(CatalogItemType.CATEGORY, 1L, MenuScheduleType.AVAILABLE, null, LocalTime.of(6, 0), LocalTime.of(10, 30)),
+                schedule(CatalogItemType.PRODUCT, 20L, MenuScheduleType.PRICE, 3000, LocalTime.of(10, 30), LocalTime.of(12, 0))));
+
+        MenuSnapshot breakfast = menuSnapshotService.rebuild();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> at = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(task.capture(), at.capture());
+
+        // when
+        task.getValue().run();
+
+        // then
+        assertThat(at.getValue()).isEqualTo(LocalDateTime.of(2026, 10, 19, 10, 30).atZone(ZONE).toInstant());
+        assertThat(objectMapper.readTree(breakfast.getJson()).get("categories")).hasSize(2);
+
+        MenuSnapshot lunch = menuSnapshotService.current();
+        JsonNode categories = objectMapper.readTree(lunch.getJson()).get("categories");
+        assertThat(categories).hasSize(1);
+        assertThat(categories.get(0).get("products").get(0).get("price").asInt()).isEqualTo(3000);
+        assertThat(lunch.getETag()).isNotEqualTo(breakfast.getETag());
+        assertThat(effectiveMenuHolder.current().priceOf(20L, 7000)).isEqualTo(3000);
+        assertThat(effectiveMenuHolder.current().isAvailable(10L, 1L)).isFalse();
+
+        verify(productRepository, times(1)).findAllActiveWithCategory(); // 전환 시 재조회 없음
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class)); // 12:00 전환 예약
+    }
+
+    @DisplayName("전환으로 노출이나 가격이 바뀐 항목을 변경 로그에 남기고(다른 노드가 남긴 항목은 건너뜀) 그 버전으로 다시 만든다.")
+    @Test
+    void scheduleSwitchBumpsVersion() {
+        // given - 메인은 아침(06:00~10:30)에만, 콜라는 10:30~12:00 해피아워 3000원
+        LocalDateTime boundary = LocalDateTime.of(2026, 10, 19, 10, 30);
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main, drink));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main), product(20L, "콜라", drink)));
+        given(menuScheduleRepository.findByActiveTrueOrderByIdAsc()).willReturn(List.of(
+                schedule(CatalogItemType.CATEGORY, 1L, MenuScheduleType.AVAILABLE, null, LocalTime.of(6, 0), LocalTime.of(10, 30)),
+                schedule(CatalogItemType.PRODUCT, 20L, MenuScheduleType.PRICE, 3000, LocalTime.of(10, 30), LocalTime.of(12, 0))));
+        given(catalogChangeRepository.findMaxId()).willReturn(5L);
+        menuSnapshotService.rebuild();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+
+        given(catalogChangeRepository.findByChangedAt(boundary)).willReturn(List.of(
+                CatalogChange.builder().itemType(CatalogItemType.CATEGORY).itemId(1L).changedAt(boundary).build()));
+        given(catalogChangeRepository.findMaxId()).willReturn(7L);
+
+        // when
+        clock.advance(Duration.ofMinutes(30));
+        task.getValue().run();
+
+        // then
+        ArgumentCaptor<CatalogChange> recorded = ArgumentCaptor.forClass(CatalogChange.class);
+        verify(catalogChangeRepository).save(recorded.capture());
+        assertThat(recorded.getValue().getItemType()).isEqualTo(CatalogItemType.PRODUCT);
+        assertThat(recorded.getValue().getItemId()).isEqualTo(20L);
+        assertThat(recorded.getValue().getChangedAt()).isEqualTo(boundary);
+
+        MenuSnapshot lunch = menuSnapshotService.current();
+        assertThat(lunch.getVersion()).isEqualTo(7);
+        assertThat(lunch.findProduct(20L).orElseThrow().price()).isEqualTo(3000);
+        assertThat(lunch.findProduct(10L)).isEmpty();
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class)); // 12:00 전환 예약
+    }
+
+    @DisplayName("전환 전에 다시 만들어지면 이전에 예약된 전환은 적용되지 않는다.")
+    @Test
+    void staleSwitchIgnored() {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main)));
+        given(menuScheduleRepository.findByActiveTrueOrderByIdAsc()).willReturn(List.of(
+                schedule(CatalogItemType.CATEGORY, 1L, MenuScheduleType.AVAILABLE, null, LocalTime.of(6, 0), LocalTime.of(10, 30))));
+        menuSnapshotService.rebuild();
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+
+        given(menuScheduleRepository.findByActiveTrueOrderByIdAsc()).willReturn(List.of());
+        MenuSnapshot rebuilt = menuSnapshotService.rebuild();
+
+        // when
+        task.getValue().run();
+
+        // then
+        assertThat(menuSnapshotService.current()).isSameAs(rebuilt);
+        assertThat(effectiveMenuHolder.current()).isEqualTo(EffectiveMenu.NONE);
+    }
+
+    @DisplayName("스냅샷이 없을 때 current() 가 직접 만들어도 새 트랜잭션 안에서 읽는다.")
+    @Test
+    void currentBuildsInNewTransaction() {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of());
+
+        // when
+        menuSnapshotService.current();
+
+        // then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @DisplayName("다른 노드가 변경을 커밋하고 알리면 이 노드도 스냅샷과 EffectiveMenu 를 다시 만든다.")
+    @Test
+    void rebuildOnOtherNodeChange() {
+        // given
+        EffectiveMenuHolder otherHolder = new EffectiveMenuHolder();
+        MenuSnapshotService otherNode = new MenuSnapshotService(categoryRepository, productRepository, catalogChangeRepository,
+                menuScheduleRepository, otherHolder, catalogChangeRecorder, taskScheduler, objectMapper, transactionManager, bus, clock);
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main)));
+        given(catalogChangeRepository.findMaxId()).willReturn(1L);
+        menuSnapshotService.rebuild();
+        otherNode.rebuild();
+
+        // when - 다른 노드에서 판매 일정 추가 커밋
+        given(catalogChangeRepository.findMaxId()).willReturn(2L);
+        given(menuScheduleRepository.findByActiveTrueOrderByIdAsc()).willReturn(List.of(
+                schedule(CatalogItemType.PRODUCT, 10L, MenuScheduleType.PRICE, 5000, LocalTime.of(9, 0), LocalTime.of(11, 0))));
+        otherNode.rebuildAndBroadcast();
+
+        // then
+        assertThat(menuSnapshotService.current().getVersion()).isEqualTo(2);
+        assertThat(effectiveMenuHolder.current().priceOf(10L, 7000)).isEqualTo(5000);
+        assertThat(otherNode.current().getETag()).isEqualTo(menuSnapshotService.current().getETag());
+        verify(productRepository, times(4)).findAllActiveWithCategory(); // 보낸 노드는 자기 알림으로 다시 만들지 않음
+    }
+
+    @DisplayName("주기적 버전 확인은 변경 로그가 들고 있는 버전보다 앞설 때만 다시 만든다.")
+    @Test
+    void checkVersionRebuildsOnlyWhenBehind() {
+        // given
+        given(categoryRepository.findByActiveTrueOrderByDisplayOrderAsc()).willReturn(List.of(main));
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "짜장면", main)));
+        given(catalogChangeRepository.findMaxId()).willReturn(3L);
+        menuSnapshotService.rebuild();
+
+        // when
+        menuSnapshotService.checkVersion();
+        given(productRepository.findAllActiveWithCategory()).willReturn(List.of(product(10L, "간짜장", main)));
+        given(catalogChangeRepository.findMaxId()).willReturn(4L);
+        menuSnapshotService.checkVersion();
+
+        // then
+        assertThat(menuSnapshotService.current().getVersion()).isEqualTo(4);
+        assertThat(menuSnapshotService.current().findProduct(10L).orElseThrow().name()).isEqualTo("간짜장");
+        verify(productRepository, times(2)).findAllActiveWithCategory();
+    }
+
+    private MenuSchedule schedule(CatalogItemType itemType, Long itemId, MenuScheduleType type, Integer price, LocalTime start, LocalTime end) {
+        return MenuSchedule.builder().itemType(itemType).itemId(itemId).type(type).price(price).startTime(start).endTime(end).build();
+    }
+
+    private Product product(Long id, String name, Category category) {
+        Product product = Product.builder().name(name).price(7000).quantity(10).category(category).build();
+        ReflectionTestUtils.setField(product, "id", id);
+        return product;
+    }
+}
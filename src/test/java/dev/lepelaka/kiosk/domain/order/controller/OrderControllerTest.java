@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderResponse;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteResponse;
 import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
 import dev.lepelaka.kiosk.domain.order.service.OrderService;
+import dev.lepelaka.kiosk.domain.order.service.PriceQuoteService;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -41,6 +45,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private PriceQuoteService priceQuoteService;
+
     @DisplayName("주문을 생성한다.")
     @Test
     void createOrder() throws Exception {
@@ -62,6 +69,27 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.orderNumber").value("20231010-0001"));
     }
 
+    @DisplayName("장바구니 견적을 조회한다.")
+    @Test
+    void quote() throws Exception {
+        // given
+        QuoteRequest request = new QuoteRequest(List.of(new OrderItemRequest(100L, 2)), null);
+        QuoteResponse response = new QuoteResponse(
+                List.of(new QuoteResponse.Line(100L, "아메리카노", 2, 5000, 10000)), List.of(),
+                10000, 0, 10000, "payload.signature", Instant.parse("2026-10-19T03:05:00Z"));
+
+        given(priceQuoteService.quote(any(QuoteRequest.class))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/order/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAmount").value(10000))
+                .andExpect(jsonPath("$.quoteToken").value("payload.signature"));
+    }
+
     @DisplayName("주문 번호로 주문을 조회한다.")
     @Test
     void getOrder() throws Exception {
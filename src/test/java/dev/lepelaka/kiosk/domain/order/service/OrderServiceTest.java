@@ -2,7 +2,10 @@ package dev.lepelaka.kiosk.domain.order.service;
 
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenu;
+import dev.lepelaka.kiosk.domain.menu.component.EffectiveMenuHolder;
 import dev.lepelaka.kiosk.domain.order.component.OrderNumberGenerator;
+import dev.lepelaka.kiosk.domain.order.component.PriceQuote;
 import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
 import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
 import dev.lepelaka.kiosk.domain.order.entity.Order;
@@ -10,21 +13,37 @@ import dev.lepelaka.kiosk.domain.order.entity.OrderItem;
 import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
 import dev.lepelaka.kiosk.domain.order.exception.InsufficientStockException;
 import dev.lepelaka.kiosk.domain.order.exception.OrderNotFoundException;
+import dev.lepelaka.kiosk.domain.order.exception.ProductNotOnSaleException;
 import dev.lepelaka.kiosk.domain.order.repository.OrderRepository;
 import dev.lepelaka.kiosk.domain.product.entity.Product;
 import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
 import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionEngine;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionMatcher;
+import dev.lepelaka.kiosk.domain.promotion.entity.Promotion;
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import dev.lepelaka.kiosk.domain.promotion.exception.CouponSoldOutException;
+import dev.lepelaka.kiosk.domain.promotion.exception.InvalidCouponException;
+import dev.lepelaka.kiosk.domain.promotion.repository.PromotionRepository;
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalRegistry;
 import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalUnavailableException;
 import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +51,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +66,9 @@ class OrderServiceTest {
     @Mock
     private TerminalRepository terminalRepository;
 
+    @Mock
+    private TerminalRegistry terminalRegistry;
+
     @Mock
     private ProductRepository productRepository;
 
@@ -55,6 +78,21 @@ class OrderServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private EffectiveMenuHolder effectiveMenuHolder = new EffectiveMenuHolder();
+
+    @Spy
+    private PromotionEngine promotionEngine = new PromotionEngine();
+
+    @Mock
+    private PromotionRepository promotionRepository;
+
+    @Mock
+    private PriceQuoteService priceQuoteService;
+
     @DisplayName("주문 생성 시 재고가 감소하고 주문이 저장된다.")
     @Test
     void createOrder() {
@@ -68,7 +106,7 @@ class OrderServiceTest {
                                 List.of(new OrderItemRequest(productId, requestQuantity)), terminalId
         );
 
-        Terminal terminal = mock(Terminal.class);
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build(); // 상태 확인을 위해 실제 객체 (ACTIVE)
         
         // Mock 대신 실제 객체 사용 (상태 검증을 위해)
         Product product = Product.builder()
@@ -93,6 +131,48 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).save(any(Order.class));
     }
 
+    @DisplayName("스냅샷에 있는 단말기는 SELECT 없이 참조로 주문에 연결된다.")
+    @Test
+    void createOrderWithRegisteredTerminal() {
+        // given
+        Long terminalId = 1L;
+        Long productId = 100L;
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(productId, 1)), terminalId);
+
+        Product product = Product.builder().name("아메리카노").price(5000).quantity(3).build();
+        ReflectionTestUtils.setField(product, "id", productId);
+
+        given(terminalRegistry.find(terminalId))
+                .willReturn(Optional.of(new TerminalRegistry.Entry(terminalId, "키오스크 1번", TerminalStatus.ACTIVE, true)));
+        given(terminalRepository.getReferenceById(terminalId)).willReturn(Terminal.builder().name("키오스크 1번").build());
+        given(productRepository.findAllByIdWithPessimisticLock(anyList())).willReturn(List.of(product));
+        given(orderNumberGenerator.generate()).willReturn("20231010-0001");
+
+        // when
+        orderService.createOrder(request);
+
+        // then
+        verify(terminalRepository, never()).findById(anyLong());
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @DisplayName("점검 중인 단말기로는 주문할 수 없다.")
+    @Test
+    void createOrderWithMaintenanceTerminal() {
+        // given
+        Long terminalId = 1L;
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(100L, 1)), terminalId);
+
+        given(terminalRegistry.find(terminalId))
+                .willReturn(Optional.of(new TerminalRegistry.Entry(terminalId, "키오스크 1번", TerminalStatus.MAINTENANCE, true)));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(request))
+                .isInstanceOf(TerminalUnavailableException.class);
+        verify(productRepository, never()).findAllByIdWithPessimisticLock(anyList());
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @DisplayName("주문 생성 시 존재하지 않는 상품이 포함되어 있으면 예외가 발생한다.")
     @Test
     void createOrderWithInvalidProduct() {
@@ -108,7 +188,7 @@ class OrderServiceTest {
                 ),terminalId
         );
 
-        Terminal terminal = mock(Terminal.class);
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build(); // 상태 확인을 위해 실제 객체 (ACTIVE)
         Product product = mock(Product.class);
 
         given(terminalRepository.findById(terminalId)).willReturn(Optional.of(terminal));
@@ -135,7 +215,7 @@ class OrderServiceTest {
                 terminalId
         );
 
-        Terminal terminal = mock(Terminal.class);
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build(); // 상태 확인을 위해 실제 객체 (ACTIVE)
         
         // Mock 객체는 내부 로직이 실행되지 않으므로, 예외 검증을 위해 실제 객체 사용
         Category category = mock(Category.class);
@@ -156,6 +236,124 @@ class OrderServiceTest {
                 .hasMessageContaining(String.valueOf(productId));
     }
 
+    @DisplayName("시간대 가격이 적용 중이면 그 가격으로 주문하고, 판매 시간이 아닌 상품은 재고를 건드리지 않고 거절한다.")
+    @Test
+    void createOrderWithEffectiveMenu() {
+        // given
+        Long terminalId = 1L;
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build();
+        Product coke = Product.builder().name("콜라").price(2000).quantity(10).build();
+        Product breakfast = Product.builder().name("모닝세트").price(6000).quantity(10).build();
+        ReflectionTestUtils.setField(coke, "id", 100L);
+        ReflectionTestUtils.setField(breakfast, "id", 200L);
+        effectiveMenuHolder.set(new EffectiveMenu(null, Set.of(200L), Set.of(), Map.of(100L, 1500), null));
+
+        given(terminalRepository.findById(terminalId)).willReturn(Optional.of(terminal));
+        given(productRepository.findAllByIdWithPessimisticLock(List.of(100L))).willReturn(List.of(coke));
+        given(productRepository.findAllByIdWithPessimisticLock(List.of(200L))).willReturn(List.of(breakfast));
+        given(orderNumberGenerator.generate()).willReturn("20231010-0001");
+
+        // when
+        orderService.createOrder(new OrderCreateRequest(List.of(new OrderItemRequest(100L, 2)), terminalId));
+
+        // then
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getTotalAmount()).isEqualTo(3000);
+
+        assertThatThrownBy(() -> orderService.createOrder(new OrderCreateRequest(List.of(new OrderItemRequest(200L, 1)), terminalId)))
+                .isInstanceOf(ProductNotOnSaleException.class);
+        assertThat(breakfast.getQuantity()).isEqualTo(10);
+    }
+
+    @DisplayName("쿠폰 할인은 총액에서 빠지고 사용 횟수가 늘어나며, 한도를 넘거나 없는 쿠폰이면 주문을 거절한다.")
+    @Test
+    void createOrderWithCoupon() {
+        // given
+        Long terminalId = 1L;
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build();
+        Product product = Product.builder().name("아메리카노").price(5000).quantity(10).build();
+        ReflectionTestUtils.setField(product, "id", 100L);
+        Promotion coupon = Promotion.builder()
+                .name("오픈 10% 쿠폰").type(PromotionType.COUPON).couponCode("OPEN10").discountRate(10).usageLimit(1)
+                .build();
+        ReflectionTestUtils.setField(coupon, "id", 7L);
+        promotionEngine.replace(PromotionMatcher.compile(List.of(PromotionMatcher.Rule.from(coupon))));
+
+        given(terminalRepository.findById(terminalId)).willReturn(Optional.of(terminal));
+        given(productRepository.findAllByIdWithPessimisticLock(anyList())).willReturn(List.of(product));
+        given(orderNumberGenerator.generate()).willReturn("20231010-0001");
+        given(promotionRepository.findByIdWithPessimisticLock(7L)).willReturn(Optional.of(coupon));
+
+        // when
+        orderService.createOrder(new OrderCreateRequest(List.of(new OrderItemRequest(100L, 2)), terminalId, "OPEN10"));
+
+        // then
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getTotalAmount()).isEqualTo(9000);
+        assertThat(saved.getValue().getDiscountAmount()).isEqualTo(1000);
+        assertThat(saved.getValue().getCouponPromotionId()).isEqualTo(7L);
+        assertThat(coupon.getUsedCount()).isEqualTo(1);
+
+        assertThatThrownBy(() -> orderService.createOrder(new OrderCreateRequest(List.of(new OrderItemRequest(100L, 1)), terminalId, "OPEN10")))
+                .isInstanceOf(CouponSoldOutException.class);
+        assertThatThrownBy(() -> orderService.createOrder(new OrderCreateRequest(List.of(new OrderItemRequest(100L, 1)), terminalId, "WRONG")))
+                .isInstanceOf(InvalidCouponException.class);
+    }
+
+    @DisplayName("유효한 견적 토큰이 있으면 가격/할인을 다시 계산하지 않고 견적대로 주문한다.")
+    @Test
+    void createOrderWithQuote() {
+        // given
+        Long terminalId = 1L;
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build();
+        Product product = Product.builder().name("아메리카노").price(5000).quantity(10).build();
+        ReflectionTestUtils.setField(product, "id", 100L);
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(100L, 2)), terminalId, null, "token");
+        PriceQuote quote = new PriceQuote("3-hash-fp", Instant.now().plusSeconds(60), null,
+                List.of(new PriceQuote.Line(100L, 2, 4500)), 500, null);
+
+        given(terminalRepository.findById(terminalId)).willReturn(Optional.of(terminal));
+        given(priceQuoteService.resolve(request)).willReturn(Optional.of(quote));
+        given(productRepository.findAllByIdWithPessimisticLock(anyList())).willReturn(List.of(product));
+        given(orderNumberGenerator.generate()).willReturn("20231010-0001");
+
+        // when
+        orderService.createOrder(request);
+
+        // then
+        ArgumentCaptor<Order> saved = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(saved.capture());
+        assertThat(saved.getValue().getTotalAmount()).isEqualTo(8500);
+        assertThat(product.getQuantity()).isEqualTo(8);
+        verify(promotionEngine, never()).evaluate(anyList(), any());
+    }
+
+    @DisplayName("견적 토큰이 유효해도 지금 판매하지 않는 상품이면 주문하지 않는다.")
+    @Test
+    void createOrderWithQuoteNotOnSale() {
+        // given
+        Long terminalId = 1L;
+        Terminal terminal = Terminal.builder().name("키오스크 1번").build();
+        Product product = Product.builder().name("아메리카노").price(5000).quantity(10).build();
+        ReflectionTestUtils.setField(product, "id", 100L);
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(100L, 2)), terminalId, null, "token");
+        PriceQuote quote = new PriceQuote("3-hash-fp", Instant.now().plusSeconds(60), null,
+                List.of(new PriceQuote.Line(100L, 2, 4500)), 500, null);
+        effectiveMenuHolder.set(new EffectiveMenu(null, Set.of(100L), Set.of(), Map.of(), null));
+
+        given(terminalRepository.findById(terminalId)).willReturn(Optional.of(terminal));
+        given(priceQuoteService.resolve(request)).willReturn(Optional.of(quote));
+        given(productRepository.findAllByIdWithPessimisticLock(anyList())).willReturn(List.of(product));
+        given(orderNumberGenerator.generate()).willReturn("20231010-0001");
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(request)).isInstanceOf(ProductNotOnSaleException.class);
+        assertThat(product.getQuantity()).isEqualTo(10);
+        verify(orderRepository, never()).save(any());
+    }
+
     @DisplayName("주문 취소 시 상품 재고가 복구되고 주문이 취소 상태로 변경된다.")
     @Test
     void cancelOrder() {
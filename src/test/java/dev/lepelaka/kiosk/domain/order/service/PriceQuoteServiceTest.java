@@ -0,0 +1,124 @@
+package dev.lepelaka.kiosk.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.lepelaka.kiosk.domain.menu.component.MenuSnapshot;
+import dev.lepelaka.kiosk.domain.menu.dto.MenuProductResponse;
+import dev.lepelaka.kiosk.domain.menu.service.MenuSnapshotService;
+import dev.lepelaka.kiosk.domain.order.component.PriceQuote;
+import dev.lepelaka.kiosk.domain.order.component.QuoteTokenCodec;
+import dev.lepelaka.kiosk.domain.order.dto.OrderCreateRequest;
+import dev.lepelaka.kiosk.domain.order.dto.OrderItemRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteRequest;
+import dev.lepelaka.kiosk.domain.order.dto.QuoteResponse;
+import dev.lepelaka.kiosk.domain.product.exception.ProductNotFoundException;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionEngine;
+import dev.lepelaka.kiosk.domain.promotion.component.PromotionMatcher;
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import dev.lepelaka.kiosk.domain.promotion.exception.InvalidCouponException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PriceQuoteServiceTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final Clock clock = Clock.fixed(NOW.atZone(SEOUL).toInstant(), SEOUL);
+    private final QuoteTokenCodec codec = new QuoteTokenCodec("test-secret", new ObjectMapper().findAndRegisterModules());
+    private MenuSnapshotService menuSnapshotService;
+    private PromotionEngine promotionEngine;
+    private PriceQuoteService priceQuoteService;
+
+    @BeforeEach
+    void setUp() {
+        menuSnapshotService = mock(MenuSnapshotService.class);
+        given(menuSnapshotService.current()).willReturn(snapshot("hash-a", 4000));
+
+        // 아메리카노 + 치즈케이크 세트 1000원 할인, 2분 뒤 종료
+        promotionEngine = new PromotionEngine();
+        promotionEngine.replace(PromotionMatcher.compile(List.of(new PromotionMatcher.Rule(1L, "디저트 세트", PromotionType.SET_DISCOUNT,
+                List.of(100L, 200L), null, 0, 0, 1000, 0, null, null, NOW.plusMinutes(2)))));
+
+        priceQuoteService = new PriceQuoteService(menuSnapshotService, promotionEngine, codec, Duration.ofMinutes(5), clock);
+    }
+
+    @DisplayName("메뉴 스냅샷 가격과 프로모션으로 견적을 내고, 만료는 다음 프로모션 경계를 넘지 않는다.")
+    @Test
+    void quote() {
+        // when
+        QuoteResponse response = priceQuoteService.quote(new QuoteRequest(
+                List.of(new OrderItemRequest(100L, 1), new OrderItemRequest(200L, 1), new OrderItemRequest(100L, 1)), null));
+
+        // then
+        assertThat(response.lines()).extracting(QuoteResponse.Line::productId, QuoteResponse.Line::quantity, QuoteResponse.Line::amount)
+                .containsExactly(tuple(100L, 2, 8000), tuple(200L, 1, 6000));
+        assertThat(response.itemAmount()).isEqualTo(14000);
+        assertThat(response.discountAmount()).isEqualTo(1000);
+        assertThat(response.totalAmount()).isEqualTo(13000);
+        assertThat(response.expiresAt()).isEqualTo(NOW.plusMinutes(2).atZone(SEOUL).toInstant());
+    }
+
+    @DisplayName("가격 버전과 요청 내용이 그대로면 주문 시 견적을 그대로 쓴다.")
+    @Test
+    void resolve() {
+        // given
+        String token = priceQuoteService.quote(new QuoteRequest(List.of(new OrderItemRequest(100L, 2), new OrderItemRequest(200L, 1)), null)).quoteToken();
+
+        // when
+        PriceQuote quote = priceQuoteService.resolve(new OrderCreateRequest(
+                List.of(new OrderItemRequest(200L, 1), new OrderItemRequest(100L, 1), new OrderItemRequest(100L, 1)), 1L, null, token)).orElseThrow();
+
+        // then
+        assertThat(quote.unitPriceOf(100L)).isEqualTo(4000);
+        assertThat(quote.discountAmount()).isEqualTo(1000);
+    }
+
+    @DisplayName("가격이 바뀌었거나, 수량이 다르거나, 위조/만료된 토큰은 쓰지 않는다.")
+    @Test
+    void resolveRejected() {
+        // given
+        List<OrderItemRequest> items = List.of(new OrderItemRequest(100L, 2));
+        String token = priceQuoteService.quote(new QuoteRequest(items, null)).quoteToken();
+
+        // when & then
+        assertThat(priceQuoteService.resolve(new OrderCreateRequest(List.of(new OrderItemRequest(100L, 3)), 1L, null, token))).isEmpty();
+        assertThat(priceQuoteService.resolve(new OrderCreateRequest(items, 1L, null, token.replace('.', 'x') + ".AAAA"))).isEmpty();
+        assertThat(priceQuoteService.resolve(new OrderCreateRequest(items, 1L, null, token + "A"))).isEmpty();
+
+        PriceQuoteService later = new PriceQuoteService(menuSnapshotService, promotionEngine, codec, Duration.ofMinutes(5),
+                Clock.offset(clock, Duration.ofMinutes(6)));
+        assertThat(later.resolve(new OrderCreateRequest(items, 1L, null, token))).isEmpty();
+
+        given(menuSnapshotService.current()).willReturn(snapshot("hash-b", 3500)); // 시간대 가격 전환
+        assertThat(priceQuoteService.resolve(new OrderCreateRequest(items, 1L, null, token))).isEmpty();
+    }
+
+    @DisplayName("메뉴에 없는 상품이나 쓸 수 없는 쿠폰이 있으면 견적을 낼 수 없다.")
+    @Test
+    void quoteInvalid() {
+        assertThatThrownBy(() -> priceQuoteService.quote(new QuoteRequest(List.of(new OrderItemRequest(999L, 1)), null)))
+                .isInstanceOf(ProductNotFoundException.class);
+        assertThatThrownBy(() -> priceQuoteService.quote(new QuoteRequest(List.of(new OrderItemRequest(100L, 1)), "NOPE")))
+                .isInstanceOf(InvalidCouponException.class);
+    }
+
+    private MenuSnapshot snapshot(String contentHash, int americanoPrice) {
+        return new MenuSnapshot(3L, contentHash, new byte[0], new byte[0], NOW, Map.of(
+                100L, new MenuProductResponse(100L, 1L, "아메리카노", americanoPrice, null, null),
+                200L, new MenuProductResponse(200L, 2L, "치즈케이크", 6000, null, null)));
+    }
+}
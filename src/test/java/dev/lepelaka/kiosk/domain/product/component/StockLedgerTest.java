@@ -0,0 +1,72 @@
+package dev.lepelaka.kiosk.domain.product.component;
+
+import dev.lepelaka.kiosk.domain.product.dto.ProductStock;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private StockLedger stockLedger;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        stockLedger = new StockLedger(productRepository, Duration.ofSeconds(2), clock);
+    }
+
+    @DisplayName("없는 재고는 한 번의 쿼리로 모아 읽고, TTL 안에서는 다시 조회하지 않는다.")
+    @Test
+    void batchLoadAndReuse() {
+        // given
+        given(productRepository.findStockByIdIn(anyCollection()))
+                .willReturn(List.of(new ProductStock(1L, 5), new ProductStock(2L, 0)));
+
+        // when
+        Map<Long, Integer> first = stockLedger.quantities(List.of(1L, 2L));
+        Map<Long, Integer> second = stockLedger.quantities(List.of(1L, 2L));
+
+        // then
+        assertThat(first).containsEntry(1L, 5).containsEntry(2L, 0);
+        assertThat(second).isEqualTo(first);
+        verify(productRepository, times(1)).findStockByIdIn(anyCollection());
+    }
+
+    @DisplayName("주문 커밋으로 무효화된 상품은 다음 조회에서 새 재고를 읽는다.")
+    @Test
+    void invalidateReloads() {
+        // given
+        given(productRepository.findStockByIdIn(anyCollection()))
+                .willReturn(List.of(new ProductStock(1L, 5)))
+                .willReturn(List.of(new ProductStock(1L, 3)));
+        stockLedger.quantity(1L);
+
+        // when
+        stockLedger.invalidate(List.of(1L));
+
+        // then
+        assertThat(stockLedger.quantity(1L)).isEqualTo(3);
+        verify(productRepository, times(2)).findStockByIdIn(anyCollection());
+    }
+}
@@ -6,8 +6,10 @@ import dev.lepelaka.kiosk.domain.product.dto.ProductCreateRequest;
 import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
 import dev.lepelaka.kiosk.domain.product.dto.ProductUpdateRequest;
 import dev.lepelaka.kiosk.domain.product.service.ProductService;
+import dev.lepelaka.kiosk.domain.product.service.ProductStockService;
 import dev.lepelaka.kiosk.global.common.dto.PageResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +43,16 @@ class ProductControllerTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private ProductStockService productStockService;
+
+    @BeforeEach
+    void setUp() {
+        // 재고 병합은 별도 테스트(StockLedgerTest)에서 다루므로 여기서는 그대로 통과
+        given(productStockService.merge(any(ProductResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(productStockService.merge(any(PageResponse.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
     // 테스트용 더미 데이터 (Record 생성자 사용 가정)
     private final CategoryResponse categoryResponse = new CategoryResponse(1L, "메인", "설명", 1, true, LocalDateTime.now(), LocalDateTime.now());
 
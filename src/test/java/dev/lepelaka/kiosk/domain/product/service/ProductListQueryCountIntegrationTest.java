@@ -0,0 +1,120 @@
+package dev.lepelaka.kiosk.domain.product.service;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 목록 페이지당 SQL 수 검증. 영속성 컨텍스트와 2차 캐시를 비워 카테고리가 어디에도 없는 상태에서 측정한다.
+ */
+@SpringBootTest
+@Transactional
+class ProductListQueryCountIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Category main;
+    private final Pageable pageable = PageRequest.of(0, 10);
+
+    @BeforeEach
+    void setUp() {
+        main = categoryRepository.save(Category.builder().name("쿼리 수 메인").displayOrder(1).build());
+        Category drink = categoryRepository.save(Category.builder().name("쿼리 수 음료").displayOrder(2).build());
+        IntStream.rangeClosed(1, 5).forEach(i -> {
+            productRepository.save(Product.builder().name("메인" + i).price(1000).quantity(10).category(main).build());
+            productRepository.save(Product.builder().name("음료" + i).price(1000).quantity(10).category(drink).build());
+        });
+        entityManager.flush();
+        entityManager.clear();
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @DisplayName("전체 목록은 카테고리를 함께 가져와 페이지당 2번(본문 + count) 이하로 조회한다.")
+    @Test
+    void listFetchesCategoryInOneStatement() {
+        // when
+        PageResponse<ProductResponse> page = productService.list(pageable);
+
+        // then
+        assertThat(page.content()).hasSize(10)
+                .extracting(response -> response.categoryResponse().name())
+                .containsOnly("쿼리 수 메인", "쿼리 수 음료");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @DisplayName("카테고리별 목록은 카테고리를 먼저 조회하지 않고 ID 로 바로 필터한다.")
+    @Test
+    void listByCategoryFiltersByIdWithoutPreQuery() {
+        // when
+        PageResponse<ProductResponse> page = productService.listByCategory(main.getId(), pageable);
+
+        // then
+        assertThat(page.content()).hasSize(5)
+                .extracting(response -> response.categoryResponse().name())
+                .containsOnly("쿼리 수 메인");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @DisplayName("활성 상품 목록 조회도 페이지당 2번 이하로 조회한다.")
+    @Test
+    void activeListFetchesCategoryInOneStatement() {
+        // when
+        long categories = productRepository.findByActiveTrue(pageable).map(ProductResponse::fromEntity).stream()
+                .map(response -> response.categoryResponse().id())
+                .distinct()
+                .count();
+
+        // then
+        assertThat(categories).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @DisplayName("존재하지 않는 카테고리면 기존처럼 예외가 발생한다.")
+    @Test
+    void unknownCategoryStillFails() {
+        assertThatThrownBy(() -> productService.listByCategory(999_999L, pageable))
+                .isInstanceOf(CategoryNotFoundException.class);
+    }
+}
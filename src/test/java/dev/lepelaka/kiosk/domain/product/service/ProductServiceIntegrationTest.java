@@ -5,7 +5,10 @@ import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
 import dev.lepelaka.kiosk.domain.product.dto.ProductCreateRequest;
 import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
 import dev.lepelaka.kiosk.domain.product.dto.ProductUpdateRequest;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
 import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +38,9 @@ class ProductServiceIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Category category;
 
     @BeforeEach
@@ -121,6 +130,24 @@ class ProductServiceIntegrationTest {
         verify(productRepository, times(3)).findById(productId);
     }
 
+    @DisplayName("태그를 저장하고, 수정 요청에서 태그를 생략하면 기존 태그를 유지한다.")
+    @Test
+    void attributes() {
+        // given
+        Long productId = productService.register(new ProductCreateRequest("비건 샌드위치", 6500, 10, "desc", "url", category.getId(),
+                Set.of(ProductAttribute.VEGAN, ProductAttribute.CONTAINS_WHEAT)));
+
+        // when
+        productService.modify(productId, new ProductUpdateRequest("비건 샌드위치", 7000, 10, "desc", "url", category.getId()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Product product = productRepository.findAllWithCategoryAndAttributesByIdIn(List.of(productId)).getFirst();
+        assertThat(product.getPrice()).isEqualTo(7000);
+        assertThat(product.getAttributes()).containsExactlyInAnyOrder(ProductAttribute.VEGAN, ProductAttribute.CONTAINS_WHEAT);
+    }
+
     private void createProduct(String name, int price) {
         productService.register(new ProductCreateRequest(name, price, 10, "desc", "url", category.getId()));
     }
@@ -1,5 +1,6 @@
 package dev.lepelaka.kiosk.domain.product.service;
 
+import dev.lepelaka.kiosk.domain.category.component.CategoryRegistry;
 import dev.lepelaka.kiosk.domain.category.entity.Category;
 import dev.lepelaka.kiosk.domain.category.exception.CategoryNotFoundException;
 import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
@@ -25,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +42,12 @@ class ProductServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @DisplayName("상품을 등록하면 저장된 ID를 반환한다.")
     @Test
     void register() {
@@ -131,6 +140,23 @@ class ProductServiceTest {
                 .isInstanceOf(CategoryNotFoundException.class);
     }
 
+    @DisplayName("카테고리 스냅샷에 있어도 DB 에서 삭제된 카테고리면 FK 위반 대신 예외가 발생한다.")
+    @Test
+    void register_CategoryDeletedOnOtherNode() {
+        // given
+        Long categoryId = 3L;
+        ProductCreateRequest request = new ProductCreateRequest("아메리카노", 5000, 100, "설명", "url", categoryId);
+        given(productRepository.existsByName(request.name())).willReturn(false);
+        given(categoryRegistry.contains(categoryId)).willReturn(true);
+        given(categoryRepository.existsById(categoryId)).willReturn(false);
+        given(categoryRepository.findById(categoryId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> productService.register(request))
+                .isInstanceOf(CategoryNotFoundException.class);
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
     @DisplayName("상품 상세 정보를 조회한다.")
     @Test
     void detail() {
@@ -0,0 +1,163 @@
+package dev.lepelaka.kiosk.domain.promotion.component;
+
+import dev.lepelaka.kiosk.domain.promotion.entity.enums.PromotionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PromotionMatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+    private static final Long NOODLE = 1L;
+    private static final Long DRINK = 10L;
+
+    @DisplayName("세트 구성품이 모두 있으면 만들 수 있는 세트 수만큼 할인한다.")
+    @Test
+    void setDiscount() {
+        // given
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(set(1L, 3000, 100L, 200L)));
+
+        // when
+        PromotionMatcher.Result twoSets = matcher.evaluate(List.of(line(100L, NOODLE, 6000, 3), line(200L, NOODLE, 15000, 2)), null, NOW);
+        PromotionMatcher.Result noSet = matcher.evaluate(List.of(line(100L, NOODLE, 6000, 3)), null, NOW);
+
+        // then
+        assertThat(twoSets.discountAmount()).isEqualTo(6000);
+        assertThat(twoSets.applied()).extracting(PromotionMatcher.Applied::promotionId).containsExactly(1L);
+        assertThat(noSet).isEqualTo(PromotionMatcher.Result.NONE);
+    }
+
+    @DisplayName("N+M 은 대상 단위를 N+M 개씩 묶어 가장 싼 M 개를 무료로 한다.")
+    @Test
+    void buyNGetM() {
+        // given
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(buyNGetM(2L, 2, 1, DRINK)));
+
+        // when: 커피 3000, 콜라 2000 x2, 사이다 1500 -> 4개 중 3개가 한 묶음, 사이다 무료
+        PromotionMatcher.Result result = matcher.evaluate(List.of(
+                line(300L, DRINK, 3000, 1), line(301L, DRINK, 2000, 2), line(302L, DRINK, 1500, 1), line(100L, NOODLE, 6000, 1)),
+                null, NOW);
+
+        // then
+        assertThat(result.discountAmount()).isEqualTo(1500);
+    }
+
+    @DisplayName("세트에 쓰인 단위는 N+M 과 쿠폰에 다시 쓰이지 않는다.")
+    @Test
+    void noDoubleDiscount() {
+        // given: 짜장면+콜라 세트, 음료 1+1, 전체 10% 쿠폰
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(
+                set(1L, 1000, 100L, 301L),
+                buyNGetM(2L, 1, 1, DRINK),
+                coupon(3L, "TEN", 0, 10, null)));
+
+        // when: 짜장면 6000 x1, 콜라 2000 x3 -> 세트 1 (1000), 남은 콜라 2개 1+1 (2000), 남은 단위 없음
+        PromotionMatcher.Result result = matcher.evaluate(List.of(line(100L, NOODLE, 6000, 1), line(301L, DRINK, 2000, 3)), "TEN", NOW);
+
+        // then
+        assertThat(result.applied())
+                .extracting(PromotionMatcher.Applied::promotionId, PromotionMatcher.Applied::amount)
+                .containsExactly(tuple(1L, 1000), tuple(2L, 2000));
+        assertThat(result.discountAmount()).isEqualTo(3000);
+        assertThat(result.couponPromotionId()).isNull();
+    }
+
+    @DisplayName("쿠폰은 대상 단위 금액에 정률로, 정액은 금액을 넘지 않게 할인한다.")
+    @Test
+    void coupon() {
+        // given
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(
+                coupon(1L, "DRINK10", 0, 10, DRINK),
+                coupon(2L, "FIX5000", 5000, 0, DRINK)));
+        List<PromotionMatcher.Line> cart = List.of(line(100L, NOODLE, 6000, 1), line(301L, DRINK, 2000, 2));
+
+        // when
+        PromotionMatcher.Result rate = matcher.evaluate(cart, "DRINK10", NOW);
+        PromotionMatcher.Result fixed = matcher.evaluate(cart, "FIX5000", NOW);
+        PromotionMatcher.Result unknown = matcher.evaluate(cart, "NOPE", NOW);
+
+        // then
+        assertThat(rate.discountAmount()).isEqualTo(400);
+        assertThat(rate.couponPromotionId()).isEqualTo(1L);
+        assertThat(fixed.discountAmount()).isEqualTo(4000);
+        assertThat(unknown.couponPromotionId()).isNull();
+    }
+
+    @DisplayName("정률 쿠폰은 대상 금액과 할인율의 곱이 int 범위를 넘어도 정확히 할인한다.")
+    @Test
+    void couponRateOnLargeAmount() {
+        // given
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(coupon(1L, "DRINK10", 0, 10, DRINK)));
+        List<PromotionMatcher.Line> cart = List.of(line(301L, DRINK, 3_000_000, 10));
+
+        // when
+        PromotionMatcher.Result result = matcher.evaluate(cart, "DRINK10", NOW);
+
+        // then
+        assertThat(result.discountAmount()).isEqualTo(3_000_000);
+    }
+
+    @DisplayName("기간 밖의 프로모션과 쿠폰은 적용하지 않는다. 종료 일시는 포함하지 않는다.")
+    @Test
+    void period() {
+        // given
+        PromotionMatcher matcher = PromotionMatcher.compile(List.of(
+                new PromotionMatcher.Rule(1L, "점심 세트", PromotionType.SET_DISCOUNT, List.of(100L, 200L), null,
+                        0, 0, 3000, 0, null, NOW.minusHours(1), NOW),
+                new PromotionMatcher.Rule(2L, "다음 달 쿠폰", PromotionType.COUPON, List.of(), null,
+                        0, 0, 1000, 0, "NEXT", NOW.plusMonths(1), null)));
+
+        // when
+        PromotionMatcher.Result result = matcher.evaluate(List.of(line(100L, NOODLE, 6000, 1), line(200L, NOODLE, 15000, 1)), "NEXT", NOW);
+
+        // then
+        assertThat(result).isEqualTo(PromotionMatcher.Result.NONE);
+        assertThat(matcher.evaluate(List.of(line(100L, NOODLE, 6000, 1), line(200L, NOODLE, 15000, 1)), null, NOW.minusMinutes(1))
+                .discountAmount()).isEqualTo(3000);
+    }
+
+    @DisplayName("장바구니와 무관한 프로모션이 많아도 결과는 걸리는 규칙만으로 정해진다.")
+    @Test
+    void unrelatedPromotions() {
+        // given
+        List<PromotionMatcher.Rule> rules = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            rules.add(id % 2 == 0 ? set(id, 500, 1000 + id, 2000 + id) : buyNGetM(id, 2, 1, 100 + id));
+        }
+        rules.add(buyNGetM(999L, 1, 1, DRINK));
+        PromotionMatcher matcher = PromotionMatcher.compile(rules);
+
+        // when
+        PromotionMatcher.Result result = matcher.evaluate(List.of(line(301L, DRINK, 2000, 2), line(100L, NOODLE, 6000, 1)), null, NOW);
+
+        // then
+        assertThat(matcher.size()).isEqualTo(501);
+        assertThat(result.applied()).extracting(PromotionMatcher.Applied::promotionId).containsExactly(999L);
+        assertThat(result.discountAmount()).isEqualTo(2000);
+    }
+
+    private static PromotionMatcher.Line line(Long productId, Long categoryId, int price, int quantity) {
+        return new PromotionMatcher.Line(productId, categoryId, price, quantity);
+    }
+
+    private static PromotionMatcher.Rule set(Long id, int discountAmount, Long... productIds) {
+        return new PromotionMatcher.Rule(id, "세트 " + id, PromotionType.SET_DISCOUNT, List.of(productIds), null,
+                0, 0, discountAmount, 0, null, null, null);
+    }
+
+    private static PromotionMatcher.Rule buyNGetM(Long id, int buy, int free, Long categoryId) {
+        return new PromotionMatcher.Rule(id, buy + "+" + free, PromotionType.BUY_N_GET_M, List.of(), categoryId,
+                buy, free, 0, 0, null, null, null);
+    }
+
+    private static PromotionMatcher.Rule coupon(Long id, String code, int discountAmount, int discountRate, Long categoryId) {
+        return new PromotionMatcher.Rule(id, "쿠폰 " + code, PromotionType.COUPON, List.of(), categoryId,
+                0, 0, discountAmount, discountRate, code, null, null);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyMenuMatcherTest {
+
+    private FuzzyMenuMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, String> names = new LinkedHashMap<>();
+        names.put(1L, "짜장면");
+        names.put(2L, "짬뽕");
+        names.put(3L, "간짜장");
+        names.put(4L, "아이스 아메리카노");
+        names.put(6L, "탕수육");
+        names.put(7L, "카페라떼");
+
+        matcher = new FuzzyMenuMatcher();
+        matcher.replaceAll(names);
+    }
+
+    @DisplayName("자모로 풀어 쓴다.")
+    @Test
+    void decompose() {
+        assertThat(Hangul.decompose("짜장면")).isEqualTo("ㅉㅏㅈㅏㅇㅁㅕㄴ");
+        assertThat(Hangul.decompose("닭 a1")).isEqualTo("ㄷㅏㄺ a1");
+    }
+
+    @DisplayName("음성 인식이 뭉갠 상품명을 자모 편집 거리로 찾는다.")
+    @Test
+    void matchGarbledNames() {
+        assertThat(matcher.match("짜장멘 두 개 주세요", 3)).extracting(FuzzyMenuMatcher.Candidate::productId).containsExactly(1L);
+        assertThat(matcher.match("아이스 아메리까노 한 잔", 3)).extracting(FuzzyMenuMatcher.Candidate::productId).first().isEqualTo(4L);
+        assertThat(matcher.match("카페라태", 3)).extracting(FuzzyMenuMatcher.Candidate::productId).containsExactly(7L);
+    }
+
+    @DisplayName("한 문장에 여러 메뉴가 있으면 단어별로 찾아 모두 돌려준다.")
+    @Test
+    void matchEachWord() {
+        assertThat(matcher.match("탕슈육이랑 짬뽕", 5)).extracting(FuzzyMenuMatcher.Candidate::productId).containsExactly(2L, 6L);
+    }
+
+    @DisplayName("거리 한도를 넘거나 너무 짧은 질의는 후보가 없다.")
+    @Test
+    void noMatch() {
+        assertThat(matcher.match("화장실 어디예요", 5)).isEmpty();
+        assertThat(matcher.match("짜", 5)).isEmpty();
+    }
+
+    @DisplayName("상품 수정/삭제가 바로 반영된다.")
+    @Test
+    void incrementalUpdate() {
+        // when
+        matcher.upsert(1L, "유니짜장");
+        matcher.remove(2L);
+
+        // then
+        assertThat(matcher.match("유니짜장 주세요", 5)).extracting(FuzzyMenuMatcher.Candidate::productId).containsExactly(1L);
+        assertThat(matcher.match("짬뽕", 5)).isEmpty();
+    }
+
+    @DisplayName("BK-tree 검색 결과는 전수 비교와 같다.")
+    @Test
+    void bkTreeMatchesBruteForce() {
+        // given
+        Random random = new Random(3);
+        List<String> keys = new ArrayList<>();
+        BkTree tree = new BkTree();
+        for (int i = 0; i < 2_000; i++) {
+            String key = Hangul.decompose(randomSyllables(random, 2 + random.nextInt(4)));
+            keys.add(key);
+            tree.add(key, i);
+        }
+
+        // when & then
+        for (int q = 0; q < 30; q++) {
+            String query = keys.get(random.nextInt(keys.size()));
+            long expected = keys.stream().filter(key -> BkTree.distance(query, key) <= 2).count();
+            assertThat(tree.search(query, 2)).hasSize((int) expected);
+        }
+    }
+
+    private static String randomSyllables(Random random, int length) {
+        String syllables = "가각나다라마바밥사아자장차카타파하";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(syllables.charAt(random.nextInt(syllables.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+    private static final int SIZE = 1_000;
+
+    private final Random random = new Random(7);
+    private final Map<Long, float[]> vectors = new LinkedHashMap<>();
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= SIZE; id++) {
+            vectors.put(id, randomUnitVector());
+        }
+        index = new HnswIndex(DIMENSION, 16, 100, 1L);
+        index.replaceAll(vectors);
+    }
+
+    @DisplayName("상위 10개 근사 결과가 전수 비교 결과와 90% 이상 겹친다.")
+    @Test
+    void recallAgainstBruteForce() {
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector();
+            Set<Long> expected = bruteForce(query, 10);
+            hits += (int) index.search(query, 10, 64).stream().map(HnswIndex.Neighbor::id).filter(expected::contains).count();
+        }
+
+        assertThat((double) hits / (queries * 10)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @DisplayName("자기 자신으로 조회하면 유사도 1 로 가장 먼저 나온다.")
+    @Test
+    void exactMatchFirst() {
+        List<HnswIndex.Neighbor> result = index.search(vectors.get(42L), 3, 64);
+
+        assertThat(result.get(0).id()).isEqualTo(42L);
+        assertThat(result.get(0).similarity()).isCloseTo(1.0, org.assertj.core.data.Offset.offset(1e-5));
+    }
+
+    @DisplayName("삭제한 벡터는 결과에서 빠지고 수정한 벡터는 새 위치로 조회된다.")
+    @Test
+    void removeAndUpsert() {
+        // given
+        float[] moved = randomUnitVector();
+
+        // when
+        index.remove(42L);
+        index.upsert(7L, moved);
+
+        // then
+        assertThat(index.search(vectors.get(42L), 5, 64)).extracting(HnswIndex.Neighbor::id).doesNotContain(42L);
+        assertThat(index.search(moved, 1, 64)).extracting(HnswIndex.Neighbor::id).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(SIZE - 1);
+    }
+
+    @DisplayName("삭제가 많이 쌓이면 살아있는 벡터로 재구성하고 결과는 그대로 유지된다.")
+    @Test
+    void compactsAfterManyRemovals() {
+        // when
+        for (long id = 1; id <= SIZE / 2; id++) {
+            index.remove(id);
+        }
+
+        // then
+        float[] survivor = vectors.get((long) SIZE);
+        assertThat(index.size()).isEqualTo(SIZE / 2);
+        assertThat(index.search(survivor, 1, 64)).extracting(HnswIndex.Neighbor::id).containsExactly((long) SIZE);
+        assertThat(index.search(randomUnitVector(), 20, 64)).allMatch(neighbor -> neighbor.id() > SIZE / 2);
+    }
+
+    private Set<Long> bruteForce(float[] query, int k) {
+        return vectors.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, float[]> e) -> -dot(query, e.getValue())))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private float[] randomUnitVector() {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
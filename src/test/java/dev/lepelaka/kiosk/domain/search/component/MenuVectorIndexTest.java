@@ -0,0 +1,66 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuVectorIndexTest {
+
+    private MenuVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MenuVectorIndex();
+        index.replaceAll(List.of(
+                new MenuVectorIndex.MenuText(1L, "짜장면", "춘장 소스"),
+                new MenuVectorIndex.MenuText(2L, "짬뽕", "얼큰한 해물 국물"),
+                new MenuVectorIndex.MenuText(3L, "탕수육", "바삭한 튀김"),
+                new MenuVectorIndex.MenuText(4L, "간짜장", "볶은 춘장"),
+                new MenuVectorIndex.MenuText(5L, "볶음밥", null),
+                new MenuVectorIndex.MenuText(6L, "아이스 아메리카노", "에스프레소")
+        ));
+    }
+
+    @DisplayName("수량/요청 표현을 걸러내고 주문한 메뉴를 가장 먼저 돌려준다.")
+    @Test
+    void matchIgnoresFillers() {
+        assertThat(index.match("짜장면 두 개 주세요", 3)).extracting(HnswIndex.Neighbor::id).first().isEqualTo(1L);
+        assertThat(index.match("아이스아메리카노 한 잔이요", 3)).extracting(HnswIndex.Neighbor::id).first().isEqualTo(6L);
+    }
+
+    @DisplayName("메뉴 두 개를 말하면 두 메뉴가 상위 후보가 된다.")
+    @Test
+    void matchMultipleMenus() {
+        List<HnswIndex.Neighbor> result = index.match("탕수육 하나랑 짬뽕 주세요", 2);
+
+        assertThat(result).extracting(HnswIndex.Neighbor::id).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @DisplayName("관련 없는 문장은 유사도 기준 미만이라 후보가 없다.")
+    @Test
+    void unrelatedTranscript() {
+        assertThat(index.match("화장실 어디예요", 5)).isEmpty();
+    }
+
+    @DisplayName("상품 변경이 바로 반영된다.")
+    @Test
+    void incrementalUpdate() {
+        // when
+        index.upsert(new MenuVectorIndex.MenuText(5L, "김치볶음밥", "매콤"));
+        index.remove(1L);
+
+        // then
+        assertThat(index.match("김치볶음밥 주세요", 1)).extracting(HnswIndex.Neighbor::id).containsExactly(5L);
+        assertThat(index.match("짜장면", 5)).extracting(HnswIndex.Neighbor::id).doesNotContain(1L);
+    }
+
+    @DisplayName("음성 질의에서 수량/요청 표현만 제거한다.")
+    @Test
+    void stripFillers() {
+        assertThat(MenuVectorizer.stripFillers("짜장면 2개랑 짬뽕 하나 주세요")).isEqualTo("짜장면 짬뽕");
+    }
+}
@@ -0,0 +1,104 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductAutocompleteTest {
+
+    private ProductAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, String> names = new LinkedHashMap<>();
+        names.put(1L, "짜장면");
+        names.put(2L, "짬뽕");
+        names.put(3L, "간짜장");
+        names.put(4L, "아이스 아메리카노");
+        names.put(5L, "짜장밥");
+
+        autocomplete = new ProductAutocomplete();
+        autocomplete.replaceAll(names, Map.of(1L, 10L, 2L, 30L, 5L, 3L));
+    }
+
+    @DisplayName("초성만 입력해도 상품명을 찾는다.")
+    @Test
+    void suggestByChosung() {
+        assertThat(autocomplete.suggest("ㅉㅈㅁ", 10))
+                .extracting(ProductAutocomplete.Suggestion::name)
+                .containsExactly("짜장면");
+    }
+
+    @DisplayName("접두어가 같은 상품은 판매량 순으로 돌려준다.")
+    @Test
+    void suggestOrderedByPopularity() {
+        assertThat(autocomplete.suggest("ㅉ", 10))
+                .extracting(ProductAutocomplete.Suggestion::productId)
+                .containsExactly(2L, 1L, 5L);
+        assertThat(autocomplete.suggest("짜장", 10))
+                .extracting(ProductAutocomplete.Suggestion::productId)
+                .containsExactly(1L, 5L);
+    }
+
+    @DisplayName("음절과 초성을 섞어 입력하면 입력한 음절까지 일치하는 상품만 돌려준다.")
+    @Test
+    void suggestByMixedInput() {
+        assertThat(autocomplete.suggest("짬ㅃ", 10))
+                .extracting(ProductAutocomplete.Suggestion::name)
+                .containsExactly("짬뽕");
+        assertThat(autocomplete.suggest("짜ㅈㅂ", 10))
+                .extracting(ProductAutocomplete.Suggestion::name)
+                .containsExactly("짜장밥");
+    }
+
+    @DisplayName("상품명 중간 단어부터 입력해도 찾는다.")
+    @Test
+    void suggestFromWordBoundary() {
+        assertThat(autocomplete.suggest("아메리", 10))
+                .extracting(ProductAutocomplete.Suggestion::productId)
+                .containsExactly(4L);
+        assertThat(autocomplete.suggest("ㅇㅇㅅㅇ", 10))
+                .extracting(ProductAutocomplete.Suggestion::productId)
+                .containsExactly(4L);
+    }
+
+    @DisplayName("상품 수정/삭제와 판매량 변화가 바로 반영된다.")
+    @Test
+    void incrementalUpdate() {
+        // when
+        autocomplete.upsert(1L, "유니짜장");
+        autocomplete.remove(2L);
+        autocomplete.updatePopularity(Map.of(5L, 100L));
+
+        // then
+        assertThat(autocomplete.suggest("ㅉ", 10)).extracting(ProductAutocomplete.Suggestion::productId).containsExactly(5L);
+        assertThat(autocomplete.suggest("ㅇㄴ", 10)).extracting(ProductAutocomplete.Suggestion::productId).containsExactly(1L);
+        assertThat(autocomplete.suggest("짬", 10)).isEmpty();
+        assertThat(autocomplete.size()).isEqualTo(4);
+    }
+
+    @DisplayName("노드마다 상위 TOP_K 개만 보관한다.")
+    @Test
+    void keepsOnlyTopK() {
+        // given
+        Map<Long, String> names = new LinkedHashMap<>();
+        Map<Long, Long> popularity = new LinkedHashMap<>();
+        IntStream.rangeClosed(1, 50).forEach(i -> {
+            names.put((long) i, "라떼 " + i);
+            popularity.put((long) i, (long) i);
+        });
+        autocomplete.replaceAll(names, popularity);
+
+        // when & then
+        assertThat(autocomplete.suggest("ㄹㄸ", 100))
+                .hasSize(ProductAutocomplete.TOP_K)
+                .extracting(ProductAutocomplete.Suggestion::productId)
+                .startsWith(50L, 49L, 48L);
+    }
+}
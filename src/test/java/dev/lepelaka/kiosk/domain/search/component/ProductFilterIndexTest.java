@@ -0,0 +1,113 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static dev.lepelaka.kiosk.domain.product.entity.enums.ProductAttribute.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductFilterIndexTest {
+
+    private ProductFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFilterIndex();
+        index.replaceAll(List.of(
+                entry(1L, 7000, 10L, CONTAINS_WHEAT, CONTAINS_SOY),
+                entry(2L, 8000, 10L, SPICY, CONTAINS_SHELLFISH, CONTAINS_WHEAT),
+                entry(3L, 8500, 10L, SPICY),
+                entry(4L, 4500, 20L, VEGAN),
+                entry(5L, 6500, 30L, VEGAN, CONTAINS_NUTS),
+                entry(6L, 5000, 20L, CONTAINS_MILK)
+        ));
+    }
+
+    @DisplayName("제외 태그와 가격 상한을 함께 적용한다. 가격 경계는 포함한다.")
+    @Test
+    void excludeAndMaxPrice() {
+        // when
+        ProductFilterIndex.Result result = index.filter(filter(Set.of(), Set.of(), Set.of(CONTAINS_NUTS), null, 8000, null), 0, 10);
+
+        // then
+        assertThat(ids(result)).containsExactly(1L, 2L, 4L, 6L);
+        assertThat(result.total()).isEqualTo(4);
+    }
+
+    @DisplayName("all 은 AND, any 는 OR 로 계산한다.")
+    @Test
+    void allAndAny() {
+        assertThat(ids(index.filter(filter(Set.of(SPICY, CONTAINS_WHEAT), Set.of(), Set.of(), null, null, null), 0, 10)))
+                .containsExactly(2L);
+        assertThat(ids(index.filter(filter(Set.of(), Set.of(VEGAN, SPICY), Set.of(), null, null, null), 0, 10)))
+                .containsExactly(2L, 3L, 4L, 5L);
+    }
+
+    @DisplayName("가격 구간 안쪽의 경계 값과 카테고리를 정확히 거른다.")
+    @Test
+    void priceRangeAndCategory() {
+        assertThat(ids(index.filter(filter(Set.of(), Set.of(), Set.of(), 5000, 6999, null), 0, 10))).containsExactly(5L, 6L);
+        assertThat(ids(index.filter(filter(Set.of(), Set.of(), Set.of(), null, null, 20L), 0, 10))).containsExactly(4L, 6L);
+        assertThat(ids(index.filter(filter(Set.of(), Set.of(), Set.of(), 9000, 1000, null), 0, 10))).isEmpty();
+    }
+
+    @DisplayName("offset / limit 으로 나눠 조회하고 전체 건수는 유지한다.")
+    @Test
+    void paging() {
+        // when
+        ProductFilterIndex.Result result = index.filter(filter(Set.of(), Set.of(), Set.of(), null, null, null), 2, 3);
+
+        // then
+        assertThat(ids(result)).containsExactly(3L, 4L, 5L);
+        assertThat(result.total()).isEqualTo(6);
+    }
+
+    @DisplayName("상품 수정/삭제가 바로 반영된다.")
+    @Test
+    void incrementalUpdate() {
+        // when
+        index.upsert(entry(3L, 3000, 10L, VEGAN));
+        index.remove(4L);
+        index.upsert(entry(7L, 2000, 20L, VEGAN));
+
+        // then
+        assertThat(ids(index.filter(filter(Set.of(VEGAN), Set.of(), Set.of(), null, null, null), 0, 10))).containsExactly(3L, 5L, 7L);
+        assertThat(ids(index.filter(filter(Set.of(SPICY), Set.of(), Set.of(), null, null, null), 0, 10))).containsExactly(2L);
+        assertThat(ids(index.filter(filter(Set.of(), Set.of(), Set.of(), null, 8000, 20L), 0, 10))).containsExactly(6L, 7L);
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @DisplayName("삭제가 쌓여 슬롯을 다시 채워도 결과는 상품 ID 순이다.")
+    @Test
+    void compactAfterRemovals() {
+        // given
+        index.replaceAll(LongStream.rangeClosed(1, 200).mapToObj(id -> entry(id, (int) id * 100, 10L, id % 2 == 0 ? VEGAN : SPICY)).toList());
+
+        // when
+        LongStream.rangeClosed(1, 150).forEach(index::remove);
+
+        // then
+        ProductFilterIndex.Result result = index.filter(filter(Set.of(VEGAN), Set.of(), Set.of(), null, 18000, null), 0, 100);
+        assertThat(ids(result)).containsExactlyElementsOf(LongStream.rangeClosed(151, 180).filter(id -> id % 2 == 0).boxed().toList());
+        assertThat(index.size()).isEqualTo(50);
+    }
+
+    private static ProductFilterIndex.Entry entry(Long id, int price, Long categoryId, ProductAttribute... attributes) {
+        return new ProductFilterIndex.Entry(id, price, categoryId, Set.of(attributes));
+    }
+
+    private static ProductFilterIndex.Filter filter(Set<ProductAttribute> all, Set<ProductAttribute> any, Set<ProductAttribute> none,
+                                                    Integer minPrice, Integer maxPrice, Long categoryId) {
+        return new ProductFilterIndex.Filter(all, any, none, minPrice, maxPrice, categoryId);
+    }
+
+    private static List<Long> ids(ProductFilterIndex.Result result) {
+        return result.entries().stream().map(ProductFilterIndex.Entry::productId).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package dev.lepelaka.kiosk.domain.search.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private static final Long COFFEE = 1L;
+    private static final Long DESSERT = 2L;
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.replaceAll(List.of(
+                ProductSearchIndex.Document.of(1L, "아메리카노", "진한 에스프레소", 4000, null, COFFEE),
+                ProductSearchIndex.Document.of(2L, "아이스 아메리카노", "얼음 가득", 4500, null, COFFEE),
+                ProductSearchIndex.Document.of(3L, "카페라떼", "우유와 에스프레소", 5000, null, COFFEE),
+                ProductSearchIndex.Document.of(4L, "티라미수", "에스프레소 시럽을 적신 케이크", 6000, null, DESSERT)
+        ));
+    }
+
+    @DisplayName("띄어쓰기와 관계없이 bigram 으로 찾고 상품명이 질의로 시작하는 상품을 먼저 보여준다.")
+    @Test
+    void searchIgnoresSpacing() {
+        // when
+        List<ProductSearchIndex.Hit> hits = index.search("아이스아메리카노", null, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.document().id()).startsWith(2L).contains(1L);
+    }
+
+    @DisplayName("상품명 일치가 설명 일치보다 높은 점수를 받는다.")
+    @Test
+    void nameOutranksDescription() {
+        // given
+        index.upsert(ProductSearchIndex.Document.of(5L, "에스프레소", "기본", 3500, null, COFFEE));
+
+        // when
+        List<ProductSearchIndex.Hit> hits = index.search("에스프레소", null, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.document().id()).first().isEqualTo(5L);
+        assertThat(hits).hasSize(4);
+    }
+
+    @DisplayName("카테고리를 지정하면 해당 카테고리 상품만 돌려준다.")
+    @Test
+    void filterByCategory() {
+        // when
+        List<ProductSearchIndex.Hit> hits = index.search("에스프레소", DESSERT, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.document().id()).containsExactly(4L);
+    }
+
+    @DisplayName("수정/삭제가 색인에 바로 반영된다.")
+    @Test
+    void incrementalUpdate() {
+        // when
+        index.upsert(ProductSearchIndex.Document.of(3L, "바닐라 라떼", "바닐라 시럽", 5500, null, COFFEE));
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("카페라떼", null, 10)).extracting(hit -> hit.document().id()).doesNotContain(3L);
+        assertThat(index.search("바닐라", null, 10)).extracting(hit -> hit.document().id()).containsExactly(3L);
+        assertThat(index.search("아메리카노", null, 10)).extracting(hit -> hit.document().id()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @DisplayName("한 글자 질의는 그 글자가 상품명이나 설명 어디에 있든 찾고 상품명에 있는 상품을 먼저 보여준다.")
+    @Test
+    void searchSingleCharacter() {
+        // given
+        index.upsert(ProductSearchIndex.Document.of(5L, "짜장면", "춘장 소스", 7000, null, DESSERT));
+        index.upsert(ProductSearchIndex.Document.of(6L, "냉면", "시원한 육수", 9000, null, DESSERT));
+        index.upsert(ProductSearchIndex.Document.of(7L, "볶음밥", "면 대신 밥", 8000, null, DESSERT));
+        index.upsert(ProductSearchIndex.Document.of(8L, "콜라", null, 2000, null, COFFEE));
+
+        // when
+        List<ProductSearchIndex.Hit> noodles = index.search("면", null, 10);
+        List<ProductSearchIndex.Hit> cola = index.search(" 콜 ", null, 10);
+
+        // then
+        assertThat(noodles).extracting(hit -> hit.document().id()).containsExactlyInAnyOrder(5L, 6L, 7L);
+        assertThat(noodles).extracting(hit -> hit.document().id()).last().isEqualTo(7L);
+        assertThat(cola).extracting(hit -> hit.document().id()).containsExactly(8L);
+        assertThat(index.search("쿠", null, 10)).isEmpty();
+    }
+
+    @DisplayName("질의 토큰의 절반 이상이 일치하지 않으면 결과에서 제외하고 개수 제한을 지킨다.")
+    @Test
+    void coverageAndLimit() {
+        assertThat(index.search("아메리카노 케이크 세트", null, 10)).isEmpty();
+        assertThat(index.search("아메리카노", null, 1)).hasSize(1);
+        assertThat(index.search("  ", null, 10)).isEmpty();
+    }
+}
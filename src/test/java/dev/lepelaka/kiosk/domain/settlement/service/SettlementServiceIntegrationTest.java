@@ -0,0 +1,243 @@
+package dev.lepelaka.kiosk.domain.settlement.service;
+
+import dev.lepelaka.kiosk.domain.category.entity.Category;
+import dev.lepelaka.kiosk.domain.category.repository.CategoryRepository;
+import dev.lepelaka.kiosk.domain.order.entity.Order;
+import dev.lepelaka.kiosk.domain.order.entity.OrderItem;
+import dev.lepelaka.kiosk.domain.order.entity.enums.OrderStatus;
+import dev.lepelaka.kiosk.domain.order.repository.OrderRepository;
+import dev.lepelaka.kiosk.domain.payment.entity.Payment;
+import dev.lepelaka.kiosk.domain.payment.entity.enums.PaymentMethod;
+import dev.lepelaka.kiosk.domain.payment.entity.enums.PaymentStatus;
+import dev.lepelaka.kiosk.domain.payment.repository.PaymentRepository;
+import dev.lepelaka.kiosk.domain.product.entity.Product;
+import dev.lepelaka.kiosk.domain.product.repository.ProductRepository;
+import dev.lepelaka.kiosk.domain.settlement.component.SettlementWriter;
+import dev.lepelaka.kiosk.domain.settlement.component.TerminalAggregate;
+import dev.lepelaka.kiosk.domain.settlement.dto.SettlementLineResponse;
+import dev.lepelaka.kiosk.domain.settlement.dto.SettlementResponse;
+import dev.lepelaka.kiosk.domain.settlement.entity.Settlement;
+import dev.lepelaka.kiosk.domain.settlement.entity.SettlementCheckpoint;
+import dev.lepelaka.kiosk.domain.settlement.entity.enums.SettlementStatus;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementFailedException;
+import dev.lepelaka.kiosk.domain.settlement.exception.SettlementInProgressException;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementCheckpointRepository;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementLineRepository;
+import dev.lepelaka.kiosk.domain.settlement.repository.SettlementRepository;
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 청크 크기를 2로 줄여 여러 청크 + 체크포인트 경로를 타도록 함
+@SpringBootTest(properties = "kiosk.settlement.chunk-size=2")
+class SettlementServiceIntegrationTest {
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private SettlementLineRepository lineRepository;
+
+    @Autowired
+    private SettlementCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TerminalRepository terminalRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private SettlementWriter settlementWriter;
+
+    private final LocalDate today = LocalDate.now();
+    private Terminal first;
+
+    @BeforeEach
+    void setUp() {
+        first = terminalRepository.save(Terminal.builder().name("정산 키오스크 1번").build());
+        Terminal second = terminalRepository.save(Terminal.builder().name("정산 키오스크 2번").build());
+        Category category = categoryRepository.save(Category.builder().name("정산 카테고리").displayOrder(1).build());
+        Product jjajang = productRepository.save(Product.builder().name("짜장면").price(1000).quantity(100).category(category).build());
+        Product jjambbong = productRepository.save(Product.builder().name("짬뽕").price(2000).quantity(100).category(category).build());
+
+        placeOrder(first, jjajang, 2, OrderStatus.CONFIRMED, PaymentMethod.CARD);
+        placeOrder(first, jjambbong, 1, OrderStatus.COMPLETED, PaymentMethod.CASH);
+        placeOrder(first, jjajang, 1, OrderStatus.CONFIRMED, null);             // 결제 누락 -> 불일치
+        placeOrder(second, jjambbong, 2, OrderStatus.CONFIRMED, PaymentMethod.CARD);
+        placeOrder(second, jjambbong, 5, OrderStatus.CANCELED, null);           // 정산 제외
+    }
+
+    @AfterEach
+    void tearDown() {
+        lineRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        settlementRepository.deleteAll();
+        paymentRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        terminalRepository.deleteAll();
+    }
+
+    @DisplayName("단말기/결제수단/상품별 합계를 집계하고 결제 누락 주문을 불일치로 기록한다.")
+    @Test
+    void settle() {
+        // when
+        SettlementResponse response = settlementService.settle(today);
+
+        // then
+        assertThat(response.status()).isEqualTo(SettlementStatus.COMPLETED);
+        assertThat(response.orderCount()).isEqualTo(4);
+        assertThat(response.orderAmount()).isEqualTo(9000);
+        assertThat(response.paymentAmount()).isEqualTo(8000);
+        assertThat(response.mismatchCount()).isEqualTo(1);
+
+        assertThat(response.paymentMethods())
+                .extracting(SettlementLineResponse::key, SettlementLineResponse::count, SettlementLineResponse::amount)
+                .containsExactlyInAnyOrder(tuple("CARD", 2L, 6000L), tuple("CASH", 1L, 2000L), tuple("NONE", 1L, 0L));
+        assertThat(response.products())
+                .extracting(SettlementLineResponse::count, SettlementLineResponse::amount)
+                .containsExactlyInAnyOrder(tuple(3L, 3000L), tuple(3L, 6000L));
+        assertThat(checkpointRepository.findByBusinessDate(today)).hasSize(2).allMatch(c -> c.isCompleted());
+    }
+
+    @DisplayName("실패 후 재실행하면 완료된 단말기는 건너뛰고 합계가 중복 집계되지 않는다.")
+    @Test
+    void resumeWithoutDoubleCounting() {
+        // given
+        settlementService.settle(today);
+        transactionTemplate.executeWithoutResult(status ->
+                settlementRepository.findByBusinessDate(today).orElseThrow().fail());
+
+        // when
+        SettlementResponse response = settlementService.settle(today);
+
+        // then
+        assertThat(response.status()).isEqualTo(SettlementStatus.COMPLETED);
+        assertThat(response.orderCount()).isEqualTo(4);
+        assertThat(response.orderAmount()).isEqualTo(9000);
+    }
+
+    @DisplayName("단말기 정산 도중 실패하면 저장된 청크까지 체크포인트로 남고, 재실행은 그 다음 주문부터 이어서 처리한다.")
+    @Test
+    void resumeFromCheckpointAfterPartialFailure() {
+        // given: 1번 단말기(주문 3건, 청크 2) 의 두 번째 청크 저장 직전에 한 번 실패
+        AtomicBoolean failed = new AtomicBoolean();
+        willAnswer(invocation -> {
+            TerminalAggregate aggregate = invocation.getArgument(1);
+            if (aggregate.getTerminalId() == first.getId() && invocation.<Boolean>getArgument(3) && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("DB 연결 끊김");
+            }
+            return invocation.callRealMethod();
+        }).given(settlementWriter).flush(any(), any(), anyLong(), anyBoolean());
+
+        assertThatThrownBy(() -> settlementService.settle(today)).isInstanceOf(SettlementFailedException.class);
+        assertThat(settlementRepository.findByBusinessDate(today).orElseThrow().getStatus()).isEqualTo(SettlementStatus.FAILED);
+        SettlementCheckpoint checkpoint = checkpointRepository.findByBusinessDate(today).stream()
+                .filter(c -> c.getTerminalId().equals(first.getId()))
+                .findFirst().orElseThrow();
+        assertThat(checkpoint.isCompleted()).isFalse();
+        assertThat(checkpoint.getLastOrderId()).isPositive();
+        clearInvocations(settlementWriter);
+
+        // when
+        SettlementResponse response = settlementService.settle(today);
+
+        // then: 1번 단말기는 처음부터 다시 하지 않고 남은 청크 하나만 저장
+        verify(settlementWriter, never()).flush(eq(today), argThat(a -> a.getTerminalId() == first.getId()), anyLong(), eq(false));
+        verify(settlementWriter, times(1)).flush(eq(today), argThat(a -> a.getTerminalId() == first.getId()), anyLong(), eq(true));
+        assertThat(response.status()).isEqualTo(SettlementStatus.COMPLETED);
+        assertThat(response.orderCount()).isEqualTo(4);
+        assertThat(response.orderAmount()).isEqualTo(9000);
+        assertThat(response.mismatchCount()).isEqualTo(1);
+    }
+
+    @DisplayName("다른 노드의 실행이 살아 있으면 진행 중으로 거절하고, heartbeat 가 lease 보다 오래됐으면 이어받는다.")
+    @Test
+    void claimAcrossNodes() {
+        // given: 다른 노드가 방금 시작한 정산
+        transactionTemplate.executeWithoutResult(status -> settlementRepository.save(Settlement.builder().businessDate(today).build())
+                .tryClaim("other-node", LocalDateTime.now(), Duration.ofMinutes(10)));
+
+        // when & then
+        assertThatThrownBy(() -> settlementService.settle(today)).isInstanceOf(SettlementInProgressException.class);
+
+        // given: 그 노드가 죽어 heartbeat 가 끊김
+        transactionTemplate.executeWithoutResult(status -> settlementRepository.heartbeat(today, "other-node", LocalDateTime.now().minusHours(1)));
+
+        // when
+        SettlementResponse response = settlementService.settle(today);
+
+        // then
+        assertThat(response.status()).isEqualTo(SettlementStatus.COMPLETED);
+        assertThat(response.orderCount()).isEqualTo(4);
+    }
+
+    private void placeOrder(Terminal terminal, Product product, int quantity, OrderStatus status, PaymentMethod method) {
+        Order order = Order.builder()
+                .terminal(terminal)
+                .orderNumber("S-" + System.nanoTime())
+                .status(status)
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .order(order)
+                .productId(product.getId())
+                .productName(product.getName())
+                .quantity(quantity)
+                .price(product.getPrice())
+                .build());
+        order.calculateTotalAmount();
+        orderRepository.save(order);
+
+        if (method != null) {
+            paymentRepository.save(Payment.builder()
+                    .order(order)
+                    .amount(order.getTotalAmount())
+                    .method(method)
+                    .status(PaymentStatus.COMPLETED)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.lepelaka.kiosk.domain.statistics.component;
+
+import dev.lepelaka.kiosk.domain.statistics.enums.SalesWindow;
+import dev.lepelaka.kiosk.support.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalesWindowCounterTest {
+
+    private static final ZoneId ZONE = ZoneOffset.ofHours(9);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 30, 0);
+
+    private final Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+    private final SalesWindowCounter counter = new SalesWindowCounter(clock);
+
+    @DisplayName("판매 시각에 따라 5분 / 1시간 / 오늘 구간에 나뉘어 집계된다.")
+    @Test
+    void windows() {
+        // given
+        counter.record(1L, "짜장면", 2, NOW.minusMinutes(1));
+        counter.record(1L, "짜장면", 3, NOW.minusMinutes(30));
+        counter.record(1L, "짜장면", 4, NOW.minusHours(3));
+
+        // when & then
+        assertThat(counter.snapshot(SalesWindow.FIVE_MINUTES)).containsEntry(1L, 2L);
+        assertThat(counter.snapshot(SalesWindow.ONE_HOUR)).containsEntry(1L, 5L);
+        assertThat(counter.snapshot(SalesWindow.TODAY)).containsEntry(1L, 9L);
+    }
+
+    @DisplayName("취소는 원 주문 시각의 버킷에서 차감된다.")
+    @Test
+    void cancel() {
+        // given
+        LocalDateTime orderedAt = NOW.minusMinutes(10);
+        counter.record(1L, "짜장면", 2, orderedAt);
+
+        // when
+        counter.record(1L, "짜장면", -2, orderedAt);
+
+        // then
+        assertThat(counter.snapshot(SalesWindow.ONE_HOUR)).containsEntry(1L, 0L);
+        assertThat(counter.top(SalesWindow.ONE_HOUR, 10)).isEmpty();
+    }
+
+    @DisplayName("상위 N개를 판매 수량 내림차순으로 반환한다.")
+    @Test
+    void top() {
+        // given
+        counter.record(1L, "짜장면", 5, NOW);
+        counter.record(2L, "짬뽕", 9, NOW);
+        counter.record(3L, "탕수육", 1, NOW);
+
+        // when
+        List<Map.Entry<Long, Long>> top = counter.top(SalesWindow.FIVE_MINUTES, 2);
+
+        // then
+        assertThat(top).extracting(Map.Entry::getKey).containsExactly(2L, 1L);
+        assertThat(counter.productName(2L)).isEqualTo("짬뽕");
+    }
+
+    @DisplayName("1시간이 지난 버킷은 링에서 재사용되어 이전 값이 섞이지 않는다.")
+    @Test
+    void ringRotation() {
+        // given
+        MutableClock movingClock = new MutableClock(NOW.atZone(ZONE).toInstant(), ZONE);
+        SalesWindowCounter rotating = new SalesWindowCounter(movingClock);
+        rotating.record(1L, "짜장면", 7, NOW.minusMinutes(1));
+
+        // when: 61분 뒤, 60분 전 판매와 같은 칸(NOW - 1분 + 60분)에 기록
+        movingClock.advance(Duration.ofMinutes(61));
+        rotating.record(1L, "짜장면", 1, NOW.plusMinutes(59));
+
+        // then
+        assertThat(rotating.snapshot(SalesWindow.ONE_HOUR)).containsEntry(1L, 1L);
+        assertThat(rotating.snapshot(SalesWindow.FIVE_MINUTES)).containsEntry(1L, 1L);
+    }
+
+    @DisplayName("자정 이전 판매는 오늘 누적에 포함되지 않는다.")
+    @Test
+    void todayExcludesYesterday() {
+        // given
+        Instant yesterday = NOW.minusDays(1).atZone(ZONE).toInstant();
+
+        // when
+        counter.record(1L, "짜장면", 3, LocalDateTime.ofInstant(yesterday, ZONE));
+
+        // then
+        assertThat(counter.snapshot(SalesWindow.TODAY)).doesNotContainKey(1L);
+    }
+}
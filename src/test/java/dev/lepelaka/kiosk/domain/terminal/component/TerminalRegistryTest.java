@@ -0,0 +1,51 @@
+package dev.lepelaka.kiosk.domain.terminal.component;
+
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.event.TerminalChangedEvent;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.cache.CacheInvalidationBus;
+import dev.lepelaka.kiosk.global.cache.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 같은 메모리 버스를 공유하는 레지스트리 두 개를 두 노드로 보고 상태 변경 전파를 확인한다.
+ */
+class TerminalRegistryTest {
+
+    private final TerminalRepository terminalRepository = mock(TerminalRepository.class);
+
+    @DisplayName("단말기 상태 변경이 커밋되면 주기적 재적재를 기다리지 않고 모든 노드가 다시 읽는다.")
+    @Test
+    void changeReloadsAllNodes() {
+        // given
+        CacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        TerminalRegistry node1 = new TerminalRegistry(terminalRepository, bus);
+        TerminalRegistry node2 = new TerminalRegistry(terminalRepository, bus);
+        Terminal terminal = terminal(1L);
+        given(terminalRepository.findAll()).willReturn(List.of(terminal));
+        node1.initialize();
+        node2.initialize();
+
+        // when
+        terminal.maintenance();
+        node1.onTerminalChanged(new TerminalChangedEvent(1L));
+
+        // then
+        assertThat(node1.find(1L)).hasValueSatisfying(entry -> assertThat(entry.canOrder()).isFalse());
+        assertThat(node2.find(1L)).hasValueSatisfying(entry -> assertThat(entry.canOrder()).isFalse());
+    }
+
+    private Terminal terminal(Long id) {
+        Terminal terminal = Terminal.builder().name("키오스크 " + id).build();
+        ReflectionTestUtils.setField(terminal, "id", id);
+        return terminal;
+    }
+}
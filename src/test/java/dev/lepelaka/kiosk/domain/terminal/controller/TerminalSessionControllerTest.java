@@ -0,0 +1,68 @@
+package dev.lepelaka.kiosk.domain.terminal.controller;
+
+import dev.lepelaka.kiosk.domain.cart.controller.CartController;
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalSessionResponse;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.domain.terminal.service.TerminalSessionService;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TerminalSessionController.class)
+class TerminalSessionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TerminalSessionService terminalSessionService;
+
+    @DisplayName("단말기 키로 세션을 발급한다.")
+    @Test
+    void open() throws Exception {
+        // given
+        given(terminalSessionService.open(1L, "terminal-secret")).willReturn(new TerminalSessionResponse(1L, "session-token"));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/terminals/{terminalId}/sessions", 1L)
+                        .header(TerminalSessionController.KEY_HEADER, "terminal-secret"))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.sessionToken").value("session-token"));
+    }
+
+    @DisplayName("키가 일치하지 않으면 401 로 응답한다.")
+    @Test
+    void openKeyMismatch() throws Exception {
+        // given
+        given(terminalSessionService.open(1L, "wrong")).willThrow(new TerminalException(ErrorCode.TERMINAL_KEY_MISMATCH));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/terminals/{terminalId}/sessions", 1L)
+                        .header(TerminalSessionController.KEY_HEADER, "wrong"))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("TERMINAL-003"));
+    }
+
+    @DisplayName("현재 세션을 종료한다.")
+    @Test
+    void close() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/api/v1/terminals/sessions/current")
+                        .header(CartController.SESSION_HEADER, "session-token"))
+                .andExpect(status().isNoContent());
+        verify(terminalSessionService).close("session-token");
+    }
+}
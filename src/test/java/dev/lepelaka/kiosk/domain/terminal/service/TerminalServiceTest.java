@@ -0,0 +1,107 @@
+package dev.lepelaka.kiosk.domain.terminal.service;
+
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalRequest;
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.entity.enums.TerminalStatus;
+import dev.lepelaka.kiosk.domain.terminal.event.TerminalChangedEvent;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TerminalServiceTest {
+
+    @InjectMocks
+    private TerminalService terminalService;
+
+    @Mock
+    private TerminalRepository terminalRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("단말기를 등록하면 키는 해시로 저장하고 변경 이벤트를 발행한다.")
+    @Test
+    void register() {
+        // given
+        Terminal saved = terminal(1L);
+        given(terminalRepository.save(any(Terminal.class))).willReturn(saved);
+
+        // when
+        Long id = terminalService.register(new TerminalRequest("1번 키오스크", "secret-key"));
+
+        // then
+        ArgumentCaptor<Terminal> terminal = ArgumentCaptor.forClass(Terminal.class);
+        verify(terminalRepository).save(terminal.capture());
+        assertThat(id).isEqualTo(1L);
+        assertThat(terminal.getValue().getKeyHash()).isEqualTo(TerminalSessionService.hashKey("secret-key"));
+        verify(eventPublisher).publishEvent(new TerminalChangedEvent(1L));
+    }
+
+    @DisplayName("상태를 바꾸면 변경 이벤트를 발행한다.")
+    @Test
+    void changeStatus() {
+        // given
+        Terminal terminal = terminal(1L);
+        given(terminalRepository.findById(1L)).willReturn(Optional.of(terminal));
+
+        // when
+        terminalService.changeStatus(1L, TerminalStatus.MAINTENANCE);
+
+        // then
+        assertThat(terminal.getStatus()).isEqualTo(TerminalStatus.MAINTENANCE);
+        verify(eventPublisher).publishEvent(new TerminalChangedEvent(1L));
+    }
+
+    @DisplayName("비활성화하면 변경 이벤트를 발행한다.")
+    @Test
+    void deactivate() {
+        // given
+        Terminal terminal = terminal(1L);
+        given(terminalRepository.findById(1L)).willReturn(Optional.of(terminal));
+
+        // when
+        terminalService.deactivate(1L);
+
+        // then
+        assertThat(terminal.isActive()).isFalse();
+        verify(eventPublisher).publishEvent(new TerminalChangedEvent(1L));
+    }
+
+    @DisplayName("없는 단말기의 상태를 바꾸려 하면 예외가 발생하고 이벤트를 발행하지 않는다.")
+    @Test
+    void changeStatus_NotFound() {
+        // given
+        given(terminalRepository.findById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> terminalService.changeStatus(99L, TerminalStatus.INACTIVE))
+                .isInstanceOf(TerminalException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TERMINAL_NOT_FOUND);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private Terminal terminal(Long id) {
+        Terminal terminal = Terminal.builder().name("키오스크 " + id).build();
+        ReflectionTestUtils.setField(terminal, "id", id);
+        return terminal;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.lepelaka.kiosk.domain.terminal.service;
+
+import dev.lepelaka.kiosk.domain.terminal.component.TerminalSessionStore;
+import dev.lepelaka.kiosk.domain.terminal.dto.TerminalSessionResponse;
+import dev.lepelaka.kiosk.domain.terminal.entity.Terminal;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalException;
+import dev.lepelaka.kiosk.domain.terminal.exception.TerminalUnavailableException;
+import dev.lepelaka.kiosk.domain.terminal.repository.TerminalRepository;
+import dev.lepelaka.kiosk.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TerminalSessionServiceTest {
+
+    private static final String KEY = "terminal-secret";
+
+    @InjectMocks
+    private TerminalSessionService terminalSessionService;
+
+    @Mock
+    private TerminalRepository terminalRepository;
+
+    @Mock
+    private TerminalSessionStore terminalSessionStore;
+
+    @DisplayName("단말기 키가 맞으면 세션을 발급하고 heartbeat 를 남긴다.")
+    @Test
+    void open() {
+        // given
+        Terminal terminal = terminal();
+        given(terminalRepository.findById(1L)).willReturn(Optional.of(terminal));
+        given(terminalSessionStore.createSession(1L)).willReturn("session-token");
+
+        // when
+        TerminalSessionResponse response = terminalSessionService.open(1L, KEY);
+
+        // then
+        assertThat(response.terminalId()).isEqualTo(1L);
+        assertThat(response.sessionToken()).isEqualTo("session-token");
+        assertThat(terminal.getLastHeartbeat()).isNotNull();
+    }
+
+    @DisplayName("키가 없거나 다르거나 없는 단말기면 세션을 발급하지 않는다.")
+    @Test
+    void openRejected() {
+        // given
+        given(terminalRepository.findById(1L)).willReturn(Optional.of(terminal()));
+        given(terminalRepository.findById(2L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> terminalSessionService.open(1L, " "))
+                .isInstanceOf(TerminalException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TERMINAL_AUTH_REQUIRED);
+        assertThatThrownBy(() -> terminalSessionService.open(1L, "wrong"))
+                .isInstanceOf(TerminalException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TERMINAL_KEY_MISMATCH);
+        assertThatThrownBy(() -> terminalSessionService.open(2L, KEY))
+                .isInstanceOf(TerminalException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.TERMINAL_KEY_MISMATCH);
+        verify(terminalSessionStore, never()).createSession(anyLong());
+    }
+
+    @DisplayName("점검중 단말기는 키가 맞아도 세션을 발급하지 않는다.")
+    @Test
+    void openMaintenance() {
+        // given
+        Terminal terminal = terminal();
+        terminal.maintenance();
+        given(terminalRepository.findById(1L)).willReturn(Optional.of(terminal));
+
+        // when & then
+        assertThatThrownBy(() -> terminalSessionService.open(1L, KEY)).isInstanceOf(TerminalUnavailableException.class);
+        verify(terminalSessionStore, never()).createSession(anyLong());
+    }
+
+    private Terminal terminal() {
+        Terminal terminal = Terminal.builder().name("키오스크 1번").keyHash(TerminalSessionService.hashKey(KEY)).build();
+        ReflectionTestUtils.setField(terminal, "id", 1L);
+        return terminal;
+    }
+}
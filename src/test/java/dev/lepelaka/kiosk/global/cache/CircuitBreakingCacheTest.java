@@ -0,0 +1,266 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import dev.lepelaka.kiosk.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 대신 장애를 흉내 내는 원격 캐시(응답 지연 후 타임아웃 예외)로 차단기 동작을 확인한다.
+ * 지연은 벽시계로 재지 않고, 차단 중에 장애 원격 호출(지연되는 호출)이 한 번도 없었는지로 확인한다
+ */
+class CircuitBreakingCacheTest {
+
+    private static final Duration STALL = Duration.ofMillis(200);
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private MutableClock clock;
+    private RedisCircuitBreaker circuitBreaker;
+    private FlakyRemote remote;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+        circuitBreaker = new RedisCircuitBreaker(3, OPEN_DURATION, clock);
+        remote = new FlakyRemote(new ConcurrentMapCache("products"));
+        cache = new CircuitBreakingCache(remote, circuitBreaker);
+    }
+
+    @DisplayName("Redis 가 연속으로 실패하면 차단기가 열리고, 이후 조회는 Redis 를 기다리지 않고 곧바로 미스가 된다.")
+    @Test
+    void opensAfterConsecutiveFailuresAndSkipsRedis() {
+        // given
+        remote.down = true;
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(1L)).isNull();
+        }
+        int callsBeforeOpen = remote.calls.get();
+        int stallsBeforeOpen = remote.stalls.get();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get(1L)).isNull();
+        }
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(remote.calls.get()).isEqualTo(callsBeforeOpen);
+        assertThat(remote.stalls.get()).isEqualTo(stallsBeforeOpen);
+    }
+
+    @DisplayName("장애 중에도 전체 캐시 계층은 로컬 캐시 또는 DB 로 바로 응답한다.")
+    @Test
+    void layeredCacheFallsBackToLocalAndLoader() {
+        // given: 세대 → 적재 합치기 → 로컬 → 차단기 → 장애 Redis
+        FlakyGenerationStore generationStore = new FlakyGenerationStore();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        CacheGenerations generations = new CacheGenerations(new ResilientGenerationStore(generationStore, circuitBreaker), bus, Duration.ofSeconds(5));
+        TwoLevelCache twoLevel = new TwoLevelCache("products",
+                com.github.benmanes.caffeine.cache.Caffeine.newBuilder().build(), cache, bus, "node-a");
+        Cache layered = new GenerationalCache(
+                new CoalescingCache(twoLevel, new InMemoryLoadLock(), Duration.ofSeconds(3), Duration.ofMillis(10),
+                        new CacheSpecProperties().getDefaults(), Runnable::run),
+                generations);
+        layered.get(1L, () -> "짜장면"); // 정상 상태에서 로컬/원격에 적재
+        remote.down = true;
+        generationStore.down = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get("warm-up-" + i); // 차단기 열기
+        }
+        AtomicInteger dbQueries = new AtomicInteger();
+        Callable<Object> db = () -> {
+            dbQueries.incrementAndGet();
+            return "DB 에서 읽은 값";
+        };
+        int remoteStalls = remote.stalls.get();
+        int generationStalls = generationStore.stalls.get();
+
+        // when
+        Object cached = layered.get(1L, db);
+        Object loaded = layered.get(2L, db);
+
+        // then: 장애 Redis(원격 캐시, 세대 저장소)를 한 번도 기다리지 않았다
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(cached).isEqualTo("짜장면");
+        assertThat(loaded).isEqualTo("DB 에서 읽은 값");
+        assertThat(dbQueries.get()).isEqualTo(1);
+        assertThat(remote.stalls.get()).isEqualTo(remoteStalls);
+        assertThat(generationStore.stalls.get()).isEqualTo(generationStalls);
+    }
+
+    @DisplayName("열린 시간이 지나면 한 번 시험 호출하고, 성공하면 닫히면서 장애 중 밀린 삭제를 반영한다.")
+    @Test
+    void recoversAndReplaysPendingEvictions() {
+        // given
+        cache.put(1L, "짜장면");
+        remote.down = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get(2L);
+        }
+        cache.evict(1L); // 차단 중: Redis 에 반영되지 않고 보관
+
+        // when
+        remote.down = false;
+        clock.advance(OPEN_DURATION);
+        cache.get(2L); // 시험 호출
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(remote.delegate.get(1L)).isNull();
+    }
+
+    @DisplayName("시험 호출이 실패하면 다시 열린다.")
+    @Test
+    void failedProbeReopens() {
+        // given
+        remote.down = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L);
+        }
+
+        // when
+        clock.advance(OPEN_DURATION);
+        cache.get(1L);
+        int callsAfterProbe = remote.calls.get();
+        cache.get(1L);
+
+        // then
+        assertThat(circuitBreaker.state()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(remote.calls.get()).isEqualTo(callsAfterProbe);
+    }
+
+    @DisplayName("장애 중 세대 증가는 노드 안에서 바로 반영되고, 복구 후 공유 저장소에도 반영된다.")
+    @Test
+    void generationBumpSurvivesOutage() {
+        // given
+        FlakyGenerationStore shared = new FlakyGenerationStore();
+        ResilientGenerationStore store = new ResilientGenerationStore(shared, circuitBreaker);
+        assertThat(store.get("products")).isZero();
+        shared.down = true;
+        remote.down = true;
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L + i);
+        }
+
+        // when
+        long bumped = store.increment("products");
+        shared.down = false;
+        remote.down = false;
+        clock.advance(OPEN_DURATION);
+        cache.get(1L); // 시험 호출 성공 → 복구
+
+        // then
+        assertThat(bumped).isEqualTo(1);
+        assertThat(shared.delegate.get("products")).isEqualTo(1);
+    }
+
+    /**
+     * down 이면 STALL 만큼 멈췄다가 타임아웃 예외를 던지는 원격 캐시
+     */
+    private static class FlakyRemote implements Cache {
+        private final Cache delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger stalls = new AtomicInteger();
+        private volatile boolean down;
+
+        private FlakyRemote(Cache delegate) {
+            this.delegate = delegate;
+        }
+
+        private void guard() {
+            calls.incrementAndGet();
+            if (down) {
+                stall(stalls);
+            }
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            guard();
+            return delegate.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            guard();
+            return delegate.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            guard();
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            guard();
+            delegate.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            guard();
+            delegate.evict(key);
+        }
+
+        @Override
+        public void clear() {
+            guard();
+            delegate.clear();
+        }
+    }
+
+    private static class FlakyGenerationStore implements GenerationStore {
+        private final InMemoryGenerationStore delegate = new InMemoryGenerationStore();
+        private final AtomicInteger stalls = new AtomicInteger();
+        private volatile boolean down;
+
+        @Override
+        public long get(String key) {
+            if (down) {
+                stall(stalls);
+            }
+            return delegate.get(key);
+        }
+
+        @Override
+        public long increment(String key) {
+            if (down) {
+                stall(stalls);
+            }
+            return delegate.increment(key);
+        }
+    }
+
+    private static void stall(AtomicInteger stalls) {
+        stalls.incrementAndGet();
+        try {
+            Thread.sleep(STALL.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new QueryTimeoutException("Redis command timed out");
+    }
+}
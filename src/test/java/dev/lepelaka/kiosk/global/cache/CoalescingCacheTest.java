@@ -0,0 +1,306 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import dev.lepelaka.kiosk.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingCacheTest {
+
+    private static final int THREADS = 32;
+
+    private ConcurrentMapCacheManager remote;
+    private InMemoryLoadLock loadLock;
+    private AtomicInteger queries;
+    private MutableClock clock;
+    private List<Runnable> refreshTasks;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager();
+        loadLock = new InMemoryLoadLock();
+        queries = new AtomicInteger();
+        clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+        refreshTasks = new ArrayList<>();
+    }
+
+    @DisplayName("같은 JVM 에서 차가운 키에 동시 요청이 몰려도 적재(DB 조회)는 한 번이고 모두 같은 결과를 받는다.")
+    @Test
+    void coalescesConcurrentMissesInJvm() throws Exception {
+        // given
+        Cache cache = node().getCache("products");
+
+        // when
+        List<Object> results = herd(List.of(cache), slowQuery("메뉴 목록"));
+
+        // then
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(results).hasSize(THREADS).containsOnly("메뉴 목록");
+    }
+
+    @DisplayName("여러 노드가 같은 키를 동시에 놓쳐도 잠금을 얻은 노드만 적재하고 나머지는 그 결과를 읽는다.")
+    @Test
+    void coalescesConcurrentMissesAcrossNodes() throws Exception {
+        // given: 원격 캐시와 잠금을 공유하는 노드 4대
+        List<Cache> nodes = List.of(node().getCache("products"), node().getCache("products"),
+                node().getCache("products"), node().getCache("products"));
+
+        // when
+        List<Object> results = herd(nodes, slowQuery("메뉴 목록"));
+
+        // then
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(results).hasSize(THREADS).containsOnly("메뉴 목록");
+    }
+
+    @DisplayName("적재 실패는 기다리던 요청에도 전달되고, 다음 요청은 다시 적재를 시도한다.")
+    @Test
+    void failurePropagatesAndDoesNotStick() throws Exception {
+        // given
+        Cache cache = node().getCache("products");
+        Callable<Object> failing = () -> {
+            queries.incrementAndGet();
+            Thread.sleep(100);
+            throw new IllegalStateException("DB 장애");
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> cache.get("active|page:0:size:10", failing)));
+        }
+        executor.shutdown();
+
+        // then
+        for (Future<Object> future : futures) {
+            assertThatThrownBy(future::get).hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(cache.get("active|page:0:size:10", () -> "복구")).isEqualTo("복구");
+    }
+
+    @DisplayName("다른 노드의 적재가 실패하면 기다리던 노드는 잠금 TTL 을 기다리지 않고 바로 직접 적재한다.")
+    @Test
+    void followerFallsBackWhenLeaderFails() throws Exception {
+        // given: 잠금 TTL 이 1시간이라 포기 표시를 못 보면 제한 시간 안에 끝나지 않는다
+        Cache leaderNode = nodeWithLockTtl(Duration.ofHours(1)).getCache("products");
+        Cache followerNode = nodeWithLockTtl(Duration.ofHours(1)).getCache("products");
+        CountDownLatch leaderLoading = new CountDownLatch(1);
+        CountDownLatch failLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Object> leader = executor.submit(() -> leaderNode.get(1L, () -> {
+            leaderLoading.countDown();
+            failLeader.await();
+            throw new IllegalStateException("DB 장애");
+        }));
+        leaderLoading.await();
+        Future<Object> follower = executor.submit(() -> followerNode.get(1L, () -> "짜장면"));
+        failLeader.countDown();
+
+        // then
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("짜장면");
+        assertThatThrownBy(leader::get).hasRootCauseInstanceOf(IllegalStateException.class);
+        executor.shutdown();
+    }
+
+    @DisplayName("다른 노드를 기다리는 중 인터럽트되면 예외로 끝내고 인터럽트 플래그를 남긴다.")
+    @Test
+    void interruptWhilePollingRestoresFlag() throws Exception {
+        // given: 다른 노드가 잠금을 잡고 있음
+        Cache cache = node().getCache("products");
+        loadLock.tryAcquire("products:1", Duration.ofSeconds(3));
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                cache.get(1L, () -> "짜장면");
+            } catch (Throwable e) {
+                failure.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+
+        // when
+        follower.start();
+        follower.interrupt();
+        follower.join(5000);
+
+        // then
+        assertThat(failure.get()).isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasRootCauseInstanceOf(InterruptedException.class);
+        assertThat(interrupted).isTrue();
+    }
+
+    @DisplayName("캐시에 값이 있으면 적재 함수를 호출하지 않는다.")
+    @Test
+    void hitSkipsLoader() {
+        // given
+        Cache cache = node().getCache("products");
+        cache.put(1L, "짜장면");
+
+        // when
+        Object value = cache.get(1L, slowQuery("DB"));
+
+        // then
+        assertThat(value).isEqualTo("짜장면");
+        assertThat(queries.get()).isZero();
+    }
+
+    @DisplayName("refreshAfter 가 지난 값은 그대로 응답하고, 백그라운드 재적재는 한 번만 예약된다.")
+    @Test
+    void staleValueServedWhileRefreshingOnce() {
+        // given
+        Cache cache = refreshAheadCache(Duration.ZERO);
+        AtomicInteger version = new AtomicInteger(1);
+        Callable<Object> query = () -> {
+            queries.incrementAndGet();
+            return "메뉴 v" + version.get();
+        };
+        cache.get("active|page:0:size:10", query);
+        version.set(2);
+        clock.advance(Duration.ofMinutes(6));
+
+        // when
+        Object first = cache.get("active|page:0:size:10", query);
+        Object second = cache.get("active|page:0:size:10", query);
+
+        // then: 요청은 기다리지 않고 이전 값을 받고, 재적재 작업은 하나만 예약됨
+        assertThat(first).isEqualTo("메뉴 v1");
+        assertThat(second).isEqualTo("메뉴 v1");
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.get(0).run();
+        assertThat(cache.get("active|page:0:size:10", query)).isEqualTo("메뉴 v2");
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @DisplayName("재적재가 실패하면 오래된 값을 계속 응답하고 다음 요청에서 다시 예약한다.")
+    @Test
+    void failedRefreshKeepsStaleValue() {
+        // given
+        Cache cache = refreshAheadCache(Duration.ZERO);
+        cache.get(1L, () -> "짜장면");
+        clock.advance(Duration.ofMinutes(6));
+
+        // when
+        cache.get(1L, () -> {
+            throw new IllegalStateException("DB 장애");
+        });
+        refreshTasks.get(0).run();
+
+        // then
+        assertThat(cache.get(1L, () -> "짬뽕")).isEqualTo("짜장면");
+        assertThat(refreshTasks).hasSize(2);
+    }
+
+    @DisplayName("호출자 트랜잭션 안에서 불린 오래된 값은 백그라운드 재적재를 예약하지 않는다.")
+    @Test
+    void noDetachedRefreshInsideCallerTransaction() {
+        // given
+        Cache cache = refreshAheadCache(Duration.ZERO);
+        cache.get(1L, () -> "짜장면");
+        clock.advance(Duration.ofMinutes(6));
+
+        // when
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        Object value;
+        try {
+            value = cache.get(1L, () -> "짬뽕");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // then
+        assertThat(value).isEqualTo("짜장면");
+        assertThat(refreshTasks).isEmpty();
+    }
+
+    @DisplayName("jitter 를 주면 같은 시각에 적재된 키들의 재적재 시각이 흩어진다.")
+    @Test
+    void jitterSpreadsRefreshTimes() {
+        // given
+        Cache cache = refreshAheadCache(Duration.ofMinutes(1));
+
+        // when
+        IntStream.range(0, 50).forEach(page -> cache.get("active|page:" + page + ":size:10", () -> "페이지"));
+
+        // then
+        ConcurrentMapCache nativeCache = (ConcurrentMapCache) remote.getCache("products");
+        List<Long> refreshAts = nativeCache.getNativeCache().values().stream()
+                .map(stored -> ((CacheEnvelope) stored).refreshAt())
+                .distinct()
+                .toList();
+        long base = clock.millis() + Duration.ofMinutes(5).toMillis();
+        assertThat(refreshAts).hasSizeGreaterThan(1)
+                .allSatisfy(at -> assertThat(at).isBetween(base, base + Duration.ofMinutes(1).toMillis()));
+    }
+
+    private CoalescingCacheManager node() {
+        return new CoalescingCacheManager(remote, loadLock, Duration.ofSeconds(3), Duration.ofMillis(10),
+                new CacheSpecProperties(), Runnable::run);
+    }
+
+    private CoalescingCacheManager nodeWithLockTtl(Duration lockTtl) {
+        return new CoalescingCacheManager(remote, loadLock, lockTtl, Duration.ofMillis(10),
+                new CacheSpecProperties(), Runnable::run);
+    }
+
+    private Cache refreshAheadCache(Duration jitter) {
+        CacheSpecProperties.Spec spec = new CacheSpecProperties.Spec(Duration.ofMinutes(10), Duration.ofMinutes(5), jitter);
+        return new CoalescingCache(remote.getCache("products"), loadLock, Duration.ofSeconds(3), Duration.ofMillis(10),
+                spec, refreshTasks::add, clock);
+    }
+
+    private Callable<Object> slowQuery(String result) {
+        return () -> {
+            queries.incrementAndGet();
+            Thread.sleep(200);
+            return result;
+        };
+    }
+
+    private List<Object> herd(List<Cache> nodes, Callable<Object> loader) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Cache cache = nodes.get(i % nodes.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get("active|page:0:size:10", loader);
+            }));
+        }
+        start.countDown();
+
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+        return results;
+    }
+}
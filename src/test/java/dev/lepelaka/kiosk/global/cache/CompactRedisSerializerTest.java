@@ -0,0 +1,78 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import dev.lepelaka.kiosk.domain.category.dto.CategoryResponse;
+import dev.lepelaka.kiosk.domain.product.dto.ProductResponse;
+import dev.lepelaka.kiosk.global.common.dto.PageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    @DisplayName("상품 페이지를 Smile 로 직렬화했다가 같은 값으로 복원한다.")
+    @Test
+    void roundTrip() {
+        // given
+        CompactRedisSerializer serializer = CacheSerializers.smile(0);
+        PageResponse<ProductResponse> page = page(20);
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.SMILE);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(page);
+    }
+
+    @DisplayName("임계값 이상이면 압축해서 저장하고, 압축된 값도 그대로 복원한다.")
+    @Test
+    void compressesAboveThreshold() {
+        // given
+        CompactRedisSerializer serializer = CacheSerializers.smile(512);
+        PageResponse<ProductResponse> large = page(20);
+        ProductResponse small = page(1).content().get(0);
+
+        // when
+        byte[] largeBytes = serializer.serialize(large);
+        byte[] smallBytes = serializer.serialize(small);
+
+        // then
+        assertThat(largeBytes[0]).isEqualTo(CompactRedisSerializer.SMILE_DEFLATE);
+        assertThat(smallBytes[0]).isEqualTo(CompactRedisSerializer.SMILE);
+        assertThat(serializer.deserialize(largeBytes)).isEqualTo(large);
+        assertThat(serializer.deserialize(smallBytes)).isEqualTo(small);
+    }
+
+    @DisplayName("Smile 은 기존 JSON 보다 작고, 배포 전에 JSON 으로 저장된 값도 읽을 수 있다.")
+    @Test
+    void smallerThanJsonAndReadsLegacyJson() {
+        // given
+        RedisSerializer<Object> json = CacheSerializers.json();
+        CompactRedisSerializer smile = CacheSerializers.smile(0);
+        PageResponse<ProductResponse> page = page(20);
+
+        // when
+        byte[] jsonBytes = json.serialize(page);
+        byte[] smileBytes = smile.serialize(page);
+
+        // then
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smile.deserialize(jsonBytes)).isEqualTo(page);
+    }
+
+    static PageResponse<ProductResponse> page(int size) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        CategoryResponse category = new CategoryResponse(1L, "메인", "메인 메뉴", 1, true, now, now);
+        List<ProductResponse> content = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> new ProductResponse((long) i, "상품" + i, 1000 * i, 100, "맛있는 상품 " + i,
+                        "http://example.com/products/" + i + ".jpg", category))
+                .toList();
+        return new PageResponse<>(content, 0, size, size, 1, true);
+    }
+}
@@ -0,0 +1,81 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationalCacheTest {
+
+    private ConcurrentMapCacheManager remote;
+    private InMemoryGenerationStore store;
+    private InMemoryCacheInvalidationBus bus;
+    private GenerationalCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager();
+        store = new InMemoryGenerationStore();
+        bus = new InMemoryCacheInvalidationBus();
+        cacheManager = node();
+    }
+
+    @DisplayName("clear 는 키를 지우지 않고 세대만 올려서 이전 키를 조회되지 않게 한다.")
+    @Test
+    void clearBumpsGeneration() {
+        // given
+        Cache cache = cacheManager.getCache("products");
+        cache.put(1L, "짜장면");
+
+        // when
+        cache.clear();
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        ConcurrentMapCache nativeCache = (ConcurrentMapCache) remote.getCache("products");
+        assertThat(nativeCache.getNativeCache()).containsKey("g0:1"); // 실제 삭제는 TTL 에 맡김
+    }
+
+    @DisplayName("패밀리 무효화는 해당 패밀리 키만 조회되지 않게 한다.")
+    @Test
+    void evictFamilyOnlyAffectsFamily() {
+        // given
+        GenerationalCache cache = (GenerationalCache) cacheManager.getCache("products");
+        cache.put("category:1|active:page:0:size:10", "메인 목록");
+        cache.put("category:2|active:page:0:size:10", "음료 목록");
+        cache.put(10L, "짜장면");
+
+        // when
+        cache.evictFamily(CacheKeyFamily.category(1L));
+
+        // then
+        assertThat(cache.get("category:1|active:page:0:size:10")).isNull();
+        assertThat(cache.get("category:2|active:page:0:size:10").get()).isEqualTo("음료 목록");
+        assertThat(cache.get(10L).get()).isEqualTo("짜장면");
+    }
+
+    @DisplayName("다른 노드에서 세대를 올리면 이 노드도 바로 새 세대를 읽는다.")
+    @Test
+    void generationBumpPropagatesToOtherNodes() {
+        // given
+        GenerationalCacheManager other = node();
+        cacheManager.getCache("categories").put("all", "목록");
+        assertThat(other.getCache("categories").get("all").get()).isEqualTo("목록");
+
+        // when
+        other.getCache("categories").clear();
+
+        // then
+        assertThat(cacheManager.getCache("categories").get("all")).isNull();
+    }
+
+    private GenerationalCacheManager node() {
+        return new GenerationalCacheManager(remote, new CacheGenerations(store, bus, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,115 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private CacheMetrics metrics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new CacheMetrics(registry, 100);
+        GenerationalCacheManager generational = new GenerationalCacheManager(new ConcurrentMapCacheManager(),
+                new CacheGenerations(new InMemoryGenerationStore(), new InMemoryCacheInvalidationBus(), Duration.ofSeconds(5)));
+        cache = new InstrumentedCacheManager(generational, metrics).getCache("products");
+    }
+
+    @DisplayName("적중/실패는 세대 번호가 붙기 전 논리 키 패턴으로 태그된다.")
+    @Test
+    void taggedByKeyPattern() {
+        // when
+        cache.get("category:1|active:page:0:size:10", () -> "메인 1페이지");
+        cache.get("category:1|active:page:0:size:10", () -> "메인 1페이지");
+        cache.get("category:2|active:page:3:size:10", () -> "음료 4페이지");
+        cache.get(10L, () -> "짜장면");
+
+        // then
+        assertThat(count("category:*|active:page:*:size:*", "hit")).isEqualTo(1);
+        assertThat(count("category:*|active:page:*:size:*", "miss")).isEqualTo(2);
+        assertThat(count("id", "miss")).isEqualTo(1);
+        assertThat(registry.get("kiosk.cache.load").tag("pattern", "category:*|active:page:*:size:*").timer().count()).isEqualTo(2);
+    }
+
+    @DisplayName("키 삭제, 패밀리 무효화, 전체 비우기를 종류별로 센다.")
+    @Test
+    void countsEvictions() {
+        // when
+        cache.evict(10L);
+        ((FamilyEvictingCache) cache).evictFamily(CacheKeyFamily.category(3L));
+        cache.clear();
+
+        // then
+        assertThat(registry.get("kiosk.cache.evictions").tag("kind", "key").tag("pattern", "id").counter().count()).isEqualTo(1);
+        assertThat(registry.get("kiosk.cache.evictions").tag("kind", "family").tag("pattern", "category:*").counter().count()).isEqualTo(1);
+        assertThat(registry.get("kiosk.cache.evictions").tag("kind", "clear").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("top-keys 보고서는 많이 재사용된 키와 한 번도 재사용되지 않은 키를 나눠 보여준다.")
+    @Test
+    void topKeysReport() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            cache.get("active|page:0:size:10", () -> "첫 페이지");
+        }
+        cache.get("active|page:7:size:10", () -> "끝 페이지");
+
+        // when
+        Map<String, CacheMetrics.KeyReport> report = metrics.topKeys(10);
+
+        // then
+        CacheMetrics.KeyReport products = report.get("products");
+        assertThat(products.hottest()).extracting(CacheMetrics.KeyUsage::key).containsExactly("active|page:0:size:10");
+        assertThat(products.hottest().get(0).hits()).isEqualTo(4);
+        assertThat(products.neverReused()).extracting(CacheMetrics.KeyUsage::key).containsExactly("active|page:7:size:10");
+    }
+
+    @DisplayName("추적 키가 밀려나도 같은 패턴은 처음 등록한 미터를 계속 써서 횟수가 이어진다.")
+    @Test
+    void metersRegisteredOncePerPattern() {
+        // given - 키 하나만 추적
+        CacheMetrics small = new CacheMetrics(registry, 1);
+
+        // when
+        for (int page = 0; page < 50; page++) {
+            small.recordGet("categories", "active|page:" + page + ":size:10", false);
+            small.recordGet("categories", "active|page:" + page + ":size:10", true);
+        }
+
+        // then
+        assertThat(registry.find("kiosk.cache.gets").tag("cache", "categories").counters()).hasSize(2);
+        assertThat(registry.get("kiosk.cache.gets").tag("cache", "categories").tag("result", "hit").counter().count()).isEqualTo(50);
+        assertThat(registry.get("kiosk.cache.gets").tag("cache", "categories").tag("result", "miss").counter().count()).isEqualTo(50);
+    }
+
+    @DisplayName("직렬화 크기는 캐시 이름과 방향별로 기록된다.")
+    @Test
+    void recordsPayloadSize() {
+        // given
+        MeasuringRedisSerializer serializer = new MeasuringRedisSerializer(CacheSerializers.smile(0), "products", metrics);
+
+        // when
+        byte[] bytes = serializer.serialize("짜장면");
+        serializer.deserialize(bytes);
+
+        // then
+        assertThat(registry.get("kiosk.cache.payload").tag("operation", "write").summary().totalAmount()).isEqualTo(bytes.length);
+        assertThat(registry.get("kiosk.cache.payload").tag("operation", "read").summary().count()).isEqualTo(1);
+    }
+
+    private double count(String pattern, String result) {
+        return registry.get("kiosk.cache.gets").tag("pattern", pattern).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,115 @@
+package dev.lepelaka.kiosk.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드가 같은 원격 캐시(Redis 대신 ConcurrentMapCacheManager)와 무효화 버스(메모리)를 공유하는 시나리오
+ */
+class TwoLevelCacheManagerTest {
+
+    private ConcurrentMapCacheManager remote;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCacheManager();
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        nodeA = new TwoLevelCacheManager(remote, bus, 100, Duration.ofMinutes(1));
+        nodeB = new TwoLevelCacheManager(remote, bus, 100, Duration.ofMinutes(1));
+    }
+
+    @DisplayName("원격에서 읽은 값은 로컬에 올라가고 다음 조회는 로컬에서 끝난다.")
+    @Test
+    void readThroughToLocal() {
+        // given
+        remote.getCache("products").put(1L, "짜장면");
+        Cache cache = nodeA.getCache("products");
+
+        // when
+        cache.get(1L);
+        remote.getCache("products").put(1L, "원격에서만 바뀐 값"); // 로컬 적중이면 이 값은 안 보인다
+        Cache.ValueWrapper second = cache.get(1L);
+
+        // then
+        assertThat(second.get()).isEqualTo("짜장면");
+        LayeredCacheStats.Snapshot stats = nodeA.stats().get("products");
+        assertThat(stats.localHits()).isEqualTo(1);
+        assertThat(stats.localMisses()).isEqualTo(1);
+        assertThat(stats.remoteHits()).isEqualTo(1);
+    }
+
+    @DisplayName("한 노드에서 값을 바꾸면 다른 노드의 로컬 사본이 무효화되어 새 값을 읽는다.")
+    @Test
+    void putInvalidatesOtherNodes() {
+        // given
+        nodeA.getCache("products").put(1L, "짜장면");
+        assertThat(nodeB.getCache("products").get(1L).get()).isEqualTo("짜장면");
+
+        // when
+        nodeA.getCache("products").put(1L, "간짜장");
+
+        // then
+        assertThat(nodeB.getCache("products").get(1L).get()).isEqualTo("간짜장");
+        assertThat(nodeB.stats().get("products").invalidationsReceived()).isEqualTo(1);
+        assertThat(nodeA.stats().get("products").invalidationsReceived()).isZero(); // 자기 메시지는 무시
+    }
+
+    @DisplayName("조회 미스 뒤 채우기는 다른 노드에 알리지 않아 다른 노드의 로컬 사본이 유지된다.")
+    @Test
+    void fillAfterMissDoesNotBroadcast() {
+        // given
+        nodeA.getCache("products").put(1L, "짜장면");
+        nodeB.getCache("products").get(1L);
+
+        // when - 노드 A 가 다른 키들을 읽어 채움
+        for (long id = 2; id <= 10; id++) {
+            nodeA.getCache("products").get(id);
+            nodeA.getCache("products").put(id, "상품 " + id);
+        }
+
+        // then
+        assertThat(nodeB.stats().get("products").invalidationsReceived()).isZero();
+        assertThat(nodeB.getCache("products").get(1L).get()).isEqualTo("짜장면");
+        assertThat(nodeB.stats().get("products").localHits()).isEqualTo(1);
+    }
+
+    @DisplayName("clear 는 다른 노드의 로컬 캐시까지 비운다.")
+    @Test
+    void clearInvalidatesOtherNodes() {
+        // given
+        nodeA.getCache("categories").put("active:page:0", "목록");
+        nodeB.getCache("categories").get("active:page:0");
+
+        // when
+        nodeA.getCache("categories").clear();
+
+        // then
+        assertThat(nodeB.getCache("categories").get("active:page:0")).isNull();
+    }
+
+    @DisplayName("값 로더는 로컬과 원격 모두 없을 때만 호출된다.")
+    @Test
+    void loaderCalledOnlyOnFullMiss() {
+        // given
+        Cache cache = nodeA.getCache("products");
+        int[] calls = {0};
+
+        // when
+        cache.get(1L, () -> ++calls[0]);
+        cache.get(1L, () -> ++calls[0]);
+        nodeB.getCache("products").get(1L, () -> ++calls[0]);
+
+        // then
+        assertThat(calls[0]).isEqualTo(1);
+        assertThat(nodeB.stats().get("products").remoteHits()).isEqualTo(1);
+    }
+}
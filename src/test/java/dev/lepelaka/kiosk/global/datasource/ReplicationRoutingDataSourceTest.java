@@ -0,0 +1,116 @@
+package dev.lepelaka.kiosk.global.datasource;
+
+import dev.lepelaka.kiosk.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인메모리 DB 세 개를 프라이머리 / 레플리카 두 대로 두고
+ * 각 DB 의 node 테이블에 자기 이름을 넣어 어디로 라우팅됐는지 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private ReplicationRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+    private ReadYourWritesWindow window;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica0 = node("replica-0");
+        DataSource replica1 = node("replica-1");
+
+        window = new ReadYourWritesWindow(Duration.ofSeconds(3), clock);
+        routing = new ReplicationRoutingDataSource(primary, List.of(replica0, replica1), window);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TerminalContext.clear();
+    }
+
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅된다.")
+    @Test
+    void writeGoesToPrimary() {
+        assertThat(writeTx.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @DisplayName("readOnly 트랜잭션은 레플리카를 번갈아 사용한다.")
+    @Test
+    void readOnlyGoesToReplicasRoundRobin() {
+        String first = readTx.execute(status -> currentNode());
+        String second = readTx.execute(status -> currentNode());
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @DisplayName("주문 직후 구간 안의 단말기는 readOnly 여도 프라이머리에서 읽는다.")
+    @Test
+    void readYourWritesPinsTerminalToPrimary() {
+        // given
+        window.markWritten(7L);
+        TerminalContext.set(7L);
+
+        // when & then
+        assertThat(readTx.execute(status -> currentNode())).isEqualTo("primary");
+
+        TerminalContext.set(8L);
+        assertThat(readTx.execute(status -> currentNode())).startsWith("replica-");
+    }
+
+    @DisplayName("구간이 지나면 다시 레플리카에서 읽는다.")
+    @Test
+    void readYourWritesExpires() {
+        // given
+        MutableClock mutableClock = new MutableClock(clock.instant());
+        ReadYourWritesWindow shortWindow = new ReadYourWritesWindow(Duration.ofSeconds(3), mutableClock);
+        shortWindow.markWritten(7L);
+
+        // when
+        mutableClock.advance(Duration.ofSeconds(4));
+
+        // then
+        assertThat(shortWindow.isActive(7L)).isFalse();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.update("delete from node");
+        template.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
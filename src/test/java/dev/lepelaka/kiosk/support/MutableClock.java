@@ -0,0 +1,44 @@
+package dev.lepelaka.kiosk.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 테스트용 시계. advance 로 원하는 만큼 시간을 흘려보낸다.
+ */
+public class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant now;
+
+    public MutableClock(Instant now) {
+        this(now, ZoneOffset.UTC);
+    }
+
+    public MutableClock(Instant now, ZoneId zone) {
+        this.now = now;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(now, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}